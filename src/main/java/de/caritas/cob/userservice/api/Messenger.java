@@ -18,6 +18,7 @@ import de.caritas.cob.userservice.api.service.agency.AgencyService;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Collectors;
@@ -54,9 +55,13 @@ public class Messenger implements Messaging {
         .ifPresent(
             chatMetaInfoMap -> {
               var chat = chatRepository.findById(chatId).orElseThrow();
-              mapper
-                  .bannedUsernamesOfMap(chatMetaInfoMap)
-                  .forEach(username -> messageClient.unmuteUserInChat(username, chat.getGroupId()));
+              var unmutings =
+                  mapper.bannedUsernamesOfMap(chatMetaInfoMap).stream()
+                      .map(
+                          username ->
+                              messageClient.unmuteUserInChatAsync(username, chat.getGroupId()))
+                      .toArray(CompletableFuture[]::new);
+              CompletableFuture.allOf(unmutings).join();
             });
   }
 
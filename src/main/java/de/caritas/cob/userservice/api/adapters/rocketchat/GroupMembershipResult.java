@@ -0,0 +1,56 @@
+package de.caritas.cob.userservice.api.adapters.rocketchat;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Result of a membership operation for several users of one Rocket.Chat group. Every member either
+ * succeeded or failed on its own, so that the succeeded members can be rolled back when needed.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class GroupMembershipResult {
+
+  private final String rcGroupId;
+  private final List<String> succeededUserIds;
+  private final Map<String, Exception> failures;
+
+  /**
+   * Creates the result out of the outcome of every member.
+   *
+   * @param rcGroupId the Rocket.Chat group id
+   * @param failureByUserId the failure of every member in order, null if the member succeeded
+   * @return the {@link GroupMembershipResult}
+   */
+  public static GroupMembershipResult of(String rcGroupId, Map<String, Exception> failureByUserId) {
+    var succeededUserIds = new ArrayList<String>();
+    var failures = new LinkedHashMap<String, Exception>();
+    failureByUserId.forEach(
+        (rcUserId, failure) -> {
+          if (failure == null) {
+            succeededUserIds.add(rcUserId);
+          } else {
+            failures.put(rcUserId, failure);
+          }
+        });
+    return new GroupMembershipResult(
+        rcGroupId, unmodifiableList(succeededUserIds), unmodifiableMap(failures));
+  }
+
+  public boolean isSuccessful() {
+    return failures.isEmpty();
+  }
+
+  public Set<String> getFailedUserIds() {
+    return failures.keySet();
+  }
+}
@@ -0,0 +1,217 @@
+package de.caritas.cob.userservice.api.adapters.rocketchat;
+
+import static java.util.Objects.isNull;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.caritas.cob.userservice.api.adapters.rocketchat.config.RocketChatConfig;
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpRequest.BodyPublishers;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandlers;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import javax.annotation.PreDestroy;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.UnknownHttpStatusCodeException;
+
+/**
+ * Non-blocking counterpart of the Rocket.Chat rest template, built on the JDK {@link HttpClient}.
+ * Requests are sent asynchronously and complete on a few client threads, so fan-out heavy callers
+ * can compose many concurrent calls without holding a thread for each of them.
+ *
+ * <p>Failures are reported like the rest template reports them: error statuses complete the future
+ * with a {@link HttpClientErrorException} or {@link HttpServerErrorException} including the
+ * response body in the message, I/O errors with a {@link ResourceAccessException}.
+ *
+ * <p>Calls pass the bulkheads and the circuit breaker of the {@link
+ * RocketChatResilienceInterceptor}. Calls beyond the configured number of concurrent calls are
+ * queued and sent as soon as former calls complete, without blocking the caller.
+ */
+@Component
+public class RocketChatAsyncClient {
+
+  private final ObjectMapper objectMapper;
+  private final RocketChatConfig.AsyncClient settings;
+  private final ExecutorService executor;
+  private final HttpClient httpClient;
+  private final RocketChatAsyncPermits concurrentCalls;
+  private final RocketChatResilienceInterceptor resilienceInterceptor;
+
+  public RocketChatAsyncClient(
+      RocketChatConfig rocketChatConfig,
+      ObjectMapper objectMapper,
+      RocketChatResilienceInterceptor resilienceInterceptor) {
+    this.objectMapper = objectMapper;
+    this.resilienceInterceptor = resilienceInterceptor;
+    this.settings = rocketChatConfig.getAsyncClient();
+    var threadFactory = new CustomizableThreadFactory("RocketChatAsync-");
+    threadFactory.setDaemon(true);
+    this.executor = Executors.newFixedThreadPool(settings.getThreads(), threadFactory);
+    this.httpClient =
+        HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(settings.getConnectTimeoutMillis()))
+            .executor(executor)
+            .build();
+    this.concurrentCalls =
+        new RocketChatAsyncPermits(new Semaphore(settings.getMaxConcurrentCalls()));
+  }
+
+  /**
+   * Posts the given body as JSON to the given url.
+   *
+   * @param url the url
+   * @param headers the request headers
+   * @param body the request body
+   * @param responseType the type of the response body
+   * @param <T> the type of the response body
+   * @return a future of the {@link ResponseEntity}
+   */
+  public <T> CompletableFuture<ResponseEntity<T>> postForEntity(
+      String url, HttpHeaders headers, Object body, Class<T> responseType) {
+    byte[] requestBody;
+    try {
+      requestBody = objectMapper.writeValueAsBytes(body);
+    } catch (JsonProcessingException exception) {
+      return CompletableFuture.failedFuture(
+          new RestClientException("Could not write request body for " + url, exception));
+    }
+
+    var request = requestOf(url, headers).POST(BodyPublishers.ofByteArray(requestBody));
+    if (!headers.containsKey(HttpHeaders.CONTENT_TYPE)) {
+      request.header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE);
+    }
+    return send(request.build(), responseType);
+  }
+
+  /**
+   * Gets the given url.
+   *
+   * @param url the url
+   * @param headers the request headers
+   * @param responseType the type of the response body
+   * @param <T> the type of the response body
+   * @return a future of the {@link ResponseEntity}
+   */
+  public <T> CompletableFuture<ResponseEntity<T>> getForEntity(
+      String url, HttpHeaders headers, Class<T> responseType) {
+    return send(requestOf(url, headers).GET().build(), responseType);
+  }
+
+  /**
+   * Returns the cause of a failed future of this client, without the {@link CompletionException}
+   * wrapping it.
+   *
+   * @param failure the failure of the future
+   * @return the cause
+   */
+  public static Throwable causeOf(Throwable failure) {
+    return failure instanceof CompletionException && !isNull(failure.getCause())
+        ? failure.getCause()
+        : failure;
+  }
+
+  @PreDestroy
+  public void shutdown() {
+    executor.shutdownNow();
+  }
+
+  private HttpRequest.Builder requestOf(String url, HttpHeaders headers) {
+    var builder =
+        HttpRequest.newBuilder(URI.create(url))
+            .timeout(Duration.ofMillis(settings.getRequestTimeoutMillis()));
+    headers.forEach((name, values) -> values.forEach(value -> builder.header(name, value)));
+    return builder;
+  }
+
+  private <T> CompletableFuture<ResponseEntity<T>> send(
+      HttpRequest request, Class<T> responseType) {
+    return resilienceInterceptor.executeAsync(
+        request.uri().toString(),
+        () -> concurrentCalls.submit(() -> sendNow(request, responseType)));
+  }
+
+  private <T> CompletableFuture<ResponseEntity<T>> sendNow(
+      HttpRequest request, Class<T> responseType) {
+    return httpClient
+        .sendAsync(request, BodyHandlers.ofByteArray())
+        .handle(
+            (response, failure) -> {
+              if (!isNull(failure)) {
+                throw new CompletionException(resourceAccessExceptionOf(request, failure));
+              }
+              return toResponseEntity(request, response, responseType);
+            });
+  }
+
+  private ResourceAccessException resourceAccessExceptionOf(
+      HttpRequest request, Throwable failure) {
+    var cause = causeOf(failure);
+    var message =
+        String.format(
+            "I/O error on %s request for \"%s\": %s",
+            request.method(), request.uri(), cause.getMessage());
+    return cause instanceof IOException
+        ? new ResourceAccessException(message, (IOException) cause)
+        : new ResourceAccessException(message);
+  }
+
+  private <T> ResponseEntity<T> toResponseEntity(
+      HttpRequest request, HttpResponse<byte[]> response, Class<T> responseType) {
+    var headers = new HttpHeaders();
+    response.headers().map().forEach(headers::addAll);
+    var status = HttpStatus.resolve(response.statusCode());
+
+    if (isNull(status)) {
+      throw new UnknownHttpStatusCodeException(
+          response.statusCode(), "", headers, response.body(), StandardCharsets.UTF_8);
+    }
+    if (status.isError()) {
+      throw errorOf(status, headers, response.body());
+    }
+
+    try {
+      var body =
+          response.body().length == 0 || Void.class.equals(responseType)
+              ? null
+              : objectMapper.readValue(response.body(), responseType);
+      return ResponseEntity.status(status).headers(headers).body(body);
+    } catch (IOException exception) {
+      throw new RestClientException(
+          String.format(
+              "Could not read response body of %s request for \"%s\"",
+              request.method(), request.uri()),
+          exception);
+    }
+  }
+
+  private RestClientException errorOf(HttpStatus status, HttpHeaders headers, byte[] body) {
+    var message =
+        String.format(
+            "%d %s: [%s]",
+            status.value(), status.getReasonPhrase(), new String(body, StandardCharsets.UTF_8));
+    if (status.is4xxClientError()) {
+      return HttpClientErrorException.create(
+          message, status, status.getReasonPhrase(), headers, body, StandardCharsets.UTF_8);
+    }
+    return HttpServerErrorException.create(
+        message, status, status.getReasonPhrase(), headers, body, StandardCharsets.UTF_8);
+  }
+}
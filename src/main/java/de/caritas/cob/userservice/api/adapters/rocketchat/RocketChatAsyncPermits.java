@@ -0,0 +1,92 @@
+package de.caritas.cob.userservice.api.adapters.rocketchat;
+
+import static java.util.Objects.isNull;
+
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Limits the number of concurrent non-blocking calls without blocking or rejecting the caller. A
+ * call submitted while all permits are taken is queued and started in submission order as soon as a
+ * permit is released.
+ *
+ * <p>The semaphore may be shared with blocking callers. They have to return their permit by {@link
+ * #release()}, so that queued calls are started. Calls are started on the thread releasing the
+ * permit, only one thread at a time starts queued calls.
+ */
+class RocketChatAsyncPermits {
+
+  private final Semaphore permits;
+  private final Queue<Runnable> queuedCalls = new ConcurrentLinkedQueue<>();
+  private final AtomicInteger startRequests = new AtomicInteger();
+
+  RocketChatAsyncPermits(Semaphore permits) {
+    this.permits = permits;
+  }
+
+  /**
+   * Starts the given call once a permit is available. The permit is returned when the call
+   * completes.
+   *
+   * @param call the call to start
+   * @param <T> the type of the result
+   * @return a future of the result of the call
+   */
+  <T> CompletableFuture<T> submit(Supplier<CompletableFuture<T>> call) {
+    var result = new CompletableFuture<T>();
+    queuedCalls.add(() -> start(call, result));
+    startQueuedCalls();
+    return result;
+  }
+
+  /** Returns a permit and starts the next queued call with it. */
+  void release() {
+    permits.release();
+    startQueuedCalls();
+  }
+
+  int queuedCallCount() {
+    return queuedCalls.size();
+  }
+
+  private <T> void start(Supplier<CompletableFuture<T>> call, CompletableFuture<T> result) {
+    CompletableFuture<T> startedCall;
+    try {
+      startedCall = call.get();
+    } catch (RuntimeException exception) {
+      startedCall = CompletableFuture.failedFuture(exception);
+    }
+    startedCall.whenComplete(
+        (value, failure) -> {
+          release();
+          if (isNull(failure)) {
+            result.complete(value);
+          } else {
+            result.completeExceptionally(failure);
+          }
+        });
+  }
+
+  private void startQueuedCalls() {
+    // calls completing while being started request another round instead of recursing
+    if (startRequests.getAndIncrement() != 0) {
+      return;
+    }
+    var missedRequests = 1;
+    do {
+      while (!queuedCalls.isEmpty() && permits.tryAcquire()) {
+        var queuedCall = queuedCalls.poll();
+        if (isNull(queuedCall)) {
+          permits.release();
+          break;
+        }
+        queuedCall.run();
+      }
+      missedRequests = startRequests.addAndGet(-missedRequests);
+    } while (missedRequests != 0);
+  }
+}
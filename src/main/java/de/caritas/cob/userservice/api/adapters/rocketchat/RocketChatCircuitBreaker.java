@@ -0,0 +1,79 @@
+package de.caritas.cob.userservice.api.adapters.rocketchat;
+
+import java.time.Clock;
+
+/**
+ * Circuit breaker for the calls to Rocket.Chat. After the configured number of consecutive failures
+ * the breaker opens and rejects all calls. Once the open duration has passed, the breaker is half
+ * open and lets a limited number of probe calls through. A successful probe closes the breaker
+ * again, a failed probe opens it for another open duration.
+ */
+public class RocketChatCircuitBreaker {
+
+  public enum State {
+    CLOSED,
+    OPEN,
+    HALF_OPEN
+  }
+
+  private final int failureThreshold;
+  private final long openMillis;
+  private final int halfOpenProbes;
+  private final Clock clock;
+
+  private State state = State.CLOSED;
+  private int consecutiveFailures;
+  private long openedAtMillis;
+  private int probesInFlight;
+
+  public RocketChatCircuitBreaker(
+      int failureThreshold, long openMillis, int halfOpenProbes, Clock clock) {
+    this.failureThreshold = failureThreshold;
+    this.openMillis = openMillis;
+    this.halfOpenProbes = halfOpenProbes;
+    this.clock = clock;
+  }
+
+  /**
+   * Checks if a call may be sent to Rocket.Chat. Every permitted call has to report its outcome by
+   * {@link #onSuccess()} or {@link #onFailure()}.
+   *
+   * @return true if the call is permitted
+   */
+  public synchronized boolean tryAcquirePermission() {
+    if (state == State.OPEN) {
+      if (clock.millis() - openedAtMillis < openMillis) {
+        return false;
+      }
+      state = State.HALF_OPEN;
+      probesInFlight = 0;
+    }
+    if (state == State.HALF_OPEN) {
+      if (probesInFlight >= halfOpenProbes) {
+        return false;
+      }
+      probesInFlight++;
+    }
+    return true;
+  }
+
+  public synchronized void onSuccess() {
+    consecutiveFailures = 0;
+    if (state == State.HALF_OPEN) {
+      state = State.CLOSED;
+    }
+  }
+
+  public synchronized void onFailure() {
+    consecutiveFailures++;
+    if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+      state = State.OPEN;
+      openedAtMillis = clock.millis();
+      consecutiveFailures = 0;
+    }
+  }
+
+  public synchronized State getState() {
+    return state;
+  }
+}
@@ -1,5 +1,6 @@
 package de.caritas.cob.userservice.api.adapters.rocketchat;
 
+import java.util.concurrent.CompletableFuture;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.http.HttpEntity;
@@ -22,13 +23,17 @@ public class RocketChatClient {
 
   private final RocketChatCredentialsProvider rcCredentialHelper;
 
+  private final RocketChatAsyncClient rocketChatAsyncClient;
+
   public RocketChatClient(
       @Qualifier("rocketChatRestTemplate") final RestTemplate restTemplate,
       final RocketChatCredentials rocketChatCredentials,
-      final RocketChatCredentialsProvider rocketChatCredentialsProvider) {
+      final RocketChatCredentialsProvider rocketChatCredentialsProvider,
+      final RocketChatAsyncClient rocketChatAsyncClient) {
     this.restTemplate = restTemplate;
     this.rocketChatCredentials = rocketChatCredentials;
     this.rcCredentialHelper = rocketChatCredentialsProvider;
+    this.rocketChatAsyncClient = rocketChatAsyncClient;
   }
 
   public <T> ResponseEntity<T> postForEntity(String url, Object request, Class<T> responseType) {
@@ -56,6 +61,16 @@ public class RocketChatClient {
     return restTemplate.exchange(url, HttpMethod.GET, entity, responseType);
   }
 
+  public <T> CompletableFuture<ResponseEntity<T>> postForEntityAsync(
+      String url, Object request, Class<T> responseType) {
+    return rocketChatAsyncClient.postForEntity(url, httpHeaders(), request, responseType);
+  }
+
+  public <T> CompletableFuture<ResponseEntity<T>> postForEntityAsync(
+      String url, String userId, Object request, Class<T> responseType) {
+    return rocketChatAsyncClient.postForEntity(url, httpHeaders(userId), request, responseType);
+  }
+
   private HttpHeaders httpHeaders() {
     var systemUser = rcCredentialHelper.getSystemUserSneaky();
 
@@ -106,6 +106,15 @@ public class RocketChatCredentialsProvider {
     return observeNonNullOrLatestUser(this.systemUserA, this.systemUserB);
   }
 
+  /**
+   * Get an immutable snapshot of the valid technical and system user, to be used for the whole of
+   * one operation.
+   */
+  public RocketChatCredentialsSnapshot getCredentialsSnapshot()
+      throws RocketChatUserNotInitializedException {
+    return RocketChatCredentialsSnapshot.of(getTechnicalUser(), getSystemUser());
+  }
+
   @SneakyThrows
   public RocketChatCredentials getSystemUserSneaky() {
     return getSystemUser();
@@ -0,0 +1,61 @@
+package de.caritas.cob.userservice.api.adapters.rocketchat;
+
+import static java.util.stream.Collectors.toSet;
+
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Stream;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Immutable snapshot of the technical and system user credentials, taken once per operation. The
+ * ids of both users are kept in a set, which may hold only one id if both users are the same or one
+ * is not logged in, so checking a member against them does not need to resolve the credentials
+ * again.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class RocketChatCredentialsSnapshot {
+
+  private final RocketChatCredentials technicalUser;
+  private final RocketChatCredentials systemUser;
+  private final Set<String> serviceUserIds;
+
+  /**
+   * Creates the snapshot out of copies of the given credentials.
+   *
+   * @param technicalUser the technical user credentials
+   * @param systemUser the system user credentials
+   * @return the {@link RocketChatCredentialsSnapshot}
+   */
+  public static RocketChatCredentialsSnapshot of(
+      RocketChatCredentials technicalUser, RocketChatCredentials systemUser) {
+    return new RocketChatCredentialsSnapshot(
+        copyOf(technicalUser),
+        copyOf(systemUser),
+        Stream.of(technicalUser.getRocketChatUserId(), systemUser.getRocketChatUserId())
+            .filter(Objects::nonNull)
+            .collect(toSet()));
+  }
+
+  private static RocketChatCredentials copyOf(RocketChatCredentials credentials) {
+    return RocketChatCredentials.builder()
+        .rocketChatToken(credentials.getRocketChatToken())
+        .rocketChatUserId(credentials.getRocketChatUserId())
+        .rocketChatUsername(credentials.getRocketChatUsername())
+        .timeStampCreated(credentials.getTimeStampCreated())
+        .build();
+  }
+
+  /**
+   * Checks if the given Rocket.Chat user is the technical or the system user.
+   *
+   * @param rcUserId the Rocket.Chat user id
+   * @return true if the user is the technical or the system user
+   */
+  public boolean isServiceUser(String rcUserId) {
+    return serviceUserIds.contains(rcUserId);
+  }
+}
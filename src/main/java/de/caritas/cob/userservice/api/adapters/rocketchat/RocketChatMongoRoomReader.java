@@ -0,0 +1,189 @@
+package de.caritas.cob.userservice.api.adapters.rocketchat;
+
+import static de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatService.MONGO_COLLECTION_ROOM;
+import static de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatService.MONGO_COLLECTION_SUBSCRIPTION;
+import static de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatService.MONGO_DATABASE_NAME;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.Sorts;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.room.RoomsLastMessageDTO;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.room.RoomsUpdateDTO;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.subscriptions.SubscriptionsUpdateDTO;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.bson.Document;
+import org.springframework.stereotype.Component;
+
+/**
+ * Reads the subscriptions and rooms needed to enrich session lists directly from the Rocket.Chat
+ * MongoDB. In contrast to the REST endpoints only the requested groups are read and only the fields
+ * needed for unread counts and last messages are projected.
+ */
+@Component
+@RequiredArgsConstructor
+public class RocketChatMongoRoomReader {
+
+  private static final String FIELD_ID = "_id";
+  private static final String FIELD_ROOM_ID = "rid";
+  private static final String FIELD_USER_ID = "u._id";
+  private static final String FIELD_UNREAD = "unread";
+  private static final String FIELD_UPDATED_AT = "_updatedAt";
+  private static final String FIELD_LAST_MESSAGE = "lastMessage";
+  private static final String FIELD_LAST_MESSAGE_DATE = "lm";
+  private static final String[] LAST_MESSAGE_FIELDS = {
+    "lastMessage._id",
+    "lastMessage.rid",
+    "lastMessage.ts",
+    "lastMessage.u",
+    "lastMessage.msg",
+    "lastMessage.t",
+    "lastMessage.file",
+    "lastMessage.attachments",
+    "lastMessage.alias"
+  };
+
+  private final @NonNull MongoClient mongoClient;
+  private final @NonNull ObjectMapper objectMapper;
+
+  /**
+   * Reads the subscriptions of the given user for the given groups and the rooms of these
+   * subscriptions. Groups the user is not subscribed to are left out, like the REST endpoints do.
+   *
+   * @param rcUserId the Rocket.Chat user id
+   * @param groupIds the Rocket.Chat group ids to read
+   * @return the {@link RocketChatRoomSnapshot} of the requested groups
+   */
+  public RocketChatRoomSnapshot readSnapshot(String rcUserId, Collection<String> groupIds) {
+    if (groupIds.isEmpty()) {
+      return RocketChatRoomSnapshot.of(List.of(), List.of());
+    }
+
+    var subscriptions = readSubscriptions(rcUserId, groupIds);
+    var subscribedGroupIds =
+        subscriptions.stream().map(SubscriptionsUpdateDTO::getRoomId).collect(Collectors.toList());
+    var rooms =
+        subscribedGroupIds.isEmpty() ? List.<RoomsUpdateDTO>of() : readRooms(subscribedGroupIds);
+
+    return RocketChatRoomSnapshot.of(subscriptions, rooms);
+  }
+
+  /**
+   * Reads the version of all subscriptions and rooms of the given user. Only the room ids and
+   * update dates of the subscriptions and the latest update date of the rooms are read.
+   *
+   * @param rcUserId the Rocket.Chat user id
+   * @return the {@link RocketChatRoomVersion}
+   */
+  public RocketChatRoomVersion readVersion(String rcUserId) {
+    var documents =
+        mongoClient
+            .getDatabase(MONGO_DATABASE_NAME)
+            .getCollection(MONGO_COLLECTION_SUBSCRIPTION)
+            .find(Filters.eq(FIELD_USER_ID, rcUserId))
+            .projection(Projections.include(FIELD_ROOM_ID, FIELD_UPDATED_AT));
+
+    var roomIds = new ArrayList<String>();
+    Date subscriptionsUpdatedAt = null;
+    try (var cursor = documents.iterator()) {
+      while (cursor.hasNext()) {
+        var subscription = cursor.next();
+        roomIds.add(subscription.getString(FIELD_ROOM_ID));
+        subscriptionsUpdatedAt = newestOf(subscriptionsUpdatedAt, subscription);
+      }
+    }
+
+    return new RocketChatRoomVersion(
+        roomIds.size(), subscriptionsUpdatedAt, readRoomsUpdatedAt(roomIds));
+  }
+
+  private Date readRoomsUpdatedAt(Collection<String> roomIds) {
+    if (roomIds.isEmpty()) {
+      return null;
+    }
+    var latestRoom =
+        mongoClient
+            .getDatabase(MONGO_DATABASE_NAME)
+            .getCollection(MONGO_COLLECTION_ROOM)
+            .find(Filters.in(FIELD_ID, roomIds))
+            .projection(Projections.include(FIELD_UPDATED_AT))
+            .sort(Sorts.descending(FIELD_UPDATED_AT))
+            .first();
+    return isNull(latestRoom) ? null : latestRoom.getDate(FIELD_UPDATED_AT);
+  }
+
+  private Date newestOf(Date newest, Document document) {
+    var updatedAt = document.getDate(FIELD_UPDATED_AT);
+    return isNull(newest) || (nonNull(updatedAt) && updatedAt.after(newest)) ? updatedAt : newest;
+  }
+
+  private List<SubscriptionsUpdateDTO> readSubscriptions(
+      String rcUserId, Collection<String> groupIds) {
+    var documents =
+        mongoClient
+            .getDatabase(MONGO_DATABASE_NAME)
+            .getCollection(MONGO_COLLECTION_SUBSCRIPTION)
+            .find(
+                Filters.and(
+                    Filters.eq(FIELD_USER_ID, rcUserId), Filters.in(FIELD_ROOM_ID, groupIds)))
+            .projection(Projections.include(FIELD_ROOM_ID, FIELD_UNREAD, FIELD_UPDATED_AT));
+
+    var subscriptions = new ArrayList<SubscriptionsUpdateDTO>();
+    try (var cursor = documents.iterator()) {
+      while (cursor.hasNext()) {
+        subscriptions.add(toSubscription(cursor.next()));
+      }
+    }
+    return subscriptions;
+  }
+
+  private SubscriptionsUpdateDTO toSubscription(Document document) {
+    var subscription = new SubscriptionsUpdateDTO();
+    subscription.setRoomId(document.getString(FIELD_ROOM_ID));
+    subscription.setUnread(document.getInteger(FIELD_UNREAD));
+    subscription.setUpdatedAt(document.getDate(FIELD_UPDATED_AT));
+    return subscription;
+  }
+
+  private List<RoomsUpdateDTO> readRooms(Collection<String> groupIds) {
+    var projection = new ArrayList<String>(List.of(LAST_MESSAGE_FIELDS));
+    projection.add(FIELD_LAST_MESSAGE_DATE);
+    projection.add(FIELD_UPDATED_AT);
+
+    var documents =
+        mongoClient
+            .getDatabase(MONGO_DATABASE_NAME)
+            .getCollection(MONGO_COLLECTION_ROOM)
+            .find(Filters.in(FIELD_ID, groupIds))
+            .projection(Projections.include(projection));
+
+    var rooms = new ArrayList<RoomsUpdateDTO>();
+    try (var cursor = documents.iterator()) {
+      while (cursor.hasNext()) {
+        rooms.add(toRoom(cursor.next()));
+      }
+    }
+    return rooms;
+  }
+
+  private RoomsUpdateDTO toRoom(Document document) {
+    var room = new RoomsUpdateDTO();
+    room.setId(document.getString(FIELD_ID));
+    room.setLastMessageDate(document.getDate(FIELD_LAST_MESSAGE_DATE));
+    room.setUpdatedAt(document.getDate(FIELD_UPDATED_AT));
+    var lastMessage = document.get(FIELD_LAST_MESSAGE, Document.class);
+    if (nonNull(lastMessage)) {
+      room.setLastMessage(objectMapper.convertValue(lastMessage, RoomsLastMessageDTO.class));
+    }
+    return room;
+  }
+}
@@ -0,0 +1,46 @@
+package de.caritas.cob.userservice.api.adapters.rocketchat;
+
+import java.util.List;
+
+/**
+ * Kinds of Rocket.Chat operations. Each kind is isolated by its own bulkhead, so that a slow kind
+ * of operation can not occupy the request threads of all others.
+ */
+public enum RocketChatOperation {
+  PRESENCE(List.of("/users.presence", "/method.call/UserPresence")),
+  ROOMS(List.of("/rooms.get", "/rooms.info", "/subscriptions.get")),
+  GROUP_ADMIN(
+      List.of(
+          "/groups.",
+          "/rooms.leave",
+          "/rooms.saveRoomSettings",
+          "/method.call/muteUserInRoom",
+          "/method.call/unmuteUserInRoom",
+          "/e2e.")),
+  MESSAGES(List.of("/chat.", "/rooms.cleanHistory")),
+  USERS(List.of());
+
+  private final List<String> endpointPrefixes;
+
+  RocketChatOperation(List<String> endpointPrefixes) {
+    this.endpointPrefixes = endpointPrefixes;
+  }
+
+  /**
+   * Resolves the kind of operation of the given endpoint. Endpoints of no other kind, e.g. user
+   * management and login, are {@link #USERS} operations.
+   *
+   * @param endpoint the endpoint relative to the api base url, e.g. /groups.kick
+   * @return the {@link RocketChatOperation}
+   */
+  public static RocketChatOperation ofEndpoint(String endpoint) {
+    for (var operation : values()) {
+      for (var prefix : operation.endpointPrefixes) {
+        if (endpoint.startsWith(prefix)) {
+          return operation;
+        }
+      }
+    }
+    return USERS;
+  }
+}
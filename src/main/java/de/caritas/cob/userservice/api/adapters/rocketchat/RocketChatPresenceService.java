@@ -0,0 +1,168 @@
+package de.caritas.cob.userservice.api.adapters.rocketchat;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import de.caritas.cob.userservice.api.adapters.rocketchat.config.RocketChatConfig;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.login.PresenceDTO;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.login.PresenceListDTO;
+import java.time.Clock;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicReference;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+/**
+ * Provides the presence of Rocket.Chat users out of one shared {@link RocketChatPresenceSnapshot}.
+ * The complete presence list is fetched with one request and reused by all callers until it is
+ * older than the configured time to live, instead of requesting the presence of every user on its
+ * own. While the snapshot is disabled, the presence of a single user is requested on its own.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RocketChatPresenceService {
+
+  private static final String ENDPOINT_USER_PRESENCE_GET = "/users.getPresence?userId=";
+  private static final String ENDPOINT_USER_PRESENCE_LIST = "/users.presence";
+
+  private final @NonNull RocketChatClient rocketChatClient;
+  private final @NonNull RocketChatConfig rocketChatConfig;
+  private final @NonNull Clock clock;
+
+  private final AtomicReference<RocketChatPresenceSnapshot> currentSnapshot =
+      new AtomicReference<>();
+  private final AtomicReference<CompletableFuture<RocketChatPresenceSnapshot>> runningFetch =
+      new AtomicReference<>();
+
+  @Value("${rocket-chat.presence-snapshot.enabled}")
+  private boolean snapshotEnabled;
+
+  @Value("${rocket-chat.presence-snapshot.ttl-millis}")
+  private long snapshotTtlMillis;
+
+  /**
+   * Returns if the given user is logged in, i.e. has any status except offline.
+   *
+   * @param chatUserId the Rocket.Chat user id
+   * @return true if the user is logged in, empty if the presence could not be retrieved
+   */
+  public Optional<Boolean> isLoggedIn(String chatUserId) {
+    if (!snapshotEnabled) {
+      return fetchUserPresence(chatUserId).map(PresenceDTO::isPresent);
+    }
+    return retrieveSnapshot().isLoggedIn(chatUserId);
+  }
+
+  /**
+   * Returns if the given user is available, i.e. is online.
+   *
+   * @param chatUserId the Rocket.Chat user id
+   * @return true if the user is available, empty if the presence could not be retrieved
+   */
+  public Optional<Boolean> isAvailable(String chatUserId) {
+    if (!snapshotEnabled) {
+      return fetchUserPresence(chatUserId).map(PresenceDTO::isAvailable);
+    }
+    return retrieveSnapshot().isAvailable(chatUserId);
+  }
+
+  /**
+   * Returns the current presence snapshot. An outdated snapshot is replaced by exactly one request
+   * to Rocket.Chat. While it runs, concurrent callers get the outdated snapshot, or share the
+   * result of the request if there is no snapshot yet. A snapshot which could not be fetched is
+   * returned to the callers of the request, but not kept.
+   *
+   * @return the current {@link RocketChatPresenceSnapshot}
+   */
+  public RocketChatPresenceSnapshot retrieveSnapshot() {
+    if (!snapshotEnabled) {
+      return fetchSnapshot();
+    }
+
+    var snapshot = currentSnapshot.get();
+    if (isFresh(snapshot)) {
+      return snapshot;
+    }
+    var fetch = new CompletableFuture<RocketChatPresenceSnapshot>();
+    var otherFetch = runningFetch.compareAndExchange(null, fetch);
+    if (nonNull(otherFetch)) {
+      return nonNull(snapshot) ? snapshot : otherFetch.join();
+    }
+    try {
+      var refreshedSnapshot = refreshSnapshot();
+      fetch.complete(refreshedSnapshot);
+      return refreshedSnapshot;
+    } catch (RuntimeException exception) {
+      fetch.completeExceptionally(exception);
+      throw exception;
+    } finally {
+      runningFetch.set(null);
+    }
+  }
+
+  /** Removes the current snapshot, so that the next request fetches the presence list again. */
+  public void evict() {
+    currentSnapshot.set(null);
+  }
+
+  private RocketChatPresenceSnapshot refreshSnapshot() {
+    var snapshot = currentSnapshot.get();
+    if (isFresh(snapshot)) {
+      return snapshot;
+    }
+    snapshot = fetchSnapshot();
+    if (snapshot.isConclusive()) {
+      currentSnapshot.set(snapshot);
+    } else {
+      currentSnapshot.set(null);
+      log.warn(
+          "Presence snapshot is not kept, presence checks stay inconclusive until the next try");
+    }
+    return snapshot;
+  }
+
+  private boolean isFresh(RocketChatPresenceSnapshot snapshot) {
+    return nonNull(snapshot) && clock.millis() - snapshot.getCreatedAtMillis() < snapshotTtlMillis;
+  }
+
+  private RocketChatPresenceSnapshot fetchSnapshot() {
+    var url = rocketChatConfig.getApiUrl(ENDPOINT_USER_PRESENCE_LIST);
+
+    try {
+      var presenceList = rocketChatClient.getForEntity(url, PresenceListDTO.class).getBody();
+      if (isNull(presenceList)) {
+        log.warn("Present user search inconclusive");
+      } else {
+        return RocketChatPresenceSnapshot.of(presenceList, clock.millis());
+      }
+    } catch (HttpClientErrorException | ResourceAccessException exception) {
+      log.error("Present user search failed.", exception);
+    }
+
+    return RocketChatPresenceSnapshot.inconclusive(clock.millis());
+  }
+
+  private Optional<PresenceDTO> fetchUserPresence(String chatUserId) {
+    var url = rocketChatConfig.getApiUrl(ENDPOINT_USER_PRESENCE_GET + chatUserId);
+
+    try {
+      var presence = rocketChatClient.getForEntity(url, PresenceDTO.class).getBody();
+      if (isNull(presence)) {
+        log.warn("Presence check inconclusive (user \"{}\".)", chatUserId);
+      } else {
+        return Optional.of(presence);
+      }
+    } catch (HttpClientErrorException | ResourceAccessException exception) {
+      log.error("Presence check failed.", exception);
+    }
+
+    return Optional.empty();
+  }
+}
@@ -0,0 +1,105 @@
+package de.caritas.cob.userservice.api.adapters.rocketchat;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.login.PresenceDTO.PresenceStatus;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.login.PresenceListDTO;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Immutable snapshot of the presence of all Rocket.Chat users. Rocket.Chat only lists users which
+ * are not offline, so every user missing in the snapshot is offline. An inconclusive snapshot is
+ * used when the presence list could not be fetched and answers every question with an empty result.
+ */
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class RocketChatPresenceSnapshot {
+
+  private final Map<String, PresenceStatus> statusByChatUserId;
+
+  @Getter private final long createdAtMillis;
+
+  /**
+   * Creates a new snapshot out of the presence list of Rocket.Chat.
+   *
+   * @param presenceList the presence list
+   * @param createdAtMillis the creation time of the snapshot
+   * @return the {@link RocketChatPresenceSnapshot}
+   */
+  public static RocketChatPresenceSnapshot of(PresenceListDTO presenceList, long createdAtMillis) {
+    var statusByChatUserId = new HashMap<String, PresenceStatus>();
+    if (nonNull(presenceList.getUsers())) {
+      presenceList.getUsers().stream()
+          .filter(user -> nonNull(user.getId()) && nonNull(user.getStatus()))
+          .forEach(user -> statusByChatUserId.put(user.getId(), user.getStatus()));
+    }
+    return new RocketChatPresenceSnapshot(statusByChatUserId, createdAtMillis);
+  }
+
+  /**
+   * Creates a snapshot without any presence information.
+   *
+   * @param createdAtMillis the creation time of the snapshot
+   * @return the inconclusive {@link RocketChatPresenceSnapshot}
+   */
+  public static RocketChatPresenceSnapshot inconclusive(long createdAtMillis) {
+    return new RocketChatPresenceSnapshot(null, createdAtMillis);
+  }
+
+  public boolean isConclusive() {
+    return nonNull(statusByChatUserId);
+  }
+
+  /**
+   * Returns if the given user is logged in, i.e. has any status except offline.
+   *
+   * @param chatUserId the Rocket.Chat user id
+   * @return true if the user is logged in, empty if the snapshot is inconclusive
+   */
+  public Optional<Boolean> isLoggedIn(String chatUserId) {
+    return statusOf(chatUserId).map(status -> status != PresenceStatus.OFFLINE);
+  }
+
+  /**
+   * Returns if the given user is available, i.e. is online.
+   *
+   * @param chatUserId the Rocket.Chat user id
+   * @return true if the user is available, empty if the snapshot is inconclusive
+   */
+  public Optional<Boolean> isAvailable(String chatUserId) {
+    return statusOf(chatUserId).map(status -> status == PresenceStatus.ONLINE);
+  }
+
+  /**
+   * Returns the ids of all available users as a new modifiable set.
+   *
+   * @return the Rocket.Chat user ids of all available users
+   */
+  public Set<String> getAvailableChatUserIds() {
+    var availableChatUserIds = new HashSet<String>();
+    if (isConclusive()) {
+      statusByChatUserId.forEach(
+          (chatUserId, status) -> {
+            if (status == PresenceStatus.ONLINE) {
+              availableChatUserIds.add(chatUserId);
+            }
+          });
+    }
+    return availableChatUserIds;
+  }
+
+  private Optional<PresenceStatus> statusOf(String chatUserId) {
+    if (!isConclusive()) {
+      return Optional.empty();
+    }
+    var status = isNull(chatUserId) ? null : statusByChatUserId.get(chatUserId);
+    return Optional.of(isNull(status) ? PresenceStatus.OFFLINE : status);
+  }
+}
@@ -0,0 +1,201 @@
+package de.caritas.cob.userservice.api.adapters.rocketchat;
+
+import static java.util.Objects.isNull;
+
+import de.caritas.cob.userservice.api.adapters.rocketchat.config.RocketChatConfig;
+import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatUnavailableException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.time.Clock;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.UnknownHttpStatusCodeException;
+
+/**
+ * Isolates the calls to Rocket.Chat from each other and from the rest of the service. Every kind of
+ * {@link RocketChatOperation} gets a bulkhead limiting its concurrent calls, and all calls share
+ * one {@link RocketChatCircuitBreaker}. Rejected calls fail immediately with a {@link
+ * RocketChatUnavailableException} instead of blocking a request thread until the timeout.
+ *
+ * <p>I/O errors and server errors count as failures of the circuit breaker, client errors do not.
+ * Requests to other hosts are passed through unchanged.
+ *
+ * <p>Non-blocking calls of the {@link RocketChatAsyncClient} share the bulkheads and the circuit
+ * breaker. They do not hold a thread while waiting, so they are queued until a permit of their
+ * bulkhead is free instead of being rejected after the maximum wait.
+ */
+@Slf4j
+@Component
+public class RocketChatResilienceInterceptor implements ClientHttpRequestInterceptor {
+
+  private static final int SERVER_ERROR_STATUS = 500;
+
+  private final RocketChatConfig rocketChatConfig;
+  private final RocketChatCircuitBreaker circuitBreaker;
+  private final Map<RocketChatOperation, Semaphore> bulkheads =
+      new EnumMap<>(RocketChatOperation.class);
+  private final Map<RocketChatOperation, RocketChatAsyncPermits> asyncBulkheads =
+      new EnumMap<>(RocketChatOperation.class);
+  private final Map<RocketChatOperation, Counter> bulkheadRejections =
+      new EnumMap<>(RocketChatOperation.class);
+  private final Counter circuitBreakerRejections;
+
+  public RocketChatResilienceInterceptor(
+      RocketChatConfig rocketChatConfig, Clock clock, MeterRegistry meterRegistry) {
+    this.rocketChatConfig = rocketChatConfig;
+    var resilience = rocketChatConfig.getResilience();
+    this.circuitBreaker =
+        new RocketChatCircuitBreaker(
+            resilience.getFailureThreshold(),
+            resilience.getOpenMillis(),
+            resilience.getHalfOpenProbes(),
+            clock);
+
+    for (var operation : RocketChatOperation.values()) {
+      var bulkhead = new Semaphore(resilience.maxConcurrentCallsOf(operation), true);
+      bulkheads.put(operation, bulkhead);
+      var asyncBulkhead = new RocketChatAsyncPermits(bulkhead);
+      asyncBulkheads.put(operation, asyncBulkhead);
+      var operationTag = operation.name().toLowerCase();
+      Gauge.builder("rocketchat.bulkhead.available.calls", bulkhead, Semaphore::availablePermits)
+          .tag("operation", operationTag)
+          .register(meterRegistry);
+      Gauge.builder(
+              "rocketchat.bulkhead.queued.calls",
+              asyncBulkhead,
+              RocketChatAsyncPermits::queuedCallCount)
+          .tag("operation", operationTag)
+          .register(meterRegistry);
+      bulkheadRejections.put(
+          operation,
+          Counter.builder("rocketchat.bulkhead.rejected.calls")
+              .tag("operation", operationTag)
+              .register(meterRegistry));
+    }
+
+    for (var state : RocketChatCircuitBreaker.State.values()) {
+      Gauge.builder(
+              "rocketchat.circuitbreaker.state",
+              circuitBreaker,
+              breaker -> breaker.getState() == state ? 1 : 0)
+          .tag("state", state.name().toLowerCase())
+          .register(meterRegistry);
+    }
+    this.circuitBreakerRejections =
+        Counter.builder("rocketchat.circuitbreaker.rejected.calls").register(meterRegistry);
+  }
+
+  @Override
+  public ClientHttpResponse intercept(
+      HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+    var url = request.getURI().toString();
+    var baseUrl = rocketChatConfig.getBaseUrl();
+    if (!rocketChatConfig.getResilience().isEnabled() || !url.startsWith(baseUrl)) {
+      return execution.execute(request, body);
+    }
+
+    var operation = RocketChatOperation.ofEndpoint(url.substring(baseUrl.length()));
+    var bulkhead = bulkheads.get(operation);
+    if (!tryAcquire(bulkhead)) {
+      bulkheadRejections.get(operation).increment();
+      throw new RocketChatUnavailableException(
+          String.format("Bulkhead of Rocket.Chat %s operations is full", operation));
+    }
+
+    try {
+      if (!circuitBreaker.tryAcquirePermission()) {
+        circuitBreakerRejections.increment();
+        throw new RocketChatUnavailableException(
+            String.format("Circuit breaker of Rocket.Chat is %s", circuitBreaker.getState()));
+      }
+      return executeAndRecord(request, body, execution);
+    } finally {
+      asyncBulkheads.get(operation).release();
+    }
+  }
+
+  /**
+   * Runs the given non-blocking call to the given url behind the bulkhead of its operation and the
+   * circuit breaker. Calls rejected by the open circuit breaker fail with a {@link
+   * ResourceAccessException} caused by a {@link RocketChatUnavailableException}.
+   *
+   * @param url the url of the call
+   * @param call the call, reporting error statuses like the {@link RocketChatAsyncClient}
+   * @param <T> the type of the result
+   * @return a future of the result of the call
+   */
+  public <T> CompletableFuture<T> executeAsync(String url, Supplier<CompletableFuture<T>> call) {
+    var baseUrl = rocketChatConfig.getBaseUrl();
+    if (!rocketChatConfig.getResilience().isEnabled() || !url.startsWith(baseUrl)) {
+      return call.get();
+    }
+
+    var operation = RocketChatOperation.ofEndpoint(url.substring(baseUrl.length()));
+    return asyncBulkheads
+        .get(operation)
+        .submit(
+            () -> {
+              if (!circuitBreaker.tryAcquirePermission()) {
+                circuitBreakerRejections.increment();
+                var rejection =
+                    new RocketChatUnavailableException(
+                        String.format(
+                            "Circuit breaker of Rocket.Chat is %s", circuitBreaker.getState()));
+                return CompletableFuture.failedFuture(
+                    new ResourceAccessException(rejection.getMessage(), rejection));
+              }
+              return call.get().whenComplete((result, failure) -> record(failure));
+            });
+  }
+
+  private void record(Throwable failure) {
+    var cause = isNull(failure) ? null : RocketChatAsyncClient.causeOf(failure);
+    if (cause instanceof HttpServerErrorException
+        || cause instanceof UnknownHttpStatusCodeException
+        || cause instanceof ResourceAccessException) {
+      circuitBreaker.onFailure();
+    } else {
+      circuitBreaker.onSuccess();
+    }
+  }
+
+  private boolean tryAcquire(Semaphore bulkhead) {
+    try {
+      return bulkhead.tryAcquire(
+          rocketChatConfig.getResilience().getBulkheadMaxWaitMillis(), TimeUnit.MILLISECONDS);
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+      return false;
+    }
+  }
+
+  private ClientHttpResponse executeAndRecord(
+      HttpRequest request, byte[] body, ClientHttpRequestExecution execution) throws IOException {
+    try {
+      var response = execution.execute(request, body);
+      if (response.getRawStatusCode() >= SERVER_ERROR_STATUS) {
+        circuitBreaker.onFailure();
+      } else {
+        circuitBreaker.onSuccess();
+      }
+      return response;
+    } catch (IOException | RuntimeException exception) {
+      circuitBreaker.onFailure();
+      throw exception;
+    }
+  }
+}
@@ -83,13 +83,20 @@ public class RocketChatRollbackService {
    * @return
    */
   private boolean listContainsTechUser(List<GroupMemberDTO> memberList) {
+    if (memberList.isEmpty()) {
+      return false;
+    }
+
+    String technicalUserId;
+    try {
+      technicalUserId = rcCredentialsHelper.getTechnicalUser().getRocketChatUserId();
+    } catch (RocketChatUserNotInitializedException e) {
+      return false;
+    }
+
     for (GroupMemberDTO member : memberList) {
-      try {
-        if (member.get_id().equals(rcCredentialsHelper.getTechnicalUser().getRocketChatUserId())) {
-          return true;
-        }
-      } catch (RocketChatUserNotInitializedException e) {
-        return false;
+      if (member.get_id().equals(technicalUserId)) {
+        return true;
       }
     }
 
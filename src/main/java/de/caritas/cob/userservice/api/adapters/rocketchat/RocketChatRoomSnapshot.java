@@ -0,0 +1,108 @@
+package de.caritas.cob.userservice.api.adapters.rocketchat;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.room.RoomsGetDTO;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.room.RoomsRemoveDTO;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.room.RoomsUpdateDTO;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.subscriptions.SubscriptionsGetDTO;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.subscriptions.SubscriptionsRemoveDTO;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.subscriptions.SubscriptionsUpdateDTO;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Immutable snapshot of the Rocket.Chat subscriptions and rooms of a user. A snapshot remembers the
+ * newest update dates of its subscriptions and rooms, so that following requests only need to fetch
+ * the delta from Rocket.Chat.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class RocketChatRoomSnapshot {
+
+  private final List<SubscriptionsUpdateDTO> subscriptions;
+  private final List<RoomsUpdateDTO> rooms;
+  private final Date subscriptionsUpdatedSince;
+  private final Date roomsUpdatedSince;
+
+  /**
+   * Creates a new snapshot out of the complete subscriptions and rooms of a user.
+   *
+   * @param subscriptions all subscriptions of the user
+   * @param rooms all rooms of the user
+   * @return the {@link RocketChatRoomSnapshot}
+   */
+  public static RocketChatRoomSnapshot of(
+      List<SubscriptionsUpdateDTO> subscriptions, List<RoomsUpdateDTO> rooms) {
+    return new RocketChatRoomSnapshot(
+        unmodifiableList(new ArrayList<>(subscriptions)),
+        unmodifiableList(new ArrayList<>(rooms)),
+        newestOf(null, subscriptions.stream(), SubscriptionsUpdateDTO::getUpdatedAt),
+        newestOf(null, rooms.stream(), RoomsUpdateDTO::getUpdatedAt));
+  }
+
+  /**
+   * Creates a new snapshot by applying the given deltas on this snapshot. Rooms of removed
+   * subscriptions are removed as well, because the user is no member of them anymore. This snapshot
+   * is not changed.
+   *
+   * @param subscriptionsDelta the subscriptions updated or removed since this snapshot
+   * @param roomsDelta the rooms updated or removed since this snapshot
+   * @return the merged {@link RocketChatRoomSnapshot}
+   */
+  public RocketChatRoomSnapshot merge(
+      SubscriptionsGetDTO subscriptionsDelta, RoomsGetDTO roomsDelta) {
+    var mergedSubscriptions = new LinkedHashMap<String, SubscriptionsUpdateDTO>();
+    subscriptions.forEach(
+        subscription -> mergedSubscriptions.put(subscriptionKey(subscription), subscription));
+    var mergedRooms = new LinkedHashMap<String, RoomsUpdateDTO>();
+    rooms.forEach(room -> mergedRooms.put(room.getId(), room));
+
+    streamOf(subscriptionsDelta.getRemove())
+        .map(SubscriptionsRemoveDTO::getId)
+        .map(mergedSubscriptions::remove)
+        .filter(Objects::nonNull)
+        .forEach(removedSubscription -> mergedRooms.remove(removedSubscription.getRoomId()));
+    streamOf(subscriptionsDelta.getUpdate())
+        .forEach(
+            subscription -> mergedSubscriptions.put(subscriptionKey(subscription), subscription));
+    streamOf(roomsDelta.getRemove()).map(RoomsRemoveDTO::getId).forEach(mergedRooms::remove);
+    streamOf(roomsDelta.getUpdate()).forEach(room -> mergedRooms.put(room.getId(), room));
+
+    return new RocketChatRoomSnapshot(
+        unmodifiableList(new ArrayList<>(mergedSubscriptions.values())),
+        unmodifiableList(new ArrayList<>(mergedRooms.values())),
+        newestOf(
+            subscriptionsUpdatedSince,
+            streamOf(subscriptionsDelta.getUpdate()),
+            SubscriptionsUpdateDTO::getUpdatedAt),
+        newestOf(
+            roomsUpdatedSince, streamOf(roomsDelta.getUpdate()), RoomsUpdateDTO::getUpdatedAt));
+  }
+
+  private static String subscriptionKey(SubscriptionsUpdateDTO subscription) {
+    return nonNull(subscription.get_id()) ? subscription.get_id() : subscription.getRoomId();
+  }
+
+  private static <T> Date newestOf(Date current, Stream<T> updates, Function<T, Date> updatedAt) {
+    return updates
+        .filter(Objects::nonNull)
+        .map(updatedAt)
+        .filter(Objects::nonNull)
+        .reduce(current, (newest, date) -> isNull(newest) || date.after(newest) ? date : newest);
+  }
+
+  private static <T> Stream<T> streamOf(T[] items) {
+    return isNull(items) ? Stream.empty() : Stream.of(items).filter(Objects::nonNull);
+  }
+}
@@ -0,0 +1,187 @@
+package de.caritas.cob.userservice.api.adapters.rocketchat;
+
+import static de.caritas.cob.userservice.api.config.CacheManagerConfig.ROCKET_CHAT_ROOM_SNAPSHOT_CACHE;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.springframework.web.context.request.RequestAttributes.SCOPE_REQUEST;
+
+import de.caritas.cob.userservice.api.exception.httpresponses.InternalServerErrorException;
+import de.caritas.cob.userservice.api.service.LogService;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.BiFunction;
+import java.util.function.Supplier;
+import lombok.NonNull;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestContextHolder;
+
+/**
+ * Per user cache of {@link RocketChatRoomSnapshot}s. After the first complete request only the
+ * subscriptions and rooms updated since the last snapshot are requested from Rocket.Chat and merged
+ * into the cached snapshot. Changed group memberships arrive as updated or removed subscriptions of
+ * the delta, so snapshots are not evicted explicitly. Idle, size and time to live based eviction is
+ * configured in the cache manager. Subscriptions and rooms are always fetched concurrently on a
+ * bounded executor, each within the fetch timeout. Within a request a snapshot is retrieved only
+ * once, so e.g. the entity tag of a session list and the list itself are based on the same
+ * snapshot.
+ */
+@Component
+public class RocketChatRoomSnapshotCache {
+
+  private static final String SNAPSHOT_REQUEST_ATTRIBUTE_PREFIX =
+      RocketChatRoomSnapshot.class.getName() + ".";
+
+  private final @NonNull RocketChatService rocketChatService;
+  private final @NonNull CacheManager cacheManager;
+  private final @NonNull Executor rocketChatRoomFetchExecutor;
+
+  @Value("${rocket-chat.room-snapshot-cache.enabled}")
+  private boolean snapshotCacheEnabled;
+
+  @Value("${rocket-chat.room-fetch-timeout-millis}")
+  private long fetchTimeoutMillis;
+
+  public RocketChatRoomSnapshotCache(
+      @NonNull RocketChatService rocketChatService,
+      @NonNull CacheManager cacheManager,
+      @NonNull @Qualifier("rocketChatRoomFetchExecutor") Executor rocketChatRoomFetchExecutor) {
+    this.rocketChatService = rocketChatService;
+    this.cacheManager = cacheManager;
+    this.rocketChatRoomFetchExecutor = rocketChatRoomFetchExecutor;
+  }
+
+  /**
+   * Returns the current snapshot of subscriptions and rooms for the given user. If a snapshot is
+   * already cached, only the delta since this snapshot is requested from Rocket.Chat.
+   *
+   * @param rocketChatCredentials the Rocket.Chat credentials of the user
+   * @return the current {@link RocketChatRoomSnapshot}
+   */
+  public RocketChatRoomSnapshot retrieveSnapshot(RocketChatCredentials rocketChatCredentials) {
+    var requestAttributes = RequestContextHolder.getRequestAttributes();
+    if (isNull(requestAttributes)) {
+      return retrieveCurrentSnapshot(rocketChatCredentials);
+    }
+
+    var attributeName =
+        SNAPSHOT_REQUEST_ATTRIBUTE_PREFIX + rocketChatCredentials.getRocketChatUserId();
+    var requestSnapshot = requestAttributes.getAttribute(attributeName, SCOPE_REQUEST);
+    if (requestSnapshot instanceof RocketChatRoomSnapshot) {
+      return (RocketChatRoomSnapshot) requestSnapshot;
+    }
+    var snapshot = retrieveCurrentSnapshot(rocketChatCredentials);
+    requestAttributes.setAttribute(attributeName, snapshot, SCOPE_REQUEST);
+
+    return snapshot;
+  }
+
+  private RocketChatRoomSnapshot retrieveCurrentSnapshot(
+      RocketChatCredentials rocketChatCredentials) {
+    if (!snapshotCacheEnabled) {
+      return retrieveCompleteSnapshot(rocketChatCredentials);
+    }
+
+    var cache = snapshotCache();
+    var rcUserId = rocketChatCredentials.getRocketChatUserId();
+    var cachedSnapshot = cache.get(rcUserId, RocketChatRoomSnapshot.class);
+    var snapshot =
+        isNull(cachedSnapshot)
+            ? retrieveCompleteSnapshot(rocketChatCredentials)
+            : retrieveDelta(rocketChatCredentials, cachedSnapshot);
+    cache.put(rcUserId, snapshot);
+
+    return snapshot;
+  }
+
+  private RocketChatRoomSnapshot retrieveCompleteSnapshot(
+      RocketChatCredentials rocketChatCredentials) {
+    return fetchConcurrently(
+        () -> rocketChatService.getSubscriptionsOfUser(rocketChatCredentials),
+        () -> rocketChatService.getRoomsOfUser(rocketChatCredentials),
+        RocketChatRoomSnapshot::of);
+  }
+
+  private RocketChatRoomSnapshot retrieveDelta(
+      RocketChatCredentials rocketChatCredentials, RocketChatRoomSnapshot cachedSnapshot) {
+    if (isNull(cachedSnapshot.getSubscriptionsUpdatedSince())
+        || isNull(cachedSnapshot.getRoomsUpdatedSince())) {
+      return retrieveCompleteSnapshot(rocketChatCredentials);
+    }
+    return fetchConcurrently(
+        () ->
+            rocketChatService.getSubscriptionsOfUserUpdatedSince(
+                rocketChatCredentials, cachedSnapshot.getSubscriptionsUpdatedSince()),
+        () ->
+            rocketChatService.getRoomsOfUserUpdatedSince(
+                rocketChatCredentials, cachedSnapshot.getRoomsUpdatedSince()),
+        cachedSnapshot::merge);
+  }
+
+  private <S, R> RocketChatRoomSnapshot fetchConcurrently(
+      Supplier<S> subscriptionsSupplier,
+      Supplier<R> roomsSupplier,
+      BiFunction<S, R, RocketChatRoomSnapshot> snapshotFunction) {
+    var subscriptions = fetchAsync(subscriptionsSupplier);
+    var rooms = fetchAsync(roomsSupplier);
+    try {
+      return subscriptions.thenCombine(rooms, snapshotFunction).join();
+    } catch (CompletionException e) {
+      throw unwrap(e.getCause());
+    }
+  }
+
+  /**
+   * Fetches on the room fetch executor and fails the returned future with a {@link
+   * TimeoutException} when the fetch takes longer than the fetch timeout. A timed out fetch is not
+   * interrupted, as the rest template does not react on interrupts, but ends with the read timeout
+   * configured for the room and subscription endpoints in the pooled HTTP client. If the executor
+   * is exhausted, the fetch is rejected instead of being run on the calling thread without timeout.
+   */
+  private <T> CompletableFuture<T> fetchAsync(Supplier<T> supplier) {
+    try {
+      return CompletableFuture.supplyAsync(supplier, rocketChatRoomFetchExecutor)
+          .orTimeout(fetchTimeoutMillis, TimeUnit.MILLISECONDS);
+    } catch (RejectedExecutionException e) {
+      throw new InternalServerErrorException(
+          "Rocket.Chat rooms and subscriptions could not be fetched, the executor is exhausted",
+          e,
+          LogService::logRocketChatError);
+    }
+  }
+
+  private RuntimeException unwrap(Throwable cause) {
+    if (cause instanceof CompletionException && nonNull(cause.getCause())) {
+      return unwrap(cause.getCause());
+    }
+    if (cause instanceof TimeoutException) {
+      return new InternalServerErrorException(
+          String.format(
+              "Rocket.Chat rooms and subscriptions could not be fetched within %s ms",
+              fetchTimeoutMillis),
+          (TimeoutException) cause,
+          LogService::logRocketChatError);
+    }
+    if (cause instanceof Error) {
+      throw (Error) cause;
+    }
+    // the suppliers are not able to throw checked exceptions
+    return (RuntimeException) cause;
+  }
+
+  private Cache snapshotCache() {
+    var cache = cacheManager.getCache(ROCKET_CHAT_ROOM_SNAPSHOT_CACHE);
+    if (isNull(cache)) {
+      throw new IllegalStateException(
+          String.format("Cache %s is not configured", ROCKET_CHAT_ROOM_SNAPSHOT_CACHE));
+    }
+    return cache;
+  }
+}
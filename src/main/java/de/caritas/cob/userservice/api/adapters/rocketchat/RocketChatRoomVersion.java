@@ -0,0 +1,29 @@
+package de.caritas.cob.userservice.api.adapters.rocketchat;
+
+import java.util.Date;
+import lombok.Value;
+
+/**
+ * Version of the Rocket.Chat subscriptions and rooms of a user. New or read messages update the
+ * rooms or subscriptions, joined or left rooms change the number of subscriptions.
+ */
+@Value
+public class RocketChatRoomVersion {
+
+  int subscriptionCount;
+  Date subscriptionsUpdatedAt;
+  Date roomsUpdatedAt;
+
+  /**
+   * Creates the version of the given snapshot.
+   *
+   * @param snapshot the {@link RocketChatRoomSnapshot}
+   * @return the {@link RocketChatRoomVersion}
+   */
+  public static RocketChatRoomVersion of(RocketChatRoomSnapshot snapshot) {
+    return new RocketChatRoomVersion(
+        snapshot.getSubscriptions().size(),
+        snapshot.getSubscriptionsUpdatedSince(),
+        snapshot.getRoomsUpdatedSince());
+  }
+}
@@ -6,11 +6,12 @@ import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.apache.commons.lang3.ArrayUtils.isNotEmpty;
 
-import com.google.common.collect.Lists;
 import com.mongodb.DBObject;
+import com.mongodb.MongoException;
 import com.mongodb.QueryBuilder;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.Projections;
 import de.caritas.cob.userservice.api.adapters.rocketchat.config.RocketChatConfig;
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.StandardResponseDTO;
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.group.GroupAddUserBodyDTO;
@@ -27,8 +28,6 @@ import de.caritas.cob.userservice.api.adapters.rocketchat.dto.group.GroupRespons
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.group.GroupsListAllResponseDTO;
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.login.LdapLoginDTO;
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.login.LoginResponseDTO;
-import de.caritas.cob.userservice.api.adapters.rocketchat.dto.login.PresenceDTO;
-import de.caritas.cob.userservice.api.adapters.rocketchat.dto.login.PresenceListDTO;
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.logout.LogoutResponseDTO;
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.message.MessageResponse;
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.room.RoomResponse;
@@ -58,20 +57,36 @@ import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatRemoveUserF
 import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatUserNotInitializedException;
 import de.caritas.cob.userservice.api.port.out.MessageClient;
 import de.caritas.cob.userservice.api.service.LogService;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.Collection;
+import java.util.Date;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import javax.annotation.PostConstruct;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.lang3.tuple.Pair;
 import org.bson.Document;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.context.annotation.Profile;
 import org.springframework.http.HttpEntity;
@@ -84,6 +99,7 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClientResponseException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
@@ -106,23 +122,22 @@ public class RocketChatService implements MessageClient {
   private static final String ENDPOINT_GROUP_LIST = "/groups.listAll";
   private static final String ENDPOINT_ROOM_CLEAN_HISTORY = "/rooms.cleanHistory";
   private static final String ENDPOINT_ROOM_GET = "/rooms.get";
-  private static final String ENDPOINT_ROOM_INFO = "/rooms.info?roomId=";
+  private static final String ENDPOINT_ROOM_INFO = "/rooms.info?roomId={roomId}";
   private static final String ENDPOINT_SUBSCRIPTION_GET = "/subscriptions.get";
   private static final String ENDPOINT_USER_MUTE = "/method.call/muteUserInRoom";
   private static final String ENDPOINT_USER_UNMUTE = "/method.call/unmuteUserInRoom";
   private static final String ENDPOINT_SAVE_ROOM_SETTINGS = "/rooms.saveRoomSettings";
-  private static final String ENDPOINT_USER_INFO = "/users.info?userId=";
+  private static final String ENDPOINT_USER_INFO = "/users.info?userId={userId}";
   private static final String ENDPOINT_USER_UPDATE = "/users.update";
   private static final String ENDPOINT_USER_DELETE = "/users.delete";
   private static final String ENDPOINT_USER_LIST = "/users.list";
   private static final String ENDPOINT_USER_LOGIN = "/login";
   private static final String ENDPOINT_USER_LOGOUT = "/logout";
-  private static final String ENDPOINT_USER_PRESENCE_GET = "/users.getPresence?userId=";
   private static final String ENDPOINT_USER_PRESENCE_SET = "/method.call/UserPresence";
-  private static final String ENDPOINT_USER_PRESENCE_LIST = "/users.presence";
 
-  private static final String MONGO_DATABASE_NAME = "rocketchat";
-  private static final String MONGO_COLLECTION_SUBSCRIPTION = "rocketchat_subscription";
+  static final String MONGO_DATABASE_NAME = "rocketchat";
+  static final String MONGO_COLLECTION_SUBSCRIPTION = "rocketchat_subscription";
+  static final String MONGO_COLLECTION_ROOM = "rocketchat_room";
 
   private static final String ERROR_MESSAGE =
       "Error during rollback: Rocket.Chat group with id " + "%s could not be deleted";
@@ -135,6 +150,10 @@ public class RocketChatService implements MessageClient {
       "Could not get users list from Rocket.Chat";
   private static final String USER_LIST_GET_FIELD_SELECTION = "{\"_id\":1}";
   private static final Integer PAGE_SIZE = 100;
+  private static final String METRIC_GROUP_MEMBERSHIP_BATCH = "rocketchat.group.membership.batch";
+  private static final String METRIC_GROUP_MEMBERSHIP_MEMBER = "rocketchat.group.membership.member";
+  private static final String METRIC_TAG_OPERATION = "operation";
+  private static final String METRIC_TAG_OUTCOME = "outcome";
   private static final String ERROR_ROOM_NOT_FOUND = "error-room-not-found";
   private static final String COULD_NOT_REMOVE_USER_FROM_ROCKET_CHAT_GROUP =
       "Could not remove user %s from Rocket.Chat group with id %s";
@@ -152,8 +171,38 @@ public class RocketChatService implements MessageClient {
 
   private final RocketChatMapper mapper;
 
+  private final RocketChatPresenceService rocketChatPresenceService;
+
   private final RocketChatCredentials rocketChatCredentials;
 
+  @Qualifier("rocketChatGroupFetchExecutor")
+  private final Executor rocketChatGroupFetchExecutor;
+
+  @Qualifier("rocketChatGroupMembershipExecutor")
+  private final Executor rocketChatGroupMembershipExecutor;
+
+  private final RocketChatAsyncClient rocketChatAsyncClient;
+
+  private final MeterRegistry meterRegistry;
+
+  @Value("${rocket-chat.mongo-group-read.enabled}")
+  private final boolean mongoGroupReadEnabled;
+
+  @Value("${rocket-chat.async-client.enabled}")
+  private final boolean asyncClientEnabled;
+
+  @Getter(value = AccessLevel.PRIVATE, lazy = true)
+  private final RocketChatSingleFlight<Pair<String, String>, SubscriptionsGetDTO>
+      subscriptionsOfUserFlight = new RocketChatSingleFlight<>("subscriptions.get", meterRegistry);
+
+  @Getter(value = AccessLevel.PRIVATE, lazy = true)
+  private final RocketChatSingleFlight<Pair<String, String>, RoomsGetDTO> roomsOfUserFlight =
+      new RocketChatSingleFlight<>("rooms.get", meterRegistry);
+
+  @Getter(value = AccessLevel.PRIVATE, lazy = true)
+  private final RocketChatSingleFlight<String, UserInfoResponseDTO> userInfoFlight =
+      new RocketChatSingleFlight<>("users.info", meterRegistry);
+
   private boolean rotatingTokensInitialized = false;
 
   @PostConstruct
@@ -182,7 +231,7 @@ public class RocketChatService implements MessageClient {
     try {
       var response = rocketChatClient.postForEntity(url, muteUser, MessageResponse.class);
       return userWasInRoom(response) && response.getStatusCode().is2xxSuccessful();
-    } catch (HttpClientErrorException exception) {
+    } catch (HttpClientErrorException | ResourceAccessException exception) {
       log.error("Muting failed.", exception);
       return false;
     }
@@ -196,12 +245,43 @@ public class RocketChatService implements MessageClient {
     try {
       var response = rocketChatClient.postForEntity(url, unmuteUser, MessageResponse.class);
       return response.getStatusCode().is2xxSuccessful();
-    } catch (HttpClientErrorException exception) {
+    } catch (HttpClientErrorException | ResourceAccessException exception) {
       log.error("Un-muting failed.", exception);
       return false;
     }
   }
 
+  @Override
+  public CompletableFuture<Boolean> unmuteUserInChatAsync(String username, String roomId) {
+    if (!asyncClientEnabled) {
+      return CompletableFuture.completedFuture(unmuteUserInChat(username, roomId));
+    }
+
+    var url = rocketChatConfig.getApiUrl(ENDPOINT_USER_UNMUTE);
+    var unmuteUser = mapper.unmuteUserOf(username, roomId);
+
+    return isSuccessfulAsync(
+        rocketChatClient.postForEntityAsync(url, unmuteUser, MessageResponse.class),
+        "Un-muting failed.");
+  }
+
+  private <T> CompletableFuture<Boolean> isSuccessfulAsync(
+      CompletableFuture<ResponseEntity<T>> call, String errorMessage) {
+    return call.handle(
+        (response, failure) -> {
+          if (isNull(failure)) {
+            return response.getStatusCode().is2xxSuccessful();
+          }
+          var cause = RocketChatAsyncClient.causeOf(failure);
+          if (cause instanceof HttpClientErrorException
+              || cause instanceof ResourceAccessException) {
+            log.error(errorMessage, cause);
+            return false;
+          }
+          throw new CompletionException(cause);
+        });
+  }
+
   /**
    * Updates the user data of the given Rocket.Chat user.
    *
@@ -227,7 +307,7 @@ public class RocketChatService implements MessageClient {
     try {
       var response = rocketChatClient.postForEntity(url, chatUserId, updateUser, Void.class);
       return response.getStatusCode().is2xxSuccessful();
-    } catch (HttpClientErrorException exception) {
+    } catch (HttpClientErrorException | ResourceAccessException exception) {
       log.error("Setting display failed.", exception);
       return false;
     }
@@ -235,48 +315,17 @@ public class RocketChatService implements MessageClient {
 
   @Override
   public Set<String> findAllAvailableUserIds() {
-    var url = rocketChatConfig.getApiUrl(ENDPOINT_USER_PRESENCE_LIST);
-
-    try {
-      var presentList = rocketChatClient.getForEntity(url, PresenceListDTO.class).getBody();
-      if (isNull(presentList)) {
-        log.warn("Present user search inconclusive");
-      } else {
-        return mapper.mapAvailableOf(presentList);
-      }
-    } catch (HttpClientErrorException exception) {
-      log.error("Present user search failed.", exception);
-    }
-
-    return Set.of();
+    return rocketChatPresenceService.retrieveSnapshot().getAvailableChatUserIds();
   }
 
   @Override
   public Optional<Boolean> isLoggedIn(String chatUserId) {
-    return getUserPresence(chatUserId).flatMap(presenceDTO -> Optional.of(presenceDTO.isPresent()));
+    return rocketChatPresenceService.isLoggedIn(chatUserId);
   }
 
   @Override
   public Optional<Boolean> isAvailable(String chatUserId) {
-    return getUserPresence(chatUserId)
-        .flatMap(presenceDTO -> Optional.of(presenceDTO.isAvailable()));
-  }
-
-  private Optional<PresenceDTO> getUserPresence(String chatUserId) {
-    var url = rocketChatConfig.getApiUrl(ENDPOINT_USER_PRESENCE_GET + chatUserId);
-
-    try {
-      var body = rocketChatClient.getForEntity(url, PresenceDTO.class).getBody();
-      if (isNull(body)) {
-        log.warn("Presence check inconclusive (user \"{}\".)", chatUserId);
-      } else {
-        return Optional.of(body);
-      }
-    } catch (HttpClientErrorException exception) {
-      log.error("Presence check failed.", exception);
-    }
-
-    return Optional.empty();
+    return rocketChatPresenceService.isAvailable(chatUserId);
   }
 
   @Override
@@ -287,8 +336,9 @@ public class RocketChatService implements MessageClient {
     try {
       var response =
           rocketChatClient.postForEntity(url, username, userPresence, MessageResponse.class);
+      rocketChatPresenceService.evict();
       return isSuccessful(response);
-    } catch (HttpClientErrorException exception) {
+    } catch (HttpClientErrorException | ResourceAccessException exception) {
       log.error("Setting user presence failed.", exception);
       return false;
     }
@@ -302,12 +352,12 @@ public class RocketChatService implements MessageClient {
 
   @Override
   public Optional<Map<String, Object>> findUser(String chatUserId) {
-    var url = rocketChatConfig.getApiUrl(ENDPOINT_USER_INFO + chatUserId);
+    var url = rocketChatConfig.getApiUrl(ENDPOINT_USER_INFO, chatUserId);
 
     try {
       var response = rocketChatClient.getForEntity(url, UserInfoResponseDTO.class);
       return mapper.mapOfUserResponse(response);
-    } catch (HttpClientErrorException exception) {
+    } catch (HttpClientErrorException | ResourceAccessException exception) {
       log.error("User Info failed.", exception);
       return Optional.empty();
     }
@@ -321,12 +371,12 @@ public class RocketChatService implements MessageClient {
 
   @Override
   public Optional<Map<String, Object>> getChatInfo(String roomId) {
-    var url = rocketChatConfig.getApiUrl(ENDPOINT_ROOM_INFO + roomId);
+    var url = rocketChatConfig.getApiUrl(ENDPOINT_ROOM_INFO, roomId);
 
     try {
       var response = rocketChatClient.getForEntity(url, RoomResponse.class);
       return mapper.mapOfRoomResponse(response);
-    } catch (HttpClientErrorException exception) {
+    } catch (HttpClientErrorException | ResourceAccessException exception) {
       log.error("Chat Info failed.", exception);
       return Optional.empty();
     }
@@ -686,6 +736,213 @@ public class RocketChatService implements MessageClient {
     return response;
   }
 
+  /**
+   * Adds the provided users to the Rocket.Chat group with given groupId. The users are added
+   * concurrently, every user that could not be added is reported in the result.
+   *
+   * @param rcUserIds Rocket.Chat userIds
+   * @param rcGroupId Rocket.Chat roomId
+   * @return the {@link GroupMembershipResult}
+   */
+  public GroupMembershipResult addUsersToGroup(Collection<String> rcUserIds, String rcGroupId) {
+    return runGroupMembershipBatch(
+        "add",
+        rcUserIds,
+        rcGroupId,
+        asyncClientEnabled
+            ? this::addUserToGroupAsync
+            : onMembershipExecutor(this::addUserToGroup));
+  }
+
+  /**
+   * Removes the provided users from the Rocket.Chat group with given groupId. The users are removed
+   * concurrently, every user that could not be removed is reported in the result.
+   *
+   * @param rcUserIds Rocket.Chat userIds
+   * @param rcGroupId Rocket.Chat roomId
+   * @return the {@link GroupMembershipResult}
+   */
+  public GroupMembershipResult removeUsersFromGroup(
+      Collection<String> rcUserIds, String rcGroupId) {
+    return runGroupMembershipBatch(
+        "remove",
+        rcUserIds,
+        rcGroupId,
+        asyncClientEnabled
+            ? (rcUserId, groupId) -> removeUserFromGroupAsync(rcUserId, groupId, false)
+            : onMembershipExecutor(this::removeUserFromGroup));
+  }
+
+  /**
+   * Removes the provided users from the Rocket.Chat group with given groupId like {@link
+   * #removeUsersFromGroup(Collection, String)}, but ignores a group that does not exist anymore.
+   *
+   * @param rcUserIds Rocket.Chat userIds
+   * @param rcGroupId Rocket.Chat roomId
+   * @return the {@link GroupMembershipResult}
+   */
+  public GroupMembershipResult removeUsersFromGroupIgnoreGroupNotFound(
+      Collection<String> rcUserIds, String rcGroupId) {
+    return runGroupMembershipBatch(
+        "remove",
+        rcUserIds,
+        rcGroupId,
+        asyncClientEnabled
+            ? (rcUserId, groupId) -> removeUserFromGroupAsync(rcUserId, groupId, true)
+            : onMembershipExecutor(this::removeUserFromGroupIgnoreGroupNotFound));
+  }
+
+  private GroupMembershipResult runGroupMembershipBatch(
+      String operation,
+      Collection<String> rcUserIds,
+      String rcGroupId,
+      GroupMembershipOperation membershipOperation) {
+    var batchSample = Timer.start();
+    // large groups must not occupy the bulkhead of all group administration calls
+    var membersInFlight =
+        new RocketChatAsyncPermits(new Semaphore(rocketChatConfig.getGroupMembershipParallelism()));
+    var memberOperations = new LinkedHashMap<String, CompletableFuture<Exception>>();
+    rcUserIds.stream()
+        .distinct()
+        .forEach(
+            rcUserId ->
+                memberOperations.put(
+                    rcUserId,
+                    membersInFlight.submit(
+                        () ->
+                            runGroupMembershipOperation(
+                                operation, rcUserId, rcGroupId, membershipOperation))));
+
+    var failureByUserId = new LinkedHashMap<String, Exception>();
+    memberOperations.forEach(
+        (rcUserId, memberOperation) -> failureByUserId.put(rcUserId, memberOperation.join()));
+    var result = GroupMembershipResult.of(rcGroupId, failureByUserId);
+
+    batchSample.stop(
+        Timer.builder(METRIC_GROUP_MEMBERSHIP_BATCH)
+            .tag(METRIC_TAG_OPERATION, operation)
+            .tag(METRIC_TAG_OUTCOME, result.isSuccessful() ? "success" : "failure")
+            .register(meterRegistry));
+    if (!result.isSuccessful()) {
+      log.error(
+          "Rocket.Chat Error: Could not {} users {} for Rocket.Chat group with id {}",
+          operation,
+          result.getFailedUserIds(),
+          rcGroupId);
+    }
+
+    return result;
+  }
+
+  private CompletableFuture<Exception> runGroupMembershipOperation(
+      String operation,
+      String rcUserId,
+      String rcGroupId,
+      GroupMembershipOperation membershipOperation) {
+    var memberSample = Timer.start();
+    CompletableFuture<Void> memberOperation;
+    try {
+      memberOperation = membershipOperation.apply(rcUserId, rcGroupId);
+    } catch (RuntimeException exception) {
+      memberOperation = CompletableFuture.failedFuture(exception);
+    }
+
+    return memberOperation.handle(
+        (ignored, throwable) -> {
+          var failure = isNull(throwable) ? null : exceptionOf(throwable);
+          memberSample.stop(
+              Timer.builder(METRIC_GROUP_MEMBERSHIP_MEMBER)
+                  .tag(METRIC_TAG_OPERATION, operation)
+                  .tag(METRIC_TAG_OUTCOME, isNull(failure) ? "success" : "failure")
+                  .register(meterRegistry));
+          return failure;
+        });
+  }
+
+  private static Exception exceptionOf(Throwable throwable) {
+    var cause = RocketChatAsyncClient.causeOf(throwable);
+    return cause instanceof Exception ? (Exception) cause : new IllegalStateException(cause);
+  }
+
+  private GroupMembershipOperation onMembershipExecutor(
+      BlockingGroupMembershipOperation blockingOperation) {
+    return (rcUserId, rcGroupId) ->
+        CompletableFuture.runAsync(
+            () -> {
+              try {
+                blockingOperation.apply(rcUserId, rcGroupId);
+              } catch (Exception exception) {
+                throw new CompletionException(exception);
+              }
+            },
+            rocketChatGroupMembershipExecutor);
+  }
+
+  private CompletableFuture<Void> addUserToGroupAsync(String rcUserId, String rcGroupId) {
+    var error =
+        String.format("Could not add user %s to Rocket.Chat group with id %s", rcUserId, rcGroupId);
+
+    return postAsTechnicalUserAsync(
+            ENDPOINT_GROUP_INVITE, new GroupAddUserBodyDTO(rcUserId, rcGroupId))
+        .handle(
+            (response, failure) -> {
+              if (nonNull(failure) || (nonNull(response) && !response.isSuccess())) {
+                throw new CompletionException(new RocketChatAddUserToGroupException(error));
+              }
+              return null;
+            });
+  }
+
+  private CompletableFuture<Void> removeUserFromGroupAsync(
+      String rcUserId, String rcGroupId, boolean ignoreGroupNotFound) {
+    var error = String.format(COULD_NOT_REMOVE_USER_FROM_ROCKET_CHAT_GROUP, rcUserId, rcGroupId);
+
+    return postAsTechnicalUserAsync(
+            ENDPOINT_GROUP_KICK, new GroupRemoveUserBodyDTO(rcUserId, rcGroupId))
+        .handle(
+            (response, failure) -> {
+              if (nonNull(failure)) {
+                var message = RocketChatAsyncClient.causeOf(failure).getMessage();
+                if (ignoreGroupNotFound
+                    && nonNull(message)
+                    && message.contains(ERROR_ROOM_NOT_FOUND)) {
+                  return null;
+                }
+                throw new CompletionException(new RocketChatRemoveUserFromGroupException(error));
+              }
+              if (nonNull(response) && !response.isSuccess()) {
+                throw new CompletionException(new RocketChatRemoveUserFromGroupException(error));
+              }
+              return null;
+            });
+  }
+
+  private CompletableFuture<GroupResponseDTO> postAsTechnicalUserAsync(
+      String endpoint, Object body) {
+    HttpHeaders header;
+    try {
+      header = getStandardHttpHeaders(rcCredentialHelper.getTechnicalUser());
+    } catch (RocketChatUserNotInitializedException exception) {
+      return CompletableFuture.failedFuture(exception);
+    }
+
+    return rocketChatAsyncClient
+        .postForEntity(rocketChatConfig.getApiUrl(endpoint), header, body, GroupResponseDTO.class)
+        .thenApply(HttpEntity::getBody);
+  }
+
+  @FunctionalInterface
+  private interface GroupMembershipOperation {
+
+    CompletableFuture<Void> apply(String rcUserId, String rcGroupId);
+  }
+
+  @FunctionalInterface
+  private interface BlockingGroupMembershipOperation {
+
+    void apply(String rcUserId, String rcGroupId) throws Exception;
+  }
+
   public boolean removeUserFromSession(String chatUserId, String chatId) {
     try {
       addTechnicalUserToGroup(chatId);
@@ -719,18 +976,8 @@ public class RocketChatService implements MessageClient {
           String.format("Group member list from group with id %s is empty", rcGroupId));
     }
 
-    Iterator<GroupMemberDTO> groupMemberListIterator = groupMemberList.iterator();
-    while (groupMemberListIterator.hasNext()) {
-      var groupMemberDTO = groupMemberListIterator.next();
-      if (groupMemberDTO
-              .get_id()
-              .equals(rcCredentialHelper.getTechnicalUser().getRocketChatUserId())
-          || groupMemberDTO
-              .get_id()
-              .equals(rcCredentialHelper.getSystemUser().getRocketChatUserId())) {
-        groupMemberListIterator.remove();
-      }
-    }
+    var credentials = rcCredentialHelper.getCredentialsSnapshot();
+    groupMemberList.removeIf(groupMember -> credentials.isServiceUser(groupMember.get_id()));
 
     return groupMemberList;
   }
@@ -750,11 +997,18 @@ public class RocketChatService implements MessageClient {
           String.format("Group member list from group with id %s is empty", rcGroupId));
     }
 
-    for (GroupMemberDTO member : groupMemberList) {
-      if (!member.get_id().equals(rcCredentialHelper.getTechnicalUser().getRocketChatUserId())
-          && !member.get_id().equals(rcCredentialHelper.getSystemUser().getRocketChatUserId())) {
-        removeUserFromGroup(member.get_id(), rcGroupId);
-      }
+    var credentials = rcCredentialHelper.getCredentialsSnapshot();
+    var standardUserIds =
+        groupMemberList.stream()
+            .map(GroupMemberDTO::get_id)
+            .filter(memberId -> !credentials.isServiceUser(memberId))
+            .collect(Collectors.toList());
+
+    var result = removeUsersFromGroup(standardUserIds, rcGroupId);
+    if (!result.isSuccessful()) {
+      throw new RocketChatRemoveUserFromGroupException(
+          String.format(
+              COULD_NOT_REMOVE_USER_FROM_ROCKET_CHAT_GROUP, result.getFailedUserIds(), rcGroupId));
     }
   }
 
@@ -902,13 +1156,37 @@ public class RocketChatService implements MessageClient {
   }
 
   /**
-   * Returns the subscriptions for the given user id.
+   * Returns the subscriptions for the given user id. Concurrent calls with the same credentials
+   * share one request to Rocket.Chat.
    *
    * @param rocketChatCredentials {@link RocketChatCredentials}
    * @return the subscriptions of the user
    */
   public List<SubscriptionsUpdateDTO> getSubscriptionsOfUser(
       RocketChatCredentials rocketChatCredentials) {
+    var subscriptions =
+        getSubscriptionsOfUserFlight()
+            .execute(
+                singleFlightKeyOf(rocketChatCredentials),
+                () -> getSubscriptionsOfUserUpdatedSince(rocketChatCredentials, null));
+    return asList(subscriptions.getUpdate());
+  }
+
+  private Pair<String, String> singleFlightKeyOf(RocketChatCredentials rocketChatCredentials) {
+    return Pair.of(
+        rocketChatCredentials.getRocketChatUserId(), rocketChatCredentials.getRocketChatToken());
+  }
+
+  /**
+   * Returns the subscriptions for the given user id which have been updated or removed after the
+   * given date. If no date is given, all subscriptions of the user are returned.
+   *
+   * @param rocketChatCredentials {@link RocketChatCredentials}
+   * @param updatedSince the date of the last known update, may be null
+   * @return the {@link SubscriptionsGetDTO} containing updated and removed subscriptions
+   */
+  public SubscriptionsGetDTO getSubscriptionsOfUserUpdatedSince(
+      RocketChatCredentials rocketChatCredentials, Date updatedSince) {
 
     ResponseEntity<SubscriptionsGetDTO> response;
 
@@ -916,8 +1194,9 @@ public class RocketChatService implements MessageClient {
       var header = getStandardHttpHeaders(rocketChatCredentials);
       HttpEntity<Void> request = new HttpEntity<>(header);
 
-      var url = rocketChatConfig.getApiUrl(ENDPOINT_SUBSCRIPTION_GET);
-      response = restTemplate.exchange(url, HttpMethod.GET, request, SubscriptionsGetDTO.class);
+      response =
+          exchangeUpdatedSince(
+              ENDPOINT_SUBSCRIPTION_GET, request, SubscriptionsGetDTO.class, updatedSince);
 
     } catch (HttpStatusCodeException ex) {
       if (ex.getStatusCode().equals(HttpStatus.UNAUTHORIZED)) {
@@ -927,13 +1206,30 @@ public class RocketChatService implements MessageClient {
     }
 
     if (response.getStatusCode() == HttpStatus.OK && nonNull(response.getBody())) {
-      return asList(response.getBody().getUpdate());
+      return response.getBody();
     } else {
       var error = "Could not get Rocket.Chat subscriptions for user id %s";
       throw new InternalServerErrorException(error, LogService::logRocketChatError);
     }
   }
 
+  private <T> ResponseEntity<T> exchangeUpdatedSince(
+      String endpoint, HttpEntity<Void> request, Class<T> responseType, Date updatedSince) {
+    var url = rocketChatConfig.getApiUrl(endpoint);
+    if (isNull(updatedSince)) {
+      return restTemplate.exchange(url, HttpMethod.GET, request, responseType);
+    }
+    var formattedUpdatedSince =
+        DateTimeFormatter.ofPattern(RC_DATE_TIME_PATTERN)
+            .format(updatedSince.toInstant().atOffset(ZoneOffset.UTC));
+    return restTemplate.exchange(
+        url + "?updatedSince={updatedSince}",
+        HttpMethod.GET,
+        request,
+        responseType,
+        formattedUpdatedSince);
+  }
+
   @Override
   public Optional<List<Map<String, String>>> findAllChats(String chatUserId) {
     var url = rocketChatConfig.getApiUrl(ENDPOINT_SUBSCRIPTION_GET);
@@ -941,7 +1237,7 @@ public class RocketChatService implements MessageClient {
     try {
       var response = rocketChatClient.getForEntity(url, chatUserId, SubscriptionsGetDTO.class);
       return mapper.mapOfSubscriptionsResponse(response);
-    } catch (HttpClientErrorException exception) {
+    } catch (HttpClientErrorException | ResourceAccessException exception) {
       log.error("Subscriptions Get failed.", exception);
       return Optional.empty();
     }
@@ -956,27 +1252,45 @@ public class RocketChatService implements MessageClient {
       var response =
           rocketChatClient.postForEntity(url, chatUserId, updateUser, StandardResponseDTO.class);
       return response.getStatusCode().is2xxSuccessful();
-    } catch (HttpClientErrorException exception) {
+    } catch (HttpClientErrorException | ResourceAccessException exception) {
       log.error("Updating E2E group key failed.", exception);
       return false;
     }
   }
 
   /**
-   * Returns the rooms for the given user id.
+   * Returns the rooms for the given user id. Concurrent calls with the same credentials share one
+   * request to Rocket.Chat.
    *
    * @param rocketChatCredentials {@link RocketChatCredentials}
    * @return the rooms for the user
    */
   public List<RoomsUpdateDTO> getRoomsOfUser(RocketChatCredentials rocketChatCredentials) {
+    var rooms =
+        getRoomsOfUserFlight()
+            .execute(
+                singleFlightKeyOf(rocketChatCredentials),
+                () -> getRoomsOfUserUpdatedSince(rocketChatCredentials, null));
+    return asList(rooms.getUpdate());
+  }
+
+  /**
+   * Returns the rooms for the given user id which have been updated or removed after the given
+   * date. If no date is given, all rooms of the user are returned.
+   *
+   * @param rocketChatCredentials {@link RocketChatCredentials}
+   * @param updatedSince the date of the last known update, may be null
+   * @return the {@link RoomsGetDTO} containing updated and removed rooms
+   */
+  public RoomsGetDTO getRoomsOfUserUpdatedSince(
+      RocketChatCredentials rocketChatCredentials, Date updatedSince) {
 
     ResponseEntity<RoomsGetDTO> response;
 
     try {
       var header = getStandardHttpHeaders(rocketChatCredentials);
       HttpEntity<Void> request = new HttpEntity<>(header);
-      var url = rocketChatConfig.getApiUrl(ENDPOINT_ROOM_GET);
-      response = restTemplate.exchange(url, HttpMethod.GET, request, RoomsGetDTO.class);
+      response = exchangeUpdatedSince(ENDPOINT_ROOM_GET, request, RoomsGetDTO.class, updatedSince);
 
     } catch (Exception ex) {
       throw new InternalServerErrorException(
@@ -986,7 +1300,7 @@ public class RocketChatService implements MessageClient {
     }
 
     if (response.getStatusCode() == HttpStatus.OK && nonNull(response.getBody())) {
-      return asList(response.getBody().getUpdate());
+      return response.getBody();
     } else {
       var error =
           String.format(CHAT_ROOM_ERROR_MESSAGE, rocketChatCredentials.getRocketChatUserId());
@@ -995,12 +1309,17 @@ public class RocketChatService implements MessageClient {
   }
 
   /**
-   * Returns the information of the given Rocket.Chat user.
+   * Returns the information of the given Rocket.Chat user. Concurrent calls for the same user share
+   * one request to Rocket.Chat.
    *
    * @param rcUserId Rocket.Chat user id
    * @return the dto containing the user infos
    */
   public UserInfoResponseDTO getUserInfo(String rcUserId) {
+    return getUserInfoFlight().execute(rcUserId, () -> fetchUserInfo(rcUserId));
+  }
+
+  private UserInfoResponseDTO fetchUserInfo(String rcUserId) {
 
     ResponseEntity<UserInfoResponseDTO> response;
     try {
@@ -1009,7 +1328,7 @@ public class RocketChatService implements MessageClient {
       HttpEntity<Void> request = new HttpEntity<>(header);
 
       var fields = "{\"userRooms\":1}";
-      var url = rocketChatConfig.getApiUrl(ENDPOINT_USER_INFO + rcUserId) + "&fields={fields}";
+      var url = rocketChatConfig.getApiUrl(ENDPOINT_USER_INFO, rcUserId) + "&fields={fields}";
       response =
           restTemplate.exchange(url, HttpMethod.GET, request, UserInfoResponseDTO.class, fields);
 
@@ -1175,6 +1494,28 @@ public class RocketChatService implements MessageClient {
    */
   public List<GroupDTO> fetchAllInactivePrivateGroupsSinceGivenDate(
       LocalDateTime dateTimeSinceInactive) throws RocketChatGetGroupsListAllException {
+    List<GroupDTO> result = new ArrayList<>();
+    fetchAllInactivePrivateGroupsSinceGivenDate(dateTimeSinceInactive, result::addAll);
+    return result;
+  }
+
+  /**
+   * Streams all private Rocket.Chat groups which are inactive (= no messages written) since given
+   * date page by page into the given consumer. The pages are requested concurrently, but handed
+   * over in order on the calling thread.
+   *
+   * @param dateTimeSinceInactive the date and time since when the groups should be inactive
+   * @param pageConsumer the consumer of each page of {@link GroupDTO} instances
+   * @throws RocketChatGetGroupsListAllException when a page could not be fetched
+   */
+  public void fetchAllInactivePrivateGroupsSinceGivenDate(
+      LocalDateTime dateTimeSinceInactive, Consumer<List<GroupDTO>> pageConsumer)
+      throws RocketChatGetGroupsListAllException {
+
+    if (mongoGroupReadEnabled) {
+      readAllInactivePrivateGroupsFromMongo(dateTimeSinceInactive, pageConsumer);
+      return;
+    }
 
     final var GROUP_RESPONSE_LAST_MESSAGE_TIMESTAMP_FIELD = "lm";
     final var GROUP_RESPONSE_GROUP_TYPE_FIELD = "t";
@@ -1194,17 +1535,68 @@ public class RocketChatService implements MessageClient {
                     .get())
             .get();
 
-    return getGroupsListAll(mongoDbQuery);
+    getGroupsListAll(mongoDbQuery, pageConsumer);
+  }
+
+  private void readAllInactivePrivateGroupsFromMongo(
+      LocalDateTime dateTimeSinceInactive, Consumer<List<GroupDTO>> pageConsumer)
+      throws RocketChatGetGroupsListAllException {
+    var inactiveSince = Date.from(dateTimeSinceInactive.toInstant(ZoneOffset.UTC));
+
+    try {
+      var rooms =
+          mongoClient
+              .getDatabase(MONGO_DATABASE_NAME)
+              .getCollection(MONGO_COLLECTION_ROOM)
+              .find(Filters.and(Filters.eq("t", "p"), Filters.lt("lm", inactiveSince)))
+              .projection(Projections.include("_id", "name", "fname", "t", "u", "ts", "ro"))
+              .batchSize(PAGE_SIZE);
+
+      var page = new ArrayList<GroupDTO>(PAGE_SIZE);
+      try (var cursor = rooms.iterator()) {
+        while (cursor.hasNext()) {
+          page.add(toGroup(cursor.next()));
+          if (page.size() == PAGE_SIZE) {
+            pageConsumer.accept(page);
+            page = new ArrayList<>(PAGE_SIZE);
+          }
+        }
+      }
+      if (!page.isEmpty()) {
+        pageConsumer.accept(page);
+      }
+    } catch (MongoException ex) {
+      log.error("Rocket.Chat Error: Could not read Rocket.Chat groups from MongoDB. Reason: ", ex);
+      throw new RocketChatGetGroupsListAllException(GROUPS_LIST_ALL_ERROR_MESSAGE, ex);
+    }
+  }
+
+  private GroupDTO toGroup(Document room) {
+    var group = new GroupDTO();
+    group.setId(room.getString("_id"));
+    group.setName(room.getString("name"));
+    group.setFname(room.getString("fname"));
+    group.setType(room.getString("t"));
+    group.setTimestamp(room.getDate("ts"));
+    group.setReadOnly(room.getBoolean("ro", false));
+    var owner = room.get("u", Document.class);
+    if (nonNull(owner)) {
+      var user = new RocketChatUserDTO();
+      user.setId(owner.getString("_id"));
+      user.setUsername(owner.getString("username"));
+      group.setUser(user);
+    }
+    return group;
   }
 
   /**
-   * Returns a list of all Rocket.Chat groups.
+   * Streams all Rocket.Chat groups matching the given query page by page into the given consumer.
    *
    * @param mongoDbQuery mongoDB Query as {@link DBObject} created with {@link QueryBuilder}
-   * @return a {@link List} of {@link GroupDTO} instances
+   * @param pageConsumer the consumer of each page of {@link GroupDTO} instances
    * @throws RocketChatGetGroupsListAllException when request fails
    */
-  private List<GroupDTO> getGroupsListAll(DBObject mongoDbQuery)
+  private void getGroupsListAll(DBObject mongoDbQuery, Consumer<List<GroupDTO>> pageConsumer)
       throws RocketChatGetGroupsListAllException {
 
     try {
@@ -1212,34 +1604,60 @@ public class RocketChatService implements MessageClient {
       var header = getStandardHttpHeaders(technicalUser);
       HttpEntity<GroupAddUserBodyDTO> request = new HttpEntity<>(header);
 
-      return getGroupListAllCombiningPages(mongoDbQuery, request);
+      getGroupListAllCombiningPages(mongoDbQuery, request, pageConsumer);
     } catch (Exception ex) {
       log.error("Rocket.Chat Error: Could not get Rocket.Chat groups list all. Reason: ", ex);
       throw new RocketChatGetGroupsListAllException(GROUPS_LIST_ALL_ERROR_MESSAGE, ex);
     }
   }
 
-  private List<GroupDTO> getGroupListAllCombiningPages(
-      DBObject mongoDbQuery, HttpEntity<GroupAddUserBodyDTO> request)
+  private void getGroupListAllCombiningPages(
+      DBObject mongoDbQuery,
+      HttpEntity<GroupAddUserBodyDTO> request,
+      Consumer<List<GroupDTO>> pageConsumer)
       throws RocketChatGetGroupsListAllException {
-    List<GroupDTO> result = Lists.newArrayList();
-    int currentOffset = 0;
-    var pageResponse =
-        getGroupsListAllResponseDTOResponseEntityForCurrentOffset(
-            mongoDbQuery, request, currentOffset);
-
-    var totalResultSize = 0;
-    if (isResponseSuccessful(pageResponse)) {
-      totalResultSize = pageResponse.getBody().getTotal();
+    var firstPage =
+        bodyOfSuccessfulPage(
+            getGroupsListAllResponseDTOResponseEntityForCurrentOffset(mongoDbQuery, request, 0), 0);
+    var totalResultSize = firstPage.getTotal();
+    if (totalResultSize <= 0) {
+      return;
     }
+    pageConsumer.accept(asList(firstPage.getGroups()));
 
-    while (isResponseSuccessful(pageResponse) && currentOffset < totalResultSize) {
-      result.addAll(asList(pageResponse.getBody().getGroups()));
-      currentOffset += PAGE_SIZE;
-      pageResponse =
-          getGroupsListAllResponseDTOResponseEntityForCurrentOffset(
-              mongoDbQuery, request, currentOffset);
+    // only a window of pages is fetched ahead, so pages are not buffered faster than consumed
+    var pagesInFlight =
+        new ArrayDeque<CompletableFuture<ResponseEntity<GroupsListAllResponseDTO>>>();
+    var nextOffset = PAGE_SIZE;
+    try {
+      for (var currentOffset = PAGE_SIZE;
+          currentOffset < totalResultSize;
+          currentOffset += PAGE_SIZE) {
+        while (pagesInFlight.size() < rocketChatConfig.getGroupFetchParallelism()
+            && nextOffset < totalResultSize) {
+          pagesInFlight.add(fetchGroupsListAllPageAsync(mongoDbQuery, request, nextOffset));
+          nextOffset += PAGE_SIZE;
+        }
+        var page = bodyOfSuccessfulPage(pagesInFlight.remove().join(), currentOffset);
+        pageConsumer.accept(asList(page.getGroups()));
+      }
+    } finally {
+      pagesInFlight.forEach(pageResponse -> pageResponse.cancel(false));
     }
+  }
+
+  private CompletableFuture<ResponseEntity<GroupsListAllResponseDTO>> fetchGroupsListAllPageAsync(
+      DBObject mongoDbQuery, HttpEntity<GroupAddUserBodyDTO> request, int offset) {
+    return CompletableFuture.supplyAsync(
+        () ->
+            getGroupsListAllResponseDTOResponseEntityForCurrentOffset(
+                mongoDbQuery, request, offset),
+        rocketChatGroupFetchExecutor);
+  }
+
+  private GroupsListAllResponseDTO bodyOfSuccessfulPage(
+      ResponseEntity<GroupsListAllResponseDTO> pageResponse, int currentOffset)
+      throws RocketChatGetGroupsListAllException {
     if (pageResponse.getStatusCode() != HttpStatus.OK || isNull(pageResponse.getBody())) {
       log.error(
           "Could not get Rocket.Chat groups list all. Reason {} {}. Url {}",
@@ -1248,23 +1666,15 @@ public class RocketChatService implements MessageClient {
           getGroupAllPaginatedUrl(currentOffset));
       throw new RocketChatGetGroupsListAllException(GROUPS_LIST_ALL_ERROR_MESSAGE);
     }
-
-    return result;
-  }
-
-  private boolean isResponseSuccessful(ResponseEntity<GroupsListAllResponseDTO> pageResponse) {
-    return pageResponse.getStatusCode() == HttpStatus.OK && nonNull(pageResponse.getBody());
+    return pageResponse.getBody();
   }
 
   private ResponseEntity<GroupsListAllResponseDTO>
       getGroupsListAllResponseDTOResponseEntityForCurrentOffset(
           DBObject mongoDbQuery, HttpEntity<GroupAddUserBodyDTO> request, int currentOffset) {
-    ResponseEntity<GroupsListAllResponseDTO> response;
     var url = getGroupAllPaginatedUrl(currentOffset);
-    response =
-        restTemplate.exchange(
-            url, HttpMethod.GET, request, GroupsListAllResponseDTO.class, mongoDbQuery.toString());
-    return response;
+    return restTemplate.exchange(
+        url, HttpMethod.GET, request, GroupsListAllResponseDTO.class, mongoDbQuery.toString());
   }
 
   private String getGroupAllPaginatedUrl(int currentOffset) {
@@ -1345,7 +1755,7 @@ public class RocketChatService implements MessageClient {
     try {
       var response = rocketChatClient.postForEntity(url, mapOfRoomSettings, MessageResponse.class);
       return response.getStatusCode().is2xxSuccessful();
-    } catch (HttpClientErrorException exception) {
+    } catch (HttpClientErrorException | ResourceAccessException exception) {
       log.error("Saving room settings failed.", exception);
       return false;
     }
@@ -0,0 +1,80 @@
+package de.caritas.cob.userservice.api.adapters.rocketchat;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces concurrent identical reads from Rocket.Chat. The first caller of a key performs the
+ * call, callers with the same key arriving while it is in flight wait for and share its result or
+ * exception instead of sending the same request again.
+ *
+ * <p>The in-flight calls are kept in a {@link ConcurrentHashMap}, which locks per hash bin only, so
+ * callers of different keys do not contend. A call is removed as soon as it completes, results are
+ * never retained.
+ *
+ * @param <K> the type of the key identifying identical calls
+ * @param <V> the type of the result
+ */
+class RocketChatSingleFlight<K, V> {
+
+  private final ConcurrentHashMap<K, CompletableFuture<V>> inFlightCalls =
+      new ConcurrentHashMap<>();
+  private final Counter sharedCalls;
+
+  RocketChatSingleFlight(String operation, MeterRegistry meterRegistry) {
+    this.sharedCalls =
+        Counter.builder("rocketchat.singleflight.shared.calls")
+            .tag("operation", operation)
+            .register(meterRegistry);
+  }
+
+  /**
+   * Performs the given call, or joins the identical call already in flight for the given key.
+   *
+   * @param key the key identifying identical calls
+   * @param call the call to perform
+   * @return the result of the call
+   */
+  V execute(K key, Supplier<V> call) {
+    var ownCall = new CompletableFuture<V>();
+    var inFlightCall = inFlightCalls.putIfAbsent(key, ownCall);
+    if (inFlightCall != null) {
+      sharedCalls.increment();
+      return join(inFlightCall);
+    }
+
+    try {
+      var result = call.get();
+      ownCall.complete(result);
+      return result;
+    } catch (Throwable throwable) {
+      // errors have to release the waiting callers as well, otherwise they wait forever
+      ownCall.completeExceptionally(throwable);
+      throw throwable;
+    } finally {
+      inFlightCalls.remove(key, ownCall);
+    }
+  }
+
+  int inFlightCallCount() {
+    return inFlightCalls.size();
+  }
+
+  private V join(CompletableFuture<V> inFlightCall) {
+    try {
+      return inFlightCall.join();
+    } catch (CompletionException exception) {
+      if (exception.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) exception.getCause();
+      }
+      if (exception.getCause() instanceof Error) {
+        throw (Error) exception.getCause();
+      }
+      throw exception;
+    }
+  }
+}
@@ -2,29 +2,40 @@ package de.caritas.cob.userservice.api.adapters.rocketchat.config;
 
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
-import static org.springframework.web.util.UriComponentsBuilder.fromUriString;
 
 import com.mongodb.ConnectionString;
 import com.mongodb.MongoClientSettings;
 import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoClients;
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatCredentials;
+import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatOperation;
+import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatResilienceInterceptor;
 import de.caritas.cob.userservice.api.exception.httpresponses.BadRequestException;
-import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 import javax.servlet.http.HttpServletRequest;
+import javax.validation.Valid;
 import javax.validation.constraints.AssertTrue;
 import javax.validation.constraints.NotBlank;
+import javax.validation.constraints.Positive;
+import javax.validation.constraints.PositiveOrZero;
+import lombok.AccessLevel;
 import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
 import org.apache.logging.log4j.core.util.CronExpression;
 import org.hibernate.validator.constraints.URL;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.web.client.RestTemplateBuilder;
+import org.springframework.boot.web.client.RestTemplateCustomizer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Scope;
 import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.http.MediaType;
-import org.springframework.util.StringUtils;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.context.WebApplicationContext;
@@ -38,16 +49,76 @@ public class RocketChatConfig {
 
   private static final String CONTENT_TYPE = "Content-Type";
 
-  private static final char PATH_SEPARATOR = '/';
+  private static final int MAX_ENDPOINT_TEMPLATES = 256;
 
   private final HttpServletRequest httpServletRequest;
 
+  @Getter(AccessLevel.NONE)
+  @EqualsAndHashCode.Exclude
+  @ToString.Exclude
+  private final Map<String, RocketChatEndpointTemplate> endpointTemplates =
+      new ConcurrentHashMap<>();
+
   @URL private String baseUrl;
 
   @NotBlank private String credentialCron;
 
   @NotBlank private String mongoUrl;
 
+  @Positive private int roomFetchPoolSize = 10;
+
+  @PositiveOrZero private int roomFetchQueueCapacity = 100;
+
+  @Positive private int groupFetchParallelism = 4;
+
+  @Positive private int groupMembershipParallelism = 8;
+
+  @Valid private Resilience resilience = new Resilience();
+
+  @Valid private AsyncClient asyncClient = new AsyncClient();
+
+  /** Settings of the circuit breaker and the bulkheads around all calls to Rocket.Chat. */
+  @Data
+  public static class Resilience {
+
+    private static final int DEFAULT_MAX_CONCURRENT_CALLS = 20;
+
+    private boolean enabled = true;
+
+    @Positive private int failureThreshold = 10;
+
+    @Positive private long openMillis = 10000;
+
+    @Positive private int halfOpenProbes = 1;
+
+    @PositiveOrZero private long bulkheadMaxWaitMillis = 100;
+
+    private Map<RocketChatOperation, Integer> bulkheadMaxConcurrentCalls =
+        new EnumMap<>(RocketChatOperation.class);
+
+    public int maxConcurrentCallsOf(RocketChatOperation operation) {
+      return bulkheadMaxConcurrentCalls.getOrDefault(operation, DEFAULT_MAX_CONCURRENT_CALLS);
+    }
+  }
+
+  /**
+   * Settings of the non-blocking client used by fan-out heavy operations instead of the rest
+   * template, if enabled.
+   */
+  @Data
+  public static class AsyncClient {
+
+    private boolean enabled = false;
+
+    @Positive private int threads = 2;
+
+    @Positive private int maxConcurrentCalls = 64;
+
+    @Positive private long connectTimeoutMillis = 5000;
+
+    @Positive private long requestTimeoutMillis = 10000;
+  }
+
   @Bean("rocketChatRestTemplate")
   public RestTemplate rocketChatRestTemplate(RestTemplateBuilder restTemplateBuilder) {
     return restTemplateBuilder
@@ -55,6 +126,17 @@ public class RocketChatConfig {
         .build();
   }
 
+  /**
+   * Adds the {@link RocketChatResilienceInterceptor} to all rest templates built by the {@link
+   * RestTemplateBuilder}. The interceptor only handles requests to Rocket.Chat, these are sent by
+   * the Rocket.Chat rest template as well as by the shared one.
+   */
+  @Bean
+  public RestTemplateCustomizer rocketChatResilienceRestTemplateCustomizer(
+      RocketChatResilienceInterceptor rocketChatResilienceInterceptor) {
+    return restTemplate -> restTemplate.getInterceptors().add(rocketChatResilienceInterceptor);
+  }
+
   @Bean
   @Scope(scopeName = WebApplicationContext.SCOPE_REQUEST, proxyMode = ScopedProxyMode.TARGET_CLASS)
   public RocketChatCredentials rocketChatCredentials() {
@@ -66,6 +148,49 @@ public class RocketChatConfig {
         .build();
   }
 
+  /**
+   * Bounded executor to fetch the rooms and subscriptions of a user concurrently. If the pool and
+   * the queue are exhausted, further fetches are rejected.
+   */
+  @Bean("rocketChatRoomFetchExecutor")
+  public ThreadPoolTaskExecutor rocketChatRoomFetchExecutor() {
+    var executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(roomFetchPoolSize);
+    executor.setMaxPoolSize(roomFetchPoolSize);
+    executor.setQueueCapacity(roomFetchQueueCapacity);
+    executor.setThreadNamePrefix("RocketChatRoomFetch-");
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * Executor to fetch the pages of group lists concurrently. The number of threads bounds the
+   * number of pages requested from Rocket.Chat at the same time, further pages wait in the queue.
+   */
+  @Bean("rocketChatGroupFetchExecutor")
+  public ThreadPoolTaskExecutor rocketChatGroupFetchExecutor() {
+    var executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(groupFetchParallelism);
+    executor.setMaxPoolSize(groupFetchParallelism);
+    executor.setThreadNamePrefix("RocketChatGroupFetch-");
+    executor.initialize();
+    return executor;
+  }
+
+  /**
+   * Executor to add users to and remove users from a group concurrently. The number of threads
+   * bounds the number of membership requests sent to Rocket.Chat at the same time.
+   */
+  @Bean("rocketChatGroupMembershipExecutor")
+  public ThreadPoolTaskExecutor rocketChatGroupMembershipExecutor() {
+    var executor = new ThreadPoolTaskExecutor();
+    executor.setCorePoolSize(groupMembershipParallelism);
+    executor.setMaxPoolSize(groupMembershipParallelism);
+    executor.setThreadNamePrefix("RocketChatGroupMembership-");
+    executor.initialize();
+    return executor;
+  }
+
   @Bean
   public MongoClient mongoClient() {
     var connectionString = new ConnectionString(mongoUrl);
@@ -94,24 +219,31 @@ public class RocketChatConfig {
     return CronExpression.isValidExpression(credentialCron);
   }
 
+  public void setBaseUrl(String baseUrl) {
+    this.baseUrl = baseUrl;
+    this.endpointTemplates.clear();
+  }
+
   public String getApiUrl(String path) {
     return getApiUrl(path, "");
   }
 
+  /**
+   * Builds the url of the given endpoint and replaces its variable with the given argument. Every
+   * endpoint is parsed only once, its {@link RocketChatEndpointTemplate} is kept for later calls.
+   *
+   * @param path the endpoint path, optionally with query and one variable
+   * @param arg the value of the variable
+   * @return the url
+   */
   public String getApiUrl(String path, String arg) {
-    var queryParams = fromUriString(baseUrl + path).build().getQueryParams();
-    if (!queryParams.isEmpty()) {
-      path = path.substring(0, path.indexOf("?"));
+    var template = endpointTemplates.get(path);
+    if (isNull(template)) {
+      template = RocketChatEndpointTemplate.parse(baseUrl, path);
+      if (endpointTemplates.size() < MAX_ENDPOINT_TEMPLATES) {
+        endpointTemplates.put(path, template);
+      }
     }
-
-    var builder = fromUriString(baseUrl);
-    Arrays.stream(
-            StringUtils.trimLeadingCharacter(path, PATH_SEPARATOR)
-                .replaceAll("(\\{).*(})", arg)
-                .split(Character.toString(PATH_SEPARATOR)))
-        .forEach(builder::pathSegment);
-    queryParams.forEach(builder::queryParam);
-
-    return builder.toUriString();
+    return template.expand(arg);
   }
 }
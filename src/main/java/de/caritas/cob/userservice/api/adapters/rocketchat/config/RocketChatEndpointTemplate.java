@@ -0,0 +1,155 @@
+package de.caritas.cob.userservice.api.adapters.rocketchat.config;
+
+import static org.springframework.web.util.UriComponentsBuilder.fromUriString;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.web.util.UriUtils;
+
+/**
+ * A Rocket.Chat endpoint parsed once against the base url. The static parts are encoded at parse
+ * time, so expanding the template only encodes the argument and concatenates the parts.
+ *
+ * <p>An endpoint may contain one variable in curly braces, either as a path segment, e.g. {@code
+ * /groups/{groupId}/members}, or as a query value, e.g. {@code /users.info?userId={userId}}. Blank
+ * path segments are dropped, like {@link org.springframework.web.util.UriComponentsBuilder} does.
+ */
+final class RocketChatEndpointTemplate {
+
+  private static final Pattern QUERY_PARAM_PATTERN = Pattern.compile("([^&=]+)(=?)([^&]+)?");
+  private static final char PATH_SEPARATOR = '/';
+  private static final char VARIABLE_START = '{';
+  private static final char VARIABLE_END = '}';
+
+  private final String head;
+  private final String tail;
+  private final VariableLocation variableLocation;
+
+  private RocketChatEndpointTemplate(String head, String tail, VariableLocation variableLocation) {
+    this.head = head;
+    this.tail = tail;
+    this.variableLocation = variableLocation;
+  }
+
+  /**
+   * Parses the given endpoint against the given base url.
+   *
+   * @param baseUrl the Rocket.Chat api base url
+   * @param endpoint the endpoint path, optionally with query and one variable
+   * @return the parsed {@link RocketChatEndpointTemplate}
+   */
+  static RocketChatEndpointTemplate parse(String baseUrl, String endpoint) {
+    var queryStart = endpoint.indexOf('?');
+    var path = queryStart < 0 ? endpoint : endpoint.substring(0, queryStart);
+    var query = queryStart < 0 ? "" : endpoint.substring(queryStart + 1);
+
+    var url = new StringBuilder(StringUtils.removeEnd(encodedBaseUrl(baseUrl), "/"));
+    String head = null;
+    var variableLocation = VariableLocation.NONE;
+
+    for (var segment : path.split(Character.toString(PATH_SEPARATOR))) {
+      if (isVariable(segment) && variableLocation == VariableLocation.NONE) {
+        head = url.toString();
+        url.setLength(0);
+        variableLocation = VariableLocation.PATH;
+      } else if (StringUtils.isNotBlank(segment)) {
+        url.append(PATH_SEPARATOR)
+            .append(UriUtils.encodePathSegment(segment, StandardCharsets.UTF_8));
+      }
+    }
+
+    var separator = '?';
+    for (var param : parseQuery(query).entrySet()) {
+      for (var value : param.getValue()) {
+        url.append(separator).append(encodeQueryParam(param.getKey()));
+        separator = '&';
+        if (isVariable(value) && variableLocation == VariableLocation.NONE) {
+          url.append('=');
+          head = url.toString();
+          url.setLength(0);
+          variableLocation = VariableLocation.QUERY;
+        } else if (value != null) {
+          url.append('=').append(encodeQueryParam(value));
+        }
+      }
+    }
+
+    return variableLocation == VariableLocation.NONE
+        ? new RocketChatEndpointTemplate(url.toString(), "", variableLocation)
+        : new RocketChatEndpointTemplate(head, url.toString(), variableLocation);
+  }
+
+  /**
+   * Expands the template with the given argument for the variable. Templates without a variable
+   * ignore the argument.
+   *
+   * @param arg the value of the variable
+   * @return the url
+   */
+  String expand(String arg) {
+    switch (variableLocation) {
+      case PATH:
+        return head + expandPathSegments(arg) + tail;
+      case QUERY:
+        return head + encodeQueryParam(arg) + tail;
+      default:
+        return head;
+    }
+  }
+
+  private static String expandPathSegments(String arg) {
+    if (arg.indexOf(PATH_SEPARATOR) < 0) {
+      return StringUtils.isBlank(arg)
+          ? ""
+          : PATH_SEPARATOR + UriUtils.encodePathSegment(arg, StandardCharsets.UTF_8);
+    }
+    var segments = new StringBuilder(arg.length() + 8);
+    for (var segment : arg.split(Character.toString(PATH_SEPARATOR))) {
+      if (StringUtils.isNotBlank(segment)) {
+        segments
+            .append(PATH_SEPARATOR)
+            .append(UriUtils.encodePathSegment(segment, StandardCharsets.UTF_8));
+      }
+    }
+    return segments.toString();
+  }
+
+  private static String encodedBaseUrl(String baseUrl) {
+    return fromUriString(baseUrl).build().encode().toUriString();
+  }
+
+  private static Map<String, List<String>> parseQuery(String query) {
+    var params = new LinkedHashMap<String, List<String>>();
+    var matcher = QUERY_PARAM_PATTERN.matcher(query);
+    while (matcher.find()) {
+      var value = matcher.group(3);
+      if (value == null && StringUtils.isNotEmpty(matcher.group(2))) {
+        value = "";
+      }
+      params.computeIfAbsent(matcher.group(1), name -> new ArrayList<>()).add(value);
+    }
+    return params;
+  }
+
+  private static String encodeQueryParam(String value) {
+    return UriUtils.encodeQueryParam(value, StandardCharsets.UTF_8);
+  }
+
+  private static boolean isVariable(String value) {
+    return value != null
+        && value.length() > 1
+        && value.charAt(0) == VARIABLE_START
+        && value.charAt(value.length() - 1) == VARIABLE_END;
+  }
+
+  private enum VariableLocation {
+    NONE,
+    PATH,
+    QUERY
+  }
+}
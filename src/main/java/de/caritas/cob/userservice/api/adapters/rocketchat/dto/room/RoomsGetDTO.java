@@ -16,4 +16,5 @@ public class RoomsGetDTO {
   private boolean success;
   private String status;
   private String message;
+  private RoomsRemoveDTO[] remove;
 }
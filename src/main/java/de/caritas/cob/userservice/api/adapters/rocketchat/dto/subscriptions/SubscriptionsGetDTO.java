@@ -16,4 +16,5 @@ public class SubscriptionsGetDTO {
   private boolean success;
   private String status;
   private String message;
+  private SubscriptionsRemoveDTO[] remove;
 }
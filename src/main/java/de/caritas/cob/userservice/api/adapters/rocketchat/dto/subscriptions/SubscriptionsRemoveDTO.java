@@ -0,0 +1,22 @@
+package de.caritas.cob.userservice.api.adapters.rocketchat.dto.subscriptions;
+
+import com.fasterxml.jackson.annotation.JsonProperty;
+import java.util.Date;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/** Rocket.Chat remove DTO for subscriptions deleted since a given date */
+@Setter
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor
+public class SubscriptionsRemoveDTO {
+
+  @JsonProperty("_id")
+  private String id;
+
+  @JsonProperty("_deletedAt")
+  private Date deletedAt;
+}
@@ -97,6 +97,7 @@ import de.caritas.cob.userservice.api.service.archive.SessionDeleteService;
 import de.caritas.cob.userservice.api.service.helper.EmailUrlDecoder;
 import de.caritas.cob.userservice.api.service.session.SessionFilter;
 import de.caritas.cob.userservice.api.service.session.SessionService;
+import de.caritas.cob.userservice.api.service.sessionlist.SessionListVersionService;
 import de.caritas.cob.userservice.api.service.user.UserAccountService;
 import de.caritas.cob.userservice.api.tenant.TenantContext;
 import de.caritas.cob.userservice.generated.api.adapters.web.controller.UsersApi;
@@ -118,6 +119,7 @@ import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.validator.routines.EmailValidator;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PathVariable;
@@ -141,6 +143,7 @@ public class UserController implements UsersApi {
   private final @NotNull EmailNotificationFacade emailNotificationFacade;
   private final @NotNull AskerImportService askerImportService;
   private final @NotNull SessionListFacade sessionListFacade;
+  private final @NonNull SessionListVersionService sessionListVersionService;
   private final @NotNull ConsultantAgencyService consultantAgencyService;
   private final @NotNull AssignSessionFacade assignSessionFacade;
   private final @NotNull AssignEnquiryFacade assignEnquiryFacade;
@@ -314,11 +317,15 @@ public class UserController implements UsersApi {
    * Returns a list of sessions for the currently authenticated/logged in user.
    *
    * @param rcToken Rocket.Chat token (required)
+   * @param limit maximum number of sessions, newest last message first (optional)
+   * @param ifNoneMatch entity tag of a former response (optional)
    * @return {@link ResponseEntity} of {@link UserSessionListResponseDTO}
    */
   @Override
   public ResponseEntity<UserSessionListResponseDTO> getSessionsForAuthenticatedUser(
-      @RequestHeader String rcToken) {
+      @RequestHeader String rcToken,
+      @RequestParam(value = "limit", required = false) Integer limit,
+      @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
 
     var user = this.userAccountProvider.retrieveValidatedUser();
     var rocketChatCredentials =
@@ -327,15 +334,20 @@ public class UserController implements UsersApi {
             .rocketChatToken(rcToken)
             .build();
 
+    var eTag =
+        sessionListVersionService.computeUserSessionListETag(
+            user.getUserId(), rocketChatCredentials, limit);
+    if (sessionListVersionService.isNotModified(ifNoneMatch, eTag)) {
+      return notModified(eTag);
+    }
+
     var userSessionsDTO =
         sessionListFacade.retrieveSortedSessionsForAuthenticatedUser(
-            user.getUserId(), rocketChatCredentials);
+            user.getUserId(), rocketChatCredentials, limit);
 
     consultantDataFacade.addConsultantDisplayNameToSessionList(userSessionsDTO);
 
-    return isNotEmpty(userSessionsDTO.getSessions())
-        ? new ResponseEntity<>(userSessionsDTO, HttpStatus.OK)
-        : new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    return sessionListResponse(userSessionsDTO, isNotEmpty(userSessionsDTO.getSessions()), eTag);
   }
 
   /**
@@ -343,17 +355,21 @@ public class UserController implements UsersApi {
    * group, or feedback group IDs.
    *
    * @param rcToken Rocket.Chat token (required)
+   * @param rcGroupIds Rocket.Chat group or feedback group IDs
+   * @param limit maximum number of sessions, newest last message first (optional)
    * @return {@link ResponseEntity} of {@link UserSessionListResponseDTO}
    */
   @Override
   public ResponseEntity<GroupSessionListResponseDTO> getSessionsForGroupOrFeedbackGroupIds(
-      @RequestHeader String rcToken, @RequestParam(value = "rcGroupIds") List<String> rcGroupIds) {
+      @RequestHeader String rcToken,
+      @RequestParam(value = "rcGroupIds") List<String> rcGroupIds,
+      @RequestParam(value = "limit", required = false) Integer limit) {
     GroupSessionListResponseDTO groupSessionList;
     if (authenticatedUser.isConsultant()) {
       var consultant = userAccountProvider.retrieveValidatedConsultant();
       groupSessionList =
           sessionListFacade.retrieveSessionsForAuthenticatedConsultantByGroupIds(
-              consultant, rcGroupIds, authenticatedUser.getRoles());
+              consultant, rcGroupIds, authenticatedUser.getRoles(), limit);
     } else {
       var user = userAccountProvider.retrieveValidatedUser();
       var rocketChatCredentials =
@@ -363,7 +379,11 @@ public class UserController implements UsersApi {
               .build();
       groupSessionList =
           sessionListFacade.retrieveSessionsForAuthenticatedUserByGroupIds(
-              user.getUserId(), rcGroupIds, rocketChatCredentials, authenticatedUser.getRoles());
+              user.getUserId(),
+              rcGroupIds,
+              rocketChatCredentials,
+              authenticatedUser.getRoles(),
+              limit);
     }
 
     consultantDataFacade.addConsultantDisplayNameToSessionList(groupSessionList);
@@ -586,6 +606,7 @@ public class UserController implements UsersApi {
    * @param count Number of items which are being returned (required)
    * @param filter Information on how to filter the list (required)
    * @param status Session status type (optional)
+   * @param ifNoneMatch entity tag of a former response (optional)
    * @return {@link ResponseEntity} containing {@link ConsultantSessionListResponseDTO}
    */
   @Override
@@ -594,9 +615,20 @@ public class UserController implements UsersApi {
       Integer offset,
       Integer count,
       @RequestParam String filter,
-      @RequestParam Integer status) {
+      @RequestParam Integer status,
+      @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
 
     var consultant = this.userAccountProvider.retrieveValidatedConsultant();
+    // sessions in progress are listed together with the chats of the agencies of the consultant
+    var eTag =
+        SessionStatus.isStatusValueInProgress(status)
+            ? sessionListVersionService.computeConsultantSessionAndChatListETag(
+                consultant, rcToken, "sessions", status, offset, count, filter)
+            : sessionListVersionService.computeConsultantSessionListETag(
+                consultant, rcToken, "sessions", status, offset, count, filter);
+    if (sessionListVersionService.isNotModified(ifNoneMatch, eTag)) {
+      return notModified(eTag);
+    }
 
     ConsultantSessionListResponseDTO consultantSessionListResponseDTO = null;
     var optionalSessionFilter = SessionFilter.getByValue(filter);
@@ -615,10 +647,8 @@ public class UserController implements UsersApi {
               consultant, sessionListQueryParameter);
     }
 
-    return nonNull(consultantSessionListResponseDTO)
-            && isNotEmpty(consultantSessionListResponseDTO.getSessions())
-        ? new ResponseEntity<>(consultantSessionListResponseDTO, HttpStatus.OK)
-        : new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    return sessionListResponse(
+        consultantSessionListResponseDTO, hasSessions(consultantSessionListResponseDTO), eTag);
   }
 
   /**
@@ -628,13 +658,24 @@ public class UserController implements UsersApi {
    * @param offset Number of items where to start in the query (0 = first item) (required)
    * @param count Number of items which are being returned (required)
    * @param filter Information on how to filter the list (required)
+   * @param ifNoneMatch entity tag of a former response (optional)
    * @return {@link ResponseEntity} containing {@link ConsultantSessionListResponseDTO}
    */
   @Override
   public ResponseEntity<ConsultantSessionListResponseDTO> getTeamSessionsForAuthenticatedConsultant(
-      @RequestHeader String rcToken, Integer offset, Integer count, @RequestParam String filter) {
+      @RequestHeader String rcToken,
+      Integer offset,
+      Integer count,
+      @RequestParam String filter,
+      @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch) {
 
     var consultant = this.userAccountProvider.retrieveValidatedTeamConsultant();
+    var eTag =
+        sessionListVersionService.computeConsultantSessionListETag(
+            consultant, rcToken, "teamSessions", offset, count, filter);
+    if (sessionListVersionService.isNotModified(ifNoneMatch, eTag)) {
+      return notModified(eTag);
+    }
 
     ConsultantSessionListResponseDTO teamSessionListDTO = null;
     var optionalSessionFilter = SessionFilter.getByValue(filter);
@@ -652,9 +693,34 @@ public class UserController implements UsersApi {
               consultant, rcToken, sessionListQueryParameter);
     }
 
-    return nonNull(teamSessionListDTO) && isNotEmpty(teamSessionListDTO.getSessions())
-        ? new ResponseEntity<>(teamSessionListDTO, HttpStatus.OK)
-        : new ResponseEntity<>(HttpStatus.NO_CONTENT);
+    return sessionListResponse(teamSessionListDTO, hasSessions(teamSessionListDTO), eTag);
+  }
+
+  private <T> ResponseEntity<T> notModified(String eTag) {
+    return withSessionListHeaders(ResponseEntity.status(HttpStatus.NOT_MODIFIED), eTag).build();
+  }
+
+  /**
+   * Checks the count instead of the sessions, so that a streaming session list is not enriched
+   * before it is written.
+   */
+  private boolean hasSessions(ConsultantSessionListResponseDTO consultantSessionList) {
+    return nonNull(consultantSessionList)
+        && nonNull(consultantSessionList.getCount())
+        && consultantSessionList.getCount() > 0;
+  }
+
+  private <T> ResponseEntity<T> sessionListResponse(
+      T sessionList, boolean hasSessions, String eTag) {
+    return hasSessions
+        ? withSessionListHeaders(ResponseEntity.ok(), eTag).body(sessionList)
+        : withSessionListHeaders(ResponseEntity.status(HttpStatus.NO_CONTENT), eTag).build();
+  }
+
+  private ResponseEntity.BodyBuilder withSessionListHeaders(
+      ResponseEntity.BodyBuilder responseBuilder, String eTag) {
+    responseBuilder.cacheControl(CacheControl.noCache().cachePrivate());
+    return nonNull(eTag) ? responseBuilder.eTag(eTag) : responseBuilder;
   }
 
   /**
@@ -0,0 +1,81 @@
+package de.caritas.cob.userservice.api.adapters.web.dto;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+/**
+ * The sessions of a session list page in chunks of {@value #CHUNK_SIZE}. A chunk is enriched when
+ * it is reached by an iteration, so a list can be written chunk by chunk. Each session is enriched
+ * only once, regardless of how often the chunks are iterated.
+ */
+public class ConsultantSessionChunks implements Iterable<List<ConsultantSessionResponseDTO>> {
+
+  static final int CHUNK_SIZE = 25;
+
+  private final List<ConsultantSessionResponseDTO> sessions;
+  private final Consumer<List<ConsultantSessionResponseDTO>> chunkEnricher;
+  private int enrichedSessions;
+
+  /**
+   * Creates the chunks of the given sessions. As the first chunks may already be sent when a later
+   * chunk is enriched, the enricher must not call other services, but work on data retrieved in
+   * advance.
+   *
+   * @param sessions the sessions to be enriched
+   * @param chunkEnricher the enricher of a chunk of sessions
+   */
+  public ConsultantSessionChunks(
+      List<ConsultantSessionResponseDTO> sessions,
+      Consumer<List<ConsultantSessionResponseDTO>> chunkEnricher) {
+    this.sessions = sessions;
+    this.chunkEnricher = chunkEnricher;
+  }
+
+  /**
+   * Returns an iterator over the chunks, which enriches each chunk when it is reached.
+   *
+   * @return the iterator over the enriched chunks
+   */
+  @Override
+  public Iterator<List<ConsultantSessionResponseDTO>> iterator() {
+    return new Iterator<>() {
+      private int fromIndex;
+
+      @Override
+      public boolean hasNext() {
+        return fromIndex < sessions.size();
+      }
+
+      @Override
+      public List<ConsultantSessionResponseDTO> next() {
+        if (!hasNext()) {
+          throw new NoSuchElementException();
+        }
+        var chunk = enrichChunk(fromIndex);
+        fromIndex += chunk.size();
+        return chunk;
+      }
+    };
+  }
+
+  /**
+   * Enriches all sessions not enriched yet.
+   *
+   * @return all enriched sessions
+   */
+  public List<ConsultantSessionResponseDTO> enrichAll() {
+    forEach(chunk -> {});
+    return sessions;
+  }
+
+  private List<ConsultantSessionResponseDTO> enrichChunk(int fromIndex) {
+    var toIndex = Math.min(fromIndex + CHUNK_SIZE, sessions.size());
+    if (toIndex > enrichedSessions) {
+      chunkEnricher.accept(sessions.subList(Math.max(fromIndex, enrichedSessions), toIndex));
+      enrichedSessions = toIndex;
+    }
+    return sessions.subList(fromIndex, toIndex);
+  }
+}
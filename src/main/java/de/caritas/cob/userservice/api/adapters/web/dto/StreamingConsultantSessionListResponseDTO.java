@@ -0,0 +1,51 @@
+package de.caritas.cob.userservice.api.adapters.web.dto;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * {@link ConsultantSessionListResponseDTO} whose sessions are enriched chunk by chunk while they
+ * are written to the response, see {@link #getSessionChunks()}. {@link #getSessions()} returns the
+ * sessions of the page as they are, so a session is only enriched once its chunk has been reached.
+ *
+ * <p>Streaming only avoids building the serialized response. The sessions of the page are held in
+ * memory, and lists sorted by Rocket.Chat data, like sessions in progress and team sessions, are
+ * still loaded and enriched completely before they are paged.
+ */
+public class StreamingConsultantSessionListResponseDTO extends ConsultantSessionListResponseDTO {
+
+  private final ConsultantSessionChunks sessionChunks;
+
+  /**
+   * Creates a list of sessions which are already enriched.
+   *
+   * @param sessions the enriched sessions
+   */
+  public StreamingConsultantSessionListResponseDTO(List<ConsultantSessionResponseDTO> sessions) {
+    this(sessions, chunk -> {});
+  }
+
+  /**
+   * Creates a list of sessions which are enriched by the given enricher when they are written.
+   *
+   * @param sessions the sessions to be enriched
+   * @param chunkEnricher the enricher of a chunk of sessions, see {@link ConsultantSessionChunks}
+   */
+  public StreamingConsultantSessionListResponseDTO(
+      List<ConsultantSessionResponseDTO> sessions,
+      Consumer<List<ConsultantSessionResponseDTO>> chunkEnricher) {
+    this.sessionChunks = new ConsultantSessionChunks(sessions, chunkEnricher);
+    setSessions(sessions);
+  }
+
+  /**
+   * Returns the sessions in chunks, which are enriched when they are reached by an iteration.
+   *
+   * @return the {@link ConsultantSessionChunks}
+   */
+  @JsonIgnore
+  public ConsultantSessionChunks getSessionChunks() {
+    return sessionChunks;
+  }
+}
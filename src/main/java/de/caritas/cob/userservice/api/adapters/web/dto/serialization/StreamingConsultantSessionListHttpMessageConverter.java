@@ -0,0 +1,124 @@
+package de.caritas.cob.userservice.api.adapters.web.dto.serialization;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonSerializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantSessionListResponseDTO;
+import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantSessionResponseDTO;
+import de.caritas.cob.userservice.api.adapters.web.dto.StreamingConsultantSessionListResponseDTO;
+import java.io.IOException;
+import java.util.List;
+import lombok.NonNull;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.util.StreamUtils;
+
+/**
+ * Writes a {@link StreamingConsultantSessionListResponseDTO} with a {@link
+ * com.fasterxml.jackson.core.JsonGenerator}. The list is serialized by the serializer of {@link
+ * ConsultantSessionListResponseDTO}, only its sessions are enriched and written chunk by chunk and
+ * the output is flushed after each chunk, so the response does not have to be built as one object
+ * graph before it is sent. Calls to other services which may fail have to be done before the list
+ * is handed over, as an error after the first flush can only abort the response.
+ */
+public class StreamingConsultantSessionListHttpMessageConverter
+    extends AbstractHttpMessageConverter<StreamingConsultantSessionListResponseDTO> {
+
+  private final ObjectMapper objectMapper;
+  private final ObjectWriter sessionListWriter;
+
+  public StreamingConsultantSessionListHttpMessageConverter(@NonNull ObjectMapper objectMapper) {
+    super(MediaType.APPLICATION_JSON);
+    this.objectMapper = objectMapper;
+    this.sessionListWriter =
+        objectMapper
+            .copy()
+            .addMixIn(ConsultantSessionListResponseDTO.class, SessionChunksMixIn.class)
+            .writerFor(StreamingConsultantSessionListResponseDTO.class)
+            .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+  }
+
+  @Override
+  protected boolean supports(Class<?> clazz) {
+    return StreamingConsultantSessionListResponseDTO.class.isAssignableFrom(clazz);
+  }
+
+  @Override
+  public boolean canRead(Class<?> clazz, MediaType mediaType) {
+    return false;
+  }
+
+  @Override
+  protected StreamingConsultantSessionListResponseDTO readInternal(
+      Class<? extends StreamingConsultantSessionListResponseDTO> clazz,
+      HttpInputMessage inputMessage) {
+    throw new HttpMessageNotReadableException(
+        "Streaming session lists can only be written", inputMessage);
+  }
+
+  @Override
+  protected void writeInternal(
+      StreamingConsultantSessionListResponseDTO sessionList, HttpOutputMessage outputMessage)
+      throws IOException {
+    // the first chunk is enriched before anything is written, so that a failing enrichment still
+    // results in an error response instead of a truncated list
+    var chunks = sessionList.getSessionChunks().iterator();
+    if (chunks.hasNext()) {
+      chunks.next();
+    }
+
+    var outputStream = StreamUtils.nonClosing(outputMessage.getBody());
+    try (var generator =
+        objectMapper.getFactory().createGenerator(outputStream, JsonEncoding.UTF8)) {
+      // a list aborted by a failing enrichment must not be completed to valid JSON on close
+      generator.disable(JsonGenerator.Feature.AUTO_CLOSE_JSON_CONTENT);
+      sessionListWriter.writeValue(generator, sessionList);
+    } catch (JsonMappingException e) {
+      // a failing enrichment of a later chunk is rethrown as it is, like one of the first chunk
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw e;
+    }
+  }
+
+  /** Replaces the serializer of the sessions of a session list by {@link SessionChunksWriter}. */
+  abstract static class SessionChunksMixIn {
+
+    @JsonSerialize(using = SessionChunksWriter.class)
+    abstract List<ConsultantSessionResponseDTO> getSessions();
+  }
+
+  /**
+   * Writes the sessions of a {@link StreamingConsultantSessionListResponseDTO} chunk by chunk and
+   * flushes the output after each chunk.
+   */
+  static class SessionChunksWriter extends JsonSerializer<List<ConsultantSessionResponseDTO>> {
+
+    @Override
+    public void serialize(
+        List<ConsultantSessionResponseDTO> sessions,
+        JsonGenerator generator,
+        SerializerProvider serializerProvider)
+        throws IOException {
+      var sessionList = (StreamingConsultantSessionListResponseDTO) generator.getCurrentValue();
+      generator.writeStartArray();
+      for (var chunk : sessionList.getSessionChunks()) {
+        for (var session : chunk) {
+          serializerProvider.defaultSerializeValue(session, generator);
+        }
+        generator.flush();
+      }
+      generator.writeEndArray();
+    }
+  }
+}
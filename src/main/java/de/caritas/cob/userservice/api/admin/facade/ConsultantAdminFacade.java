@@ -169,12 +169,14 @@ public class ConsultantAdminFacade {
   }
 
   /**
-   * Changes the consultant flag is_team_consultant and assignments for agency type changes.
+   * Changes the consultant flag is_team_consultant and assignments for agency type changes. The
+   * cached agency is dropped, because it still carries the former type.
    *
    * @param agencyId the id of the changed agency
    * @param agencyTypeDTO the request object containing the target type
    */
   public void changeAgencyType(Long agencyId, AgencyTypeDTO agencyTypeDTO) {
+    agencyService.evictAgency(agencyId);
     if (TEAM_AGENCY.equals(agencyTypeDTO.getAgencyType())) {
       this.consultantAgencyAdminService.markAllAssignedConsultantsAsTeamConsultant(agencyId);
     }
@@ -56,36 +56,40 @@ abstract class RocketChatGroupOperation {
 
   void removeConsultantsFromSessionGroups(Session session, List<Consultant> consultants) {
     removeConsultantsFromRocketChatGroup(
-        session.getGroupId(), consultants, rocketChatFacade::removeUserFromGroup);
+        session.getGroupId(), consultants, rocketChatFacade::removeUsersFromGroup);
     removeConsultantsFromRocketChatGroup(
-        session.getFeedbackGroupId(), consultants, rocketChatFacade::removeUserFromGroup);
+        session.getFeedbackGroupId(), consultants, rocketChatFacade::removeUsersFromGroup);
   }
 
   void removeConsultantsFromSessionGroup(String rcGroupId, List<Consultant> consultants) {
     removeConsultantsFromRocketChatGroup(
-        rcGroupId, consultants, rocketChatFacade::removeUserFromGroup);
+        rcGroupId, consultants, rocketChatFacade::removeUsersFromGroup);
   }
 
   void removeConsultantsFromSessionGroupAndIgnoreGroupNotFound(
       String rcGroupId, List<Consultant> consultants) {
     removeConsultantsFromRocketChatGroup(
-        rcGroupId, consultants, rocketChatFacade::removeUserFromGroupIgnoreGroupNotFound);
+        rcGroupId, consultants, rocketChatFacade::removeUsersFromGroupIgnoreGroupNotFound);
   }
 
   private void removeConsultantsFromRocketChatGroup(
       String rcGroupId,
       List<Consultant> consultants,
-      BiConsumer<String, String> removeFromRocketchatGroupMethod) {
+      BiConsumer<List<String>, String> removeFromRocketchatGroupMethod) {
     if (rcGroupId == null) {
       return;
     }
     List<String> groupMemberList = obtainRocketChatGroupMemberIds(rcGroupId);
 
     rocketChatFacade.addTechnicalUserToGroup(rcGroupId);
-    consultants.stream()
-        .map(Consultant::getRocketChatId)
-        .filter(groupMemberList::contains)
-        .forEach(rcUserId -> removeFromRocketchatGroupMethod.accept(rcUserId, rcGroupId));
+    var rcUserIdsToRemove =
+        consultants.stream()
+            .map(Consultant::getRocketChatId)
+            .filter(groupMemberList::contains)
+            .collect(Collectors.toList());
+    if (!rcUserIdsToRemove.isEmpty()) {
+      removeFromRocketchatGroupMethod.accept(rcUserIdsToRemove, rcGroupId);
+    }
     rocketChatFacade.leaveFromGroupAsTechnicalUser(rcGroupId);
   }
 
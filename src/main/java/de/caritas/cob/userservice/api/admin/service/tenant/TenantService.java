@@ -16,7 +16,7 @@ public class TenantService {
 
   private final @NonNull TenantServiceApiControllerFactory tenantServiceApiControllerFactory;
 
-  @Cacheable(cacheNames = CacheManagerConfig.TENANT_CACHE, key = "#subdomain")
+  @Cacheable(cacheNames = CacheManagerConfig.TENANT_CACHE, key = "#subdomain", sync = true)
   public RestrictedTenantDTO getRestrictedTenantData(String subdomain) {
     log.info("Calling tenant service to get tenant data for subdomain {}", subdomain);
     return tenantServiceApiControllerFactory
@@ -24,7 +24,7 @@ public class TenantService {
         .getRestrictedTenantDataBySubdomain(subdomain);
   }
 
-  @Cacheable(cacheNames = CacheManagerConfig.TENANT_CACHE, key = "#tenantId")
+  @Cacheable(cacheNames = CacheManagerConfig.TENANT_CACHE, key = "#tenantId", sync = true)
   public RestrictedTenantDTO getRestrictedTenantData(Long tenantId) {
     log.info("Calling tenant service to get tenant data for tenantId {}", tenantId);
 
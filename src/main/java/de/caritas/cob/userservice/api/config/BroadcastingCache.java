@@ -0,0 +1,87 @@
+package de.caritas.cob.userservice.api.config;
+
+import java.util.concurrent.Callable;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+
+/**
+ * {@link Cache} decorator which publishes every eviction with the {@link
+ * CacheInvalidationBroadcaster}, so the entry is dropped on all userservice nodes. Invalidations
+ * received from other nodes are applied with {@link #evictLocally(Object)} and {@link
+ * #clearLocally()}, which are not published again.
+ */
+@RequiredArgsConstructor
+class BroadcastingCache implements Cache {
+
+  private final Cache delegate;
+  private final CacheInvalidationBroadcaster cacheInvalidationBroadcaster;
+
+  @Override
+  public String getName() {
+    return delegate.getName();
+  }
+
+  @Override
+  public Object getNativeCache() {
+    return delegate.getNativeCache();
+  }
+
+  @Override
+  public ValueWrapper get(Object key) {
+    return delegate.get(key);
+  }
+
+  @Override
+  public <T> T get(Object key, Class<T> type) {
+    return delegate.get(key, type);
+  }
+
+  @Override
+  public <T> T get(Object key, Callable<T> valueLoader) {
+    return delegate.get(key, valueLoader);
+  }
+
+  @Override
+  public void put(Object key, Object value) {
+    delegate.put(key, value);
+  }
+
+  @Override
+  public ValueWrapper putIfAbsent(Object key, Object value) {
+    return delegate.putIfAbsent(key, value);
+  }
+
+  @Override
+  public void evict(Object key) {
+    delegate.evict(key);
+    cacheInvalidationBroadcaster.publishEviction(getName(), key);
+  }
+
+  @Override
+  public boolean evictIfPresent(Object key) {
+    var present = delegate.evictIfPresent(key);
+    cacheInvalidationBroadcaster.publishEviction(getName(), key);
+    return present;
+  }
+
+  @Override
+  public void clear() {
+    delegate.clear();
+    cacheInvalidationBroadcaster.publishClear(getName());
+  }
+
+  @Override
+  public boolean invalidate() {
+    var present = delegate.invalidate();
+    cacheInvalidationBroadcaster.publishClear(getName());
+    return present;
+  }
+
+  void evictLocally(Object key) {
+    delegate.evict(key);
+  }
+
+  void clearLocally() {
+    delegate.clear();
+  }
+}
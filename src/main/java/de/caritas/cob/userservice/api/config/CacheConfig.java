@@ -0,0 +1,40 @@
+package de.caritas.cob.userservice.api.config;
+
+import java.time.Duration;
+import java.util.Map;
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+import org.springframework.validation.annotation.Validated;
+
+/** Settings of the caches built by the {@link CacheManagerConfig}, one entry per cache name. */
+@Data
+@Validated
+@Configuration
+@ConfigurationProperties(prefix = "cache")
+public class CacheConfig {
+
+  @NotNull private Map<String, @Valid CacheSettings> configuration;
+
+  @Data
+  public static class CacheSettings {
+
+    /**
+     * Maximum size of the entries kept on the heap, the least recently used are evicted. The size
+     * of an entry is estimated by the {@link CacheWeigher} of the cache.
+     */
+    @NotNull private DataSize maxSize;
+
+    /** Time after the last write an entry expires at the latest. */
+    private Duration timeToLive;
+
+    /** Time after the last read or write an entry expires, capped by {@link #timeToLive}. */
+    private Duration timeToIdle;
+
+    /** Age after which an entry is refreshed ahead of its expiry, see {@link RefreshAheadCache}. */
+    private Duration refreshAfter;
+  }
+}
@@ -0,0 +1,99 @@
+package de.caritas.cob.userservice.api.config;
+
+import static de.caritas.cob.userservice.api.config.CacheInvalidationMessage.KEY_TYPE_INTEGER;
+import static de.caritas.cob.userservice.api.config.CacheInvalidationMessage.KEY_TYPE_LONG;
+import static de.caritas.cob.userservice.api.config.CacheInvalidationMessage.KEY_TYPE_STRING;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.UUID;
+import lombok.Getter;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * Publishes evictions of local cache entries to the cache invalidation exchange, so the other
+ * userservice nodes drop their copies of the entries as well.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationBroadcaster {
+
+  private final @NonNull AmqpTemplate amqpTemplate;
+  private final @NonNull ObjectMapper objectMapper;
+
+  @Getter private final String nodeId = UUID.randomUUID().toString();
+
+  @Value("${cache.invalidation.enabled}")
+  private boolean cacheInvalidationEnabled;
+
+  @Value("${cache.invalidation.rabbitmq.exchange.name}")
+  private String rabbitMqExchangeName;
+
+  /**
+   * Publishes the eviction of the given key. Keys other than {@link Long}, {@link Integer} and
+   * {@link String} can not be restored by the other nodes, so the whole cache is invalidated for
+   * them.
+   *
+   * @param cacheName the name of the cache
+   * @param key the evicted key
+   */
+  public void publishEviction(String cacheName, Object key) {
+    var keyType = keyTypeOf(key);
+    if (keyType == null) {
+      publishClear(cacheName);
+    } else {
+      publish(new CacheInvalidationMessage(nodeId, cacheName, key.toString(), keyType));
+    }
+  }
+
+  /**
+   * Publishes the invalidation of the whole cache.
+   *
+   * @param cacheName the name of the cache
+   */
+  public void publishClear(String cacheName) {
+    publish(new CacheInvalidationMessage(nodeId, cacheName, null, null));
+  }
+
+  private String keyTypeOf(Object key) {
+    if (key instanceof Long) {
+      return KEY_TYPE_LONG;
+    }
+    if (key instanceof Integer) {
+      return KEY_TYPE_INTEGER;
+    }
+    if (key instanceof String) {
+      return KEY_TYPE_STRING;
+    }
+    return null;
+  }
+
+  private void publish(CacheInvalidationMessage invalidation) {
+    if (!cacheInvalidationEnabled) {
+      return;
+    }
+    try {
+      amqpTemplate.send(
+          rabbitMqExchangeName,
+          "",
+          MessageBuilder.withBody(objectMapper.writeValueAsBytes(invalidation))
+              .setContentType(MessageProperties.CONTENT_TYPE_JSON)
+              .build());
+    } catch (JsonProcessingException | AmqpException e) {
+      log.warn(
+          "Cache invalidation of cache {} could not be published, other nodes keep their entries "
+              + "until they expire",
+          invalidation.getCacheName(),
+          e);
+    }
+  }
+}
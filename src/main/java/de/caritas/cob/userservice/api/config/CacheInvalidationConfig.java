@@ -0,0 +1,60 @@
+package de.caritas.cob.userservice.api.config;
+
+import org.springframework.amqp.core.AnonymousQueue;
+import org.springframework.amqp.core.Base64UrlNamingStrategy;
+import org.springframework.amqp.core.Binding;
+import org.springframework.amqp.core.BindingBuilder;
+import org.springframework.amqp.core.FanoutExchange;
+import org.springframework.amqp.rabbit.connection.ConnectionFactory;
+import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * RabbitMQ configuration of the cache invalidation broadcast. Every node binds its own exclusive
+ * queue to the fanout exchange, so every invalidation reaches all nodes. Nothing is declared and no
+ * listener is started unless the cache invalidation is enabled.
+ */
+@Configuration
+public class CacheInvalidationConfig {
+
+  private static final String QUEUE_PREFIX = "userservice.cache.invalidation.";
+
+  @Value("${cache.invalidation.enabled}")
+  private boolean cacheInvalidationEnabled;
+
+  @Value("${cache.invalidation.rabbitmq.exchange.name}")
+  private String rabbitMqExchangeName;
+
+  @Bean
+  public FanoutExchange cacheInvalidationExchange() {
+    var exchange = new FanoutExchange(rabbitMqExchangeName, true, false);
+    exchange.setShouldDeclare(cacheInvalidationEnabled);
+    return exchange;
+  }
+
+  @Bean
+  public AnonymousQueue cacheInvalidationQueue() {
+    var queue = new AnonymousQueue(new Base64UrlNamingStrategy(QUEUE_PREFIX));
+    queue.setShouldDeclare(cacheInvalidationEnabled);
+    return queue;
+  }
+
+  @Bean
+  public Binding cacheInvalidationBinding() {
+    var binding = BindingBuilder.bind(cacheInvalidationQueue()).to(cacheInvalidationExchange());
+    binding.setShouldDeclare(cacheInvalidationEnabled);
+    return binding;
+  }
+
+  @Bean
+  public SimpleMessageListenerContainer cacheInvalidationListenerContainer(
+      ConnectionFactory connectionFactory, CacheInvalidationListener cacheInvalidationListener) {
+    var container = new SimpleMessageListenerContainer(connectionFactory);
+    container.setQueues(cacheInvalidationQueue());
+    container.setMessageListener(cacheInvalidationListener);
+    container.setAutoStartup(cacheInvalidationEnabled);
+    return container;
+  }
+}
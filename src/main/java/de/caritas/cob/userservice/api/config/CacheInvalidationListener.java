@@ -0,0 +1,101 @@
+package de.caritas.cob.userservice.api.config;
+
+import static de.caritas.cob.userservice.api.config.CacheInvalidationMessage.KEY_TYPE_INTEGER;
+import static de.caritas.cob.userservice.api.config.CacheInvalidationMessage.KEY_TYPE_LONG;
+import static de.caritas.cob.userservice.api.config.CacheInvalidationMessage.KEY_TYPE_STRING;
+import static java.util.Objects.isNull;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.io.IOException;
+import java.util.Set;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageListener;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+
+/**
+ * Drops local cache entries invalidated by other userservice nodes or by the services owning the
+ * cached data. The {@link CacheManagerConfig#TENANT_CACHE} holds every tenant under its id and
+ * under its subdomain, so an invalidation of one of its keys clears it.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheInvalidationListener implements MessageListener {
+
+  private static final Set<String> CLEARED_ON_INVALIDATION =
+      Set.of(CacheManagerConfig.TENANT_CACHE);
+
+  private final @NonNull CacheManager cacheManager;
+  private final @NonNull CacheInvalidationBroadcaster cacheInvalidationBroadcaster;
+  private final @NonNull ObjectMapper objectMapper;
+
+  @Override
+  public void onMessage(Message message) {
+    CacheInvalidationMessage invalidation;
+    try {
+      invalidation = objectMapper.readValue(message.getBody(), CacheInvalidationMessage.class);
+    } catch (IOException e) {
+      log.warn("Cache invalidation message could not be read", e);
+      return;
+    }
+
+    if (cacheInvalidationBroadcaster.getNodeId().equals(invalidation.getOrigin())) {
+      return;
+    }
+    var cache = cacheManager.getCache(invalidation.getCacheName());
+    if (isNull(cache)) {
+      log.warn("Cache invalidation for unknown cache {} ignored", invalidation.getCacheName());
+      return;
+    }
+
+    if (isNull(invalidation.getKey()) || CLEARED_ON_INVALIDATION.contains(cache.getName())) {
+      clearLocally(cache);
+    } else {
+      evictLocally(cache, invalidation);
+    }
+  }
+
+  private void evictLocally(Cache cache, CacheInvalidationMessage invalidation) {
+    Object key;
+    try {
+      key = keyOf(invalidation);
+    } catch (IllegalArgumentException e) {
+      log.warn("Cache invalidation key of cache {} could not be read", cache.getName(), e);
+      clearLocally(cache);
+      return;
+    }
+
+    if (cache instanceof BroadcastingCache) {
+      ((BroadcastingCache) cache).evictLocally(key);
+    } else {
+      cache.evict(key);
+    }
+  }
+
+  private Object keyOf(CacheInvalidationMessage invalidation) {
+    var key = invalidation.getKey();
+    if (KEY_TYPE_LONG.equals(invalidation.getKeyType())) {
+      return Long.valueOf(key);
+    }
+    if (KEY_TYPE_INTEGER.equals(invalidation.getKeyType())) {
+      return Integer.valueOf(key);
+    }
+    if (KEY_TYPE_STRING.equals(invalidation.getKeyType())) {
+      return key;
+    }
+    throw new IllegalArgumentException("Unknown key type " + invalidation.getKeyType());
+  }
+
+  private void clearLocally(Cache cache) {
+    if (cache instanceof BroadcastingCache) {
+      ((BroadcastingCache) cache).clearLocally();
+    } else {
+      cache.clear();
+    }
+  }
+}
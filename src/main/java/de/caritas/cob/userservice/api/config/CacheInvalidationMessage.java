@@ -0,0 +1,26 @@
+package de.caritas.cob.userservice.api.config;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Invalidation of a cache entry, broadcast to all userservice nodes. A message without key
+ * invalidates the whole cache. The services owning agencies, tenants, consulting types and
+ * application settings publish it when they change them, e.g. a consulting type change without key
+ * to also drop the consulting type ids cached per tenant.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheInvalidationMessage {
+
+  public static final String KEY_TYPE_LONG = "Long";
+  public static final String KEY_TYPE_INTEGER = "Integer";
+  public static final String KEY_TYPE_STRING = "String";
+
+  private String origin;
+  private String cacheName;
+  private String key;
+  private String keyType;
+}
@@ -1,15 +1,42 @@
 package de.caritas.cob.userservice.api.config;
 
-import net.sf.ehcache.config.CacheConfiguration;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatRoomSnapshot;
+import de.caritas.cob.userservice.api.config.CacheConfig.CacheSettings;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import java.net.URI;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executor;
+import javax.cache.Caching;
+import lombok.RequiredArgsConstructor;
+import org.ehcache.config.builders.CacheConfigurationBuilder;
+import org.ehcache.config.builders.ConfigurationBuilder;
+import org.ehcache.config.builders.ExpiryPolicyBuilder;
+import org.ehcache.config.builders.ResourcePoolsBuilder;
+import org.ehcache.config.units.MemoryUnit;
+import org.ehcache.core.spi.time.SystemTimeSource;
+import org.ehcache.core.spi.time.TimeSource;
+import org.ehcache.expiry.ExpiryPolicy;
+import org.ehcache.impl.internal.TimeSourceConfiguration;
+import org.ehcache.jsr107.EhcacheCachingProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.ehcache.EhCacheCacheManager;
+import org.springframework.cache.jcache.JCacheCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 @EnableCaching
+@RequiredArgsConstructor
 public class CacheManagerConfig {
 
   public static final String AGENCY_CACHE = "agencyCache";
@@ -21,165 +48,148 @@ public class CacheManagerConfig {
   public static final String TOPICS_CACHE = "topicsCache";
 
   public static final String ROCKET_CHAT_USER_CACHE = "rocketChatUserCache";
-
-  @Value("${cache.agencies.configuration.maxEntriesLocalHeap}")
-  private long agenciesMaxEntriesLocalHeap;
-
-  @Value("${cache.agencies.configuration.eternal}")
-  private boolean agenciesEternal;
-
-  @Value("${cache.agencies.configuration.timeToIdleSeconds}")
-  private long agenciesTimeToIdleSeconds;
-
-  @Value("${cache.agencies.configuration.timeToLiveSeconds}")
-  private long agenciesTimeToLiveSeconds;
-
-  @Value("${cache.consulting.type.configuration.maxEntriesLocalHeap}")
-  private long consultingTypeMaxEntriesLocalHeap;
-
-  @Value("${cache.consulting.type.configuration.eternal}")
-  private boolean consultingTypeEternal;
-
-  @Value("${cache.consulting.type.configuration.timeToIdleSeconds}")
-  private long consultingTypeTimeToIdleSeconds;
-
-  @Value("${cache.consulting.type.configuration.timeToLiveSeconds}")
-  private long consultingTypeTimeToLiveSeconds;
-
-  @Value("${cache.tenant.configuration.maxEntriesLocalHeap}")
-  private long tenantMaxEntriesLocalHeap;
-
-  @Value("${cache.tenant.configuration.eternal}")
-  private boolean tenantEternal;
-
-  @Value("${cache.tenant.configuration.timeToIdleSeconds}")
-  private long tenantTimeToIdleSeconds;
-
-  @Value("${cache.tenant.configuration.timeToLiveSeconds}")
-  private long tenantTimeToLiveSeconds;
-
-  @Value("${cache.topic.configuration.maxEntriesLocalHeap}")
-  private long topicMaxEntriesLocalHeap;
-
-  @Value("${cache.topic.configuration.eternal}")
-  private boolean topicEternal;
-
-  @Value("${cache.topic.configuration.timeToIdleSeconds}")
-  private long topicTimeToIdleSeconds;
-
-  @Value("${cache.topic.configuration.timeToLiveSeconds}")
-  private long topicTimeToLiveSeconds;
-
-  @Value("${cache.appsettings.configuration.maxEntriesLocalHeap}")
-  private long appSettingsMaxEntriesLocalHeap;
-
-  @Value("${cache.appsettings.configuration.eternal}")
-  private boolean appSettingsEternal;
-
-  @Value("${cache.appsettings.configuration.timeToIdleSeconds}")
-  private long appSettingsTimeToIdleSeconds;
-
-  @Value("${cache.appsettings.configuration.timeToLiveSeconds}")
-  private long appSettingsTimeToLiveSeconds;
-
-  @Value("${cache.rocketchat.configuration.maxEntriesLocalHeap}")
-  private long rocketchatCacheMaxEntriesLocalHeap;
-
-  @Value("${cache.rocketchat.configuration.eternal}")
-  private boolean rocketchatCacheEternal;
-
-  @Value("${cache.rocketchat.configuration.timeToIdleSeconds}")
-  private long rocketchatCacheTimeToIdleSeconds;
-
-  @Value("${cache.rocketchat.configuration.timeToLiveSeconds}")
-  private long rocketchatCacheTimeToLiveSeconds;
-
+  public static final String ROCKET_CHAT_ROOM_SNAPSHOT_CACHE = "rocketChatRoomSnapshotCache";
+
+  public static final String DECRYPTED_MESSAGE_CACHE = "decryptedMessageCache";
+  public static final String DECRYPTION_KEY_CACHE = "decryptionKeyCache";
+
+  static final List<String> CACHE_NAMES =
+      List.of(
+          AGENCY_CACHE,
+          CONSULTING_TYPE_CACHE,
+          TENANT_CACHE,
+          TENANT_ADMIN_CACHE,
+          TOPICS_CACHE,
+          APPLICATION_SETTINGS_CACHE,
+          ROCKET_CHAT_USER_CACHE,
+          ROCKET_CHAT_ROOM_SNAPSHOT_CACHE,
+          DECRYPTED_MESSAGE_CACHE,
+          DECRYPTION_KEY_CACHE);
+
+  private static final String CACHE_MANAGER_NAME = "cacheManager";
+
+  private final CacheConfig cacheConfig;
+
+  @Value("${cache.invalidation.enabled}")
+  private boolean cacheInvalidationEnabled;
+
+  @Value("${cache.invalidation.caches}")
+  private Set<String> cacheInvalidationCaches;
+
+  private TimeSource timeSource = SystemTimeSource.INSTANCE;
+
+  /**
+   * Creates the cache manager. Caches with both time to live and time to idle store their values
+   * with the write time, see {@link TimeToLiveAndIdleExpiryPolicy}. Caches with a refresh interval
+   * return entries older than the interval and refresh them in the background, see {@link
+   * RefreshAheadCache}. Evictions of the caches configured for the cache invalidation are published
+   * to the other nodes, see {@link BroadcastingCache}.
+   */
   @Bean
-  public CacheManager cacheManager() {
-    return new EhCacheCacheManager(ehCacheManager());
-  }
-
-  @Bean(destroyMethod = "shutdown")
-  public net.sf.ehcache.CacheManager ehCacheManager() {
-    var config = new net.sf.ehcache.config.Configuration();
-    config.addCache(buildAgencyCacheConfiguration());
-    config.addCache(buildConsultingTypeCacheConfiguration());
-    config.addCache(buildTenantCacheConfiguration());
-    config.addCache(buildTenantAdminCacheConfiguration());
-    config.addCache(buildTopicCacheConfiguration());
-    config.addCache(buildApplicationSettingsCacheConfiguration());
-
-    config.addCache(buildRocketchatUserCacheConfiguration());
-    return net.sf.ehcache.CacheManager.newInstance(config);
-  }
-
-  private CacheConfiguration buildAgencyCacheConfiguration() {
-    var agencyCacheConfiguration = new CacheConfiguration();
-    agencyCacheConfiguration.setName(AGENCY_CACHE);
-    agencyCacheConfiguration.setMaxEntriesLocalHeap(agenciesMaxEntriesLocalHeap);
-    agencyCacheConfiguration.setEternal(agenciesEternal);
-    agencyCacheConfiguration.setTimeToIdleSeconds(agenciesTimeToIdleSeconds);
-    agencyCacheConfiguration.setTimeToLiveSeconds(agenciesTimeToLiveSeconds);
-    return agencyCacheConfiguration;
+  public CacheManager cacheManager(
+      MeterRegistry meterRegistry,
+      @Qualifier("taskExecutor") Executor taskExecutor,
+      CacheInvalidationBroadcaster cacheInvalidationBroadcaster) {
+    var jCacheManager = jCacheManager();
+    CACHE_NAMES.forEach(
+        cacheName ->
+            JCacheMetrics.monitor(
+                meterRegistry,
+                jCacheManager.getCache(cacheName),
+                Tags.of("cacheManager", CACHE_MANAGER_NAME, "name", cacheName)));
+
+    return new JCacheCacheManager(jCacheManager) {
+      @Override
+      protected Cache decorateCache(Cache cache) {
+        var decoratedCache = super.decorateCache(cache);
+        var settings = settingsOf(cache.getName());
+        if (expiresOnLiveAndIdleTime(settings)) {
+          decoratedCache = new WriteTimeCache(decoratedCache, timeSource);
+        }
+        var refreshAfter = settings.getRefreshAfter();
+        if (nonNull(refreshAfter) && !refreshAfter.isZero()) {
+          decoratedCache =
+              new RefreshAheadCache(
+                  decoratedCache, refreshAfter.getSeconds(), taskExecutor, meterRegistry);
+        }
+        if (cacheInvalidationEnabled && cacheInvalidationCaches.contains(cache.getName())) {
+          decoratedCache = new BroadcastingCache(decoratedCache, cacheInvalidationBroadcaster);
+        }
+        return decoratedCache;
+      }
+    };
   }
 
-  private CacheConfiguration buildConsultingTypeCacheConfiguration() {
-    var consultingTypeCacheConfiguration = new CacheConfiguration();
-    consultingTypeCacheConfiguration.setName(CONSULTING_TYPE_CACHE);
-    consultingTypeCacheConfiguration.setMaxEntriesLocalHeap(consultingTypeMaxEntriesLocalHeap);
-    consultingTypeCacheConfiguration.setEternal(consultingTypeEternal);
-    consultingTypeCacheConfiguration.setTimeToIdleSeconds(consultingTypeTimeToIdleSeconds);
-    consultingTypeCacheConfiguration.setTimeToLiveSeconds(consultingTypeTimeToLiveSeconds);
-    return consultingTypeCacheConfiguration;
+  /**
+   * Creates the JCache cache manager with statistics enabled for all caches. Every application
+   * context gets its own cache manager, so the caches are closed together with the context. The
+   * heap of each cache is bounded by the weight of its entries, see {@link CacheWeigher}.
+   */
+  @Bean(destroyMethod = "close")
+  public javax.cache.CacheManager jCacheManager() {
+    var configuration =
+        ConfigurationBuilder.newConfigurationBuilder()
+            .withService(new TimeSourceConfiguration(timeSource));
+    for (var cacheName : CACHE_NAMES) {
+      configuration = configuration.withCache(cacheName, buildCacheConfiguration(cacheName));
+    }
+
+    var cachingProvider =
+        (EhcacheCachingProvider) Caching.getCachingProvider(EhcacheCachingProvider.class.getName());
+    var jCacheManager =
+        cachingProvider.getCacheManager(
+            URI.create(CACHE_MANAGER_NAME + "-" + UUID.randomUUID()), configuration.build());
+    CACHE_NAMES.forEach(cacheName -> jCacheManager.enableStatistics(cacheName, true));
+    return jCacheManager;
   }
 
-  private CacheConfiguration buildTenantCacheConfiguration() {
-    var tenantCacheConfiguration = new CacheConfiguration();
-    tenantCacheConfiguration.setName(TENANT_CACHE);
-    tenantCacheConfiguration.setMaxEntriesLocalHeap(tenantMaxEntriesLocalHeap);
-    tenantCacheConfiguration.setEternal(tenantEternal);
-    tenantCacheConfiguration.setTimeToIdleSeconds(tenantTimeToIdleSeconds);
-    tenantCacheConfiguration.setTimeToLiveSeconds(tenantTimeToLiveSeconds);
-    return tenantCacheConfiguration;
+  private CacheConfigurationBuilder<Object, Object> buildCacheConfiguration(String cacheName) {
+    var settings = settingsOf(cacheName);
+    var resourcePools =
+        ResourcePoolsBuilder.newResourcePoolsBuilder()
+            .heap(settings.getMaxSize().toBytes(), MemoryUnit.B);
+    return CacheConfigurationBuilder.newCacheConfigurationBuilder(
+            Object.class, Object.class, resourcePools)
+        .withExpiry(buildExpiryPolicy(settings))
+        .withService(new CacheWeigherConfiguration(weigherOf(cacheName)));
   }
 
-  private CacheConfiguration buildTenantAdminCacheConfiguration() {
-    var tenantCacheConfiguration = new CacheConfiguration();
-    tenantCacheConfiguration.setName(TENANT_ADMIN_CACHE);
-    tenantCacheConfiguration.setMaxEntriesLocalHeap(tenantMaxEntriesLocalHeap);
-    tenantCacheConfiguration.setEternal(tenantEternal);
-    tenantCacheConfiguration.setTimeToIdleSeconds(tenantTimeToIdleSeconds);
-    tenantCacheConfiguration.setTimeToLiveSeconds(tenantTimeToLiveSeconds);
-    return tenantCacheConfiguration;
+  private CacheWeigher weigherOf(String cacheName) {
+    var weigher = new JsonCacheWeigher();
+    if (ROCKET_CHAT_ROOM_SNAPSHOT_CACHE.equals(cacheName)) {
+      return (key, value) ->
+          value instanceof RocketChatRoomSnapshot
+              ? weigher.sizeOf(key)
+                  + weigher.sizeOf(((RocketChatRoomSnapshot) value).getSubscriptions())
+                  + weigher.sizeOf(((RocketChatRoomSnapshot) value).getRooms())
+              : weigher.weigh(key, value);
+    }
+    return weigher;
   }
 
-  private CacheConfiguration buildTopicCacheConfiguration() {
-    var topicCacheConfiguration = new CacheConfiguration();
-    topicCacheConfiguration.setName(TOPICS_CACHE);
-    topicCacheConfiguration.setMaxEntriesLocalHeap(topicMaxEntriesLocalHeap);
-    topicCacheConfiguration.setEternal(topicEternal);
-    topicCacheConfiguration.setTimeToIdleSeconds(topicTimeToIdleSeconds);
-    topicCacheConfiguration.setTimeToLiveSeconds(topicTimeToLiveSeconds);
-    return topicCacheConfiguration;
+  private ExpiryPolicy<Object, Object> buildExpiryPolicy(CacheSettings settings) {
+    if (expiresOnLiveAndIdleTime(settings)) {
+      return new TimeToLiveAndIdleExpiryPolicy(
+          settings.getTimeToLive(), settings.getTimeToIdle(), timeSource);
+    }
+    if (nonNull(settings.getTimeToIdle())) {
+      return ExpiryPolicyBuilder.timeToIdleExpiration(settings.getTimeToIdle());
+    }
+    if (nonNull(settings.getTimeToLive())) {
+      return ExpiryPolicyBuilder.timeToLiveExpiration(settings.getTimeToLive());
+    }
+    return ExpiryPolicyBuilder.noExpiration();
   }
 
-  private CacheConfiguration buildApplicationSettingsCacheConfiguration() {
-    var appSettingsCacheConfiguration = new CacheConfiguration();
-    appSettingsCacheConfiguration.setName(APPLICATION_SETTINGS_CACHE);
-    appSettingsCacheConfiguration.setMaxEntriesLocalHeap(appSettingsMaxEntriesLocalHeap);
-    appSettingsCacheConfiguration.setEternal(appSettingsEternal);
-    appSettingsCacheConfiguration.setTimeToIdleSeconds(appSettingsTimeToIdleSeconds);
-    appSettingsCacheConfiguration.setTimeToLiveSeconds(appSettingsTimeToLiveSeconds);
-    return appSettingsCacheConfiguration;
+  private boolean expiresOnLiveAndIdleTime(CacheSettings settings) {
+    return nonNull(settings.getTimeToLive()) && nonNull(settings.getTimeToIdle());
   }
 
-  private CacheConfiguration buildRocketchatUserCacheConfiguration() {
-    var rocketchatCacheConfiguration = new CacheConfiguration();
-    rocketchatCacheConfiguration.setName(ROCKET_CHAT_USER_CACHE);
-    rocketchatCacheConfiguration.setMaxEntriesLocalHeap(rocketchatCacheMaxEntriesLocalHeap);
-    rocketchatCacheConfiguration.setEternal(rocketchatCacheEternal);
-    rocketchatCacheConfiguration.setTimeToIdleSeconds(rocketchatCacheTimeToIdleSeconds);
-    rocketchatCacheConfiguration.setTimeToLiveSeconds(rocketchatCacheTimeToLiveSeconds);
-    return rocketchatCacheConfiguration;
+  private CacheSettings settingsOf(String cacheName) {
+    var settings = cacheConfig.getConfiguration().get(cacheName);
+    if (isNull(settings)) {
+      throw new IllegalStateException(String.format("Cache %s is not configured", cacheName));
+    }
+    return settings;
   }
 }
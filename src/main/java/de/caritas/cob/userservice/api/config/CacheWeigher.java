@@ -0,0 +1,20 @@
+package de.caritas.cob.userservice.api.config;
+
+/**
+ * Estimates the heap size of a cache entry in bytes. The caches built by the {@link
+ * CacheManagerConfig} evict their least recently used entries when the sum of the weights exceeds
+ * their {@link CacheConfig.CacheSettings#getMaxSize() maximum size}.
+ */
+@FunctionalInterface
+public interface CacheWeigher {
+
+  /**
+   * Estimates the size of a cache entry. The weight of an entry is computed once, when it is
+   * written.
+   *
+   * @param key the key of the entry
+   * @param value the value of the entry, as it was put into the cache
+   * @return the estimated size in bytes
+   */
+  long weigh(Object key, Object value);
+}
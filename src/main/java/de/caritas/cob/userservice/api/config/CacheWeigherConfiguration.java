@@ -0,0 +1,33 @@
+package de.caritas.cob.userservice.api.config;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.ehcache.core.spi.store.heap.SizeOfEngineProvider;
+import org.ehcache.spi.service.ServiceConfiguration;
+
+/**
+ * Cache service configuration selecting the {@link CacheWeigher} the {@link
+ * WeighingSizeOfEngineProvider} sizes the heap entries of the cache with.
+ */
+@Getter
+@RequiredArgsConstructor
+class CacheWeigherConfiguration
+    implements ServiceConfiguration<SizeOfEngineProvider, CacheWeigher> {
+
+  private final CacheWeigher weigher;
+
+  @Override
+  public Class<SizeOfEngineProvider> getServiceType() {
+    return SizeOfEngineProvider.class;
+  }
+
+  @Override
+  public CacheWeigher derive() {
+    return weigher;
+  }
+
+  @Override
+  public CacheWeigherConfiguration build(CacheWeigher weigher) {
+    return new CacheWeigherConfiguration(weigher);
+  }
+}
@@ -1,8 +1,11 @@
 package de.caritas.cob.userservice.api.config;
 
+import de.caritas.cob.userservice.api.adapters.web.dto.serialization.StreamingConsultantSessionListHttpMessageConverter;
 import java.util.List;
 import lombok.NonNull;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.config.annotation.CorsRegistry;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
@@ -32,6 +35,24 @@ public class CustomWebMvcConfigurer implements WebMvcConfigurer {
     allowedPaths.forEach(path -> addCorsMapping(registry, path));
   }
 
+  /**
+   * Registers the {@link StreamingConsultantSessionListHttpMessageConverter} in front of the
+   * default converters. It uses the object mapper of the default Jackson converter, so sessions are
+   * serialized the same way as in other responses.
+   */
+  @Override
+  public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+    converters.stream()
+        .filter(MappingJackson2HttpMessageConverter.class::isInstance)
+        .map(MappingJackson2HttpMessageConverter.class::cast)
+        .findFirst()
+        .map(MappingJackson2HttpMessageConverter::getObjectMapper)
+        .ifPresent(
+            objectMapper ->
+                converters.add(
+                    0, new StreamingConsultantSessionListHttpMessageConverter(objectMapper)));
+  }
+
   private void addCorsMapping(CorsRegistry registry, String path) {
     registry
         .addMapping(path)
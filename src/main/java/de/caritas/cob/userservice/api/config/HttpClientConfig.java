@@ -0,0 +1,167 @@
+package de.caritas.cob.userservice.api.config;
+
+import static java.util.Objects.isNull;
+
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.PoolingHttpClientConnectionManagerMetricsBinder;
+import java.net.URI;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import javax.validation.constraints.Positive;
+import lombok.Data;
+import org.apache.http.HttpHost;
+import org.apache.http.client.config.RequestConfig;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.conn.ConnectionKeepAliveStrategy;
+import org.apache.http.conn.routing.HttpRoute;
+import org.apache.http.impl.client.CloseableHttpClient;
+import org.apache.http.impl.client.DefaultConnectionKeepAliveStrategy;
+import org.apache.http.impl.client.HttpClients;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.apache.http.protocol.HttpContext;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.client.RestTemplateCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.validation.annotation.Validated;
+
+/**
+ * Configuration of the pooled HTTP client used by all {@link
+ * org.springframework.web.client.RestTemplate}s built with the {@link
+ * org.springframework.boot.web.client.RestTemplateBuilder}, e.g. for Rocket.Chat, Keycloak and the
+ * other services. Connections are kept alive and reused, limited per destination and evicted when
+ * they have been idle for too long.
+ */
+@Data
+@Configuration
+@Validated
+@ConfigurationProperties(prefix = "http-client")
+public class HttpClientConfig {
+
+  private static final String METRICS_POOL_NAME = "rest-template";
+  private static final int DEFAULT_HTTPS_PORT = 443;
+  private static final int DEFAULT_HTTP_PORT = 80;
+
+  @Positive private int maxConnectionsTotal = 200;
+
+  @Positive private int maxConnectionsPerRoute = 50;
+
+  /** Maximum connections per destination, keyed by its base url, e.g. http://rocketchat:3000. */
+  private Map<String, Integer> maxConnectionsPerHost = new HashMap<>();
+
+  @Positive private int connectTimeoutMillis = 5000;
+
+  @Positive private int connectionRequestTimeoutMillis = 2000;
+
+  @Positive private int readTimeoutMillis = 30000;
+
+  /**
+   * Read timeouts overriding {@link #readTimeoutMillis} for requests whose path ends with the key,
+   * e.g. /rooms.get. Bounds requests which are awaited by a shorter timeout of the caller.
+   */
+  private Map<String, Integer> readTimeoutMillisPerPath = new HashMap<>();
+
+  @Positive private long keepAliveMillis = 30000;
+
+  @Positive private long idleEvictionMillis = 30000;
+
+  @Positive private int validateAfterInactivityMillis = 2000;
+
+  @Bean(destroyMethod = "close")
+  public PoolingHttpClientConnectionManager pooledHttpClientConnectionManager() {
+    var connectionManager = new PoolingHttpClientConnectionManager();
+    connectionManager.setMaxTotal(maxConnectionsTotal);
+    connectionManager.setDefaultMaxPerRoute(maxConnectionsPerRoute);
+    connectionManager.setValidateAfterInactivity(validateAfterInactivityMillis);
+    maxConnectionsPerHost.forEach(
+        (baseUrl, maxConnections) ->
+            connectionManager.setMaxPerRoute(new HttpRoute(toHttpHost(baseUrl)), maxConnections));
+    return connectionManager;
+  }
+
+  private static HttpHost toHttpHost(String baseUrl) {
+    var host = HttpHost.create(baseUrl);
+    if (host.getPort() > 0) {
+      return host;
+    }
+    var port =
+        "https".equalsIgnoreCase(host.getSchemeName()) ? DEFAULT_HTTPS_PORT : DEFAULT_HTTP_PORT;
+    return new HttpHost(host.getHostName(), port, host.getSchemeName());
+  }
+
+  /**
+   * Builds the shared HTTP client. Cookie management is disabled because the client is shared by
+   * all requests of all users.
+   *
+   * @param pooledHttpClientConnectionManager the connection pool
+   * @return the {@link CloseableHttpClient}
+   */
+  @Bean(destroyMethod = "close")
+  public CloseableHttpClient pooledHttpClient(
+      PoolingHttpClientConnectionManager pooledHttpClientConnectionManager) {
+    return HttpClients.custom()
+        .setConnectionManager(pooledHttpClientConnectionManager)
+        .setDefaultRequestConfig(requestConfig(readTimeoutMillis))
+        .setKeepAliveStrategy(keepAliveStrategy())
+        .evictExpiredConnections()
+        .evictIdleConnections(idleEvictionMillis, TimeUnit.MILLISECONDS)
+        .disableCookieManagement()
+        .build();
+  }
+
+  private RequestConfig requestConfig(int socketTimeoutMillis) {
+    return RequestConfig.custom()
+        .setConnectTimeout(connectTimeoutMillis)
+        .setConnectionRequestTimeout(connectionRequestTimeoutMillis)
+        .setSocketTimeout(socketTimeoutMillis)
+        .build();
+  }
+
+  /**
+   * Creates the context of a request with its own read timeout, if one is configured for its path.
+   * Otherwise the default request config of the client applies.
+   *
+   * @param uri the uri of the request
+   * @return the {@link HttpContext}, null if the default request config applies
+   */
+  HttpContext createHttpContext(URI uri) {
+    var path = isNull(uri.getPath()) ? "" : uri.getPath();
+    return readTimeoutMillisPerPath.entrySet().stream()
+        .filter(readTimeout -> path.endsWith(readTimeout.getKey()))
+        .findFirst()
+        .map(
+            readTimeout -> {
+              var context = HttpClientContext.create();
+              context.setRequestConfig(requestConfig(readTimeout.getValue()));
+              return (HttpContext) context;
+            })
+        .orElse(null);
+  }
+
+  private ConnectionKeepAliveStrategy keepAliveStrategy() {
+    return (response, context) -> {
+      var serverKeepAlive =
+          DefaultConnectionKeepAliveStrategy.INSTANCE.getKeepAliveDuration(response, context);
+      return serverKeepAlive > 0 ? Math.min(serverKeepAlive, keepAliveMillis) : keepAliveMillis;
+    };
+  }
+
+  @Bean
+  public RestTemplateCustomizer pooledHttpClientRestTemplateCustomizer(
+      CloseableHttpClient pooledHttpClient) {
+    return restTemplate -> {
+      var requestFactory = new HttpComponentsClientHttpRequestFactory(pooledHttpClient);
+      requestFactory.setHttpContextFactory((method, uri) -> createHttpContext(uri));
+      restTemplate.setRequestFactory(requestFactory);
+    };
+  }
+
+  @Bean
+  public MeterBinder pooledHttpClientConnectionManagerMetrics(
+      PoolingHttpClientConnectionManager pooledHttpClientConnectionManager) {
+    return new PoolingHttpClientConnectionManagerMetricsBinder(
+        pooledHttpClientConnectionManager, METRICS_POOL_NAME);
+  }
+}
@@ -0,0 +1,75 @@
+package de.caritas.cob.userservice.api.config;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import java.util.Collection;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * {@link CacheWeigher} estimating the size of an entry by the length of its key and value. Strings
+ * are weighed by their length, all other objects by the length of their JSON representation, so no
+ * object graph has to be walked by reflection. Collections larger than {@value #SAMPLE_SIZE}
+ * elements are weighed by a sample of their elements. Objects which cannot be written as JSON are
+ * weighed by {@value #UNKNOWN_SIZE}.
+ */
+@Slf4j
+class JsonCacheWeigher implements CacheWeigher {
+
+  static final long OBJECT_OVERHEAD = 16;
+  static final long UNKNOWN_SIZE = 1024;
+  static final int SAMPLE_SIZE = 16;
+
+  private final ObjectMapper objectMapper =
+      new ObjectMapper().findAndRegisterModules().disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+
+  @Override
+  public long weigh(Object key, Object value) {
+    return sizeOf(key) + sizeOf(value);
+  }
+
+  /**
+   * Estimates the size of an object.
+   *
+   * @param object the object, may be null
+   * @return the estimated size in bytes
+   */
+  long sizeOf(Object object) {
+    if (object == null) {
+      return 0;
+    }
+    if (object instanceof String) {
+      return OBJECT_OVERHEAD + 2L * ((String) object).length();
+    }
+    if (object instanceof byte[]) {
+      return OBJECT_OVERHEAD + ((byte[]) object).length;
+    }
+    if (object instanceof Number || object instanceof Boolean) {
+      return OBJECT_OVERHEAD;
+    }
+    if (object instanceof Collection) {
+      return sizeOfCollection((Collection<?>) object);
+    }
+    try {
+      return OBJECT_OVERHEAD + 2L * objectMapper.writeValueAsString(object).length();
+    } catch (JsonProcessingException e) {
+      log.debug("Cache entry of type {} is weighed by its default size", object.getClass(), e);
+      return UNKNOWN_SIZE;
+    }
+  }
+
+  private long sizeOfCollection(Collection<?> collection) {
+    var size = collection.size();
+    var step = Math.max(1, size / SAMPLE_SIZE);
+    var sampledSize = 0L;
+    var sampledElements = 0;
+    var index = 0;
+    for (var element : collection) {
+      if (index++ % step == 0) {
+        sampledSize += sizeOf(element);
+        sampledElements++;
+      }
+    }
+    return OBJECT_OVERHEAD + (sampledElements == 0 ? 0 : sampledSize * size / sampledElements);
+  }
+}
@@ -0,0 +1,201 @@
+package de.caritas.cob.userservice.api.config;
+
+import static java.util.Objects.isNull;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+/**
+ * {@link Cache} decorator which refreshes entries ahead of their expiry. An entry older than the
+ * refresh interval is still returned, and the value loader of the first caller seeing it is run
+ * once in the background to replace it. Concurrent misses of the same key are coalesced by the
+ * decorated cache, so only {@link org.springframework.cache.annotation.Cacheable} operations with
+ * {@code sync = true} and direct calls of {@link #get(Object, Callable)} pass a value loader and
+ * are refreshed ahead.
+ *
+ * <p>The background refresh runs on the executor without the tenant and request context of the
+ * caller. Value loaders have to capture the headers, tokens and tenant they need on the calling
+ * thread.
+ */
+@Slf4j
+class RefreshAheadCache implements Cache {
+
+  static final String CACHE_GETS_METRIC = "cache.refresh.ahead.gets";
+  static final String CACHE_REFRESHES_METRIC = "cache.refresh.ahead.refreshes";
+
+  private final Cache delegate;
+  private final long refreshAfterMillis;
+  private final Executor executor;
+  private final Set<Object> refreshingKeys = ConcurrentHashMap.newKeySet();
+
+  private final Counter hits;
+  private final Counter misses;
+  private final Counter staleHits;
+  private final Timer successfulRefreshes;
+  private final Timer failedRefreshes;
+
+  RefreshAheadCache(
+      Cache delegate, long refreshAfterSeconds, Executor executor, MeterRegistry meterRegistry) {
+    this.delegate = delegate;
+    this.refreshAfterMillis = refreshAfterSeconds * 1000;
+    this.executor = executor;
+    this.hits = cacheGetsCounter(meterRegistry, "hit");
+    this.misses = cacheGetsCounter(meterRegistry, "miss");
+    this.staleHits = cacheGetsCounter(meterRegistry, "stale");
+    this.successfulRefreshes = cacheRefreshesTimer(meterRegistry, "success");
+    this.failedRefreshes = cacheRefreshesTimer(meterRegistry, "failure");
+  }
+
+  private Counter cacheGetsCounter(MeterRegistry meterRegistry, String result) {
+    return Counter.builder(CACHE_GETS_METRIC)
+        .description("Number of cache lookups of refresh-ahead caches")
+        .tag("cache", getName())
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  private Timer cacheRefreshesTimer(MeterRegistry meterRegistry, String outcome) {
+    return Timer.builder(CACHE_REFRESHES_METRIC)
+        .description("Duration of background refreshes of refresh-ahead caches")
+        .tag("cache", getName())
+        .tag("outcome", outcome)
+        .register(meterRegistry);
+  }
+
+  @Override
+  public String getName() {
+    return delegate.getName();
+  }
+
+  @Override
+  public Object getNativeCache() {
+    return delegate.getNativeCache();
+  }
+
+  @Override
+  public ValueWrapper get(Object key) {
+    var entry = entryOf(delegate.get(key));
+    return isNull(entry) ? null : new SimpleValueWrapper(entry.value);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T get(Object key, Class<T> type) {
+    var entry = entryOf(delegate.get(key));
+    var value = isNull(entry) ? null : entry.value;
+    if (value != null && type != null && !type.isInstance(value)) {
+      throw new IllegalStateException(
+          "Cached value is not of required type [" + type.getName() + "]: " + value);
+    }
+    return (T) value;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T get(Object key, Callable<T> valueLoader) {
+    var entry = entryOf(delegate.get(key));
+    if (isNull(entry)) {
+      var loaded = new AtomicBoolean();
+      entry =
+          delegate.get(
+              key,
+              () -> {
+                loaded.set(true);
+                return new Entry(valueLoader.call());
+              });
+      (loaded.get() ? misses : hits).increment();
+    } else if (entry.isOlderThan(refreshAfterMillis)) {
+      staleHits.increment();
+      refreshInBackground(key, valueLoader);
+    } else {
+      hits.increment();
+    }
+    return (T) entry.value;
+  }
+
+  private void refreshInBackground(Object key, Callable<?> valueLoader) {
+    if (!refreshingKeys.add(key)) {
+      return;
+    }
+    try {
+      executor.execute(() -> refresh(key, valueLoader));
+    } catch (RejectedExecutionException e) {
+      log.warn("Refresh of cache {} rejected, former value is used", getName(), e);
+      refreshingKeys.remove(key);
+    }
+  }
+
+  private void refresh(Object key, Callable<?> valueLoader) {
+    var startNanos = System.nanoTime();
+    try {
+      delegate.put(key, new Entry(valueLoader.call()));
+      successfulRefreshes.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    } catch (Exception e) {
+      failedRefreshes.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+      log.warn("Refresh of cache {} failed, former value is used", getName(), e);
+    } finally {
+      refreshingKeys.remove(key);
+    }
+  }
+
+  @Override
+  public void put(Object key, Object value) {
+    delegate.put(key, new Entry(value));
+  }
+
+  @Override
+  public ValueWrapper putIfAbsent(Object key, Object value) {
+    var entry = entryOf(delegate.putIfAbsent(key, new Entry(value)));
+    return isNull(entry) ? null : new SimpleValueWrapper(entry.value);
+  }
+
+  @Override
+  public void evict(Object key) {
+    delegate.evict(key);
+  }
+
+  @Override
+  public boolean evictIfPresent(Object key) {
+    return delegate.evictIfPresent(key);
+  }
+
+  @Override
+  public void clear() {
+    delegate.clear();
+  }
+
+  @Override
+  public boolean invalidate() {
+    return delegate.invalidate();
+  }
+
+  private Entry entryOf(ValueWrapper valueWrapper) {
+    return isNull(valueWrapper) ? null : (Entry) valueWrapper.get();
+  }
+
+  static class Entry {
+
+    @Getter private final Object value;
+    private final long loadedAtMillis = System.currentTimeMillis();
+
+    private Entry(Object value) {
+      this.value = value;
+    }
+
+    private boolean isOlderThan(long millis) {
+      return System.currentTimeMillis() - loadedAtMillis >= millis;
+    }
+  }
+}
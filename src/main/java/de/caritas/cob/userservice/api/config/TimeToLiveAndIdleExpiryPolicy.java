@@ -0,0 +1,47 @@
+package de.caritas.cob.userservice.api.config;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+import lombok.RequiredArgsConstructor;
+import org.ehcache.core.spi.time.TimeSource;
+import org.ehcache.expiry.ExpiryPolicy;
+
+/**
+ * {@link ExpiryPolicy} expiring entries after time to idle without access, but at the latest time
+ * to live after they were written. Ehcache does not pass the write time to the policy, so the
+ * values have to be stored as {@link WriteTimeCache.TimedValue} by the {@link WriteTimeCache}.
+ */
+@RequiredArgsConstructor
+class TimeToLiveAndIdleExpiryPolicy implements ExpiryPolicy<Object, Object> {
+
+  private final Duration timeToLive;
+  private final Duration timeToIdle;
+  private final TimeSource timeSource;
+
+  @Override
+  public Duration getExpiryForCreation(Object key, Object value) {
+    return min(timeToIdle, timeToLive);
+  }
+
+  @Override
+  public Duration getExpiryForAccess(Object key, Supplier<?> value) {
+    var timedValue = value.get();
+    if (!(timedValue instanceof WriteTimeCache.TimedValue)) {
+      return null;
+    }
+    var age =
+        Duration.ofMillis(
+            timeSource.getTimeMillis() - ((WriteTimeCache.TimedValue) timedValue).getWrittenAt());
+    var remainingTimeToLive = timeToLive.minus(age);
+    return remainingTimeToLive.isNegative() ? Duration.ZERO : min(timeToIdle, remainingTimeToLive);
+  }
+
+  @Override
+  public Duration getExpiryForUpdate(Object key, Supplier<?> oldValue, Object newValue) {
+    return getExpiryForCreation(key, newValue);
+  }
+
+  private static Duration min(Duration first, Duration second) {
+    return first.compareTo(second) <= 0 ? first : second;
+  }
+}
@@ -0,0 +1,68 @@
+package de.caritas.cob.userservice.api.config;
+
+import java.util.Arrays;
+import lombok.RequiredArgsConstructor;
+import org.ehcache.config.ResourceUnit;
+import org.ehcache.config.units.MemoryUnit;
+import org.ehcache.core.spi.store.Store.ValueHolder;
+import org.ehcache.core.spi.store.heap.SizeOfEngine;
+import org.ehcache.core.spi.store.heap.SizeOfEngineProvider;
+import org.ehcache.spi.service.Service;
+import org.ehcache.spi.service.ServiceConfiguration;
+import org.ehcache.spi.service.ServiceProvider;
+
+/**
+ * {@link SizeOfEngineProvider} sizing the heap entries of caches configured with a {@link
+ * CacheWeigherConfiguration} by their {@link CacheWeigher}. Unlike the sizing of Ehcache, the
+ * weigher does not walk the object graph of the entries, so it needs no agent and no reflective
+ * access to JDK internals, and it never rejects large entries. Caches without a weigher are sized
+ * by the default provider of Ehcache.
+ */
+@RequiredArgsConstructor
+class WeighingSizeOfEngineProvider implements SizeOfEngineProvider {
+
+  /** Estimated size of the entry and value holder Ehcache keeps per cache entry. */
+  static final long ENTRY_OVERHEAD = 96;
+
+  private final SizeOfEngineProvider defaultProvider;
+
+  @Override
+  public SizeOfEngine createSizeOfEngine(
+      ResourceUnit resourceUnit, ServiceConfiguration<?, ?>... serviceConfigs) {
+    var weigherConfiguration =
+        Arrays.stream(serviceConfigs)
+            .filter(CacheWeigherConfiguration.class::isInstance)
+            .map(CacheWeigherConfiguration.class::cast)
+            .findFirst();
+    if (weigherConfiguration.isEmpty() || !(resourceUnit instanceof MemoryUnit)) {
+      return defaultProvider.createSizeOfEngine(resourceUnit, serviceConfigs);
+    }
+    var weigher = weigherConfiguration.get().getWeigher();
+    return new SizeOfEngine() {
+      @Override
+      public <K, V> long sizeof(K key, ValueHolder<V> holder) {
+        return ENTRY_OVERHEAD + weigher.weigh(key, unwrap(holder.get()));
+      }
+    };
+  }
+
+  @Override
+  public void start(ServiceProvider<Service> serviceProvider) {
+    defaultProvider.start(serviceProvider);
+  }
+
+  @Override
+  public void stop() {
+    defaultProvider.stop();
+  }
+
+  private static Object unwrap(Object value) {
+    if (value instanceof WriteTimeCache.TimedValue) {
+      return unwrap(((WriteTimeCache.TimedValue) value).getValue());
+    }
+    if (value instanceof RefreshAheadCache.Entry) {
+      return unwrap(((RefreshAheadCache.Entry) value).getValue());
+    }
+    return value;
+  }
+}
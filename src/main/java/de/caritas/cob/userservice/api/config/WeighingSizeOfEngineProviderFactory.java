@@ -0,0 +1,33 @@
+package de.caritas.cob.userservice.api.config;
+
+import org.ehcache.core.spi.service.ServiceFactory;
+import org.ehcache.core.spi.store.heap.SizeOfEngineProvider;
+import org.ehcache.impl.internal.sizeof.DefaultSizeOfEngineProviderFactory;
+import org.ehcache.spi.service.ServiceCreationConfiguration;
+
+/**
+ * Registers the {@link WeighingSizeOfEngineProvider} with Ehcache, see {@code
+ * META-INF/services/org.ehcache.core.spi.service.ServiceFactory}. It ranks above the default
+ * factory of Ehcache, which it wraps for caches without a {@link CacheWeigher}.
+ */
+public class WeighingSizeOfEngineProviderFactory implements ServiceFactory<SizeOfEngineProvider> {
+
+  private final DefaultSizeOfEngineProviderFactory defaultFactory =
+      new DefaultSizeOfEngineProviderFactory();
+
+  @Override
+  public int rank() {
+    return defaultFactory.rank() + 1;
+  }
+
+  @Override
+  public SizeOfEngineProvider create(
+      ServiceCreationConfiguration<SizeOfEngineProvider, ?> configuration) {
+    return new WeighingSizeOfEngineProvider(defaultFactory.create(configuration));
+  }
+
+  @Override
+  public Class<SizeOfEngineProvider> getServiceType() {
+    return SizeOfEngineProvider.class;
+  }
+}
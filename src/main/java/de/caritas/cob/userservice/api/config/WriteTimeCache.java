@@ -0,0 +1,101 @@
+package de.caritas.cob.userservice.api.config;
+
+import static java.util.Objects.isNull;
+
+import java.util.concurrent.Callable;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.ehcache.core.spi.time.TimeSource;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+/**
+ * {@link Cache} decorator which stores every value together with its write time, so the {@link
+ * TimeToLiveAndIdleExpiryPolicy} can cap the time to idle by the time to live.
+ */
+@RequiredArgsConstructor
+class WriteTimeCache implements Cache {
+
+  private final Cache delegate;
+  private final TimeSource timeSource;
+
+  @Override
+  public String getName() {
+    return delegate.getName();
+  }
+
+  @Override
+  public Object getNativeCache() {
+    return delegate.getNativeCache();
+  }
+
+  @Override
+  public ValueWrapper get(Object key) {
+    var timedValue = timedValueOf(delegate.get(key));
+    return isNull(timedValue) ? null : new SimpleValueWrapper(timedValue.value);
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T get(Object key, Class<T> type) {
+    var timedValue = timedValueOf(delegate.get(key));
+    var value = isNull(timedValue) ? null : timedValue.value;
+    if (value != null && type != null && !type.isInstance(value)) {
+      throw new IllegalStateException(
+          "Cached value is not of required type [" + type.getName() + "]: " + value);
+    }
+    return (T) value;
+  }
+
+  @Override
+  @SuppressWarnings("unchecked")
+  public <T> T get(Object key, Callable<T> valueLoader) {
+    var timedValue =
+        delegate.get(key, () -> new TimedValue(valueLoader.call(), timeSource.getTimeMillis()));
+    return (T) timedValue.value;
+  }
+
+  @Override
+  public void put(Object key, Object value) {
+    delegate.put(key, new TimedValue(value, timeSource.getTimeMillis()));
+  }
+
+  @Override
+  public ValueWrapper putIfAbsent(Object key, Object value) {
+    var timedValue =
+        timedValueOf(delegate.putIfAbsent(key, new TimedValue(value, timeSource.getTimeMillis())));
+    return isNull(timedValue) ? null : new SimpleValueWrapper(timedValue.value);
+  }
+
+  @Override
+  public void evict(Object key) {
+    delegate.evict(key);
+  }
+
+  @Override
+  public boolean evictIfPresent(Object key) {
+    return delegate.evictIfPresent(key);
+  }
+
+  @Override
+  public void clear() {
+    delegate.clear();
+  }
+
+  @Override
+  public boolean invalidate() {
+    return delegate.invalidate();
+  }
+
+  private TimedValue timedValueOf(ValueWrapper valueWrapper) {
+    return isNull(valueWrapper) ? null : (TimedValue) valueWrapper.get();
+  }
+
+  @Getter
+  @RequiredArgsConstructor
+  static class TimedValue {
+
+    private final Object value;
+    private final long writtenAt;
+  }
+}
@@ -1,15 +1,30 @@
 package de.caritas.cob.userservice.api.container;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.room.RoomsLastMessageDTO;
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.room.RoomsUpdateDTO;
 import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.Value;
 
+/**
+ * Immutable view of the Rocket.Chat rooms and subscriptions of a user. All rooms are indexed by
+ * their id, so lookups for a single session or chat do not depend on the number of rooms.
+ */
 @Getter
-@Builder
 public class RocketChatRoomInformation {
 
   private final Map<String, Boolean> readMessages;
@@ -17,4 +32,99 @@ public class RocketChatRoomInformation {
   private final List<String> userRooms;
   private final Map<String, RoomsLastMessageDTO> lastMessagesRoom;
   private final Map<String, Date> groupIdToLastMessageFallbackDate;
+
+  @Getter(AccessLevel.NONE)
+  private final Map<String, RocketChatRoom> roomsById;
+
+  @Builder
+  private RocketChatRoomInformation(
+      Map<String, Boolean> readMessages,
+      List<RoomsUpdateDTO> roomsForUpdate,
+      List<String> userRooms,
+      Map<String, RoomsLastMessageDTO> lastMessagesRoom,
+      Map<String, Date> groupIdToLastMessageFallbackDate) {
+    this.readMessages = unmodifiableMap(isNull(readMessages) ? emptyMap() : readMessages);
+    this.roomsForUpdate = unmodifiableList(isNull(roomsForUpdate) ? emptyList() : roomsForUpdate);
+    this.userRooms = unmodifiableList(isNull(userRooms) ? emptyList() : userRooms);
+    this.lastMessagesRoom =
+        unmodifiableMap(isNull(lastMessagesRoom) ? emptyMap() : lastMessagesRoom);
+    this.groupIdToLastMessageFallbackDate =
+        unmodifiableMap(
+            isNull(groupIdToLastMessageFallbackDate)
+                ? emptyMap()
+                : groupIdToLastMessageFallbackDate);
+    this.roomsById = indexRooms();
+  }
+
+  private Map<String, RocketChatRoom> indexRooms() {
+    var lastMessageDates = new HashMap<String, Date>(roomsForUpdate.size() * 2);
+    roomsForUpdate.stream()
+        .filter(room -> nonNull(room.getId()))
+        .forEach(room -> lastMessageDates.putIfAbsent(room.getId(), room.getLastMessageDate()));
+
+    var roomIds = new HashSet<String>(lastMessageDates.keySet());
+    roomIds.addAll(userRooms);
+    roomIds.addAll(readMessages.keySet());
+    roomIds.addAll(lastMessagesRoom.keySet());
+    roomIds.addAll(groupIdToLastMessageFallbackDate.keySet());
+    var userRoomIds = new HashSet<>(userRooms);
+
+    var index = new HashMap<String, RocketChatRoom>(roomIds.size() * 2);
+    roomIds.stream()
+        .filter(Objects::nonNull)
+        .forEach(
+            roomId ->
+                index.put(
+                    roomId,
+                    new RocketChatRoom(
+                        lastMessagesRoom.get(roomId),
+                        lastMessageDates.get(roomId),
+                        groupIdToLastMessageFallbackDate.get(roomId),
+                        readMessages.get(roomId),
+                        userRoomIds.contains(roomId))));
+    return unmodifiableMap(index);
+  }
+
+  /**
+   * Returns the indexed room for the given Rocket.Chat room id.
+   *
+   * @param roomId the Rocket.Chat room id
+   * @return the {@link RocketChatRoom} or null, if the room is unknown
+   */
+  public RocketChatRoom getRoom(String roomId) {
+    return isNull(roomId) ? null : roomsById.get(roomId);
+  }
+
+  /**
+   * Checks if the user is a member of the given Rocket.Chat room.
+   *
+   * @param roomId the Rocket.Chat room id
+   * @return true, if the room is one of the rooms of the user
+   */
+  public boolean isUserRoom(String roomId) {
+    var room = getRoom(roomId);
+    return nonNull(room) && room.isMember();
+  }
+
+  /**
+   * Returns the last message date of the room as delivered by the rooms update list.
+   *
+   * @param roomId the Rocket.Chat room id
+   * @return the last message date or null, if not available
+   */
+  public Date getLastMessageDate(String roomId) {
+    var room = getRoom(roomId);
+    return nonNull(room) ? room.getLastMessageDate() : null;
+  }
+
+  /** Immutable Rocket.Chat room state of the user. */
+  @Value
+  public static class RocketChatRoom {
+
+    RoomsLastMessageDTO lastMessage;
+    Date lastMessageDate;
+    Date fallbackDate;
+    Boolean read;
+    boolean member;
+  }
 }
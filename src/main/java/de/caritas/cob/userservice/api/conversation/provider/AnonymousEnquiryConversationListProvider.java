@@ -6,6 +6,7 @@ import static de.caritas.cob.userservice.api.model.Session.RegistrationType.ANON
 import de.caritas.cob.userservice.api.adapters.web.dto.AgencyDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantSessionListResponseDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantSessionResponseDTO;
+import de.caritas.cob.userservice.api.adapters.web.dto.StreamingConsultantSessionListResponseDTO;
 import de.caritas.cob.userservice.api.conversation.model.ConversationListType;
 import de.caritas.cob.userservice.api.conversation.model.PageableListRequest;
 import de.caritas.cob.userservice.api.model.Consultant;
@@ -35,6 +36,7 @@ public class AnonymousEnquiryConversationListProvider implements ConversationLis
   private final @NonNull SessionRepository sessionRepository;
   private final @NonNull AgencyService agencyService;
   private final @NonNull ConsultantSessionEnricher consultantSessionEnricher;
+  private final SessionMapper sessionMapper = new SessionMapper();
 
   /** {@inheritDoc} */
   @Override
@@ -48,14 +50,14 @@ public class AnonymousEnquiryConversationListProvider implements ConversationLis
 
     List<ConsultantSessionResponseDTO> sessions =
         anonymousSessionsOfConsultant.stream()
-            .map(session -> new SessionMapper().toConsultantSessionDto(session))
+            .map(sessionMapper::toConsultantSessionDto)
             .collect(Collectors.toList());
 
-    this.consultantSessionEnricher.updateRequiredConsultantSessionValues(
-        sessions, pageableListRequest.getRcToken(), consultant);
+    var chunkEnricher =
+        this.consultantSessionEnricher.buildChunkEnricher(
+            pageableListRequest.getRcToken(), consultant, sessions);
 
-    return new ConsultantSessionListResponseDTO()
-        .sessions(sessions)
+    return new StreamingConsultantSessionListResponseDTO(sessions, chunkEnricher)
         .count(sessions.size())
         .offset(pageableListRequest.getOffset())
         .total((int) anonymousSessionsOfConsultant.getTotalElements());
@@ -36,7 +36,8 @@ public class ArchivedSessionConversationListProvider extends DefaultConversation
     return buildConversations(
         pageableListRequest,
         consultant,
-        sessionService.getArchivedSessionsForConsultant(consultant));
+        sessionService.getArchivedSessionsForConsultant(
+            consultant, obtainPageable(pageableListRequest)));
   }
 
   /** {@inheritDoc} */
@@ -36,7 +36,8 @@ public class ArchivedTeamSessionConversationListProvider extends DefaultConversa
     return buildConversations(
         pageableListRequest,
         consultant,
-        sessionService.getArchivedTeamSessionsForConsultant(consultant));
+        sessionService.getArchivedTeamSessionsForConsultant(
+            consultant, obtainPageable(pageableListRequest)));
   }
 
   /** {@inheritDoc} */
@@ -2,13 +2,17 @@ package de.caritas.cob.userservice.api.conversation.provider;
 
 import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantSessionListResponseDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantSessionResponseDTO;
+import de.caritas.cob.userservice.api.adapters.web.dto.StreamingConsultantSessionListResponseDTO;
 import de.caritas.cob.userservice.api.conversation.model.PageableListRequest;
 import de.caritas.cob.userservice.api.model.Consultant;
 import de.caritas.cob.userservice.api.service.sessionlist.ConsultantSessionEnricher;
+import java.util.ArrayList;
 import java.util.List;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.support.PagedListHolder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
 /** Default basic provider for conversation lists. */
 @RequiredArgsConstructor
@@ -16,26 +20,32 @@ public abstract class DefaultConversationListProvider implements ConversationLis
 
   private final @NonNull ConsultantSessionEnricher consultantSessionEnricher;
 
+  /**
+   * Builds the {@link Pageable} for the given request, so that only the requested page has to be
+   * loaded from the database.
+   *
+   * @param pageableListRequest the pageable request
+   * @return the {@link Pageable}
+   */
+  protected Pageable obtainPageable(PageableListRequest pageableListRequest) {
+    return PageRequest.of(
+        obtainPageByOffsetAndCount(pageableListRequest), pageableListRequest.getCount());
+  }
+
   /** {@inheritDoc} */
   protected ConsultantSessionListResponseDTO buildConversations(
       PageableListRequest pageableListRequest,
       Consultant consultant,
-      List<ConsultantSessionResponseDTO> sessionList) {
-
-    PagedListHolder<ConsultantSessionResponseDTO> enquiriesForConsultant =
-        new PagedListHolder<>(sessionList);
-
-    enquiriesForConsultant.setPage(obtainPageByOffsetAndCount(pageableListRequest));
-    enquiriesForConsultant.setPageSize(pageableListRequest.getCount());
+      Page<ConsultantSessionResponseDTO> sessionPage) {
 
-    List<ConsultantSessionResponseDTO> pageList = enquiriesForConsultant.getPageList();
-    consultantSessionEnricher.updateRequiredConsultantSessionValues(
-        pageList, pageableListRequest.getRcToken(), consultant);
+    List<ConsultantSessionResponseDTO> pageList = new ArrayList<>(sessionPage.getContent());
+    var chunkEnricher =
+        consultantSessionEnricher.buildChunkEnricher(
+            pageableListRequest.getRcToken(), consultant, pageList);
 
-    return new ConsultantSessionListResponseDTO()
-        .sessions(pageList)
+    return new StreamingConsultantSessionListResponseDTO(pageList, chunkEnricher)
         .offset(pageableListRequest.getOffset())
         .count(pageList.size())
-        .total(enquiriesForConsultant.getNrOfElements());
+        .total((int) sessionPage.getTotalElements());
   }
 }
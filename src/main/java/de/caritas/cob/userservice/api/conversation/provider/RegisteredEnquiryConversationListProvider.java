@@ -31,7 +31,8 @@ public class RegisteredEnquiryConversationListProvider extends DefaultConversati
   @Override
   public ConsultantSessionListResponseDTO buildConversations(PageableListRequest request) {
     var consultant = this.userAccountProvider.retrieveValidatedConsultant();
-    var registeredEnquiries = sessionService.getRegisteredEnquiriesForConsultant(consultant);
+    var registeredEnquiries =
+        sessionService.getRegisteredEnquiriesForConsultant(consultant, obtainPageable(request));
 
     return buildConversations(request, consultant, registeredEnquiries);
   }
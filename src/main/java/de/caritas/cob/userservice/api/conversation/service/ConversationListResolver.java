@@ -1,5 +1,7 @@
 package de.caritas.cob.userservice.api.conversation.service;
 
+import static java.util.Objects.nonNull;
+
 import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantSessionListResponseDTO;
 import de.caritas.cob.userservice.api.conversation.model.ConversationListType;
 import de.caritas.cob.userservice.api.conversation.model.PageableListRequest;
@@ -7,7 +9,6 @@ import de.caritas.cob.userservice.api.conversation.registry.ConversationListProv
 import de.caritas.cob.userservice.api.exception.httpresponses.NoContentException;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
-import org.apache.commons.collections4.CollectionUtils;
 import org.springframework.stereotype.Service;
 
 /** Resolver class for all conversation lists. */
@@ -35,7 +36,7 @@ public class ConversationListResolver {
         this.conversationListProviderRegistry
             .findByConversationType(conversationType)
             .buildConversations(pageableListRequest);
-    if (CollectionUtils.isNotEmpty(responseDto.getSessions())) {
+    if (nonNull(responseDto.getCount()) && responseDto.getCount() > 0) {
       return responseDto;
     }
 
@@ -0,0 +1,17 @@
+package de.caritas.cob.userservice.api.exception.rocketchat;
+
+import java.io.IOException;
+
+/**
+ * Thrown instead of sending a request to Rocket.Chat if the circuit breaker is open or the bulkhead
+ * of the operation is full. Rest templates wrap it in a {@link
+ * org.springframework.web.client.ResourceAccessException}, like any other I/O error.
+ */
+public class RocketChatUnavailableException extends IOException {
+
+  private static final long serialVersionUID = -2427283905470870592L;
+
+  public RocketChatUnavailableException(String message) {
+    super(message);
+  }
+}
@@ -6,6 +6,7 @@ import static java.util.Objects.nonNull;
 import static org.apache.commons.lang3.BooleanUtils.isFalse;
 
 import com.neovisionaries.i18n.LanguageCode;
+import de.caritas.cob.userservice.api.adapters.rocketchat.GroupMembershipResult;
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatCredentials;
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatService;
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.group.GroupResponseDTO;
@@ -41,6 +42,7 @@ import de.caritas.cob.userservice.messageservice.generated.web.model.MessageResp
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -294,11 +296,39 @@ public class CreateEnquiryMessageFacade {
   private void addConsultantsToGroup(String rcGroupId, List<ConsultantAgency> agencyList)
       throws RocketChatAddUserToGroupException {
 
-    for (ConsultantAgency agency : agencyList) {
-      rocketChatService.addUserToGroup(agency.getConsultant().getRocketChatId(), rcGroupId);
+    var result =
+        rocketChatService.addUsersToGroup(consultantRocketChatIdsOf(agencyList), rcGroupId);
+    if (!result.isSuccessful()) {
+      rollbackAddedConsultants(result);
+      throw new RocketChatAddUserToGroupException(
+          String.format(
+              "Could not add users %s to Rocket.Chat group with id %s",
+              result.getFailedUserIds(), rcGroupId));
+    }
+  }
+
+  private void rollbackAddedConsultants(GroupMembershipResult result) {
+    if (result.getSucceededUserIds().isEmpty()) {
+      return;
+    }
+    var rollback =
+        rocketChatService.removeUsersFromGroupIgnoreGroupNotFound(
+            result.getSucceededUserIds(), result.getRcGroupId());
+    if (!rollback.isSuccessful()) {
+      log.error(
+          "Internal Server Error: Error during rollback of consultants while saving enquiry "
+              + "message. Users {} could not be removed from group with id {}.",
+          rollback.getFailedUserIds(),
+          result.getRcGroupId());
     }
   }
 
+  private List<String> consultantRocketChatIdsOf(List<ConsultantAgency> agencyList) {
+    return agencyList.stream()
+        .map(agency -> agency.getConsultant().getRocketChatId())
+        .collect(Collectors.toList());
+  }
+
   private String retrieveRcFeedbackGroupIdIfConsultingTypeHasFeedbackChat(
       Session session,
       String rcGroupId,
@@ -366,9 +396,7 @@ public class CreateEnquiryMessageFacade {
       List<ConsultantAgency> agencyList, String rcFeedbackGroupId)
       throws RocketChatAddUserToGroupException {
 
-    for (ConsultantAgency agency : agencyList) {
-      rocketChatService.addUserToGroup(agency.getConsultant().getRocketChatId(), rcFeedbackGroupId);
-    }
+    addConsultantsToGroup(rcFeedbackGroupId, agencyList);
   }
 
   private void saveRocketChatIdForUser(
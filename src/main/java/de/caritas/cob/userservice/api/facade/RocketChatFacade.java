@@ -5,6 +5,7 @@ import static de.caritas.cob.userservice.api.helper.Helper.ONE_DAY_IN_HOURS;
 import static java.util.Collections.emptyList;
 import static org.apache.commons.lang3.StringUtils.isBlank;
 
+import de.caritas.cob.userservice.api.adapters.rocketchat.GroupMembershipResult;
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatService;
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.group.GroupMemberDTO;
 import de.caritas.cob.userservice.api.exception.httpresponses.InternalServerErrorException;
@@ -12,7 +13,6 @@ import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatAddUserToGr
 import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatGetGroupMembersException;
 import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatLeaveFromGroupException;
 import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatRemoveSystemMessagesException;
-import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatRemoveUserFromGroupException;
 import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatUserNotInitializedException;
 import de.caritas.cob.userservice.api.service.LogService;
 import java.util.List;
@@ -123,29 +123,27 @@ public class RocketChatFacade {
   }
 
   /**
-   * Removes the provided user from the Rocket.Chat group with given groupId.
+   * Removes the provided users from the Rocket.Chat group with given groupId. The users are removed
+   * concurrently, a failure of one user does not stop the removal of the others.
    *
-   * @param rcUserId Rocket.Chat userId
+   * @param rcUserIds Rocket.Chat userIds
    * @param groupId Rocket.Chat roomId
    */
-  public void removeUserFromGroup(String rcUserId, String groupId) {
-    try {
-      this.rocketChatService.removeUserFromGroup(rcUserId, groupId);
-    } catch (RocketChatRemoveUserFromGroupException e) {
-      var message =
-          String.format(
-              "Could not remove user with id %s from Rocket.Chat group id %s", rcUserId, groupId);
-      throw new InternalServerErrorException(message, LogService::logInternalServerError);
-    }
+  public void removeUsersFromGroup(List<String> rcUserIds, String groupId) {
+    throwIfNotSuccessful(this.rocketChatService.removeUsersFromGroup(rcUserIds, groupId));
   }
 
-  public void removeUserFromGroupIgnoreGroupNotFound(String rcUserId, String groupId) {
-    try {
-      this.rocketChatService.removeUserFromGroupIgnoreGroupNotFound(rcUserId, groupId);
-    } catch (RocketChatRemoveUserFromGroupException e) {
+  public void removeUsersFromGroupIgnoreGroupNotFound(List<String> rcUserIds, String groupId) {
+    throwIfNotSuccessful(
+        this.rocketChatService.removeUsersFromGroupIgnoreGroupNotFound(rcUserIds, groupId));
+  }
+
+  private void throwIfNotSuccessful(GroupMembershipResult result) {
+    if (!result.isSuccessful()) {
       var message =
           String.format(
-              "Could not remove user with id %s from Rocket.Chat group id %s", rcUserId, groupId);
+              "Could not remove users with ids %s from Rocket.Chat group id %s",
+              result.getFailedUserIds(), result.getRcGroupId());
       throw new InternalServerErrorException(message, LogService::logInternalServerError);
     }
   }
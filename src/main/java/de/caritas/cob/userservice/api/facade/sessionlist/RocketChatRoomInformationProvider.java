@@ -2,30 +2,43 @@ package de.caritas.cob.userservice.api.facade.sessionlist;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.emptyMap;
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
 
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatCredentials;
-import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatService;
+import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatMongoRoomReader;
+import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatRoomSnapshot;
+import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatRoomSnapshotCache;
+import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatRoomVersion;
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.room.RoomsLastMessageDTO;
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.room.RoomsUpdateDTO;
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.subscriptions.SubscriptionsUpdateDTO;
 import de.caritas.cob.userservice.api.container.RocketChatRoomInformation;
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 @Component
 public class RocketChatRoomInformationProvider {
 
-  private final RocketChatService rocketChatService;
+  private final RocketChatRoomSnapshotCache rocketChatRoomSnapshotCache;
+  private final RocketChatMongoRoomReader rocketChatMongoRoomReader;
+
+  @Value("${rocket-chat.mongo-room-read.enabled}")
+  private boolean mongoRoomReadEnabled;
 
   @Autowired
-  public RocketChatRoomInformationProvider(RocketChatService rocketChatService) {
-    this.rocketChatService = requireNonNull(rocketChatService);
+  public RocketChatRoomInformationProvider(
+      RocketChatRoomSnapshotCache rocketChatRoomSnapshotCache,
+      RocketChatMongoRoomReader rocketChatMongoRoomReader) {
+    this.rocketChatRoomSnapshotCache = requireNonNull(rocketChatRoomSnapshotCache);
+    this.rocketChatMongoRoomReader = requireNonNull(rocketChatMongoRoomReader);
   }
 
   /**
@@ -37,12 +50,61 @@ public class RocketChatRoomInformationProvider {
   public RocketChatRoomInformation retrieveRocketChatInformation(
       RocketChatCredentials rocketChatCredentials) {
 
+    if (nonNull(rocketChatCredentials.getRocketChatUserId())) {
+      return buildRocketChatInformation(
+          rocketChatRoomSnapshotCache.retrieveSnapshot(rocketChatCredentials));
+    }
+    return buildRocketChatInformation(null);
+  }
+
+  /**
+   * Get room and update information from Rocket.Chat for the given groups of a user only. If
+   * reading from the Rocket.Chat MongoDB is enabled, only the requested groups are read, otherwise
+   * the information of all rooms of the user is retrieved.
+   *
+   * @param rocketChatCredentials the Rocket.Chat credentials of the user
+   * @param groupIds the Rocket.Chat group ids the information is needed for
+   * @return an instance of {@link RocketChatRoomInformation}
+   */
+  public RocketChatRoomInformation retrieveRocketChatInformation(
+      RocketChatCredentials rocketChatCredentials, Collection<String> groupIds) {
+
+    var rcUserId = rocketChatCredentials.getRocketChatUserId();
+    if (mongoRoomReadEnabled && nonNull(rcUserId)) {
+      return buildRocketChatInformation(rocketChatMongoRoomReader.readSnapshot(rcUserId, groupIds));
+    }
+    return retrieveRocketChatInformation(rocketChatCredentials);
+  }
+
+  /**
+   * Get the version of the rooms and subscriptions of a user from the source the room information
+   * of session lists is read from, so the version describes the information that is returned.
+   *
+   * @param rocketChatCredentials the Rocket.Chat credentials of the user
+   * @return the {@link RocketChatRoomVersion} or null, if the user has no Rocket.Chat id
+   */
+  public RocketChatRoomVersion retrieveRocketChatRoomVersion(
+      RocketChatCredentials rocketChatCredentials) {
+
+    var rcUserId = rocketChatCredentials.getRocketChatUserId();
+    if (isNull(rcUserId)) {
+      return null;
+    }
+    if (mongoRoomReadEnabled) {
+      return rocketChatMongoRoomReader.readVersion(rcUserId);
+    }
+    return RocketChatRoomVersion.of(
+        rocketChatRoomSnapshotCache.retrieveSnapshot(rocketChatCredentials));
+  }
+
+  private RocketChatRoomInformation buildRocketChatInformation(RocketChatRoomSnapshot snapshot) {
+
     Map<String, Boolean> readMessages = emptyMap();
     List<RoomsUpdateDTO> roomsForUpdate = emptyList();
 
-    if (nonNull(rocketChatCredentials.getRocketChatUserId())) {
-      readMessages = buildMessagesWithReadInfo(rocketChatCredentials);
-      roomsForUpdate = rocketChatService.getRoomsOfUser(rocketChatCredentials);
+    if (nonNull(snapshot)) {
+      readMessages = buildMessagesWithReadInfo(snapshot.getSubscriptions());
+      roomsForUpdate = snapshot.getRooms();
     }
 
     var userRooms = roomsForUpdate.stream().map(RoomsUpdateDTO::getId).collect(Collectors.toList());
@@ -60,10 +122,7 @@ public class RocketChatRoomInformationProvider {
   }
 
   private Map<String, Boolean> buildMessagesWithReadInfo(
-      RocketChatCredentials rocketChatCredentials) {
-
-    List<SubscriptionsUpdateDTO> subscriptions =
-        rocketChatService.getSubscriptionsOfUser(rocketChatCredentials);
+      List<SubscriptionsUpdateDTO> subscriptions) {
 
     return subscriptions.stream()
         .collect(Collectors.toMap(SubscriptionsUpdateDTO::getRoomId, this::isMessageRead));
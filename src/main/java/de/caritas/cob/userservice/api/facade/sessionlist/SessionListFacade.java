@@ -1,5 +1,6 @@
 package de.caritas.cob.userservice.api.facade.sessionlist;
 
+import static de.caritas.cob.userservice.api.helper.TopKSelector.selectTopK;
 import static java.util.Comparator.comparing;
 import static java.util.Objects.nonNull;
 import static java.util.Objects.requireNonNull;
@@ -9,6 +10,8 @@ import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatCredentials;
 import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantSessionListResponseDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantSessionResponseDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.GroupSessionListResponseDTO;
+import de.caritas.cob.userservice.api.adapters.web.dto.SessionDTO;
+import de.caritas.cob.userservice.api.adapters.web.dto.StreamingConsultantSessionListResponseDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.UserSessionListResponseDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.UserSessionResponseDTO;
 import de.caritas.cob.userservice.api.container.SessionListQueryParameter;
@@ -21,8 +24,10 @@ import de.caritas.cob.userservice.api.service.sessionlist.ConsultantSessionListS
 import de.caritas.cob.userservice.api.service.sessionlist.UserSessionListService;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.collections4.CollectionUtils;
@@ -38,6 +43,12 @@ import org.springframework.stereotype.Service;
 @Service
 public class SessionListFacade {
 
+  private static final Comparator<UserSessionResponseDTO> USER_SESSIONS_BY_LATEST_MESSAGE_DESC =
+      comparing(UserSessionResponseDTO::getLatestMessage).reversed();
+  private static final Comparator<ConsultantSessionResponseDTO>
+      CONSULTANT_SESSIONS_BY_LATEST_MESSAGE_DESC =
+          comparing(ConsultantSessionResponseDTO::getLatestMessage).reversed();
+
   private final UserSessionListService userSessionListService;
   private final ConsultantSessionListService consultantSessionListService;
 
@@ -61,14 +72,18 @@ public class SessionListFacade {
    *
    * @param userId the user ID
    * @param rocketChatCredentials the rocket chat credentials
+   * @param limit the maximum number of sessions, null for all sessions
    * @return {@link UserSessionListResponseDTO}
    */
   public UserSessionListResponseDTO retrieveSortedSessionsForAuthenticatedUser(
-      String userId, RocketChatCredentials rocketChatCredentials) {
+      String userId, RocketChatCredentials rocketChatCredentials, Integer limit) {
 
     List<UserSessionResponseDTO> userSessions =
-        userSessionListService.retrieveSessionsForAuthenticatedUser(userId, rocketChatCredentials);
-    userSessions.sort(comparing(UserSessionResponseDTO::getLatestMessage).reversed());
+        selectTopK(
+            USER_SESSIONS_BY_LATEST_MESSAGE_DESC,
+            limit,
+            userSessionListService.retrieveSessionsForAuthenticatedUser(
+                userId, rocketChatCredentials));
 
     return new UserSessionListResponseDTO().sessions(userSessions);
   }
@@ -81,17 +96,21 @@ public class SessionListFacade {
    * @param rcGroupIds the group or feedback group IDs
    * @param rocketChatCredentials the rocket chat credentials
    * @param roles the roles of given user
+   * @param limit the maximum number of sessions, null for all sessions
    * @return {@link UserSessionListResponseDTO}
    */
   public GroupSessionListResponseDTO retrieveSessionsForAuthenticatedUserByGroupIds(
       String userId,
       List<String> rcGroupIds,
       RocketChatCredentials rocketChatCredentials,
-      Set<String> roles) {
+      Set<String> roles,
+      Integer limit) {
     List<UserSessionResponseDTO> userSessions =
-        userSessionListService.retrieveSessionsForAuthenticatedUserAndGroupIds(
-            userId, rcGroupIds, rocketChatCredentials, roles);
-    userSessions.sort(comparing(UserSessionResponseDTO::getLatestMessage).reversed());
+        selectTopK(
+            USER_SESSIONS_BY_LATEST_MESSAGE_DESC,
+            limit,
+            userSessionListService.retrieveSessionsForAuthenticatedUserAndGroupIds(
+                userId, rcGroupIds, rocketChatCredentials, roles));
 
     SessionMapper sessionMapper = new SessionMapper();
     var sessions =
@@ -120,7 +139,7 @@ public class SessionListFacade {
     List<UserSessionResponseDTO> userSessions =
         userSessionListService.retrieveSessionsForAuthenticatedUserAndSessionIds(
             userId, sessionIds, rocketChatCredentials, roles);
-    userSessions.sort(comparing(UserSessionResponseDTO::getLatestMessage).reversed());
+    userSessions.sort(USER_SESSIONS_BY_LATEST_MESSAGE_DESC);
 
     SessionMapper sessionMapper = new SessionMapper();
     var sessions =
@@ -135,7 +154,7 @@ public class SessionListFacade {
       List<Long> chatIds, RocketChatCredentials rocketChatCredentials) {
     var userChatSessions =
         userSessionListService.retrieveChatsForUserAndChatIds(chatIds, rocketChatCredentials);
-    userChatSessions.sort(comparing(UserSessionResponseDTO::getLatestMessage).reversed());
+    userChatSessions.sort(USER_SESSIONS_BY_LATEST_MESSAGE_DESC);
 
     SessionMapper sessionMapper = new SessionMapper();
     var sessions =
@@ -150,14 +169,17 @@ public class SessionListFacade {
    * @param consultant the authenticated consultant
    * @param rcGroupIds the group or feedback group IDs
    * @param roles the roles of given consultant
+   * @param limit the maximum number of sessions, null for all sessions
    * @return {@link GroupSessionListResponseDTO}
    */
   public GroupSessionListResponseDTO retrieveSessionsForAuthenticatedConsultantByGroupIds(
-      Consultant consultant, List<String> rcGroupIds, Set<String> roles) {
+      Consultant consultant, List<String> rcGroupIds, Set<String> roles, Integer limit) {
     List<ConsultantSessionResponseDTO> consultantSessions =
-        consultantSessionListService.retrieveSessionsForConsultantAndGroupIds(
-            consultant, rcGroupIds, roles);
-    consultantSessions.sort(comparing(ConsultantSessionResponseDTO::getLatestMessage).reversed());
+        selectTopK(
+            CONSULTANT_SESSIONS_BY_LATEST_MESSAGE_DESC,
+            limit,
+            consultantSessionListService.retrieveSessionsForConsultantAndGroupIds(
+                consultant, rcGroupIds, roles));
 
     SessionMapper sessionMapper = new SessionMapper();
     var sessions =
@@ -179,7 +201,7 @@ public class SessionListFacade {
     List<ConsultantSessionResponseDTO> consultantSessions =
         consultantSessionListService.retrieveSessionsForConsultantAndSessionIds(
             consultant, sessionIds, roles);
-    consultantSessions.sort(comparing(ConsultantSessionResponseDTO::getLatestMessage).reversed());
+    consultantSessions.sort(CONSULTANT_SESSIONS_BY_LATEST_MESSAGE_DESC);
 
     SessionMapper sessionMapper = new SessionMapper();
     var sessions =
@@ -195,8 +217,7 @@ public class SessionListFacade {
     List<ConsultantSessionResponseDTO> consultantChatSessions =
         consultantSessionListService.retrieveChatsForConsultantAndChatIds(
             consultant, chatIds, rocketChatCredentials.getRocketChatToken());
-    consultantChatSessions.sort(
-        comparing(ConsultantSessionResponseDTO::getLatestMessage).reversed());
+    consultantChatSessions.sort(CONSULTANT_SESSIONS_BY_LATEST_MESSAGE_DESC);
 
     SessionMapper sessionMapper = new SessionMapper();
     var sessions =
@@ -223,18 +244,24 @@ public class SessionListFacade {
         consultantSessionListService.retrieveSessionsForAuthenticatedConsultant(
             consultant, sessionListQueryParameter);
 
-    /* Sort the session list by latest Rocket.Chat message if session is in progress (no enquiry).
-     * The latest answer is on top.
+    if (isFeedbackFilter(sessionListQueryParameter)) {
+      removeAllChatsAndSessionsWithoutUnreadFeedback(consultantSessions);
+    }
+    var total = consultantSessions.size();
+
+    /* Select the requested page by latest Rocket.Chat message if session is in progress (no
+     * enquiry). The latest answer is on top. Only the sessions up to the end of the requested page
+     * are sorted.
      *
      * Please note: Enquiry message sessions are being sorted by the repository (via
      * SessionService). Here the latest enquiry message is on the bottom.
      */
     if (SessionStatus.isStatusValueInProgress(sessionListQueryParameter.getSessionStatus())) {
-      sortSessionsByLastMessageDateDesc(consultantSessions);
-    }
-
-    if (isFeedbackFilter(sessionListQueryParameter)) {
-      removeAllChatsAndSessionsWithoutUnreadFeedback(consultantSessions);
+      consultantSessions =
+          selectTopK(
+              CONSULTANT_SESSIONS_BY_LATEST_MESSAGE_DESC,
+              endOfPage(sessionListQueryParameter),
+              consultantSessions);
     }
 
     List<ConsultantSessionResponseDTO> consultantSessionsSublist = new ArrayList<>();
@@ -244,19 +271,35 @@ public class SessionListFacade {
           retrieveConsultantSessionsSublist(sessionListQueryParameter, consultantSessions);
     }
 
-    return new ConsultantSessionListResponseDTO()
-        .sessions(consultantSessionsSublist)
+    return new StreamingConsultantSessionListResponseDTO(consultantSessionsSublist)
         .offset(sessionListQueryParameter.getOffset())
         .count(consultantSessionsSublist.size())
-        .total(consultantSessions.size());
+        .total(total);
   }
 
-  private void enrichWithTopicData(List<ConsultantSessionResponseDTO> consultantSessionsSublist) {
-    if (consultantSessionsSublist != null) {
-      consultantSessionsSublist.stream()
-          .map(ConsultantSessionResponseDTO::getSession)
-          .forEach(sessionTopicEnrichmentService::enrichSessionWithTopicData);
-    }
+  private int endOfPage(SessionListQueryParameter sessionListQueryParameter) {
+    return (int)
+        Math.min(
+            (long) sessionListQueryParameter.getOffset() + sessionListQueryParameter.getCount(),
+            Integer.MAX_VALUE);
+  }
+
+  /**
+   * Resolves the topics before the session list is written, so that no chunk enrichment calls the
+   * topic service after the first sessions have been sent.
+   */
+  private Consumer<List<ConsultantSessionResponseDTO>> buildTopicChunkEnricher(
+      List<ConsultantSessionResponseDTO> consultantSessionsSublist) {
+    var topicEnricher =
+        sessionTopicEnrichmentService.buildChunkEnricher(toSessionDTOs(consultantSessionsSublist));
+    return chunk -> topicEnricher.accept(toSessionDTOs(chunk));
+  }
+
+  private List<SessionDTO> toSessionDTOs(
+      List<ConsultantSessionResponseDTO> consultantSessionResponseDTOs) {
+    return consultantSessionResponseDTOs.stream()
+        .map(ConsultantSessionResponseDTO::getSession)
+        .collect(Collectors.toList());
   }
 
   private boolean isFeedbackFilter(SessionListQueryParameter sessionListQueryParameter) {
@@ -315,21 +358,15 @@ public class SessionListFacade {
           retrieveConsultantSessionsSublist(sessionListQueryParameter, teamSessions);
     }
 
-    if (topicsFeatureEnabled) {
-      enrichWithTopicData(teamSessionsSublist);
-    }
+    Consumer<List<ConsultantSessionResponseDTO>> chunkEnricher =
+        topicsFeatureEnabled ? buildTopicChunkEnricher(teamSessionsSublist) : chunk -> {};
 
-    return new ConsultantSessionListResponseDTO()
-        .sessions(teamSessionsSublist)
+    return new StreamingConsultantSessionListResponseDTO(teamSessionsSublist, chunkEnricher)
         .offset(sessionListQueryParameter.getOffset())
         .count(teamSessionsSublist.size())
         .total(teamSessions.size());
   }
 
-  private void sortSessionsByLastMessageDateDesc(List<ConsultantSessionResponseDTO> sessions) {
-    sessions.sort(comparing(ConsultantSessionResponseDTO::getLatestMessage).reversed());
-  }
-
   private void removeAllChatsAndSessionsWithoutUnreadFeedback(
       List<ConsultantSessionResponseDTO> sessions) {
 
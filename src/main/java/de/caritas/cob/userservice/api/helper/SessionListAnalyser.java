@@ -33,8 +33,21 @@ public class SessionListAnalyser {
    * @return Decrypted message
    */
   public String prepareMessageForSessionList(String message, String groupId) {
+    return prepareMessageForSessionList(message, groupId, null);
+  }
+
+  /**
+   * Decrypts and returns a Rocket.Chat message. The decrypted message is cached by group and
+   * message id, so unchanged last messages are not decrypted on every session list request.
+   *
+   * @param message Encrypted message
+   * @param groupId Rocket.Chat group id of the message
+   * @param messageId Rocket.Chat id of the message, null disables caching
+   * @return Decrypted message
+   */
+  public String prepareMessageForSessionList(String message, String groupId, String messageId) {
     try {
-      return decryptionService.decrypt(message, groupId);
+      return decryptionService.decrypt(message, groupId, messageId);
     } catch (CustomCryptoException cryptoEx) {
       throw new InternalServerErrorException(
           String.format("Could not decrypt message for group id %s", groupId),
@@ -0,0 +1,77 @@
+package de.caritas.cob.userservice.api.helper;
+
+import static java.util.Objects.isNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * Selects the first k elements of one or more sources in the order of a given comparator, without
+ * sorting all elements. A bounded heap of size k is used, so selecting the newest k of n sessions
+ * costs O(n log k) instead of O(n log n). Equal elements keep the order of their sources, like a
+ * stable sort of the concatenated sources would do.
+ */
+public class TopKSelector {
+
+  private TopKSelector() {}
+
+  /**
+   * Returns the first k elements of all given sources in the order of the comparator.
+   *
+   * @param comparator the order of the result
+   * @param limit the maximum number of elements, null for all elements
+   * @param sources the sources to select from
+   * @param <T> the type of the elements
+   * @return a new sorted list with at most limit elements
+   */
+  @SafeVarargs
+  public static <T> List<T> selectTopK(
+      Comparator<? super T> comparator, Integer limit, Collection<? extends T>... sources) {
+    var size = 0;
+    for (var source : sources) {
+      size += isNull(source) ? 0 : source.size();
+    }
+    var k = isNull(limit) ? size : Math.min(Math.max(limit, 0), size);
+    if (k == 0) {
+      return new ArrayList<>();
+    }
+
+    Comparator<Indexed<T>> order =
+        Comparator.<Indexed<T>, T>comparing(indexed -> indexed.element, comparator)
+            .thenComparingLong(indexed -> indexed.index);
+    var heap = new PriorityQueue<Indexed<T>>(k, order.reversed());
+    var index = 0L;
+    for (var source : sources) {
+      if (isNull(source)) {
+        continue;
+      }
+      for (T element : source) {
+        var candidate = new Indexed<T>(element, index++);
+        if (heap.size() < k) {
+          heap.add(candidate);
+        } else if (order.compare(candidate, heap.peek()) < 0) {
+          heap.poll();
+          heap.add(candidate);
+        }
+      }
+    }
+
+    var result = new ArrayList<T>(heap.size());
+    heap.stream().sorted(order).forEach(indexed -> result.add(indexed.element));
+    return result;
+  }
+
+  private static class Indexed<T> {
+
+    private final T element;
+    private final long index;
+
+    private Indexed(T element, long index) {
+      this.element = element;
+      this.index = index;
+    }
+  }
+}
@@ -2,6 +2,7 @@ package de.caritas.cob.userservice.api.port.out;
 
 import de.caritas.cob.userservice.api.model.Chat;
 import de.caritas.cob.userservice.api.model.Consultant;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -38,6 +39,49 @@ public interface ChatRepository extends CrudRepository<Chat, Long> {
       nativeQuery = true)
   List<Chat> findByAgencyIds(@Param(value = "agency_ids") Set<Long> agencyIds);
 
+  /**
+   * Count the chats listed for a user, the same way {@link #findByUserId(String)} and {@link
+   * #findAssignedByUserId(String)} find them, and find their latest update date.
+   *
+   * @param userId the id of the user
+   * @return the {@link ChatListVersion}
+   */
+  @Query(
+      value =
+          "SELECT COUNT(*) AS chatCount, MAX(chats.update_date) AS latestUpdateDate FROM ("
+              + "SELECT c.update_date FROM chat c JOIN chat_agency ca ON c.id = ca.chat_id "
+              + "JOIN user_agency ua ON ca.agency_id = ua.agency_id AND ua.user_id = :user_id "
+              + "UNION ALL SELECT c.update_date FROM chat c "
+              + "JOIN user_chat uc ON c.id = uc.chat_id AND uc.user_id = :user_id) chats",
+      nativeQuery = true)
+  ChatListVersion findChatListVersionByUserId(@Param(value = "user_id") String userId);
+
+  /**
+   * Count the chats of the given agencies, the same way {@link #findByAgencyIds(Set)} finds them,
+   * and find their latest update date.
+   *
+   * @param agencyIds the ids of the agencies
+   * @return the {@link ChatListVersion}
+   */
+  @Query(
+      value =
+          "SELECT COUNT(*) AS chatCount, MAX(c.update_date) AS latestUpdateDate FROM chat c "
+              + "JOIN chat_agency ca ON c.id = ca.chat_id AND ca.agency_id IN :agency_ids",
+      nativeQuery = true)
+  ChatListVersion findChatListVersionByAgencyIds(@Param(value = "agency_ids") Set<Long> agencyIds);
+
+  /**
+   * Find the ids of the agencies of the chats listed for a user.
+   *
+   * @param userId the id of the user
+   * @return the agency ids
+   */
+  @Query(
+      "SELECT DISTINCT ca.agencyId FROM ChatAgency ca "
+          + "WHERE ca.agencyId IN (SELECT ua.agencyId FROM UserAgency ua WHERE ua.user.userId = :userId) "
+          + "OR ca.chat.id IN (SELECT uc.chat.id FROM UserChat uc WHERE uc.user.userId = :userId)")
+  List<Long> findAgencyIdsByUserId(@Param("userId") String userId);
+
   Optional<Chat> findByGroupId(String groupId);
 
   @Query(value = "SELECT * FROM chat c WHERE c.rc_group_id IN :group_ids", nativeQuery = true)
@@ -46,4 +90,12 @@ public interface ChatRepository extends CrudRepository<Chat, Long> {
   List<Chat> findByChatOwner(Consultant chatOwner);
 
   List<Chat> findAllByActiveIsTrue();
+
+  /** Number and latest update date of the chats of a session list. */
+  interface ChatListVersion {
+
+    long getChatCount();
+
+    LocalDateTime getLatestUpdateDate();
+  }
 }
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 
 public interface MessageClient {
 
@@ -14,6 +15,8 @@ public interface MessageClient {
   @SuppressWarnings("UnusedReturnValue")
   boolean unmuteUserInChat(String chatUserId, String chatId);
 
+  CompletableFuture<Boolean> unmuteUserInChatAsync(String chatUserId, String chatId);
+
   @SuppressWarnings("UnusedReturnValue")
   boolean updateUser(String chatUserId, String displayName);
 
@@ -5,6 +5,7 @@ import de.caritas.cob.userservice.api.model.Session;
 import de.caritas.cob.userservice.api.model.Session.RegistrationType;
 import de.caritas.cob.userservice.api.model.Session.SessionStatus;
 import de.caritas.cob.userservice.api.model.User;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -45,6 +46,18 @@ public interface SessionRepository extends CrudRepository<Session, Long> {
   List<Session> findByConsultantAndStatusOrderByUpdateDateDesc(
       Consultant consultant, SessionStatus sessionStatus);
 
+  /**
+   * Find a page of {@link Session}s by a consultant and a session status ordered by update date
+   * desc. The id is used as tie breaker to keep the pages stable.
+   *
+   * @param consultant {@link Consultant}
+   * @param sessionStatus {@link SessionStatus}
+   * @param pageable the pagination object
+   * @return the result {@link Page}
+   */
+  Page<Session> findByConsultantAndStatusOrderByUpdateDateDescIdAsc(
+      Consultant consultant, SessionStatus sessionStatus, Pageable pageable);
+
   /**
    * Find a {@link Session} with unassigned consultant by agency ids and status ordery by creation
    * date ascending.
@@ -59,6 +72,23 @@ public interface SessionRepository extends CrudRepository<Session, Long> {
       findByAgencyIdInAndConsultantIsNullAndStatusAndRegistrationTypeOrderByEnquiryMessageDateAsc(
           List<Long> agencyIds, SessionStatus sessionStatus, RegistrationType registrationType);
 
+  /**
+   * Find a page of {@link Session}s with unassigned consultant by agency ids and status ordered by
+   * enquiry message date ascending. The id is used as tie breaker to keep the pages stable.
+   *
+   * @param agencyIds ids of agencies to search for
+   * @param sessionStatus {@link SessionStatus} to search for
+   * @param registrationType {@link RegistrationType} to search for
+   * @param pageable the pagination object
+   * @return the result {@link Page}
+   */
+  Page<Session>
+      findByAgencyIdInAndConsultantIsNullAndStatusAndRegistrationTypeOrderByEnquiryMessageDateAscIdAsc(
+          List<Long> agencyIds,
+          SessionStatus sessionStatus,
+          RegistrationType registrationType,
+          Pageable pageable);
+
   /**
    * Find a {@link Session} by agency ids with status and team session where consultant is not the
    * given consultant ordered by update date descending.
@@ -76,16 +106,22 @@ public interface SessionRepository extends CrudRepository<Session, Long> {
       boolean isTeamSession);
 
   /**
-   * Find team {@link Session} list by agency ids and status where consultant is not the given
-   * consultant ordered by creation date descending.
+   * Find a page of team {@link Session}s by agency ids and status where consultant is not the given
+   * consultant ordered by update date descending. The id is used as tie breaker to keep the pages
+   * stable.
    *
    * @param agencyIds ids of agencies to search for
+   * @param consultant the {@link Consultant} to exclude
    * @param sessionStatus {@link SessionStatus} to search for
-   * @return A list of {@link Session}s for the specific agency ids and status ordered by update
-   *     date descending
+   * @param pageable the pagination object
+   * @return the result {@link Page}
    */
-  List<Session> findByAgencyIdInAndConsultantNotAndStatusAndTeamSessionIsTrueOrderByUpdateDateDesc(
-      List<Long> agencyIds, Consultant consultant, SessionStatus sessionStatus);
+  Page<Session>
+      findByAgencyIdInAndConsultantNotAndStatusAndTeamSessionIsTrueOrderByUpdateDateDescIdAsc(
+          List<Long> agencyIds,
+          Consultant consultant,
+          SessionStatus sessionStatus,
+          Pageable pageable);
 
   List<Session> findByUser(User user);
 
@@ -234,4 +270,77 @@ public interface SessionRepository extends CrudRepository<Session, Long> {
    * @return an {@link List} of the result
    */
   List<Session> findByConsultantAndUser(Consultant consultant, User user);
+
+  /**
+   * Count the sessions of a user and find their latest update date and the latest update dates of
+   * their consultants and of the user.
+   *
+   * @param userId the id of the user
+   * @return the {@link SessionListVersion}
+   */
+  @Query(
+      "SELECT COUNT(s) AS sessionCount, MAX(s.updateDate) AS latestUpdateDate, "
+          + "MAX(c.updateDate) AS latestConsultantUpdateDate, "
+          + "MAX(u.updateDate) AS latestUserUpdateDate "
+          + "FROM Session s LEFT JOIN s.consultant c LEFT JOIN s.user u "
+          + "WHERE u.userId = :userId")
+  SessionListVersion findSessionListVersionByUserId(@Param("userId") String userId);
+
+  /**
+   * Find the ids of the agencies of the sessions of a user.
+   *
+   * @param userId the id of the user
+   * @return the agency ids
+   */
+  @Query("SELECT DISTINCT s.agencyId FROM Session s WHERE s.user.userId = :userId")
+  List<Long> findAgencyIdsByUserId(@Param("userId") String userId);
+
+  /**
+   * Count the sessions assigned to a consultant and find their latest update date and the latest
+   * update dates of their consultants and users.
+   *
+   * @param consultant the {@link Consultant}
+   * @return the {@link SessionListVersion}
+   */
+  @Query(
+      "SELECT COUNT(s) AS sessionCount, MAX(s.updateDate) AS latestUpdateDate, "
+          + "MAX(c.updateDate) AS latestConsultantUpdateDate, "
+          + "MAX(u.updateDate) AS latestUserUpdateDate "
+          + "FROM Session s LEFT JOIN s.consultant c LEFT JOIN s.user u "
+          + "WHERE s.consultant = :consultant")
+  SessionListVersion findSessionListVersionByConsultant(@Param("consultant") Consultant consultant);
+
+  /**
+   * Count the sessions assigned to a consultant, the enquiries and the team sessions of the given
+   * agencies and find their latest update date and the latest update dates of their consultants and
+   * users.
+   *
+   * @param consultant the {@link Consultant}
+   * @param agencyIds the ids of the agencies of the consultant
+   * @return the {@link SessionListVersion}
+   */
+  @Query(
+      "SELECT COUNT(s) AS sessionCount, MAX(s.updateDate) AS latestUpdateDate, "
+          + "MAX(c.updateDate) AS latestConsultantUpdateDate, "
+          + "MAX(u.updateDate) AS latestUserUpdateDate "
+          + "FROM Session s LEFT JOIN s.consultant c LEFT JOIN s.user u "
+          + "WHERE s.consultant = :consultant "
+          + "OR (s.agencyId IN :agencyIds AND (s.consultant IS NULL OR s.teamSession = true))")
+  SessionListVersion findSessionListVersionByConsultantAndAgencyIds(
+      @Param("consultant") Consultant consultant, @Param("agencyIds") List<Long> agencyIds);
+
+  /**
+   * Number and latest update date of the sessions of a session list and the latest update dates of
+   * their consultants and users, whose data is part of the list as well.
+   */
+  interface SessionListVersion {
+
+    long getSessionCount();
+
+    LocalDateTime getLatestUpdateDate();
+
+    LocalDateTime getLatestConsultantUpdateDate();
+
+    LocalDateTime getLatestUserUpdateDate();
+  }
 }
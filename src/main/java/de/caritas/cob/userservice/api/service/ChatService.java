@@ -1,5 +1,6 @@
 package de.caritas.cob.userservice.api.service;
 
+import static de.caritas.cob.userservice.api.helper.CustomLocalDateTime.nowInUtc;
 import static org.apache.commons.lang3.BooleanUtils.isTrue;
 
 import de.caritas.cob.userservice.api.adapters.web.dto.ChatDTO;
@@ -20,6 +21,7 @@ import de.caritas.cob.userservice.api.model.ConsultantAgency;
 import de.caritas.cob.userservice.api.model.UserChat;
 import de.caritas.cob.userservice.api.port.out.ChatAgencyRepository;
 import de.caritas.cob.userservice.api.port.out.ChatRepository;
+import de.caritas.cob.userservice.api.port.out.ChatRepository.ChatListVersion;
 import de.caritas.cob.userservice.api.port.out.UserChatRepository;
 import de.caritas.cob.userservice.api.service.agency.AgencyService;
 import java.time.LocalDate;
@@ -42,6 +44,19 @@ import org.springframework.stereotype.Service;
 @Slf4j
 public class ChatService {
 
+  private static final ChatListVersion NO_CHATS =
+      new ChatListVersion() {
+        @Override
+        public long getChatCount() {
+          return 0;
+        }
+
+        @Override
+        public LocalDateTime getLatestUpdateDate() {
+          return null;
+        }
+      };
+
   private final @NonNull ChatRepository chatRepository;
   private final @NonNull ChatAgencyRepository chatAgencyRepository;
   private final @NonNull UserChatRepository userChatRepository;
@@ -88,6 +103,7 @@ public class ChatService {
    * @return {@link Chat} (will never be null)
    */
   public Chat saveChat(Chat chat) {
+    chat.setUpdateDate(nowInUtc());
     return chatRepository.save(chat);
   }
 
@@ -132,6 +148,43 @@ public class ChatService {
         .collect(Collectors.toList());
   }
 
+  /**
+   * Returns the number and the latest update date of the chats listed for the provided userId.
+   *
+   * @param userId the id of the user
+   * @return the {@link ChatListVersion}
+   */
+  public ChatListVersion getChatListVersionForUser(String userId) {
+    return chatRepository.findChatListVersionByUserId(userId);
+  }
+
+  /**
+   * Returns the ids of the agencies of the chats listed for the provided user.
+   *
+   * @param userId the id of the user
+   * @return the agency ids
+   */
+  public List<Long> getAgencyIdsOfUserChats(String userId) {
+    return chatRepository.findAgencyIdsByUserId(userId);
+  }
+
+  /**
+   * Returns the number and the latest update date of the chats listed for the provided {@link
+   * Consultant}.
+   *
+   * @param consultant the consultant
+   * @return the {@link ChatListVersion}
+   */
+  public ChatListVersion getChatListVersionForConsultant(Consultant consultant) {
+    Set<Long> agencyIds =
+        consultant.getConsultantAgencies().stream()
+            .map(ConsultantAgency::getAgencyId)
+            .collect(Collectors.toSet());
+    return agencyIds.isEmpty()
+        ? NO_CHATS
+        : chatRepository.findChatListVersionByAgencyIds(agencyIds);
+  }
+
   public List<UserSessionResponseDTO> getChatSessionsByIds(Set<Long> chatIds) {
     return StreamSupport.stream(chatRepository.findAllById(chatIds).spliterator(), false)
         .map(this::convertChatToUserSessionResponseDTO)
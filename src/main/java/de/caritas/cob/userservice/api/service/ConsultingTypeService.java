@@ -1,9 +1,12 @@
 package de.caritas.cob.userservice.api.service;
 
+import static java.util.Objects.isNull;
+
 import de.caritas.cob.userservice.api.config.CacheManagerConfig;
 import de.caritas.cob.userservice.api.config.apiclient.ConsultingTypeServiceApiControllerFactory;
 import de.caritas.cob.userservice.api.service.httpheader.SecurityHeaderSupplier;
 import de.caritas.cob.userservice.api.service.httpheader.TenantHeaderSupplier;
+import de.caritas.cob.userservice.api.tenant.TenantContext;
 import de.caritas.cob.userservice.consultingtypeservice.generated.ApiClient;
 import de.caritas.cob.userservice.consultingtypeservice.generated.web.model.BasicConsultingTypeResponseDTO;
 import de.caritas.cob.userservice.consultingtypeservice.generated.web.model.ExtendedConsultingTypeResponseDTO;
@@ -11,11 +14,17 @@ import java.util.List;
 import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClientException;
 
-/** Service class to communicate with the ConsultingTypeService. */
+/**
+ * Service class to communicate with the ConsultingTypeService. The responses are kept in the {@link
+ * CacheManagerConfig#CONSULTING_TYPE_CACHE}, which refreshes them in the background. The tenant is
+ * therefore taken from the calling thread and passed to the value loaders.
+ */
 @Component
 @RequiredArgsConstructor
 public class ConsultingTypeService {
@@ -24,6 +33,7 @@ public class ConsultingTypeService {
       consultingTypeServiceApiControllerFactory;
   private final @NonNull SecurityHeaderSupplier securityHeaderSupplier;
   private final @NonNull TenantHeaderSupplier tenantHeaderSupplier;
+  private final @NonNull CacheManager cacheManager;
 
   /**
    * Returns the {@link ExtendedConsultingTypeResponseDTO} for the provided consulting type ID. the
@@ -32,12 +42,20 @@ public class ConsultingTypeService {
    * @param consultingTypeId the consulting type ID for the extended consulting type response DTO
    * @return ExtendedConsultingTypeResponseDTO {@link ExtendedConsultingTypeResponseDTO}
    */
-  @Cacheable(cacheNames = CacheManagerConfig.CONSULTING_TYPE_CACHE, key = "#consultingTypeId")
   public ExtendedConsultingTypeResponseDTO getExtendedConsultingTypeResponseDTO(
       int consultingTypeId) throws RestClientException {
+    var currentTenantId = TenantContext.getCurrentTenant();
+    return consultingTypeCache()
+        .get(
+            consultingTypeId,
+            () -> fetchExtendedConsultingTypeResponseDTO(consultingTypeId, currentTenantId));
+  }
+
+  private ExtendedConsultingTypeResponseDTO fetchExtendedConsultingTypeResponseDTO(
+      int consultingTypeId, Long currentTenantId) {
     var consultingTypeControllerApi =
         consultingTypeServiceApiControllerFactory.createControllerApi();
-    addDefaultHeaders(consultingTypeControllerApi.getApiClient());
+    addDefaultHeaders(consultingTypeControllerApi.getApiClient(), currentTenantId);
     return consultingTypeControllerApi.getExtendedConsultingTypeById(consultingTypeId);
   }
 
@@ -46,19 +64,35 @@ public class ConsultingTypeService {
    *
    * @return list with consulting type ids
    */
-  @Cacheable(cacheNames = CacheManagerConfig.CONSULTING_TYPE_CACHE)
   public List<Integer> getAllConsultingTypeIds(Long tenantId) {
+    var currentTenantId = TenantContext.getCurrentTenant();
+    return consultingTypeCache()
+        .get(
+            isNull(tenantId) ? SimpleKey.EMPTY : tenantId,
+            () -> fetchAllConsultingTypeIds(currentTenantId));
+  }
+
+  private List<Integer> fetchAllConsultingTypeIds(Long currentTenantId) {
     var consultingTypeControllerApi =
         consultingTypeServiceApiControllerFactory.createControllerApi();
-    addDefaultHeaders(consultingTypeControllerApi.getApiClient());
+    addDefaultHeaders(consultingTypeControllerApi.getApiClient(), currentTenantId);
     return consultingTypeControllerApi.getBasicConsultingTypeList().stream()
         .map(BasicConsultingTypeResponseDTO::getId)
         .collect(Collectors.toList());
   }
 
-  private void addDefaultHeaders(ApiClient apiClient) {
+  private Cache consultingTypeCache() {
+    var cache = cacheManager.getCache(CacheManagerConfig.CONSULTING_TYPE_CACHE);
+    if (isNull(cache)) {
+      throw new IllegalStateException(
+          String.format("Cache %s is not configured", CacheManagerConfig.CONSULTING_TYPE_CACHE));
+    }
+    return cache;
+  }
+
+  private void addDefaultHeaders(ApiClient apiClient, Long currentTenantId) {
     var headers = this.securityHeaderSupplier.getCsrfHttpHeaders();
-    tenantHeaderSupplier.addTenantHeader(headers);
+    tenantHeaderSupplier.addTenantHeader(headers, currentTenantId);
     headers.forEach((key, value) -> apiClient.addDefaultHeader(key, value.iterator().next()));
   }
 }
@@ -1,8 +1,16 @@
 package de.caritas.cob.userservice.api.service;
 
+import static de.caritas.cob.userservice.api.config.CacheManagerConfig.DECRYPTED_MESSAGE_CACHE;
+import static de.caritas.cob.userservice.api.config.CacheManagerConfig.DECRYPTION_KEY_CACHE;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
 import de.caritas.cob.userservice.api.exception.CustomCryptoException;
 import de.caritas.cob.userservice.api.exception.NoMasterKeyException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.io.UnsupportedEncodingException;
+import java.security.GeneralSecurityException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.Arrays;
@@ -10,14 +18,27 @@ import java.util.Base64;
 import javax.crypto.BadPaddingException;
 import javax.crypto.Cipher;
 import javax.crypto.spec.SecretKeySpec;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 
+/**
+ * Decrypts messages of Rocket.Chat groups. The keys derived per group and the decrypted messages
+ * are cached, so that repeatedly requested messages, e.g. the last messages of a polled session
+ * list, do not have to be decrypted again. Hits and misses of both caches are counted in the metric
+ * {@value #CACHE_GETS_METRIC}.
+ */
 @Slf4j
 @Service
 public class DecryptionService {
 
+  static final String CACHE_GETS_METRIC = "decryption.cache.gets";
+
   private static final String CIPHER_METHODS = "AES/ECB/PKCS5PADDING";
   private static final String SECRET_KEY_SPEC_METHOD = "AES";
   private static final String MESSAGE_DIGEST_METHOD = "SHA-1";
@@ -26,18 +47,55 @@ public class DecryptionService {
 
   private static final String ENCRYPTED_MESSAGE_FLAG = "enc:";
 
+  private static final ThreadLocal<Cipher> CIPHER =
+      ThreadLocal.withInitial(DecryptionService::createCipher);
+
+  private final @NonNull CacheManager cacheManager;
+  private final Counter messageCacheHits;
+  private final Counter messageCacheMisses;
+  private final Counter keyCacheHits;
+  private final Counter keyCacheMisses;
+
   @Value("${service.encryption.appkey}")
   private String fragment_applicationKey;
 
-  private String fragment_masterKey = INITIAL_MASTER_KEY;
+  private volatile String fragment_masterKey = INITIAL_MASTER_KEY;
+
+  public DecryptionService(@NonNull CacheManager cacheManager, MeterRegistry meterRegistry) {
+    this.cacheManager = cacheManager;
+    this.messageCacheHits = cacheGetsCounter(meterRegistry, DECRYPTED_MESSAGE_CACHE, "hit");
+    this.messageCacheMisses = cacheGetsCounter(meterRegistry, DECRYPTED_MESSAGE_CACHE, "miss");
+    this.keyCacheHits = cacheGetsCounter(meterRegistry, DECRYPTION_KEY_CACHE, "hit");
+    this.keyCacheMisses = cacheGetsCounter(meterRegistry, DECRYPTION_KEY_CACHE, "miss");
+  }
+
+  private static Counter cacheGetsCounter(
+      MeterRegistry meterRegistry, String cacheName, String result) {
+    return Counter.builder(CACHE_GETS_METRIC)
+        .description("Number of cache lookups of the decryption service")
+        .tag("cache", cacheName)
+        .tag("result", result)
+        .register(meterRegistry);
+  }
+
+  private static Cipher createCipher() {
+    try {
+      return Cipher.getInstance(CIPHER_METHODS);
+    } catch (GeneralSecurityException e) {
+      throw new IllegalStateException(e);
+    }
+  }
 
   /**
-   * Updates the master key fragment
+   * Updates the master key fragment. All derived keys and decrypted messages are removed from the
+   * caches, because they depend on the master key.
    *
    * @param masterKey The master key fragment
    */
   public void updateMasterKey(String masterKey) {
     this.fragment_masterKey = masterKey;
+    cache(DECRYPTION_KEY_CACHE).clear();
+    cache(DECRYPTED_MESSAGE_CACHE).clear();
   }
 
   /**
@@ -58,22 +116,46 @@ public class DecryptionService {
     return this.fragment_applicationKey;
   }
 
+  /**
+   * Returns the cached SecretKeySpec for a given key or prepares a new one. Cached keys derived
+   * from another master key are ignored.
+   *
+   * @param secret the key for the generation
+   * @return The SecretKeySpec based on the key
+   */
+  private SecretKeySpec obtainSecretKeySpec(String secret)
+      throws UnsupportedEncodingException, NoSuchAlgorithmException {
+    var masterKey = getMasterKey();
+    var cache = cache(DECRYPTION_KEY_CACHE);
+    var derivedKey = cache.get(secret, DerivedKey.class);
+    if (nonNull(derivedKey) && derivedKey.getMasterKey().equals(masterKey)) {
+      keyCacheHits.increment();
+      return derivedKey.getKeySpec();
+    }
+
+    keyCacheMisses.increment();
+    var keySpec = generateSecretKeySpec(masterKey, secret);
+    cache.put(secret, new DerivedKey(masterKey, keySpec));
+    return keySpec;
+  }
+
   /**
    * Prepares the SecretKeySpec for a given key
    *
+   * @param masterKey the master key fragment
    * @param secret the key for the generation
    * @return The SecretKeySpec based on the key or <null> in case of an error
    * @throws NoSuchAlgorithmException
    * @throws UnsupportedEncodingException
    */
-  private SecretKeySpec generateSecretKeySpec(String secret)
+  private SecretKeySpec generateSecretKeySpec(String masterKey, String secret)
       throws UnsupportedEncodingException, NoSuchAlgorithmException {
 
-    if (getMasterKey().equals(INITIAL_MASTER_KEY)) {
+    if (masterKey.equals(INITIAL_MASTER_KEY)) {
       throw new NoMasterKeyException("No MasterKey found - please provide a MasterKey!");
     }
 
-    byte[] keyByte = (getMasterKey() + secret + getApplicationKey()).getBytes("UTF-8");
+    byte[] keyByte = (masterKey + secret + getApplicationKey()).getBytes("UTF-8");
     MessageDigest sha = MessageDigest.getInstance(MESSAGE_DIGEST_METHOD);
     keyByte = sha.digest(keyByte);
     keyByte = Arrays.copyOf(keyByte, 16);
@@ -96,8 +178,8 @@ public class DecryptionService {
     messageToDecrypt = messageToDecrypt.substring(ENCRYPTED_MESSAGE_FLAG.length());
 
     try {
-      SecretKeySpec keySpec = generateSecretKeySpec(secret);
-      Cipher cipher = Cipher.getInstance(CIPHER_METHODS);
+      SecretKeySpec keySpec = obtainSecretKeySpec(secret);
+      Cipher cipher = CIPHER.get();
       cipher.init(Cipher.DECRYPT_MODE, keySpec);
       return new String(cipher.doFinal(Base64.getDecoder().decode(messageToDecrypt)));
     } catch (BadPaddingException e) {
@@ -108,4 +190,63 @@ public class DecryptionService {
       throw new CustomCryptoException(e);
     }
   }
+
+  /**
+   * Decrypts a given Rocket.Chat message with the given secret. The decrypted message is cached by
+   * the secret and the message id. A cached message is only used if the encrypted message has not
+   * been changed since, so edited messages are decrypted again.
+   *
+   * @param messageToDecrypt The message to decrypt
+   * @param secret The secret to be used
+   * @param messageId The Rocket.Chat message id, messages without an id are not cached
+   * @return The decrypted message
+   */
+  public String decrypt(String messageToDecrypt, String secret, String messageId)
+      throws CustomCryptoException {
+
+    if (isNull(messageId)
+        || messageToDecrypt == null
+        || !messageToDecrypt.startsWith(ENCRYPTED_MESSAGE_FLAG)) {
+      return decrypt(messageToDecrypt, secret);
+    }
+
+    var masterKey = getMasterKey();
+    var cache = cache(DECRYPTED_MESSAGE_CACHE);
+    var cacheKey = secret + ":" + messageId;
+    var decryptedMessage = cache.get(cacheKey, DecryptedMessage.class);
+    if (nonNull(decryptedMessage)
+        && decryptedMessage.getMasterKey().equals(masterKey)
+        && decryptedMessage.getEncryptedMessage().equals(messageToDecrypt)) {
+      messageCacheHits.increment();
+      return decryptedMessage.getMessage();
+    }
+
+    messageCacheMisses.increment();
+    var message = decrypt(messageToDecrypt, secret);
+    cache.put(cacheKey, new DecryptedMessage(masterKey, messageToDecrypt, message));
+    return message;
+  }
+
+  private Cache cache(String cacheName) {
+    var cache = cacheManager.getCache(cacheName);
+    if (isNull(cache)) {
+      throw new IllegalStateException(String.format("Cache %s is not configured", cacheName));
+    }
+    return cache;
+  }
+
+  @Getter
+  @AllArgsConstructor
+  private static class DerivedKey {
+    private final String masterKey;
+    private final SecretKeySpec keySpec;
+  }
+
+  @Getter
+  @AllArgsConstructor
+  private static class DecryptedMessage {
+    private final String masterKey;
+    private final String encryptedMessage;
+    private final String message;
+  }
 }
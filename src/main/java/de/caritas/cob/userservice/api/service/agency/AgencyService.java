@@ -1,24 +1,27 @@
 package de.caritas.cob.userservice.api.service.agency;
 
 import static java.util.Collections.emptyList;
+import static java.util.Objects.isNull;
+import static org.apache.commons.collections4.CollectionUtils.isEmpty;
 import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import de.caritas.cob.userservice.agencyserivce.generated.ApiClient;
 import de.caritas.cob.userservice.agencyserivce.generated.web.AgencyControllerApi;
-import de.caritas.cob.userservice.agencyserivce.generated.web.model.AgencyResponseDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.AgencyDTO;
 import de.caritas.cob.userservice.api.config.CacheManagerConfig;
 import de.caritas.cob.userservice.api.config.apiclient.AgencyServiceApiControllerFactory;
-import de.caritas.cob.userservice.api.exception.httpresponses.InternalServerErrorException;
 import de.caritas.cob.userservice.api.service.httpheader.SecurityHeaderSupplier;
 import de.caritas.cob.userservice.api.service.httpheader.TenantHeaderSupplier;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Component;
 
@@ -30,6 +33,9 @@ public class AgencyService {
   private final @NonNull SecurityHeaderSupplier securityHeaderSupplier;
   private final @NonNull TenantHeaderSupplier tenantHeaderSupplier;
   private final @NonNull AgencyServiceApiControllerFactory agencyServiceApiControllerFactory;
+  private final @NonNull CacheManager cacheManager;
+  private final AgencyMapper agencyMapper = new AgencyMapper();
+
   /**
    * Returns the {@link AgencyDTO} for the provided agencyId. Agency will be cached for further
    * requests.
@@ -54,15 +60,41 @@ public class AgencyService {
   }
 
   /**
-   * Returns List of {@link AgencyDTO} for provided agencyIds. Agencies will be cached for further
-   * requests.
+   * Returns List of {@link AgencyDTO} for provided agencyIds. Agencies are cached one by one under
+   * their id, the same way {@link #getAgency(Long)} caches them, so only the agencies missing in
+   * the cache are fetched from the AgencyService, within one request.
    *
    * @param agencyIds List of {@link AgencyDTO#getId()}
-   * @return List<AgencyDTO> List of {@link AgencyDTO}
+   * @return List<AgencyDTO> List of {@link AgencyDTO} in the order of the provided ids
    */
-  @Cacheable(value = CacheManagerConfig.AGENCY_CACHE, key = "#agencyIds")
   public List<AgencyDTO> getAgencies(List<Long> agencyIds) {
-    return getAgenciesFromAgencyService(agencyIds);
+    if (isEmpty(agencyIds)) {
+      return emptyList();
+    }
+
+    var cache = agencyCache();
+    var agencies = new LinkedHashMap<Long, AgencyDTO>();
+    var missingAgencyIds = new ArrayList<Long>();
+    agencyIds.stream()
+        .distinct()
+        .forEach(
+            agencyId -> {
+              var cachedAgency = cache.get(agencyId, AgencyDTO.class);
+              agencies.put(agencyId, cachedAgency);
+              if (isNull(cachedAgency)) {
+                missingAgencyIds.add(agencyId);
+              }
+            });
+
+    getAgenciesFromAgencyService(missingAgencyIds).stream()
+        .filter(agency -> agencies.containsKey(agency.getId()))
+        .forEach(
+            agency -> {
+              cache.put(agency.getId(), agency);
+              agencies.put(agency.getId(), agency);
+            });
+
+    return agencies.values().stream().filter(Objects::nonNull).collect(Collectors.toList());
   }
 
   public List<AgencyDTO> getAgenciesNotCached(List<Long> agencyIds) {
@@ -80,12 +112,31 @@ public class AgencyService {
       AgencyControllerApi agencyControllerApi = this.getAgencyControllerApi();
       addDefaultHeaders(agencyControllerApi.getApiClient());
       return agencyControllerApi.getAgenciesByIds(agencyIds).stream()
-          .map(this::fromOriginalAgency)
+          .map(agencyMapper::toAgencyDTO)
           .collect(Collectors.toList());
     }
     return emptyList();
   }
 
+  /**
+   * Drops the cached {@link AgencyDTO} of the given agency, on all nodes if the cache invalidation
+   * is enabled.
+   *
+   * @param agencyId {@link AgencyDTO#getId()}
+   */
+  public void evictAgency(Long agencyId) {
+    agencyCache().evict(agencyId);
+  }
+
+  private Cache agencyCache() {
+    var cache = cacheManager.getCache(CacheManagerConfig.AGENCY_CACHE);
+    if (isNull(cache)) {
+      throw new IllegalStateException(
+          String.format("Cache %s is not configured", CacheManagerConfig.AGENCY_CACHE));
+    }
+    return cache;
+  }
+
   private AgencyControllerApi getAgencyControllerApi() {
     return agencyServiceApiControllerFactory.createControllerApi();
   }
@@ -100,7 +151,7 @@ public class AgencyService {
     var agencyControllerApi = getAgencyControllerApi();
     addDefaultHeaders(agencyControllerApi.getApiClient());
     return agencyControllerApi.getAgenciesByConsultingType(consultingTypeId).stream()
-        .map(this::fromOriginalAgency)
+        .map(agencyMapper::toAgencyDTO)
         .collect(Collectors.toList());
   }
 
@@ -110,18 +161,6 @@ public class AgencyService {
     headers.forEach((key, value) -> apiClient.addDefaultHeader(key, value.iterator().next()));
   }
 
-  private AgencyDTO fromOriginalAgency(AgencyResponseDTO agencyResponseDTO) {
-    var objectMapper = new ObjectMapper();
-    try {
-      return objectMapper.readValue(
-          objectMapper.writeValueAsString(agencyResponseDTO), AgencyDTO.class);
-    } catch (JsonProcessingException e) {
-      throw new InternalServerErrorException(
-          "Model definition of agency in userservice does not "
-              + "match the definition of agencyservice");
-    }
-  }
-
   /**
    * Returns the {@link AgencyDTO} for the provided agencyId. Agency won't be cached for further
    * requests.
@@ -1,18 +1,27 @@
 package de.caritas.cob.userservice.api.service.consultingtype;
 
+import static java.util.Objects.isNull;
+
 import de.caritas.cob.userservice.api.config.CacheManagerConfig;
 import de.caritas.cob.userservice.api.config.apiclient.ApplicationSettingsApiControllerFactory;
 import de.caritas.cob.userservice.api.service.httpheader.SecurityHeaderSupplier;
 import de.caritas.cob.userservice.api.service.httpheader.TenantHeaderSupplier;
+import de.caritas.cob.userservice.api.tenant.TenantContext;
 import de.caritas.cob.userservice.applicationsettingsservice.generated.ApiClient;
 import de.caritas.cob.userservice.applicationsettingsservice.generated.web.ApplicationsettingsControllerApi;
 import de.caritas.cob.userservice.applicationsettingsservice.generated.web.model.ApplicationSettingsDTO;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.interceptor.SimpleKey;
 import org.springframework.stereotype.Component;
 
-/** Service class to communicate with the ConsultingTypeService. */
+/**
+ * Service class to communicate with the ApplicationSettingsService. The settings are kept per
+ * tenant in the {@link CacheManagerConfig#APPLICATION_SETTINGS_CACHE}, which refreshes them in the
+ * background. The tenant is therefore taken from the calling thread and passed to the value loader.
+ */
 @Component
 @RequiredArgsConstructor
 public class ApplicationSettingsService {
@@ -21,18 +30,36 @@ public class ApplicationSettingsService {
       applicationSettingsApiControllerFactory;
   private final @NonNull SecurityHeaderSupplier securityHeaderSupplier;
   private final @NonNull TenantHeaderSupplier tenantHeaderSupplier;
+  private final @NonNull CacheManager cacheManager;
 
-  @Cacheable(value = CacheManagerConfig.APPLICATION_SETTINGS_CACHE)
   public ApplicationSettingsDTO getApplicationSettings() {
+    var currentTenantId = TenantContext.getCurrentTenant();
+    return applicationSettingsCache()
+        .get(
+            isNull(currentTenantId) ? SimpleKey.EMPTY : currentTenantId,
+            () -> fetchApplicationSettings(currentTenantId));
+  }
+
+  private ApplicationSettingsDTO fetchApplicationSettings(Long currentTenantId) {
     ApplicationsettingsControllerApi controllerApi =
         applicationSettingsApiControllerFactory.createControllerApi();
-    addDefaultHeaders(controllerApi.getApiClient());
+    addDefaultHeaders(controllerApi.getApiClient(), currentTenantId);
     return controllerApi.getApplicationSettings();
   }
 
-  private void addDefaultHeaders(ApiClient apiClient) {
+  private Cache applicationSettingsCache() {
+    var cache = cacheManager.getCache(CacheManagerConfig.APPLICATION_SETTINGS_CACHE);
+    if (isNull(cache)) {
+      throw new IllegalStateException(
+          String.format(
+              "Cache %s is not configured", CacheManagerConfig.APPLICATION_SETTINGS_CACHE));
+    }
+    return cache;
+  }
+
+  private void addDefaultHeaders(ApiClient apiClient, Long currentTenantId) {
     var headers = this.securityHeaderSupplier.getCsrfHttpHeaders();
-    tenantHeaderSupplier.addTenantHeader(headers);
+    tenantHeaderSupplier.addTenantHeader(headers, currentTenantId);
     headers.forEach((key, value) -> apiClient.addDefaultHeader(key, value.iterator().next()));
   }
 }
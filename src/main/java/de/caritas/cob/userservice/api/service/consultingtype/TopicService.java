@@ -1,14 +1,18 @@
 package de.caritas.cob.userservice.api.service.consultingtype;
 
+import static java.util.Objects.isNull;
+
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import de.caritas.cob.userservice.api.config.CacheManagerConfig;
 import de.caritas.cob.userservice.api.config.apiclient.TopicServiceApiControllerFactory;
 import de.caritas.cob.userservice.api.service.httpheader.SecurityHeaderSupplier;
 import de.caritas.cob.userservice.api.service.httpheader.TenantHeaderSupplier;
+import de.caritas.cob.userservice.api.tenant.TenantContext;
 import de.caritas.cob.userservice.topicservice.generated.ApiClient;
 import de.caritas.cob.userservice.topicservice.generated.web.TopicControllerApi;
 import de.caritas.cob.userservice.topicservice.generated.web.model.TopicDTO;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
@@ -18,24 +22,34 @@ import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Service;
 
+/**
+ * Provides the topics of the topic service. The map of all topics is kept per tenant in the {@link
+ * CacheManagerConfig#TOPICS_CACHE}, which refreshes it in the background, so only the first request
+ * of a tenant waits for the topic service.
+ */
 @Service
-@RequiredArgsConstructor
 @Slf4j
+@RequiredArgsConstructor
 public class TopicService {
 
   private final @NonNull TopicServiceApiControllerFactory topicServiceApiControllerFactory;
   private final @NonNull SecurityHeaderSupplier securityHeaderSupplier;
   private final @NonNull TenantHeaderSupplier tenantHeaderSupplier;
+  private final @NonNull CacheManager cacheManager;
 
-  @Cacheable(cacheNames = CacheManagerConfig.TOPICS_CACHE)
   public List<TopicDTO> getAllTopics() {
+    return new ArrayList<>(getAllTopicsMap().values());
+  }
+
+  private List<TopicDTO> fetchAllTopics(HttpHeaders headers) {
     log.info("Calling topic service to get all topics");
     TopicControllerApi controllerApi = topicServiceApiControllerFactory.createControllerApi();
-    addDefaultHeaders(controllerApi.getApiClient());
+    addHeaders(controllerApi.getApiClient(), headers);
     return controllerApi.getAllTopics();
   }
 
@@ -50,18 +64,42 @@ public class TopicService {
   private void addTenantHeaders(ApiClient apiClient) {
     var headers = new HttpHeaders();
     tenantHeaderSupplier.addTenantHeader(headers);
-    headers.forEach((key, value) -> apiClient.addDefaultHeader(key, value.iterator().next()));
+    addHeaders(apiClient, headers);
   }
 
-  private void addDefaultHeaders(ApiClient apiClient) {
+  private HttpHeaders obtainDefaultHeaders() {
     var headers = this.securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders();
     tenantHeaderSupplier.addTenantHeader(headers);
+    return headers;
+  }
+
+  private void addHeaders(ApiClient apiClient, HttpHeaders headers) {
     headers.forEach((key, value) -> apiClient.addDefaultHeader(key, value.iterator().next()));
   }
 
-  @Cacheable(cacheNames = CacheManagerConfig.TOPICS_CACHE)
+  /**
+   * Returns all topics of the current tenant by id.
+   *
+   * @return the topics by id
+   */
   public Map<Long, TopicDTO> getAllTopicsMap() {
-    var allTopics = this.getAllTopics();
+    // the request scoped headers have to be resolved before the cache refreshes in the background
+    var headers = obtainDefaultHeaders();
+    return topicsCache()
+        .get(String.valueOf(TenantContext.getCurrentTenant()), () -> loadTopicsMap(headers));
+  }
+
+  private Cache topicsCache() {
+    var cache = cacheManager.getCache(CacheManagerConfig.TOPICS_CACHE);
+    if (isNull(cache)) {
+      throw new IllegalStateException(
+          String.format("Cache %s is not configured", CacheManagerConfig.TOPICS_CACHE));
+    }
+    return cache;
+  }
+
+  private Map<Long, TopicDTO> loadTopicsMap(HttpHeaders headers) {
+    var allTopics = fetchAllTopics(headers);
     return allTopics == null || allTopics.isEmpty()
         ? Maps.newHashMap()
         : getAllTopicsMap(allTopics);
@@ -20,9 +20,20 @@ public class TenantHeaderSupplier {
   private boolean multitenancy;
 
   public void addTenantHeader(HttpHeaders headers) {
+    addTenantHeader(headers, TenantContext.getCurrentTenant());
+  }
+
+  /**
+   * Adds the header of the given tenant, for calls running outside of the tenant context of the
+   * request.
+   *
+   * @param headers the headers to add the tenant header to
+   * @param tenantId the id of the tenant, may be null
+   */
+  public void addTenantHeader(HttpHeaders headers, Long tenantId) {
     if (multitenancy) {
-      if (TenantContext.getCurrentTenant() != null) {
-        headers.add("tenantId", TenantContext.getCurrentTenant().toString());
+      if (tenantId != null) {
+        headers.add("tenantId", tenantId.toString());
       } else {
         log.warn(
             "Not setting tenantId header, because tenant context was not set. It's okay only for non-auth user context.'");
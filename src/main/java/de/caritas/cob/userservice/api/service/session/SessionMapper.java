@@ -23,10 +23,15 @@ import java.util.LinkedHashMap;
 import java.util.Map;
 import lombok.RequiredArgsConstructor;
 
-/** Mapper class to map a {@link Session} to possible dto objects. */
+/**
+ * Mapper class to map a {@link Session} to possible dto objects. The mapper holds no state, so one
+ * instance can be reused for all sessions of a list.
+ */
 @RequiredArgsConstructor
 public class SessionMapper {
 
+  private final UsernameTranscoder usernameTranscoder = new UsernameTranscoder();
+
   /**
    * Maps the given {@link Session} to a {@link ConsultantSessionResponseDTO}.
    *
@@ -79,7 +84,7 @@ public class SessionMapper {
       var sessionUserDto = new SessionUserDTO();
       sessionUserDto.setId(session.getUser().getUserId());
       sessionUserDto.setUsername(
-          new UsernameTranscoder().decodeUsername(session.getUser().getUsername()));
+          usernameTranscoder.decodeUsername(session.getUser().getUsername()));
       sessionUserDto.setSessionData(buildSessionDataMapFromSession(session));
       sessionUserDto.setDeleted(session.getUser().getDeleteDate() != null);
       return sessionUserDto;
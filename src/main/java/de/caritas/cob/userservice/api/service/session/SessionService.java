@@ -30,6 +30,7 @@ import de.caritas.cob.userservice.api.model.Session.SessionStatus;
 import de.caritas.cob.userservice.api.model.SessionTopic;
 import de.caritas.cob.userservice.api.model.User;
 import de.caritas.cob.userservice.api.port.out.SessionRepository;
+import de.caritas.cob.userservice.api.port.out.SessionRepository.SessionListVersion;
 import de.caritas.cob.userservice.api.service.ConsultantService;
 import de.caritas.cob.userservice.api.service.LogService;
 import de.caritas.cob.userservice.api.service.agency.AgencyService;
@@ -39,9 +40,11 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -51,6 +54,8 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Service;
 
@@ -66,6 +71,7 @@ public class SessionService {
   private final @NonNull UserService userService;
   private final @NonNull ConsultingTypeManager consultingTypeManager;
   private final @Nullable ConsultantSessionTopicEnrichmentService sessionTopicEnrichmentService;
+  private final SessionMapper sessionMapper = new SessionMapper();
 
   @Value("${feature.topics.enabled}")
   private boolean topicsFeatureEnabled;
@@ -145,13 +151,7 @@ public class SessionService {
     List<UserSessionResponseDTO> sessionResponseDTOs = new ArrayList<>();
     List<Session> sessions = sessionRepository.findByUserUserId(userId);
     if (isNotEmpty(sessions)) {
-      List<Long> agencyIds =
-          sessions.stream()
-              .map(Session::getAgencyId)
-              .filter(Objects::nonNull)
-              .collect(Collectors.toList());
-      List<AgencyDTO> agencies = agencyService.getAgencies(agencyIds);
-      sessionResponseDTOs = convertToUserSessionResponseDTO(sessions, agencies);
+      sessionResponseDTOs = convertToUserSessionResponseDTO(sessions, fetchAgencies(sessions));
     }
     return sessionResponseDTOs;
   }
@@ -326,6 +326,29 @@ public class SessionService {
             consultantAgencyIds, SessionStatus.NEW, RegistrationType.REGISTERED);
   }
 
+  /**
+   * Retrieves one page of the related registered enquiries of given {@link Consultant}. Only the
+   * sessions of the requested page are loaded from the database.
+   *
+   * @param consultant the consultant
+   * @param pageable the requested page
+   * @return the related {@link ConsultantSessionResponseDTO}s of the page
+   */
+  public Page<ConsultantSessionResponseDTO> getRegisteredEnquiriesForConsultant(
+      Consultant consultant, Pageable pageable) {
+    Set<ConsultantAgency> consultantAgencies = consultant.getConsultantAgencies();
+    if (isNotEmpty(consultantAgencies)) {
+      return this.sessionRepository
+          .findByAgencyIdInAndConsultantIsNullAndStatusAndRegistrationTypeOrderByEnquiryMessageDateAscIdAsc(
+              toAgencyIds(consultantAgencies),
+              SessionStatus.NEW,
+              RegistrationType.REGISTERED,
+              pageable)
+          .map(session -> sessionMapper.toConsultantSessionDto(session));
+    }
+    return Page.empty(pageable);
+  }
+
   /**
    * Retrieves all related active sessions of given {@link Consultant}.
    *
@@ -338,7 +361,7 @@ public class SessionService {
             getSessionsForConsultantByStatus(consultant, SessionStatus.IN_PROGRESS),
             getSessionsForConsultantByStatus(consultant, SessionStatus.DONE))
         .flatMap(Collection::stream)
-        .map(session -> new SessionMapper().toConsultantSessionDto(session))
+        .map(session -> sessionMapper.toConsultantSessionDto(session))
         .collect(Collectors.toList());
   }
 
@@ -348,20 +371,17 @@ public class SessionService {
   }
 
   private List<UserSessionResponseDTO> convertToUserSessionResponseDTO(
-      List<Session> sessions, List<AgencyDTO> agencies) {
+      List<Session> sessions, Map<Long, AgencyDTO> agenciesById) {
     return sessions.stream()
-        .map(session -> buildUserSessionDTO(session, agencies))
+        .map(session -> buildUserSessionDTO(session, agenciesById))
         .collect(Collectors.toList());
   }
 
-  private UserSessionResponseDTO buildUserSessionDTO(Session session, List<AgencyDTO> agencies) {
+  private UserSessionResponseDTO buildUserSessionDTO(
+      Session session, Map<Long, AgencyDTO> agenciesById) {
     return new UserSessionResponseDTO()
-        .session(new SessionMapper().convertToSessionDTO(session))
-        .agency(
-            agencies.stream()
-                .filter(agency -> agency.getId().longValue() == session.getAgencyId().longValue())
-                .findAny()
-                .orElse(null))
+        .session(sessionMapper.convertToSessionDTO(session))
+        .agency(isNull(session.getAgencyId()) ? null : agenciesById.get(session.getAgencyId()))
         .consultant(
             nonNull(session.getConsultant())
                 ? convertToSessionConsultantForUserDTO(session.getConsultant())
@@ -399,8 +419,7 @@ public class SessionService {
     checkForAskerRoles(roles);
     var sessions = sessionRepository.findByGroupOrFeedbackGroupIds(rcGroupIds);
     sessions.forEach(session -> checkAskerPermissionForSession(session, userId, roles));
-    List<AgencyDTO> agencies = fetchAgencies(sessions);
-    return convertToUserSessionResponseDTO(sessions, agencies);
+    return convertToUserSessionResponseDTO(sessions, fetchAgencies(sessions));
   }
 
   /**
@@ -418,17 +437,22 @@ public class SessionService {
         StreamSupport.stream(sessionRepository.findAllById(sessionIds).spliterator(), false)
             .collect(Collectors.toList());
     sessions.forEach(session -> checkAskerPermissionForSession(session, userId, roles));
-    List<AgencyDTO> agencies = fetchAgencies(sessions);
-    return convertToUserSessionResponseDTO(sessions, agencies);
+    return convertToUserSessionResponseDTO(sessions, fetchAgencies(sessions));
   }
 
-  private List<AgencyDTO> fetchAgencies(List<Session> sessions) {
+  /**
+   * Fetches the agencies of the given sessions once and indexes them by their id, so each session
+   * can look up its agency without scanning the whole agency list.
+   */
+  private Map<Long, AgencyDTO> fetchAgencies(List<Session> sessions) {
     Set<Long> agencyIds =
         sessions.stream()
             .map(Session::getAgencyId)
             .filter(Objects::nonNull)
             .collect(Collectors.toSet());
-    return agencyService.getAgencies(new ArrayList<>(agencyIds));
+    return agencyService.getAgencies(new ArrayList<>(agencyIds)).stream()
+        .filter(Objects::nonNull)
+        .collect(Collectors.toMap(AgencyDTO::getId, Function.identity(), (first, second) -> first));
   }
 
   /**
@@ -695,36 +719,87 @@ public class SessionService {
   }
 
   /**
-   * Retrieves all archived team sessions of given {@link Consultant}.
+   * Retrieves one page of the archived sessions of given {@link Consultant}.
    *
    * @param consultant the consultant
-   * @return the related {@link ConsultantSessionResponseDTO}s
+   * @param pageable the requested page
+   * @return the related {@link ConsultantSessionResponseDTO}s of the page
    */
-  public List<ConsultantSessionResponseDTO> getArchivedTeamSessionsForConsultant(
-      Consultant consultant) {
-    final List<Session> sessions = retrieveArchivedTeamSessionsForConsultant(consultant);
-    return mapSessionsToConsultantSessionDto(sessions);
+  public Page<ConsultantSessionResponseDTO> getArchivedSessionsForConsultant(
+      Consultant consultant, Pageable pageable) {
+    return this.sessionRepository
+        .findByConsultantAndStatusOrderByUpdateDateDescIdAsc(
+            consultant, SessionStatus.IN_ARCHIVE, pageable)
+        .map(session -> sessionMapper.toConsultantSessionDto(session));
   }
 
-  private List<Session> retrieveArchivedTeamSessionsForConsultant(Consultant consultant) {
+  /**
+   * Retrieves one page of the archived team sessions of given {@link Consultant}.
+   *
+   * @param consultant the consultant
+   * @param pageable the requested page
+   * @return the related {@link ConsultantSessionResponseDTO}s of the page
+   */
+  public Page<ConsultantSessionResponseDTO> getArchivedTeamSessionsForConsultant(
+      Consultant consultant, Pageable pageable) {
     Set<ConsultantAgency> consultantAgencies = consultant.getConsultantAgencies();
     if (isNotEmpty(consultantAgencies)) {
-      List<Long> consultantAgencyIds =
-          consultantAgencies.stream()
-              .map(ConsultantAgency::getAgencyId)
-              .collect(Collectors.toList());
       return this.sessionRepository
-          .findByAgencyIdInAndConsultantNotAndStatusAndTeamSessionIsTrueOrderByUpdateDateDesc(
-              consultantAgencyIds, consultant, SessionStatus.IN_ARCHIVE);
+          .findByAgencyIdInAndConsultantNotAndStatusAndTeamSessionIsTrueOrderByUpdateDateDescIdAsc(
+              toAgencyIds(consultantAgencies), consultant, SessionStatus.IN_ARCHIVE, pageable)
+          .map(session -> sessionMapper.toConsultantSessionDto(session));
     }
-    return emptyList();
+    return Page.empty(pageable);
+  }
+
+  /**
+   * Returns the number and the latest update date of the sessions of given user.
+   *
+   * @param userId the id of the user
+   * @return the {@link SessionListVersion}
+   */
+  public SessionListVersion getSessionListVersionForUser(String userId) {
+    return sessionRepository.findSessionListVersionByUserId(userId);
+  }
+
+  /**
+   * Returns the ids of the agencies of the sessions of given user.
+   *
+   * @param userId the id of the user
+   * @return the agency ids
+   */
+  public List<Long> getAgencyIdsOfUserSessions(String userId) {
+    return sessionRepository.findAgencyIdsByUserId(userId);
+  }
+
+  /**
+   * Returns the number and the latest update date of all sessions which can be listed for given
+   * {@link Consultant}: the assigned sessions and the enquiries and team sessions of the agencies
+   * of the consultant.
+   *
+   * @param consultant the consultant
+   * @return the {@link SessionListVersion}
+   */
+  public SessionListVersion getSessionListVersionForConsultant(Consultant consultant) {
+    Set<ConsultantAgency> consultantAgencies = consultant.getConsultantAgencies();
+    if (isNotEmpty(consultantAgencies)) {
+      return sessionRepository.findSessionListVersionByConsultantAndAgencyIds(
+          consultant, toAgencyIds(consultantAgencies));
+    }
+    return sessionRepository.findSessionListVersionByConsultant(consultant);
+  }
+
+  private List<Long> toAgencyIds(Set<ConsultantAgency> consultantAgencies) {
+    return consultantAgencies.stream()
+        .map(ConsultantAgency::getAgencyId)
+        .collect(Collectors.toList());
   }
 
   private List<ConsultantSessionResponseDTO> mapSessionsToConsultantSessionDto(
       List<Session> sessions) {
     if (nonNull(sessions)) {
       return sessions.stream()
-          .map(session -> new SessionMapper().toConsultantSessionDto(session))
+          .map(session -> sessionMapper.toConsultantSessionDto(session))
           .collect(Collectors.toList());
     }
     return emptyList();
@@ -4,7 +4,9 @@ import de.caritas.cob.userservice.api.adapters.web.dto.SessionDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.SessionTopicDTO;
 import de.caritas.cob.userservice.api.service.consultingtype.TopicService;
 import de.caritas.cob.userservice.topicservice.generated.web.model.TopicDTO;
+import java.util.Collection;
 import java.util.Map;
+import java.util.function.Consumer;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -38,6 +40,40 @@ public class SessionTopicEnrichmentService {
     return session;
   }
 
+  /**
+   * Enriches the given sessions with topic data. The available topics are resolved once for all
+   * sessions instead of once per session.
+   *
+   * @param sessions the sessions to be enriched
+   */
+  public void enrichSessionsWithTopicData(Collection<SessionDTO> sessions) {
+    buildChunkEnricher(sessions).accept(sessions);
+  }
+
+  /**
+   * Builds an enricher for chunks of the given sessions. The available topics are resolved in
+   * advance, so enriching a chunk does not call the topic service and cannot fail while a session
+   * list is already written to the response.
+   *
+   * @param sessions all sessions the chunks are taken from
+   * @return the enricher of a chunk of sessions
+   */
+  public Consumer<Collection<SessionDTO>> buildChunkEnricher(Collection<SessionDTO> sessions) {
+    if (sessions == null || sessions.stream().noneMatch(this::shouldEnrichTopic)) {
+      log.debug("Skipping topic enrichment, no session with topic id given");
+      return chunk -> {};
+    }
+    var availableTopics = topicService.getAllTopicsMap();
+    log.debug(
+        "Enriching {} sessions with topics, available topics list has size: {}",
+        sessions.size(),
+        availableTopics.size());
+    return chunk ->
+        chunk.stream()
+            .filter(this::shouldEnrichTopic)
+            .forEach(session -> enrichSession(availableTopics, session));
+  }
+
   private boolean shouldEnrichTopic(SessionDTO session) {
     return session != null && session.getTopic() != null && session.getTopic().getId() != null;
   }
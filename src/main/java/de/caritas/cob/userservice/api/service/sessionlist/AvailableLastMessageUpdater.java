@@ -93,7 +93,8 @@ public class AvailableLastMessageUpdater {
     lastMessage.setT(roomsLastMessage.getType());
     if (isNotBlank(roomsLastMessage.getMessage())) {
       var message =
-          sessionListAnalyser.prepareMessageForSessionList(roomsLastMessage.getMessage(), groupId);
+          sessionListAnalyser.prepareMessageForSessionList(
+              roomsLastMessage.getMessage(), groupId, roomsLastMessage.getId());
       lastMessage.setMsg(message);
       return lastMessage;
     }
@@ -130,14 +131,9 @@ public class AvailableLastMessageUpdater {
       RocketChatRoomInformation rocketChatRoomInformation,
       String groupId,
       RoomsLastMessageDTO roomsLastMessage) {
-    var updateRoomTimestamp =
-        rocketChatRoomInformation.getRoomsForUpdate().stream()
-            .filter(room -> room.getId().equals(groupId))
-            .findFirst();
+    var updateRoomTimestamp = rocketChatRoomInformation.getLastMessageDate(groupId);
     var latestMessageFromUpdateRoom =
-        updateRoomTimestamp.isPresent()
-            ? updateRoomTimestamp.get().getLastMessageDate()
-            : Date.from(Instant.EPOCH);
+        nonNull(updateRoomTimestamp) ? updateRoomTimestamp : Date.from(Instant.EPOCH);
     var roomsLastMessageDate =
         nonNull(roomsLastMessage.getTimestamp())
             ? roomsLastMessage.getTimestamp()
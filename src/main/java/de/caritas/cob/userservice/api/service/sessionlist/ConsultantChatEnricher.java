@@ -1,7 +1,5 @@
 package de.caritas.cob.userservice.api.service.sessionlist;
 
-import static java.util.Objects.nonNull;
-
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatCredentials;
 import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantSessionResponseDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.UserChatDTO;
@@ -44,7 +42,26 @@ public class ConsultantChatEnricher {
             RocketChatCredentials.builder()
                 .rocketChatToken(rcToken)
                 .rocketChatUserId(consultant.getRocketChatId())
-                .build());
+                .build(),
+            SessionListGroupIds.ofConsultantSessions(consultantSessionResponseDTOs));
+
+    return updateRequiredConsultantChatValues(
+        consultantSessionResponseDTOs, rocketChatRoomInformation, consultant);
+  }
+
+  /**
+   * Enriches the given chats with already retrieved Rocket.Chat room information, so that one
+   * retrieval can be shared with the enrichment of sessions.
+   *
+   * @param consultantSessionResponseDTOs the chat list to be enriched
+   * @param rocketChatRoomInformation the {@link RocketChatRoomInformation} of the consultant
+   * @param consultant the {@link Consultant}
+   * @return the enriched {@link ConsultantSessionResponseDTO}s
+   */
+  public List<ConsultantSessionResponseDTO> updateRequiredConsultantChatValues(
+      List<ConsultantSessionResponseDTO> consultantSessionResponseDTOs,
+      RocketChatRoomInformation rocketChatRoomInformation,
+      Consultant consultant) {
 
     consultantSessionResponseDTOs.forEach(
         consultantSessionResponseDTO ->
@@ -64,9 +81,7 @@ public class ConsultantChatEnricher {
       ConsultantSessionResponseDTO consultantSessionResponseDTO) {
     UserChatDTO chat = consultantSessionResponseDTO.getChat();
 
-    chat.setSubscribed(
-        isRoomSubscribedByConsultant(
-            rocketChatRoomInformation.getUserRooms(), consultantSessionResponseDTO));
+    chat.setSubscribed(rocketChatRoomInformation.isUserRoom(chat.getGroupId()));
     chat.setMessagesRead(
         rocketChatRoomInformation.getReadMessages().getOrDefault(chat.getGroupId(), true));
 
@@ -77,9 +92,4 @@ public class ConsultantChatEnricher {
             rocketChatRoomInformation,
             rcUserId);
   }
-
-  private boolean isRoomSubscribedByConsultant(
-      List<String> userRoomsList, ConsultantSessionResponseDTO chat) {
-    return nonNull(userRoomsList) && userRoomsList.contains(chat.getChat().getGroupId());
-  }
 }
@@ -2,13 +2,17 @@ package de.caritas.cob.userservice.api.service.sessionlist;
 
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatCredentials;
 import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantSessionResponseDTO;
+import de.caritas.cob.userservice.api.adapters.web.dto.SessionDTO;
 import de.caritas.cob.userservice.api.container.RocketChatRoomInformation;
 import de.caritas.cob.userservice.api.facade.sessionlist.RocketChatRoomInformationProvider;
 import de.caritas.cob.userservice.api.helper.SessionListAnalyser;
 import de.caritas.cob.userservice.api.manager.consultingtype.ConsultingTypeManager;
 import de.caritas.cob.userservice.api.model.Consultant;
 import de.caritas.cob.userservice.api.service.session.SessionTopicEnrichmentService;
+import java.util.Collection;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -37,15 +41,69 @@ public class ConsultantSessionEnricher {
 
     var rocketChatRoomInformation =
         this.rocketChatRoomInformationProvider.retrieveRocketChatInformation(
-            RocketChatCredentials.builder()
-                .rocketChatToken(rcToken)
-                .rocketChatUserId(consultant.getRocketChatId())
-                .build());
+            buildCredentials(rcToken, consultant),
+            SessionListGroupIds.ofConsultantSessions(consultantSessionResponseDTOs));
+
+    return updateRequiredConsultantSessionValues(
+        consultantSessionResponseDTOs, rocketChatRoomInformation, consultant);
+  }
+
+  /**
+   * Builds an enricher for chunks of a session list page. The Rocket.Chat room information of the
+   * groups of the page and the topics are retrieved once in advance, so that the chunks can be
+   * enriched while the list is written to the response without calling other services, which could
+   * fail after the first sessions have been sent.
+   *
+   * @param rcToken the Rocket.Chat token of the consultant
+   * @param consultant the {@link Consultant}
+   * @param sessions the sessions of the page the chunks are taken from
+   * @return the enricher of a chunk of sessions
+   */
+  public Consumer<List<ConsultantSessionResponseDTO>> buildChunkEnricher(
+      String rcToken, Consultant consultant, List<ConsultantSessionResponseDTO> sessions) {
+    var rocketChatRoomInformation =
+        this.rocketChatRoomInformationProvider.retrieveRocketChatInformation(
+            buildCredentials(rcToken, consultant),
+            SessionListGroupIds.ofConsultantSessions(sessions));
+    Consumer<Collection<SessionDTO>> topicEnricher =
+        topicsFeatureEnabled
+            ? sessionTopicEnrichmentService.buildChunkEnricher(toSessionDTOs(sessions))
+            : chunk -> {};
+    return chunk -> {
+      chunk.forEach(
+          consultantSessionResponseDTO ->
+              enrichConsultantSession(
+                  consultantSessionResponseDTO, rocketChatRoomInformation, consultant));
+      topicEnricher.accept(toSessionDTOs(chunk));
+    };
+  }
+
+  private RocketChatCredentials buildCredentials(String rcToken, Consultant consultant) {
+    return RocketChatCredentials.builder()
+        .rocketChatToken(rcToken)
+        .rocketChatUserId(consultant.getRocketChatId())
+        .build();
+  }
+
+  /**
+   * Enriches the given sessions with already retrieved Rocket.Chat room information, so that one
+   * retrieval can be shared with the enrichment of chats.
+   *
+   * @param consultantSessionResponseDTOs the session list to be enriched
+   * @param rocketChatRoomInformation the {@link RocketChatRoomInformation} of the consultant
+   * @param consultant the {@link Consultant}
+   * @return the enriched {@link ConsultantSessionResponseDTO}s
+   */
+  public List<ConsultantSessionResponseDTO> updateRequiredConsultantSessionValues(
+      List<ConsultantSessionResponseDTO> consultantSessionResponseDTOs,
+      RocketChatRoomInformation rocketChatRoomInformation,
+      Consultant consultant) {
 
     consultantSessionResponseDTOs.forEach(
         consultantSessionResponseDTO ->
             this.enrichConsultantSession(
                 consultantSessionResponseDTO, rocketChatRoomInformation, consultant));
+    enrichSessionsWithTopics(consultantSessionResponseDTOs);
     return consultantSessionResponseDTOs;
   }
 
@@ -79,16 +137,23 @@ public class ConsultantSessionEnricher {
               .getLastMessagesRoom()
               .containsKey(session.getFeedbackGroupId()));
     }
-    enrichSessionWithTopic(consultantSessionResponseDTO);
   }
 
-  private void enrichSessionWithTopic(ConsultantSessionResponseDTO consultantSessionResponseDTO) {
+  private void enrichSessionsWithTopics(
+      List<ConsultantSessionResponseDTO> consultantSessionResponseDTOs) {
     if (topicsFeatureEnabled) {
-      sessionTopicEnrichmentService.enrichSessionWithTopicData(
-          consultantSessionResponseDTO.getSession());
+      sessionTopicEnrichmentService.enrichSessionsWithTopicData(
+          toSessionDTOs(consultantSessionResponseDTOs));
     }
   }
 
+  private List<SessionDTO> toSessionDTOs(
+      List<ConsultantSessionResponseDTO> consultantSessionResponseDTOs) {
+    return consultantSessionResponseDTOs.stream()
+        .map(ConsultantSessionResponseDTO::getSession)
+        .collect(Collectors.toList());
+  }
+
   private boolean isFeedbackFlagAvailable(
       RocketChatRoomInformation rocketChatRoomInformation, ConsultantSessionResponseDTO session) {
     return rocketChatRoomInformation
@@ -2,6 +2,7 @@ package de.caritas.cob.userservice.api.service.sessionlist;
 
 import static java.util.Collections.emptyList;
 import static java.util.Objects.nonNull;
+import static org.apache.commons.collections4.CollectionUtils.isEmpty;
 import static org.apache.commons.collections4.CollectionUtils.isNotEmpty;
 import static org.apache.commons.lang3.BooleanUtils.isTrue;
 
@@ -10,6 +11,7 @@ import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantSessionListResp
 import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantSessionResponseDTO;
 import de.caritas.cob.userservice.api.container.SessionListQueryParameter;
 import de.caritas.cob.userservice.api.exception.httpresponses.BadRequestException;
+import de.caritas.cob.userservice.api.facade.sessionlist.RocketChatRoomInformationProvider;
 import de.caritas.cob.userservice.api.model.Consultant;
 import de.caritas.cob.userservice.api.model.Session.SessionStatus;
 import de.caritas.cob.userservice.api.service.ChatService;
@@ -33,6 +35,7 @@ public class ConsultantSessionListService {
   private final @NonNull ChatService chatService;
   private final @NonNull ConsultantSessionEnricher consultantSessionEnricher;
   private final @NonNull ConsultantChatEnricher consultantChatEnricher;
+  private final @NonNull RocketChatRoomInformationProvider rocketChatRoomInformationProvider;
   private final RocketChatCredentials rocketChatCredentials;
 
   /**
@@ -153,18 +156,43 @@ public class ConsultantSessionListService {
       List<ConsultantSessionResponseDTO> sessions,
       List<ConsultantSessionResponseDTO> chats) {
     List<ConsultantSessionResponseDTO> allSessions = new ArrayList<>();
+    if (isEmpty(sessions) && isEmpty(chats)) {
+      return allSessions;
+    }
 
-    var rcAuthToken = rocketChatCredentials.getRocketChatToken();
+    var rocketChatRoomInformation =
+        rocketChatRoomInformationProvider.retrieveRocketChatInformation(
+            RocketChatCredentials.builder()
+                .rocketChatToken(rocketChatCredentials.getRocketChatToken())
+                .rocketChatUserId(consultant.getRocketChatId())
+                .build(),
+            mergeGroupIds(sessions, chats));
     if (isNotEmpty(sessions)) {
-      allSessions.addAll(updateConsultantSessionValues(sessions, rcAuthToken, consultant));
+      allSessions.addAll(
+          consultantSessionEnricher.updateRequiredConsultantSessionValues(
+              sessions, rocketChatRoomInformation, consultant));
     }
 
     if (isNotEmpty(chats)) {
-      allSessions.addAll(updateConsultantChatValues(chats, rcAuthToken, consultant));
+      allSessions.addAll(
+          consultantChatEnricher.updateRequiredConsultantChatValues(
+              chats, rocketChatRoomInformation, consultant));
     }
     return allSessions;
   }
 
+  private Set<String> mergeGroupIds(
+      List<ConsultantSessionResponseDTO> sessions, List<ConsultantSessionResponseDTO> chats) {
+    var groupIds = new HashSet<String>();
+    if (isNotEmpty(sessions)) {
+      groupIds.addAll(SessionListGroupIds.ofConsultantSessions(sessions));
+    }
+    if (isNotEmpty(chats)) {
+      groupIds.addAll(SessionListGroupIds.ofConsultantSessions(chats));
+    }
+    return groupIds;
+  }
+
   private void sortSessionsByLastMessageDateDesc(List<ConsultantSessionResponseDTO> sessions) {
     sessions.sort(Comparator.comparing(ConsultantSessionResponseDTO::getLatestMessage).reversed());
   }
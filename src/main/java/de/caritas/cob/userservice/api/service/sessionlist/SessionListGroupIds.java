@@ -0,0 +1,58 @@
+package de.caritas.cob.userservice.api.service.sessionlist;
+
+import static java.util.Objects.nonNull;
+
+import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantSessionResponseDTO;
+import de.caritas.cob.userservice.api.adapters.web.dto.SessionDTO;
+import de.caritas.cob.userservice.api.adapters.web.dto.UserChatDTO;
+import de.caritas.cob.userservice.api.adapters.web.dto.UserSessionResponseDTO;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/** Collects the Rocket.Chat group ids of session lists, i.e. the rooms to be enriched. */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+class SessionListGroupIds {
+
+  static Set<String> ofConsultantSessions(
+      Collection<ConsultantSessionResponseDTO> consultantSessionResponseDTOs) {
+    var groupIds = new HashSet<String>();
+    consultantSessionResponseDTOs.forEach(
+        sessionResponse -> {
+          addGroupIds(groupIds, sessionResponse.getSession());
+          addGroupId(groupIds, sessionResponse.getChat());
+        });
+    return groupIds;
+  }
+
+  static Set<String> ofUserSessions(Collection<UserSessionResponseDTO> userSessionResponseDTOs) {
+    var groupIds = new HashSet<String>();
+    userSessionResponseDTOs.forEach(
+        sessionResponse -> {
+          addGroupIds(groupIds, sessionResponse.getSession());
+          addGroupId(groupIds, sessionResponse.getChat());
+        });
+    return groupIds;
+  }
+
+  private static void addGroupIds(Set<String> groupIds, SessionDTO session) {
+    if (nonNull(session)) {
+      addIfPresent(groupIds, session.getGroupId());
+      addIfPresent(groupIds, session.getFeedbackGroupId());
+    }
+  }
+
+  private static void addGroupId(Set<String> groupIds, UserChatDTO chat) {
+    if (nonNull(chat)) {
+      addIfPresent(groupIds, chat.getGroupId());
+    }
+  }
+
+  private static void addIfPresent(Set<String> groupIds, String groupId) {
+    if (nonNull(groupId)) {
+      groupIds.add(groupId);
+    }
+  }
+}
@@ -0,0 +1,168 @@
+package de.caritas.cob.userservice.api.service.sessionlist;
+
+import static org.apache.commons.lang3.StringUtils.isBlank;
+
+import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatCredentials;
+import de.caritas.cob.userservice.api.facade.sessionlist.RocketChatRoomInformationProvider;
+import de.caritas.cob.userservice.api.model.Consultant;
+import de.caritas.cob.userservice.api.port.out.ChatRepository.ChatListVersion;
+import de.caritas.cob.userservice.api.port.out.SessionRepository.SessionListVersion;
+import de.caritas.cob.userservice.api.service.ChatService;
+import de.caritas.cob.userservice.api.service.agency.AgencyService;
+import de.caritas.cob.userservice.api.service.consultingtype.TopicService;
+import de.caritas.cob.userservice.api.service.session.SessionService;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.StringJoiner;
+import java.util.TreeSet;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.util.DigestUtils;
+
+/**
+ * Computes entity tags of session lists, so that polling clients only receive a session list if it
+ * has been changed. A tag is derived from the number and the latest update date of the sessions and
+ * chats in the database, from the latest update dates of the consultants and users of the sessions,
+ * from the cached agencies and topics and from the update timestamps of the Rocket.Chat rooms and
+ * subscriptions of the user, so no session has to be loaded or enriched to compute it.
+ */
+@Service
+@RequiredArgsConstructor
+public class SessionListVersionService {
+
+  private static final String WEAK_ETAG_PREFIX = "W/";
+  private static final String ANY_ETAG = "*";
+
+  private final @NonNull SessionService sessionService;
+  private final @NonNull ChatService chatService;
+  private final @NonNull AgencyService agencyService;
+  private final @NonNull TopicService topicService;
+  private final @NonNull RocketChatRoomInformationProvider rocketChatRoomInformationProvider;
+
+  @Value("${feature.topics.enabled}")
+  private boolean topicsFeatureEnabled;
+
+  /**
+   * Computes the entity tag of the session list of an user, which includes the chats of the user
+   * and the agencies of the sessions and chats.
+   *
+   * @param userId the id of the user
+   * @param rocketChatCredentials the Rocket.Chat credentials of the user
+   * @param requestParameters the parameters of the list request, e.g. offset and count
+   * @return the weak entity tag of the session list
+   */
+  public String computeUserSessionListETag(
+      String userId, RocketChatCredentials rocketChatCredentials, Object... requestParameters) {
+    var agencyIds = new TreeSet<>(sessionService.getAgencyIdsOfUserSessions(userId));
+    agencyIds.addAll(chatService.getAgencyIdsOfUserChats(userId));
+    var version =
+        new StringJoiner("|")
+            .add(userId)
+            .add(sessionListVersion(sessionService.getSessionListVersionForUser(userId)))
+            .add(chatListVersion(chatService.getChatListVersionForUser(userId)))
+            .add(String.valueOf(agencyService.getAgencies(new ArrayList<>(agencyIds)).hashCode()))
+            .add(String.valueOf(topicsVersion()))
+            .add(roomVersion(rocketChatCredentials))
+            .add(Arrays.toString(requestParameters));
+    return toETag(version);
+  }
+
+  /**
+   * Computes the entity tag of a session list of a consultant. The tag covers the assigned sessions
+   * and the enquiries and team sessions of the agencies of the consultant.
+   *
+   * @param consultant the {@link Consultant}
+   * @param rcToken the Rocket.Chat token of the consultant
+   * @param requestParameters the parameters of the list request, e.g. offset and count
+   * @return the weak entity tag of the session list
+   */
+  public String computeConsultantSessionListETag(
+      Consultant consultant, String rcToken, Object... requestParameters) {
+    return toETag(consultantSessionListVersion(consultant, rcToken, requestParameters));
+  }
+
+  /**
+   * Computes the entity tag of a session list of a consultant which also includes the chats of the
+   * agencies of the consultant, like the list of sessions in progress.
+   *
+   * @param consultant the {@link Consultant}
+   * @param rcToken the Rocket.Chat token of the consultant
+   * @param requestParameters the parameters of the list request, e.g. offset and count
+   * @return the weak entity tag of the session and chat list
+   */
+  public String computeConsultantSessionAndChatListETag(
+      Consultant consultant, String rcToken, Object... requestParameters) {
+    return toETag(
+        consultantSessionListVersion(consultant, rcToken, requestParameters)
+            .add(chatListVersion(chatService.getChatListVersionForConsultant(consultant))));
+  }
+
+  /**
+   * Checks if the given entity tag is matched by the value of an If-None-Match header.
+   *
+   * @param ifNoneMatch the value of the If-None-Match header, may be null
+   * @param eTag the current entity tag
+   * @return true, if the client already has the current version of the resource
+   */
+  public boolean isNotModified(String ifNoneMatch, String eTag) {
+    if (isBlank(ifNoneMatch) || isBlank(eTag)) {
+      return false;
+    }
+    var currentTag = stripWeakPrefix(eTag);
+    return Arrays.stream(ifNoneMatch.split(","))
+        .map(String::trim)
+        .anyMatch(tag -> ANY_ETAG.equals(tag) || currentTag.equals(stripWeakPrefix(tag)));
+  }
+
+  private StringJoiner consultantSessionListVersion(
+      Consultant consultant, String rcToken, Object... requestParameters) {
+    var rocketChatCredentials =
+        RocketChatCredentials.builder()
+            .rocketChatUserId(consultant.getRocketChatId())
+            .rocketChatToken(rcToken)
+            .build();
+    return new StringJoiner("|")
+        .add(consultant.getId())
+        .add(sessionListVersion(sessionService.getSessionListVersionForConsultant(consultant)))
+        .add(String.valueOf(topicsVersion()))
+        .add(roomVersion(rocketChatCredentials))
+        .add(Arrays.toString(requestParameters));
+  }
+
+  private String sessionListVersion(SessionListVersion sessionListVersion) {
+    return sessionListVersion.getSessionCount()
+        + ","
+        + sessionListVersion.getLatestUpdateDate()
+        + ","
+        + sessionListVersion.getLatestConsultantUpdateDate()
+        + ","
+        + sessionListVersion.getLatestUserUpdateDate();
+  }
+
+  private String chatListVersion(ChatListVersion chatListVersion) {
+    return chatListVersion.getChatCount() + "," + chatListVersion.getLatestUpdateDate();
+  }
+
+  private String roomVersion(RocketChatCredentials rocketChatCredentials) {
+    return String.valueOf(
+        rocketChatRoomInformationProvider.retrieveRocketChatRoomVersion(rocketChatCredentials));
+  }
+
+  private String toETag(StringJoiner version) {
+    return WEAK_ETAG_PREFIX
+        + "\""
+        + DigestUtils.md5DigestAsHex(version.toString().getBytes(StandardCharsets.UTF_8))
+        + "\"";
+  }
+
+  private int topicsVersion() {
+    return topicsFeatureEnabled ? topicService.getAllTopicsMap().hashCode() : 0;
+  }
+
+  private String stripWeakPrefix(String eTag) {
+    return eTag.startsWith(WEAK_ETAG_PREFIX) ? eTag.substring(WEAK_ETAG_PREFIX.length()) : eTag;
+  }
+}
@@ -1,7 +1,5 @@
 package de.caritas.cob.userservice.api.service.sessionlist;
 
-import static java.util.Objects.nonNull;
-
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatCredentials;
 import de.caritas.cob.userservice.api.adapters.web.dto.SessionDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.UserChatDTO;
@@ -99,7 +97,8 @@ public class UserSessionListService {
     var uniqueChatIds = new HashSet<>(chatIds);
     var chats = chatService.getChatSessionsByIds(uniqueChatIds);
     var rocketChatRoomInformation =
-        rocketChatRoomInformationProvider.retrieveRocketChatInformation(rocketChatCredentials);
+        rocketChatRoomInformationProvider.retrieveRocketChatInformation(
+            rocketChatCredentials, SessionListGroupIds.ofUserSessions(chats));
     return updateUserChatValues(
         chats, rocketChatRoomInformation, rocketChatCredentials.getRocketChatUserId());
   }
@@ -109,8 +108,11 @@ public class UserSessionListService {
       List<UserSessionResponseDTO> chats,
       RocketChatCredentials rocketChatCredentials) {
 
+    var groupIds = SessionListGroupIds.ofUserSessions(sessions);
+    groupIds.addAll(SessionListGroupIds.ofUserSessions(chats));
     RocketChatRoomInformation rocketChatRoomInformation =
-        rocketChatRoomInformationProvider.retrieveRocketChatInformation(rocketChatCredentials);
+        rocketChatRoomInformationProvider.retrieveRocketChatInformation(
+            rocketChatCredentials, groupIds);
 
     List<UserSessionResponseDTO> allSessions = new ArrayList<>();
     allSessions.addAll(
@@ -172,8 +174,7 @@ public class UserSessionListService {
     UserChatDTO chat = sessionResponse.getChat();
     String groupId = chat.getGroupId();
 
-    chat.setSubscribed(
-        isRocketChatRoomSubscribedByUser(rocketChatRoomInformation.getUserRooms(), groupId));
+    chat.setSubscribed(rocketChatRoomInformation.isUserRoom(groupId));
     chat.setMessagesRead(
         sessionListAnalyser.areMessagesForRocketChatGroupReadByUser(
             rocketChatRoomInformation.getReadMessages(), groupId));
@@ -191,8 +192,4 @@ public class UserSessionListService {
         .updateChatWithAvailableLastMessage(
             chat, sessionResponse::setLatestMessage, rocketChatRoomInformation, rcUserId);
   }
-
-  private boolean isRocketChatRoomSubscribedByUser(List<String> userRoomsList, String groupId) {
-    return nonNull(userRoomsList) && userRoomsList.contains(groupId);
-  }
 }
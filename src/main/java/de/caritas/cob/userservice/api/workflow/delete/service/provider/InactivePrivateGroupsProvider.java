@@ -1,7 +1,6 @@
 package de.caritas.cob.userservice.api.workflow.delete.service.provider;
 
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatService;
-import de.caritas.cob.userservice.api.adapters.rocketchat.dto.group.GroupDTO;
 import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatGetGroupsListAllException;
 import de.caritas.cob.userservice.api.helper.CustomLocalDateTime;
 import de.caritas.cob.userservice.api.model.Chat;
@@ -44,13 +43,21 @@ public class InactivePrivateGroupsProvider {
     Set<String> groupChatIdSet = buildSetOfGroupChatGroupdIds();
 
     Map<String, List<String>> userWithInactiveGroupsMap = new HashMap<>();
-    fetchAllInactivePrivateGroups().stream()
-        .filter(group -> !groupChatIdSet.contains(group.getId()))
-        .forEach(
-            group ->
-                userWithInactiveGroupsMap
-                    .computeIfAbsent(group.getUser().getId(), v -> new ArrayList<>())
-                    .add(group.getId()));
+    try {
+      rocketChatService.fetchAllInactivePrivateGroupsSinceGivenDate(
+          retrieveDateTimeToCheck(),
+          groups ->
+              groups.stream()
+                  .filter(group -> !groupChatIdSet.contains(group.getId()))
+                  .forEach(
+                      group ->
+                          userWithInactiveGroupsMap
+                              .computeIfAbsent(group.getUser().getId(), v -> new ArrayList<>())
+                              .add(group.getId())));
+    } catch (RocketChatGetGroupsListAllException ex) {
+      LogService.logRocketChatError(ex);
+      return Collections.emptyMap();
+    }
     return userWithInactiveGroupsMap;
   }
 
@@ -59,16 +66,9 @@ public class InactivePrivateGroupsProvider {
     return chatList.stream().map(Chat::getGroupId).collect(Collectors.toSet());
   }
 
-  private List<GroupDTO> fetchAllInactivePrivateGroups() {
-    LocalDateTime dateTimeToCheck =
-        CustomLocalDateTime.nowInUtc()
-            .with(LocalTime.MIDNIGHT)
-            .minusDays(sessionInactiveDeleteWorkflowCheckDays);
-    try {
-      return rocketChatService.fetchAllInactivePrivateGroupsSinceGivenDate(dateTimeToCheck);
-    } catch (RocketChatGetGroupsListAllException ex) {
-      LogService.logRocketChatError(ex);
-    }
-    return Collections.emptyList();
+  private LocalDateTime retrieveDateTimeToCheck() {
+    return CustomLocalDateTime.nowInUtc()
+        .with(LocalTime.MIDNIGHT)
+        .minusDays(sessionInactiveDeleteWorkflowCheckDays);
   }
 }
@@ -0,0 +1,132 @@
+package de.caritas.cob.userservice.api.adapters.rocketchat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import de.caritas.cob.userservice.api.adapters.rocketchat.config.RocketChatConfig;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.StandardResponseDTO;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicReference;
+import javax.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+class RocketChatAsyncClientTest {
+
+  private final AtomicReference<String> receivedBody = new AtomicReference<>();
+  private final AtomicReference<String> receivedUserId = new AtomicReference<>();
+
+  private HttpServer server;
+  private RocketChatAsyncClient rocketChatAsyncClient;
+  private String baseUrl;
+
+  @BeforeEach
+  void setup() throws IOException {
+    server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+    server.createContext("/success", exchange -> respond(exchange, 200, "{\"success\":true}"));
+    server.createContext(
+        "/notFound",
+        exchange -> respond(exchange, 400, "{\"errorType\":\"error-room-not-found\"}"));
+    server.createContext("/failure", exchange -> respond(exchange, 503, "unavailable"));
+    server.start();
+    baseUrl = "http://localhost:" + server.getAddress().getPort();
+
+    var rocketChatConfig = new RocketChatConfig(mock(HttpServletRequest.class));
+    rocketChatConfig.setBaseUrl(baseUrl);
+    rocketChatAsyncClient =
+        new RocketChatAsyncClient(
+            rocketChatConfig,
+            new ObjectMapper(),
+            new RocketChatResilienceInterceptor(
+                rocketChatConfig, Clock.systemUTC(), new SimpleMeterRegistry()));
+  }
+
+  @AfterEach
+  void tearDown() {
+    server.stop(0);
+    rocketChatAsyncClient.shutdown();
+  }
+
+  @Test
+  void postForEntity_Should_sendJsonBodyAndReadResponse() {
+    var headers = new HttpHeaders();
+    headers.add("X-User-Id", "rcUserId");
+
+    var response =
+        rocketChatAsyncClient
+            .postForEntity(
+                baseUrl + "/success", headers, Map.of("rid", "groupId"), StandardResponseDTO.class)
+            .join();
+
+    assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+    assertThat(response.getBody().isSuccess()).isTrue();
+    assertThat(receivedBody.get()).isEqualTo("{\"rid\":\"groupId\"}");
+    assertThat(receivedUserId.get()).isEqualTo("rcUserId");
+  }
+
+  @Test
+  void postForEntity_Should_failWithClientErrorContainingBody_When_statusIsClientError() {
+    var call =
+        rocketChatAsyncClient.postForEntity(
+            baseUrl + "/notFound", new HttpHeaders(), Map.of(), StandardResponseDTO.class);
+
+    assertThatThrownBy(call::join)
+        .isInstanceOf(CompletionException.class)
+        .extracting(RocketChatAsyncClient::causeOf)
+        .isInstanceOf(HttpClientErrorException.class)
+        .extracting(Throwable::getMessage)
+        .asString()
+        .contains("error-room-not-found");
+  }
+
+  @Test
+  void getForEntity_Should_failWithServerError_When_statusIsServerError() {
+    var call =
+        rocketChatAsyncClient.getForEntity(
+            baseUrl + "/failure", new HttpHeaders(), StandardResponseDTO.class);
+
+    assertThatThrownBy(call::join)
+        .extracting(RocketChatAsyncClient::causeOf)
+        .isInstanceOf(HttpServerErrorException.class);
+  }
+
+  @Test
+  void getForEntity_Should_failWithResourceAccessException_When_serverIsNotReachable() {
+    server.stop(0);
+
+    var call =
+        rocketChatAsyncClient.getForEntity(
+            baseUrl + "/success", new HttpHeaders(), StandardResponseDTO.class);
+
+    assertThatThrownBy(call::join)
+        .extracting(RocketChatAsyncClient::causeOf)
+        .isInstanceOf(ResourceAccessException.class);
+  }
+
+  private void respond(HttpExchange exchange, int status, String body) throws IOException {
+    receivedBody.set(new String(exchange.getRequestBody().readAllBytes(), StandardCharsets.UTF_8));
+    receivedUserId.set(exchange.getRequestHeaders().getFirst("X-User-Id"));
+    var bytes = body.getBytes(StandardCharsets.UTF_8);
+    exchange.getResponseHeaders().add("Content-Type", "application/json");
+    exchange.sendResponseHeaders(status, bytes.length);
+    try (var responseBody = exchange.getResponseBody()) {
+      responseBody.write(bytes);
+    }
+  }
+}
@@ -0,0 +1,96 @@
+package de.caritas.cob.userservice.api.adapters.rocketchat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+import org.junit.jupiter.api.Test;
+
+class RocketChatAsyncPermitsTest {
+
+  private final Semaphore permits = new Semaphore(2);
+  private final RocketChatAsyncPermits asyncPermits = new RocketChatAsyncPermits(permits);
+
+  @Test
+  void submit_Should_queueCallsInSubmissionOrder_When_allPermitsAreTaken() {
+    var startedCalls = new ArrayList<Integer>();
+    var calls = new ArrayList<CompletableFuture<Integer>>();
+    var results = new ArrayList<CompletableFuture<Integer>>();
+
+    for (var i = 0; i < 5; i++) {
+      var callNumber = i;
+      results.add(asyncPermits.submit(() -> startCall(callNumber, startedCalls, calls)));
+    }
+
+    assertThat(startedCalls).containsExactly(0, 1);
+    assertThat(asyncPermits.queuedCallCount()).isEqualTo(3);
+
+    calls.get(1).complete(1);
+
+    assertThat(startedCalls).containsExactly(0, 1, 2);
+    assertThat(results.get(1).join()).isEqualTo(1);
+
+    calls.get(0).complete(0);
+    calls.get(2).complete(2);
+    calls.get(3).complete(3);
+    calls.get(4).complete(4);
+
+    assertThat(startedCalls).containsExactly(0, 1, 2, 3, 4);
+    assertThat(results).allMatch(result -> result.join() == results.indexOf(result));
+    assertThat(permits.availablePermits()).isEqualTo(2);
+  }
+
+  @Test
+  void submit_Should_returnPermit_When_callFailsOrThrows() {
+    var failedCall =
+        asyncPermits.submit(() -> CompletableFuture.failedFuture(new IllegalStateException()));
+    CompletableFuture<String> throwingCall =
+        asyncPermits.submit(
+            () -> {
+              throw new IllegalArgumentException();
+            });
+
+    assertThrows(CompletionException.class, failedCall::join);
+    var exception = assertThrows(CompletionException.class, throwingCall::join);
+    assertThat(exception.getCause()).isInstanceOf(IllegalArgumentException.class);
+    assertThat(permits.availablePermits()).isEqualTo(2);
+  }
+
+  @Test
+  void submit_Should_completeSynchronousCallsWithoutQueueing() {
+    for (var i = 0; i < 1000; i++) {
+      var callNumber = i;
+      assertThat(asyncPermits.submit(() -> CompletableFuture.completedFuture(callNumber)).join())
+          .isEqualTo(callNumber);
+    }
+
+    assertThat(asyncPermits.queuedCallCount()).isZero();
+    assertThat(permits.availablePermits()).isEqualTo(2);
+  }
+
+  @Test
+  void release_Should_startQueuedCall_When_permitOfBlockingCallerIsReturned()
+      throws InterruptedException {
+    permits.acquire(2);
+    var queuedCall = asyncPermits.submit(() -> CompletableFuture.completedFuture("queued"));
+
+    assertThat(queuedCall).isNotDone();
+
+    asyncPermits.release();
+
+    assertThat(queuedCall.join()).isEqualTo("queued");
+    assertThat(permits.availablePermits()).isEqualTo(1);
+  }
+
+  private static CompletableFuture<Integer> startCall(
+      int callNumber, List<Integer> startedCalls, List<CompletableFuture<Integer>> calls) {
+    startedCalls.add(callNumber);
+    var call = new CompletableFuture<Integer>();
+    calls.add(call);
+    return call;
+  }
+}
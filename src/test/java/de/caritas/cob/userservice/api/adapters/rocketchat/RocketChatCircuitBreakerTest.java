@@ -0,0 +1,88 @@
+package de.caritas.cob.userservice.api.adapters.rocketchat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatCircuitBreaker.State;
+import java.time.Clock;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RocketChatCircuitBreakerTest {
+
+  private static final int FAILURE_THRESHOLD = 3;
+  private static final long OPEN_MILLIS = 1000L;
+
+  private RocketChatCircuitBreaker circuitBreaker;
+
+  @Mock private Clock clock;
+
+  @BeforeEach
+  void setup() {
+    circuitBreaker = new RocketChatCircuitBreaker(FAILURE_THRESHOLD, OPEN_MILLIS, 1, clock);
+  }
+
+  @Test
+  void tryAcquirePermission_Should_permitCalls_When_failuresStayBelowThreshold() {
+    circuitBreaker.onFailure();
+    circuitBreaker.onFailure();
+    circuitBreaker.onSuccess();
+    circuitBreaker.onFailure();
+
+    assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+    assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+  }
+
+  @Test
+  void tryAcquirePermission_Should_rejectCalls_When_consecutiveFailuresReachThreshold() {
+    when(clock.millis()).thenReturn(0L, 999L);
+    givenOpenCircuitBreaker();
+
+    assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+    assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+  }
+
+  @Test
+  void tryAcquirePermission_Should_permitOneProbe_When_openDurationHasPassed() {
+    when(clock.millis()).thenReturn(0L, 1000L);
+    givenOpenCircuitBreaker();
+
+    assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+    assertThat(circuitBreaker.getState()).isEqualTo(State.HALF_OPEN);
+    assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+  }
+
+  @Test
+  void onSuccess_Should_closeCircuitBreaker_When_probeSucceeds() {
+    when(clock.millis()).thenReturn(0L, 1000L);
+    givenOpenCircuitBreaker();
+    circuitBreaker.tryAcquirePermission();
+
+    circuitBreaker.onSuccess();
+
+    assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+    assertThat(circuitBreaker.tryAcquirePermission()).isTrue();
+  }
+
+  @Test
+  void onFailure_Should_openCircuitBreakerAgain_When_probeFails() {
+    when(clock.millis()).thenReturn(0L, 1000L, 1000L, 1500L);
+    givenOpenCircuitBreaker();
+    circuitBreaker.tryAcquirePermission();
+
+    circuitBreaker.onFailure();
+
+    assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+    assertThat(circuitBreaker.tryAcquirePermission()).isFalse();
+  }
+
+  private void givenOpenCircuitBreaker() {
+    for (var i = 0; i < FAILURE_THRESHOLD; i++) {
+      circuitBreaker.onFailure();
+    }
+  }
+}
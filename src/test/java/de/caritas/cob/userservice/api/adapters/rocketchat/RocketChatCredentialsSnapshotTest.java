@@ -0,0 +1,39 @@
+package de.caritas.cob.userservice.api.adapters.rocketchat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.Test;
+
+class RocketChatCredentialsSnapshotTest {
+
+  @Test
+  void isServiceUser_Should_recognizeTechnicalAndSystemUser() {
+    var snapshot =
+        RocketChatCredentialsSnapshot.of(credentials("technical"), credentials("system"));
+
+    assertThat(snapshot.isServiceUser("technical")).isTrue();
+    assertThat(snapshot.isServiceUser("system")).isTrue();
+    assertThat(snapshot.isServiceUser("consultant")).isFalse();
+  }
+
+  @Test
+  void of_Should_createSnapshot_When_technicalAndSystemUserIdsAreEqual() {
+    var snapshot = RocketChatCredentialsSnapshot.of(credentials("same"), credentials("same"));
+
+    assertThat(snapshot.isServiceUser("same")).isTrue();
+    assertThat(snapshot.getServiceUserIds()).containsExactly("same");
+  }
+
+  @Test
+  void of_Should_ignoreMissingUserId_When_userIsNotLoggedIn() {
+    var snapshot = RocketChatCredentialsSnapshot.of(credentials(null), credentials("system"));
+
+    assertThat(snapshot.isServiceUser("system")).isTrue();
+    assertThat(snapshot.isServiceUser(null)).isFalse();
+    assertThat(snapshot.getServiceUserIds()).containsExactly("system");
+  }
+
+  private RocketChatCredentials credentials(String rcUserId) {
+    return RocketChatCredentials.builder().rocketChatUserId(rcUserId).build();
+  }
+}
@@ -0,0 +1,221 @@
+package de.caritas.cob.userservice.api.adapters.rocketchat;
+
+import static de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatService.MONGO_COLLECTION_ROOM;
+import static de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatService.MONGO_COLLECTION_SUBSCRIPTION;
+import static de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatService.MONGO_DATABASE_NAME;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoClients;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Indexes;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.room.RoomsUpdateDTO;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.subscriptions.SubscriptionsUpdateDTO;
+import de.caritas.cob.userservice.api.container.RocketChatRoomInformation;
+import de.caritas.cob.userservice.api.facade.sessionlist.RocketChatRoomInformationProvider;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.bson.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+
+/**
+ * Compares the Rocket.Chat room information of one session list page read via the REST endpoints
+ * with the projected read from MongoDB. The REST path runs against a stand-in parsing the JSON of
+ * all rooms of the user like the REST client does, without network round trips. The MongoDB path
+ * runs against a MongoDB started in a container, so the filters and projections are executed by the
+ * server and the round trips to the container are part of the measurement. Needs Docker.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RocketChatMongoRoomReaderBenchmark {
+
+  private static final String RC_USER_ID = "rcUserId";
+  private static final int PAGE_SIZE = 15;
+  private static final String MONGO_IMAGE = "mongo:4.4";
+  private static final int MONGO_PORT = 27017;
+
+  @Param({"100", "1000", "10000"})
+  private int rooms;
+
+  private RocketChatRoomInformationProvider restProvider;
+  private RocketChatRoomInformationProvider mongoProvider;
+  private RocketChatCredentials rocketChatCredentials;
+  private List<String> pageGroupIds;
+  private GenericContainer<?> mongoContainer;
+  private MongoClient mongoClient;
+
+  @Setup
+  public void setup() throws Exception {
+    var objectMapper = new ObjectMapper();
+    var roomsJson = objectMapper.writeValueAsString(buildRooms(rooms));
+    var subscriptionsJson = objectMapper.writeValueAsString(buildSubscriptions(rooms));
+    pageGroupIds = new ArrayList<>(PAGE_SIZE);
+    for (var i = 0; i < PAGE_SIZE; i++) {
+      pageGroupIds.add("room" + i);
+    }
+    rocketChatCredentials =
+        RocketChatCredentials.builder().rocketChatUserId(RC_USER_ID).rocketChatToken("t").build();
+
+    var rocketChatService = mock(RocketChatService.class, withSettings().stubOnly());
+    when(rocketChatService.getRoomsOfUser(any()))
+        .thenAnswer(
+            invocation ->
+                objectMapper.readValue(roomsJson, new TypeReference<List<RoomsUpdateDTO>>() {}));
+    when(rocketChatService.getSubscriptionsOfUser(any()))
+        .thenAnswer(
+            invocation ->
+                objectMapper.readValue(
+                    subscriptionsJson, new TypeReference<List<SubscriptionsUpdateDTO>>() {}));
+    var snapshotCache =
+        new RocketChatRoomSnapshotCache(
+            rocketChatService, new ConcurrentMapCacheManager(), Runnable::run);
+    mongoClient = startMongo();
+    var mongoRoomReader = new RocketChatMongoRoomReader(mongoClient, objectMapper);
+
+    restProvider = new RocketChatRoomInformationProvider(snapshotCache, mongoRoomReader);
+    mongoProvider = new RocketChatRoomInformationProvider(snapshotCache, mongoRoomReader);
+    ReflectionTestUtils.setField(mongoProvider, "mongoRoomReadEnabled", true);
+  }
+
+  private MongoClient startMongo() {
+    mongoContainer =
+        new GenericContainer<>(DockerImageName.parse(MONGO_IMAGE)).withExposedPorts(MONGO_PORT);
+    mongoContainer.start();
+    var mongoClient =
+        MongoClients.create(
+            "mongodb://"
+                + mongoContainer.getHost()
+                + ":"
+                + mongoContainer.getMappedPort(MONGO_PORT));
+    var database = mongoClient.getDatabase(MONGO_DATABASE_NAME);
+
+    var subscriptions = database.getCollection(MONGO_COLLECTION_SUBSCRIPTION);
+    subscriptions.createIndex(Indexes.ascending("rid", "u._id"), new IndexOptions().unique(true));
+    subscriptions.createIndex(Indexes.ascending("u._id"));
+    subscriptions.insertMany(buildSubscriptionDocuments(rooms));
+    database.getCollection(MONGO_COLLECTION_ROOM).insertMany(buildRoomDocuments(rooms));
+    return mongoClient;
+  }
+
+  private static List<Document> buildSubscriptionDocuments(int count) {
+    var documents = new ArrayList<Document>(count);
+    for (var i = 0; i < count; i++) {
+      documents.add(
+          new Document("_id", "subscription" + i)
+              .append("rid", "room" + i)
+              .append("name", "room" + i)
+              .append("t", "p")
+              .append("u", new Document("_id", RC_USER_ID).append("username", "user"))
+              .append("unread", 1)
+              .append("open", true)
+              .append("ls", new Date())
+              .append("_updatedAt", new Date()));
+    }
+    return documents;
+  }
+
+  private static List<Document> buildRoomDocuments(int count) {
+    var documents = new ArrayList<Document>(count);
+    for (var i = 0; i < count; i++) {
+      var groupId = "room" + i;
+      documents.add(
+          new Document("_id", groupId)
+              .append("name", groupId)
+              .append("t", "p")
+              .append("usernames", List.of("user", "consultant"))
+              .append("msgs", 100)
+              .append("lm", new Date())
+              .append("_updatedAt", new Date())
+              .append(
+                  "lastMessage",
+                  new Document("_id", "message" + groupId)
+                      .append("rid", groupId)
+                      .append("ts", new Date())
+                      .append("msg", "message")
+                      .append("u", new Document("_id", "sender").append("username", "sender"))
+                      .append("mentions", List.of())
+                      .append("channels", List.of())));
+    }
+    return documents;
+  }
+
+  @TearDown
+  public void tearDown() {
+    mongoClient.close();
+    mongoContainer.stop();
+  }
+
+  private static List<RoomsUpdateDTO> buildRooms(int count) {
+    var roomsOfUser = new ArrayList<RoomsUpdateDTO>(count);
+    for (var i = 0; i < count; i++) {
+      var room = new RoomsUpdateDTO();
+      room.setId("room" + i);
+      room.setName("room" + i);
+      room.setRoomType("p");
+      room.setLastMessageDate(new Date());
+      room.setUpdatedAt(new Date());
+      roomsOfUser.add(room);
+    }
+    return roomsOfUser;
+  }
+
+  private static List<SubscriptionsUpdateDTO> buildSubscriptions(int count) {
+    var subscriptions = new ArrayList<SubscriptionsUpdateDTO>(count);
+    for (var i = 0; i < count; i++) {
+      var subscription = new SubscriptionsUpdateDTO();
+      subscription.setRoomId("room" + i);
+      subscription.setName("room" + i);
+      subscription.setUnread(1);
+      subscription.setUpdatedAt(new Date());
+      subscriptions.add(subscription);
+    }
+    return subscriptions;
+  }
+
+  @Benchmark
+  public RocketChatRoomInformation readAllRoomsViaRest() {
+    return restProvider.retrieveRocketChatInformation(rocketChatCredentials, pageGroupIds);
+  }
+
+  @Benchmark
+  public RocketChatRoomInformation readPageRoomsViaMongo() {
+    return mongoProvider.retrieveRocketChatInformation(rocketChatCredentials, pageGroupIds);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(RocketChatMongoRoomReaderBenchmark.class.getSimpleName())
+                .build())
+        .run();
+  }
+}
@@ -0,0 +1,175 @@
+package de.caritas.cob.userservice.api.adapters.rocketchat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoClient;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.Filters;
+import java.util.Date;
+import java.util.List;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class RocketChatMongoRoomReaderTest {
+
+  private static final String RC_USER_ID = "rcUserId";
+  private static final String GROUP_ID = "groupId";
+  private static final String OTHER_GROUP_ID = "otherGroupId";
+
+  private RocketChatMongoRoomReader rocketChatMongoRoomReader;
+
+  @Mock private MongoClient mongoClient;
+  @Mock private MongoDatabase mongoDatabase;
+  @Mock private MongoCollection<Document> subscriptionCollection;
+  @Mock private MongoCollection<Document> roomCollection;
+
+  @BeforeEach
+  void setup() {
+    rocketChatMongoRoomReader = new RocketChatMongoRoomReader(mongoClient, new ObjectMapper());
+  }
+
+  @Test
+  void readSnapshot_Should_readSubscriptionsAndRoomsOfRequestedGroups() {
+    givenCollections();
+    var lastMessageDate = new Date(1000L);
+    givenDocuments(
+        subscriptionCollection,
+        new Document("rid", GROUP_ID).append("unread", 2).append("_updatedAt", new Date(10L)));
+    givenDocuments(
+        roomCollection,
+        new Document("_id", GROUP_ID)
+            .append("lm", lastMessageDate)
+            .append(
+                "lastMessage",
+                new Document("_id", "messageId")
+                    .append("rid", GROUP_ID)
+                    .append("ts", lastMessageDate)
+                    .append("msg", "message")
+                    .append("u", new Document("_id", "sender").append("username", "sender"))));
+
+    var snapshot =
+        rocketChatMongoRoomReader.readSnapshot(RC_USER_ID, List.of(GROUP_ID, OTHER_GROUP_ID));
+
+    assertThat(snapshot.getSubscriptions()).hasSize(1);
+    var subscription = snapshot.getSubscriptions().get(0);
+    assertThat(subscription.getRoomId()).isEqualTo(GROUP_ID);
+    assertThat(subscription.getUnread()).isEqualTo(2);
+    assertThat(snapshot.getRooms()).hasSize(1);
+    var room = snapshot.getRooms().get(0);
+    assertThat(room.getId()).isEqualTo(GROUP_ID);
+    assertThat(room.getLastMessageDate()).isEqualTo(lastMessageDate);
+    assertThat(room.getLastMessage().getId()).isEqualTo("messageId");
+    assertThat(room.getLastMessage().getMessage()).isEqualTo("message");
+    assertThat(room.getLastMessage().getTimestamp()).isEqualTo(lastMessageDate);
+    assertThat(room.getLastMessage().getUser().getUsername()).isEqualTo("sender");
+    var roomFilter = ArgumentCaptor.forClass(Bson.class);
+    verify(roomCollection).find(roomFilter.capture());
+    assertThat(roomFilter.getValue()).hasToString(Filters.in("_id", List.of(GROUP_ID)).toString());
+  }
+
+  @Test
+  void readSnapshot_Should_notReadRooms_When_userIsNotSubscribedToRequestedGroups() {
+    when(mongoClient.getDatabase("rocketchat")).thenReturn(mongoDatabase);
+    when(mongoDatabase.getCollection("rocketchat_subscription")).thenReturn(subscriptionCollection);
+    givenDocuments(subscriptionCollection);
+
+    var snapshot = rocketChatMongoRoomReader.readSnapshot(RC_USER_ID, List.of(GROUP_ID));
+
+    assertThat(snapshot.getSubscriptions()).isEmpty();
+    assertThat(snapshot.getRooms()).isEmpty();
+    verify(mongoDatabase, never()).getCollection("rocketchat_room");
+  }
+
+  @Test
+  void readSnapshot_Should_notQueryMongo_When_noGroupsAreRequested() {
+    var snapshot = rocketChatMongoRoomReader.readSnapshot(RC_USER_ID, List.of());
+
+    assertThat(snapshot.getSubscriptions()).isEmpty();
+    assertThat(snapshot.getRooms()).isEmpty();
+    verifyNoInteractions(mongoClient);
+  }
+
+  @Test
+  void readVersion_Should_returnNewestUpdateDatesOfSubscriptionsAndRoomsOfUser() {
+    givenCollections();
+    givenDocuments(
+        subscriptionCollection,
+        new Document("rid", GROUP_ID).append("_updatedAt", new Date(20L)),
+        new Document("rid", OTHER_GROUP_ID).append("_updatedAt", new Date(10L)));
+    givenNewestDocument(roomCollection, new Document("_updatedAt", new Date(30L)));
+
+    var version = rocketChatMongoRoomReader.readVersion(RC_USER_ID);
+
+    assertThat(version.getSubscriptionCount()).isEqualTo(2);
+    assertThat(version.getSubscriptionsUpdatedAt()).isEqualTo(new Date(20L));
+    assertThat(version.getRoomsUpdatedAt()).isEqualTo(new Date(30L));
+    var subscriptionFilter = ArgumentCaptor.forClass(Bson.class);
+    verify(subscriptionCollection).find(subscriptionFilter.capture());
+    assertThat(subscriptionFilter.getValue())
+        .hasToString(Filters.eq("u._id", RC_USER_ID).toString());
+    var roomFilter = ArgumentCaptor.forClass(Bson.class);
+    verify(roomCollection).find(roomFilter.capture());
+    assertThat(roomFilter.getValue())
+        .hasToString(Filters.in("_id", List.of(GROUP_ID, OTHER_GROUP_ID)).toString());
+  }
+
+  @Test
+  void readVersion_Should_notReadRooms_When_userHasNoSubscriptions() {
+    when(mongoClient.getDatabase("rocketchat")).thenReturn(mongoDatabase);
+    when(mongoDatabase.getCollection("rocketchat_subscription")).thenReturn(subscriptionCollection);
+    givenDocuments(subscriptionCollection);
+
+    var version = rocketChatMongoRoomReader.readVersion(RC_USER_ID);
+
+    assertThat(version.getSubscriptionCount()).isZero();
+    assertThat(version.getSubscriptionsUpdatedAt()).isNull();
+    assertThat(version.getRoomsUpdatedAt()).isNull();
+    verify(mongoDatabase, never()).getCollection("rocketchat_room");
+  }
+
+  private void givenCollections() {
+    when(mongoClient.getDatabase("rocketchat")).thenReturn(mongoDatabase);
+    when(mongoDatabase.getCollection("rocketchat_subscription")).thenReturn(subscriptionCollection);
+    when(mongoDatabase.getCollection("rocketchat_room")).thenReturn(roomCollection);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void givenDocuments(MongoCollection<Document> collection, Document... documents) {
+    FindIterable<Document> findIterable = mock(FindIterable.class);
+    MongoCursor<Document> cursor = mock(MongoCursor.class);
+    var iterator = List.of(documents).iterator();
+    when(cursor.hasNext()).thenAnswer(invocation -> iterator.hasNext());
+    if (documents.length > 0) {
+      when(cursor.next()).thenAnswer(invocation -> iterator.next());
+    }
+    when(findIterable.iterator()).thenReturn(cursor);
+    when(findIterable.projection(any(Bson.class))).thenReturn(findIterable);
+    when(collection.find(any(Bson.class))).thenReturn(findIterable);
+  }
+
+  @SuppressWarnings("unchecked")
+  private void givenNewestDocument(MongoCollection<Document> collection, Document document) {
+    FindIterable<Document> findIterable = mock(FindIterable.class);
+    when(findIterable.projection(any(Bson.class))).thenReturn(findIterable);
+    when(findIterable.sort(any(Bson.class))).thenReturn(findIterable);
+    when(findIterable.first()).thenReturn(document);
+    when(collection.find(any(Bson.class))).thenReturn(findIterable);
+  }
+}
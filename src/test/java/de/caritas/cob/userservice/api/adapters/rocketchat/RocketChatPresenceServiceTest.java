@@ -0,0 +1,204 @@
+package de.caritas.cob.userservice.api.adapters.rocketchat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.caritas.cob.userservice.api.adapters.rocketchat.config.RocketChatConfig;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.login.PresenceDTO;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.login.PresenceDTO.PresenceStatus;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.login.PresenceListDTO;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.login.PresenceOtherDTO;
+import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatUnavailableException;
+import java.time.Clock;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+@ExtendWith(MockitoExtension.class)
+class RocketChatPresenceServiceTest {
+
+  private static final String PRESENCE_LIST_URL = "https://testing.com/api/v1/users.presence";
+  private static final String USER_PRESENCE_URL =
+      "https://testing.com/api/v1/users.getPresence?userId=busy";
+
+  @InjectMocks private RocketChatPresenceService rocketChatPresenceService;
+
+  @Mock private RocketChatClient rocketChatClient;
+  @Mock private RocketChatConfig rocketChatConfig;
+  @Mock private Clock clock;
+
+  @BeforeEach
+  void setup() {
+    ReflectionTestUtils.setField(rocketChatPresenceService, "snapshotEnabled", true);
+    ReflectionTestUtils.setField(rocketChatPresenceService, "snapshotTtlMillis", 5000L);
+    when(rocketChatConfig.getApiUrl(anyString())).thenReturn(PRESENCE_LIST_URL);
+  }
+
+  @Test
+  void retrieveSnapshot_Should_answerPresenceOfAllUsers_When_presenceListIsFetched() {
+    givenPresenceList(user("online", PresenceStatus.ONLINE), user("busy", PresenceStatus.BUSY));
+
+    var snapshot = rocketChatPresenceService.retrieveSnapshot();
+
+    assertThat(snapshot.isLoggedIn("online")).contains(true);
+    assertThat(snapshot.isLoggedIn("busy")).contains(true);
+    assertThat(snapshot.isLoggedIn("unlisted")).contains(false);
+    assertThat(snapshot.isAvailable("online")).contains(true);
+    assertThat(snapshot.isAvailable("busy")).contains(false);
+    assertThat(snapshot.getAvailableChatUserIds()).containsOnly("online");
+  }
+
+  @Test
+  void retrieveSnapshot_Should_fetchPresenceListOnce_When_snapshotIsNotOutdated() {
+    givenPresenceList(user("online", PresenceStatus.ONLINE));
+    when(clock.millis()).thenReturn(1000L, 5999L);
+
+    rocketChatPresenceService.retrieveSnapshot();
+    rocketChatPresenceService.retrieveSnapshot();
+
+    verify(rocketChatClient, times(1)).getForEntity(PRESENCE_LIST_URL, PresenceListDTO.class);
+  }
+
+  @Test
+  void retrieveSnapshot_Should_fetchPresenceListAgain_When_snapshotIsOutdatedOrEvicted() {
+    givenPresenceList(user("online", PresenceStatus.ONLINE));
+    when(clock.millis()).thenReturn(1000L, 6000L, 6000L, 6000L, 6001L);
+
+    rocketChatPresenceService.retrieveSnapshot();
+    rocketChatPresenceService.retrieveSnapshot();
+    rocketChatPresenceService.evict();
+    rocketChatPresenceService.retrieveSnapshot();
+
+    verify(rocketChatClient, times(3)).getForEntity(PRESENCE_LIST_URL, PresenceListDTO.class);
+  }
+
+  @Test
+  void retrieveSnapshot_Should_returnInconclusiveSnapshot_When_presenceListRequestFails() {
+    when(rocketChatClient.getForEntity(eq(PRESENCE_LIST_URL), eq(PresenceListDTO.class)))
+        .thenThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST));
+
+    var snapshot = rocketChatPresenceService.retrieveSnapshot();
+
+    assertThat(snapshot.isConclusive()).isFalse();
+    assertThat(snapshot.isLoggedIn("online")).isEmpty();
+    assertThat(snapshot.getAvailableChatUserIds()).isEmpty();
+  }
+
+  @Test
+  void retrieveSnapshot_Should_returnInconclusiveSnapshot_When_rocketChatIsUnavailable() {
+    when(rocketChatClient.getForEntity(eq(PRESENCE_LIST_URL), eq(PresenceListDTO.class)))
+        .thenThrow(
+            new ResourceAccessException(
+                "I/O error", new RocketChatUnavailableException("Circuit breaker is OPEN")));
+
+    var snapshot = rocketChatPresenceService.retrieveSnapshot();
+
+    assertThat(snapshot.isConclusive()).isFalse();
+    assertThat(snapshot.isLoggedIn("online")).isEmpty();
+  }
+
+  @Test
+  void retrieveSnapshot_Should_fetchPresenceListAgain_When_previousRequestFailed() {
+    when(rocketChatClient.getForEntity(PRESENCE_LIST_URL, PresenceListDTO.class))
+        .thenThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST))
+        .thenReturn(ResponseEntity.ok(presenceList(user("online", PresenceStatus.ONLINE))));
+
+    var failedSnapshot = rocketChatPresenceService.retrieveSnapshot();
+    var snapshot = rocketChatPresenceService.retrieveSnapshot();
+
+    assertThat(failedSnapshot.isConclusive()).isFalse();
+    assertThat(snapshot.isAvailable("online")).contains(true);
+    verify(rocketChatClient, times(2)).getForEntity(PRESENCE_LIST_URL, PresenceListDTO.class);
+  }
+
+  @Test
+  void retrieveSnapshot_Should_returnOutdatedSnapshot_When_otherCallerRefreshesIt()
+      throws Exception {
+    var refreshStarted = new CountDownLatch(1);
+    var refreshReleased = new CountDownLatch(1);
+    when(clock.millis()).thenReturn(1000L).thenReturn(6000L);
+    when(rocketChatClient.getForEntity(PRESENCE_LIST_URL, PresenceListDTO.class))
+        .thenReturn(ResponseEntity.ok(presenceList(user("online", PresenceStatus.ONLINE))))
+        .thenAnswer(
+            invocation -> {
+              refreshStarted.countDown();
+              refreshReleased.await(5, TimeUnit.SECONDS);
+              return ResponseEntity.ok(presenceList(user("busy", PresenceStatus.BUSY)));
+            });
+    var outdatedSnapshot = rocketChatPresenceService.retrieveSnapshot();
+    var executor = Executors.newSingleThreadExecutor();
+
+    try {
+      var refresh = executor.submit(rocketChatPresenceService::retrieveSnapshot);
+      assertThat(refreshStarted.await(5, TimeUnit.SECONDS)).isTrue();
+
+      assertThat(rocketChatPresenceService.retrieveSnapshot()).isSameAs(outdatedSnapshot);
+
+      refreshReleased.countDown();
+      assertThat(refresh.get(5, TimeUnit.SECONDS).isLoggedIn("busy")).contains(true);
+    } finally {
+      executor.shutdownNow();
+    }
+    verify(rocketChatClient, times(2)).getForEntity(PRESENCE_LIST_URL, PresenceListDTO.class);
+  }
+
+  @Test
+  void isLoggedIn_Should_requestPresenceOfUser_When_snapshotIsDisabled() {
+    ReflectionTestUtils.setField(rocketChatPresenceService, "snapshotEnabled", false);
+    when(rocketChatConfig.getApiUrl("/users.getPresence?userId=busy"))
+        .thenReturn(USER_PRESENCE_URL);
+    var presence = new PresenceDTO();
+    presence.setPresence(PresenceStatus.BUSY);
+    when(rocketChatClient.getForEntity(USER_PRESENCE_URL, PresenceDTO.class))
+        .thenReturn(ResponseEntity.ok(presence));
+
+    assertThat(rocketChatPresenceService.isLoggedIn("busy")).contains(true);
+    assertThat(rocketChatPresenceService.isAvailable("busy")).contains(false);
+    verify(rocketChatClient, never()).getForEntity(PRESENCE_LIST_URL, PresenceListDTO.class);
+  }
+
+  @Test
+  void isAvailable_Should_returnEmpty_When_presenceOfUserCannotBeRequested() {
+    ReflectionTestUtils.setField(rocketChatPresenceService, "snapshotEnabled", false);
+    when(rocketChatClient.getForEntity(anyString(), eq(PresenceDTO.class)))
+        .thenThrow(new HttpClientErrorException(HttpStatus.BAD_REQUEST));
+
+    assertThat(rocketChatPresenceService.isAvailable("online")).isEmpty();
+  }
+
+  private void givenPresenceList(PresenceOtherDTO... users) {
+    when(rocketChatClient.getForEntity(PRESENCE_LIST_URL, PresenceListDTO.class))
+        .thenReturn(ResponseEntity.ok(presenceList(users)));
+  }
+
+  private PresenceListDTO presenceList(PresenceOtherDTO... users) {
+    var presenceList = new PresenceListDTO();
+    presenceList.setSuccess(true);
+    presenceList.setUsers(List.of(users));
+    return presenceList;
+  }
+
+  private PresenceOtherDTO user(String id, PresenceStatus status) {
+    var user = new PresenceOtherDTO();
+    user.setId(id);
+    user.setStatus(status);
+    return user;
+  }
+}
@@ -0,0 +1,209 @@
+package de.caritas.cob.userservice.api.adapters.rocketchat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.caritas.cob.userservice.api.adapters.rocketchat.config.RocketChatConfig;
+import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.net.URI;
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+@ExtendWith(MockitoExtension.class)
+class RocketChatResilienceInterceptorTest {
+
+  private static final String BASE_URL = "https://testing.com/api/v1";
+  private static final byte[] BODY = new byte[0];
+  private static final int FAILURE_THRESHOLD = 2;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private RocketChatConfig rocketChatConfig;
+
+  @Mock private ClientHttpRequestExecution execution;
+  @Mock private ClientHttpResponse response;
+  @Mock private Clock clock;
+
+  @BeforeEach
+  void setup() {
+    rocketChatConfig = new RocketChatConfig(null);
+    rocketChatConfig.setBaseUrl(BASE_URL);
+    var resilience = rocketChatConfig.getResilience();
+    resilience.setFailureThreshold(FAILURE_THRESHOLD);
+    resilience.setBulkheadMaxWaitMillis(0);
+    resilience.setBulkheadMaxConcurrentCalls(Map.of(RocketChatOperation.PRESENCE, 1));
+  }
+
+  @Test
+  void intercept_Should_rejectCallsWithoutSendingThem_When_serverErrorsOpenedCircuitBreaker()
+      throws IOException {
+    var interceptor = new RocketChatResilienceInterceptor(rocketChatConfig, clock, meterRegistry);
+    var request = request(BASE_URL + "/groups.kick");
+    when(execution.execute(request, BODY)).thenReturn(response);
+    when(response.getRawStatusCode()).thenReturn(503);
+
+    for (var i = 0; i < FAILURE_THRESHOLD; i++) {
+      interceptor.intercept(request, BODY, execution);
+    }
+
+    assertThrows(
+        RocketChatUnavailableException.class,
+        () -> interceptor.intercept(request(BASE_URL + "/users.presence"), BODY, execution));
+    verify(execution, times(FAILURE_THRESHOLD)).execute(any(), any());
+  }
+
+  @Test
+  void intercept_Should_keepCircuitBreakerClosed_When_rocketChatAnswersWithClientErrors()
+      throws IOException {
+    var interceptor = new RocketChatResilienceInterceptor(rocketChatConfig, clock, meterRegistry);
+    var request = request(BASE_URL + "/users.info?userId=rcUserId");
+    when(execution.execute(request, BODY)).thenReturn(response);
+    when(response.getRawStatusCode()).thenReturn(400);
+
+    for (var i = 0; i <= FAILURE_THRESHOLD; i++) {
+      assertThat(interceptor.intercept(request, BODY, execution)).isSameAs(response);
+    }
+
+    verify(execution, times(FAILURE_THRESHOLD + 1)).execute(request, BODY);
+  }
+
+  @Test
+  void intercept_Should_rejectCall_When_bulkheadOfOperationIsFull() throws IOException {
+    var interceptor = new RocketChatResilienceInterceptor(rocketChatConfig, clock, meterRegistry);
+    var presenceRequest = request(BASE_URL + "/users.presence");
+    var roomsRequest = request(BASE_URL + "/rooms.get");
+    var nestedExecution = mock(ClientHttpRequestExecution.class);
+    when(nestedExecution.execute(roomsRequest, BODY)).thenReturn(response);
+    when(execution.execute(presenceRequest, BODY))
+        .thenAnswer(
+            invocation -> {
+              assertThrows(
+                  RocketChatUnavailableException.class,
+                  () -> interceptor.intercept(presenceRequest, BODY, nestedExecution));
+              interceptor.intercept(roomsRequest, BODY, nestedExecution);
+              return response;
+            });
+
+    interceptor.intercept(presenceRequest, BODY, execution);
+
+    verify(nestedExecution, never()).execute(presenceRequest, BODY);
+    verify(nestedExecution, times(1)).execute(roomsRequest, BODY);
+  }
+
+  @Test
+  void intercept_Should_passThroughRequestsToOtherHosts() throws IOException {
+    var interceptor = new RocketChatResilienceInterceptor(rocketChatConfig, clock, meterRegistry);
+    var request = request("https://keycloak.testing.com/auth");
+    when(execution.execute(request, BODY)).thenThrow(new IOException("connection refused"));
+
+    for (var i = 0; i <= FAILURE_THRESHOLD; i++) {
+      assertThrows(IOException.class, () -> interceptor.intercept(request, BODY, execution));
+    }
+
+    verify(execution, times(FAILURE_THRESHOLD + 1)).execute(request, BODY);
+  }
+
+  @Test
+  void intercept_Should_passThroughRequests_When_resilienceIsDisabled() throws IOException {
+    rocketChatConfig.getResilience().setEnabled(false);
+    var interceptor = new RocketChatResilienceInterceptor(rocketChatConfig, clock, meterRegistry);
+    var request = request(BASE_URL + "/groups.kick");
+    when(execution.execute(request, BODY)).thenThrow(new IOException("connection refused"));
+
+    for (var i = 0; i <= FAILURE_THRESHOLD; i++) {
+      assertThrows(IOException.class, () -> interceptor.intercept(request, BODY, execution));
+    }
+
+    verify(execution, times(FAILURE_THRESHOLD + 1)).execute(request, BODY);
+  }
+
+  @Test
+  void executeAsync_Should_rejectCallsWithoutStartingThem_When_serverErrorsOpenedCircuitBreaker() {
+    var interceptor = new RocketChatResilienceInterceptor(rocketChatConfig, clock, meterRegistry);
+    var serverError =
+        HttpServerErrorException.create(HttpStatus.SERVICE_UNAVAILABLE, "", null, null, null);
+
+    for (var i = 0; i < FAILURE_THRESHOLD; i++) {
+      interceptor.executeAsync(
+          BASE_URL + "/groups.kick", () -> CompletableFuture.failedFuture(serverError));
+    }
+    var startedCalls = new AtomicInteger();
+    var rejectedCall =
+        interceptor.executeAsync(
+            BASE_URL + "/groups.kick",
+            () -> {
+              startedCalls.incrementAndGet();
+              return CompletableFuture.completedFuture("started");
+            });
+
+    var exception = assertThrows(CompletionException.class, rejectedCall::join);
+    assertThat(exception.getCause()).isInstanceOf(ResourceAccessException.class);
+    assertThat(exception.getCause().getCause()).isInstanceOf(RocketChatUnavailableException.class);
+    assertThat(startedCalls).hasValue(0);
+  }
+
+  @Test
+  void executeAsync_Should_queueCallsInsteadOfRejectingThem_When_bulkheadOfOperationIsFull() {
+    var interceptor = new RocketChatResilienceInterceptor(rocketChatConfig, clock, meterRegistry);
+    var firstCall = new CompletableFuture<String>();
+    var secondCall = new CompletableFuture<String>();
+
+    var firstResult = interceptor.executeAsync(BASE_URL + "/users.presence", () -> firstCall);
+    var secondResult = interceptor.executeAsync(BASE_URL + "/users.presence", () -> secondCall);
+    firstCall.complete("first");
+    secondCall.complete("second");
+
+    assertThat(firstResult.join()).isEqualTo("first");
+    assertThat(secondResult.join()).isEqualTo("second");
+  }
+
+  @Test
+  void executeAsync_Should_startQueuedCall_When_blockingCallReleasesBulkhead() throws IOException {
+    var interceptor = new RocketChatResilienceInterceptor(rocketChatConfig, clock, meterRegistry);
+    var presenceRequest = request(BASE_URL + "/users.presence");
+    var queuedCall = new AtomicReference<CompletableFuture<String>>();
+    when(execution.execute(presenceRequest, BODY))
+        .thenAnswer(
+            invocation -> {
+              queuedCall.set(
+                  interceptor.executeAsync(
+                      BASE_URL + "/users.presence",
+                      () -> CompletableFuture.completedFuture("queued")));
+              assertThat(queuedCall.get()).isNotDone();
+              return response;
+            });
+
+    interceptor.intercept(presenceRequest, BODY, execution);
+
+    assertThat(queuedCall.get().join()).isEqualTo("queued");
+  }
+
+  private static HttpRequest request(String url) {
+    var request = mock(HttpRequest.class);
+    when(request.getURI()).thenReturn(URI.create(url));
+    return request;
+  }
+}
@@ -0,0 +1,268 @@
+package de.caritas.cob.userservice.api.adapters.rocketchat;
+
+import static de.caritas.cob.userservice.api.config.CacheManagerConfig.ROCKET_CHAT_ROOM_SNAPSHOT_CACHE;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.instanceOf;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.room.RoomsGetDTO;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.room.RoomsRemoveDTO;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.room.RoomsUpdateDTO;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.subscriptions.SubscriptionsGetDTO;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.subscriptions.SubscriptionsRemoveDTO;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.subscriptions.SubscriptionsUpdateDTO;
+import de.caritas.cob.userservice.api.exception.httpresponses.InternalServerErrorException;
+import de.caritas.cob.userservice.api.exception.httpresponses.RocketChatUnauthorizedException;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+@ExtendWith(MockitoExtension.class)
+class RocketChatRoomSnapshotCacheTest {
+
+  private static final Date UPDATED_AT = new Date(1655730882738L);
+  private static final Date NEWER_UPDATED_AT = new Date(1655730899999L);
+
+  private final RocketChatCredentials rocketChatCredentials =
+      RocketChatCredentials.builder().rocketChatUserId("rcUserId").rocketChatToken("t").build();
+
+  @Mock private RocketChatService rocketChatService;
+
+  private ConcurrentMapCacheManager cacheManager;
+
+  private ExecutorService executor;
+
+  private RocketChatRoomSnapshotCache underTest;
+
+  @BeforeEach
+  void setup() {
+    cacheManager = new ConcurrentMapCacheManager(ROCKET_CHAT_ROOM_SNAPSHOT_CACHE);
+    executor = Executors.newFixedThreadPool(2);
+    underTest = new RocketChatRoomSnapshotCache(rocketChatService, cacheManager, executor);
+    ReflectionTestUtils.setField(underTest, "snapshotCacheEnabled", true);
+    ReflectionTestUtils.setField(underTest, "fetchTimeoutMillis", 5000L);
+  }
+
+  @AfterEach
+  void shutdownExecutor() {
+    executor.shutdownNow();
+    RequestContextHolder.resetRequestAttributes();
+  }
+
+  @Test
+  void retrieveSnapshotShouldFetchAllRoomsAndSubscriptionsWhenNoSnapshotIsCached() {
+    givenCompleteRoomsAndSubscriptions();
+
+    var snapshot = underTest.retrieveSnapshot(rocketChatCredentials);
+
+    assertThat(snapshot.getRooms().size(), is(2));
+    assertThat(snapshot.getSubscriptions().size(), is(2));
+    assertThat(snapshot.getRoomsUpdatedSince(), is(UPDATED_AT));
+    verify(rocketChatService, never()).getRoomsOfUserUpdatedSince(any(), any());
+  }
+
+  @Test
+  void retrieveSnapshotShouldOnlyFetchDeltaWhenSnapshotIsCached() {
+    givenCompleteRoomsAndSubscriptions();
+    underTest.retrieveSnapshot(rocketChatCredentials);
+    var updatedRoom = room("room1", NEWER_UPDATED_AT);
+    when(rocketChatService.getRoomsOfUserUpdatedSince(rocketChatCredentials, UPDATED_AT))
+        .thenReturn(
+            new RoomsGetDTO(
+                new RoomsUpdateDTO[] {updatedRoom},
+                true,
+                null,
+                null,
+                new RoomsRemoveDTO[] {new RoomsRemoveDTO("room2", NEWER_UPDATED_AT)}));
+    when(rocketChatService.getSubscriptionsOfUserUpdatedSince(rocketChatCredentials, UPDATED_AT))
+        .thenReturn(new SubscriptionsGetDTO(new SubscriptionsUpdateDTO[0], true, null, null, null));
+
+    var snapshot = underTest.retrieveSnapshot(rocketChatCredentials);
+
+    assertThat(snapshot.getRooms(), contains(updatedRoom));
+    assertThat(snapshot.getRoomsUpdatedSince(), is(NEWER_UPDATED_AT));
+    assertThat(snapshot.getSubscriptionsUpdatedSince(), is(UPDATED_AT));
+    verify(rocketChatService, times(1)).getRoomsOfUser(rocketChatCredentials);
+  }
+
+  @Test
+  void retrieveSnapshotShouldReuseSnapshotWithinRequest() {
+    RequestContextHolder.setRequestAttributes(
+        new ServletRequestAttributes(new MockHttpServletRequest()));
+    givenCompleteRoomsAndSubscriptions();
+
+    var snapshot = underTest.retrieveSnapshot(rocketChatCredentials);
+
+    assertThat(underTest.retrieveSnapshot(rocketChatCredentials), is(sameInstance(snapshot)));
+    verify(rocketChatService, times(1)).getRoomsOfUser(rocketChatCredentials);
+    verify(rocketChatService, never()).getRoomsOfUserUpdatedSince(any(), any());
+  }
+
+  @Test
+  void retrieveSnapshotShouldRemoveRoomOfRemovedSubscription() {
+    givenCompleteRoomsAndSubscriptions();
+    underTest.retrieveSnapshot(rocketChatCredentials);
+    when(rocketChatService.getRoomsOfUserUpdatedSince(rocketChatCredentials, UPDATED_AT))
+        .thenReturn(new RoomsGetDTO(new RoomsUpdateDTO[0], true, null, null, null));
+    when(rocketChatService.getSubscriptionsOfUserUpdatedSince(rocketChatCredentials, UPDATED_AT))
+        .thenReturn(
+            new SubscriptionsGetDTO(
+                new SubscriptionsUpdateDTO[0],
+                true,
+                null,
+                null,
+                new SubscriptionsRemoveDTO[] {new SubscriptionsRemoveDTO("sub2", UPDATED_AT)}));
+
+    var snapshot = underTest.retrieveSnapshot(rocketChatCredentials);
+
+    assertThat(snapshot.getSubscriptions().size(), is(1));
+    assertThat(snapshot.getRooms().size(), is(1));
+    assertThat(snapshot.getRooms().get(0).getId(), is("room1"));
+  }
+
+  @Test
+  void retrieveSnapshotShouldAlwaysFetchAllRoomsWhenCacheIsDisabled() {
+    ReflectionTestUtils.setField(underTest, "snapshotCacheEnabled", false);
+    givenCompleteRoomsAndSubscriptions();
+
+    underTest.retrieveSnapshot(rocketChatCredentials);
+    underTest.retrieveSnapshot(rocketChatCredentials);
+
+    verify(rocketChatService, times(2)).getRoomsOfUser(rocketChatCredentials);
+    verify(rocketChatService, never()).getRoomsOfUserUpdatedSince(any(), any());
+  }
+
+  @Test
+  void retrieveSnapshotShouldFetchRoomsAndSubscriptionsConcurrently() {
+    var bothRequestsRunning = new CountDownLatch(2);
+    when(rocketChatService.getRoomsOfUser(rocketChatCredentials))
+        .thenAnswer(invocation -> awaitOther(bothRequestsRunning, List.of(room("room1", null))));
+    when(rocketChatService.getSubscriptionsOfUser(rocketChatCredentials))
+        .thenAnswer(invocation -> awaitOther(bothRequestsRunning, List.of()));
+
+    var snapshot = underTest.retrieveSnapshot(rocketChatCredentials);
+
+    assertThat(snapshot.getRooms().size(), is(1));
+  }
+
+  @Test
+  void retrieveSnapshotShouldThrowInternalServerErrorWhenFetchTimesOut() {
+    underTest = new RocketChatRoomSnapshotCache(rocketChatService, cacheManager, command -> {});
+    ReflectionTestUtils.setField(underTest, "fetchTimeoutMillis", 10L);
+
+    assertThrows(
+        InternalServerErrorException.class,
+        () -> underTest.retrieveSnapshot(rocketChatCredentials));
+  }
+
+  @Test
+  void retrieveSnapshotShouldTimeOutEachFetchOnItsOwn() {
+    ReflectionTestUtils.setField(underTest, "fetchTimeoutMillis", 100L);
+    when(rocketChatService.getSubscriptionsOfUser(rocketChatCredentials)).thenReturn(List.of());
+    var roomsReleased = new CountDownLatch(1);
+    when(rocketChatService.getRoomsOfUser(rocketChatCredentials))
+        .thenAnswer(
+            invocation -> {
+              roomsReleased.await(5, TimeUnit.SECONDS);
+              return List.of();
+            });
+
+    try {
+      var thrown =
+          assertThrows(
+              InternalServerErrorException.class,
+              () -> underTest.retrieveSnapshot(rocketChatCredentials));
+
+      assertThat(thrown.getCause(), is(instanceOf(TimeoutException.class)));
+    } finally {
+      roomsReleased.countDown();
+    }
+  }
+
+  @Test
+  void retrieveSnapshotShouldThrowInternalServerErrorWhenExecutorRejectsFetch() {
+    var rejectingExecutor = mock(Executor.class);
+    doThrow(new RejectedExecutionException()).when(rejectingExecutor).execute(any());
+    underTest = new RocketChatRoomSnapshotCache(rocketChatService, cacheManager, rejectingExecutor);
+
+    assertThrows(
+        InternalServerErrorException.class,
+        () -> underTest.retrieveSnapshot(rocketChatCredentials));
+    verifyNoInteractions(rocketChatService);
+  }
+
+  @Test
+  void retrieveSnapshotShouldRethrowExceptionOfRocketChatService() {
+    var unauthorized = new RocketChatUnauthorizedException("rcUserId", new RuntimeException());
+    when(rocketChatService.getSubscriptionsOfUser(rocketChatCredentials)).thenThrow(unauthorized);
+    when(rocketChatService.getRoomsOfUser(rocketChatCredentials)).thenReturn(List.of());
+
+    var thrown =
+        assertThrows(
+            RocketChatUnauthorizedException.class,
+            () -> underTest.retrieveSnapshot(rocketChatCredentials));
+
+    assertThat(thrown, is(unauthorized));
+  }
+
+  private <T> T awaitOther(CountDownLatch bothRequestsRunning, T result)
+      throws InterruptedException {
+    bothRequestsRunning.countDown();
+    if (!bothRequestsRunning.await(2, TimeUnit.SECONDS)) {
+      throw new IllegalStateException("Requests have not been executed concurrently");
+    }
+    return result;
+  }
+
+  private void givenCompleteRoomsAndSubscriptions() {
+    when(rocketChatService.getRoomsOfUser(rocketChatCredentials))
+        .thenReturn(List.of(room("room1", UPDATED_AT), room("room2", UPDATED_AT)));
+    when(rocketChatService.getSubscriptionsOfUser(rocketChatCredentials))
+        .thenReturn(
+            List.of(
+                subscription("sub1", "room1", UPDATED_AT), subscription("sub2", "room2", null)));
+  }
+
+  private RoomsUpdateDTO room(String id, Date updatedAt) {
+    var room = new RoomsUpdateDTO();
+    room.setId(id);
+    room.setUpdatedAt(updatedAt);
+    return room;
+  }
+
+  private SubscriptionsUpdateDTO subscription(String id, String roomId, Date updatedAt) {
+    var subscription = new SubscriptionsUpdateDTO();
+    subscription.set_id(id);
+    subscription.setRoomId(roomId);
+    subscription.setUpdatedAt(updatedAt);
+    return subscription;
+  }
+}
@@ -0,0 +1,156 @@
+package de.caritas.cob.userservice.api.adapters.rocketchat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class RocketChatSingleFlightTest {
+
+  private static final String KEY = "rcUserId";
+
+  private final AtomicInteger calls = new AtomicInteger();
+  private final CountDownLatch callStarted = new CountDownLatch(1);
+  private final CountDownLatch releaseCall = new CountDownLatch(1);
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  private RocketChatSingleFlight<String, String> singleFlight;
+  private ExecutorService executor;
+
+  @BeforeEach
+  void setup() {
+    singleFlight = new RocketChatSingleFlight<>("test", meterRegistry);
+    executor = Executors.newFixedThreadPool(2);
+  }
+
+  @AfterEach
+  void tearDown() {
+    executor.shutdownNow();
+  }
+
+  @Test
+  void execute_Should_shareOneCall_When_identicalCallIsInFlight() throws Exception {
+    var leader = executor.submit(() -> singleFlight.execute(KEY, this::blockingCall));
+    callStarted.await(5, TimeUnit.SECONDS);
+    var follower = executor.submit(() -> singleFlight.execute(KEY, this::blockingCall));
+    awaitFollowerWaiting(follower);
+
+    releaseCall.countDown();
+
+    assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+    assertThat(follower.get(5, TimeUnit.SECONDS)).isEqualTo("result");
+    assertThat(calls.get()).isEqualTo(1);
+    assertThat(sharedCalls()).isEqualTo(1);
+    assertThat(singleFlight.inFlightCallCount()).isZero();
+  }
+
+  @Test
+  void execute_Should_passExceptionToAllCallers_When_sharedCallFails() throws Exception {
+    var leader =
+        executor.submit(
+            () ->
+                singleFlight.execute(
+                    KEY,
+                    () -> {
+                      blockingCall();
+                      throw new IllegalStateException("failed");
+                    }));
+    callStarted.await(5, TimeUnit.SECONDS);
+    var follower = executor.submit(() -> singleFlight.execute(KEY, this::blockingCall));
+    awaitFollowerWaiting(follower);
+
+    releaseCall.countDown();
+
+    assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(IllegalStateException.class);
+    assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(IllegalStateException.class);
+    assertThat(calls.get()).isEqualTo(1);
+    assertThat(singleFlight.inFlightCallCount()).isZero();
+  }
+
+  @Test
+  void execute_Should_releaseAllCallers_When_sharedCallThrowsError() throws Exception {
+    var leader =
+        executor.submit(
+            () ->
+                singleFlight.execute(
+                    KEY,
+                    () -> {
+                      blockingCall();
+                      throw new OutOfMemoryError("failed");
+                    }));
+    callStarted.await(5, TimeUnit.SECONDS);
+    var follower = executor.submit(() -> singleFlight.execute(KEY, this::blockingCall));
+    awaitFollowerWaiting(follower);
+
+    releaseCall.countDown();
+
+    assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(OutOfMemoryError.class);
+    assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+        .isInstanceOf(ExecutionException.class)
+        .hasCauseInstanceOf(OutOfMemoryError.class);
+    assertThat(calls.get()).isEqualTo(1);
+    assertThat(singleFlight.inFlightCallCount()).isZero();
+  }
+
+  @Test
+  void execute_Should_performNewCall_When_previousCallHasCompleted() {
+    releaseCall.countDown();
+
+    singleFlight.execute(KEY, this::blockingCall);
+    singleFlight.execute(KEY, this::blockingCall);
+
+    assertThat(calls.get()).isEqualTo(2);
+    assertThat(singleFlight.inFlightCallCount()).isZero();
+  }
+
+  @Test
+  void execute_Should_notShareCalls_When_keysDiffer() {
+    releaseCall.countDown();
+
+    assertThat(singleFlight.execute(KEY, () -> "first")).isEqualTo("first");
+    assertThat(singleFlight.execute("otherRcUserId", () -> "second")).isEqualTo("second");
+  }
+
+  private String blockingCall() {
+    calls.incrementAndGet();
+    callStarted.countDown();
+    try {
+      releaseCall.await(5, TimeUnit.SECONDS);
+    } catch (InterruptedException exception) {
+      Thread.currentThread().interrupt();
+    }
+    return "result";
+  }
+
+  private void awaitFollowerWaiting(Future<?> follower) throws InterruptedException {
+    var deadline = System.currentTimeMillis() + 5000;
+    while (sharedCalls() < 1 && !follower.isDone() && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+  }
+
+  private double sharedCalls() {
+    return meterRegistry
+        .get("rocketchat.singleflight.shared.calls")
+        .tag("operation", "test")
+        .counter()
+        .count();
+  }
+}
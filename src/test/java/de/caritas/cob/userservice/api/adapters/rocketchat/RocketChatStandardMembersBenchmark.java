@@ -0,0 +1,109 @@
+package de.caritas.cob.userservice.api.adapters.rocketchat;
+
+import static de.caritas.cob.userservice.api.helper.CustomLocalDateTime.nowInUtc;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import de.caritas.cob.userservice.api.adapters.rocketchat.config.RocketChatConfig;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.group.GroupMemberDTO;
+import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatUserNotInitializedException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+/**
+ * Compares filtering the technical and system user out of large group member lists by resolving
+ * both users from the {@link RocketChatCredentialsProvider} for every member with filtering against
+ * one {@link RocketChatCredentialsSnapshot} per operation. Both token slots of each user are
+ * filled, so every lookup has to compare the creation dates like it does after a token rotation.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RocketChatStandardMembersBenchmark {
+
+  @Param({"1000", "5000", "20000"})
+  private int members;
+
+  private RocketChatCredentialsProvider credentialsProvider;
+  private List<GroupMemberDTO> groupMembers;
+
+  @Setup
+  public void setup() {
+    credentialsProvider =
+        new RocketChatCredentialsProvider(
+            mock(RestTemplate.class, withSettings().stubOnly()),
+            mock(RocketChatConfig.class, withSettings().stubOnly()));
+    ReflectionTestUtils.setField(credentialsProvider, "techUserA", credentials("technical", 2));
+    ReflectionTestUtils.setField(credentialsProvider, "techUserB", credentials("technical", 1));
+    ReflectionTestUtils.setField(credentialsProvider, "systemUserA", credentials("system", 1));
+    ReflectionTestUtils.setField(credentialsProvider, "systemUserB", credentials("system", 2));
+
+    groupMembers = new ArrayList<>(members);
+    for (var i = 0; i < members; i++) {
+      groupMembers.add(new GroupMemberDTO("member" + i, "online", "member" + i, "Member", null));
+    }
+    groupMembers.add(members / 2, new GroupMemberDTO("technical2", null, null, null, null));
+    groupMembers.add(new GroupMemberDTO("system2", null, null, null, null));
+  }
+
+  private static AtomicReference<RocketChatCredentials> credentials(String user, int minutesAgo) {
+    return new AtomicReference<>(
+        RocketChatCredentials.builder()
+            .rocketChatUserId(user + minutesAgo)
+            .rocketChatToken(user + "Token" + minutesAgo)
+            .rocketChatUsername(user)
+            .timeStampCreated(nowInUtc().minusMinutes(minutesAgo))
+            .build());
+  }
+
+  @Benchmark
+  public List<GroupMemberDTO> lookupPerMember() throws RocketChatUserNotInitializedException {
+    var standardMembers = new ArrayList<>(groupMembers);
+    var iterator = standardMembers.iterator();
+    while (iterator.hasNext()) {
+      var memberId = iterator.next().get_id();
+      if (memberId.equals(credentialsProvider.getTechnicalUser().getRocketChatUserId())
+          || memberId.equals(credentialsProvider.getSystemUser().getRocketChatUserId())) {
+        iterator.remove();
+      }
+    }
+    return standardMembers;
+  }
+
+  @Benchmark
+  public List<GroupMemberDTO> credentialsSnapshot() throws RocketChatUserNotInitializedException {
+    var standardMembers = new ArrayList<>(groupMembers);
+    var credentials = credentialsProvider.getCredentialsSnapshot();
+    standardMembers.removeIf(member -> credentials.isServiceUser(member.get_id()));
+    return standardMembers;
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(RocketChatStandardMembersBenchmark.class.getSimpleName())
+                .build())
+        .run();
+  }
+}
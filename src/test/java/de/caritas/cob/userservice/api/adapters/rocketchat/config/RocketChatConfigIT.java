@@ -54,4 +54,12 @@ class RocketChatConfigIT {
 
     assertEquals("https://testing.com/api/v1" + path, url);
   }
+
+  @Test
+  void getApiUrlShouldReplaceQueryParams() {
+    var path = "/this/is/a/path?a={a-variable}";
+    var url = underTest.getApiUrl(path, "a-value");
+
+    assertEquals("https://testing.com/api/v1/this/is/a/path?a=a-value", url);
+  }
 }
@@ -0,0 +1,89 @@
+package de.caritas.cob.userservice.api.adapters.rocketchat.config;
+
+import static org.springframework.web.util.UriComponentsBuilder.fromUriString;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.util.StringUtils;
+
+/**
+ * Compares building the url of the endpoints used by the RocketChatService with the former
+ * UriComponentsBuilder based implementation against the parsed endpoint templates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RocketChatEndpointTemplateBenchmark {
+
+  private static final String BASE_URL = "https://testing.com/api/v1";
+  private static final String ARG = "a1B2c3D4e5F6g7H8i";
+
+  @Param({
+    "/groups.create",
+    "/groups.kick",
+    "/groups.members",
+    "/method.call/muteUserInRoom",
+    "/users.info?userId={userId}"
+  })
+  private String endpoint;
+
+  private RocketChatConfig rocketChatConfig;
+  private String legacyPath;
+
+  @Setup
+  public void setup() {
+    rocketChatConfig = new RocketChatConfig(null);
+    rocketChatConfig.setBaseUrl(BASE_URL);
+    legacyPath = endpoint.replace("{userId}", ARG);
+  }
+
+  @Benchmark
+  public String uriComponentsBuilder() {
+    return legacyApiUrl(legacyPath, ARG);
+  }
+
+  @Benchmark
+  public String endpointTemplate() {
+    return rocketChatConfig.getApiUrl(endpoint, ARG);
+  }
+
+  private static String legacyApiUrl(String path, String arg) {
+    var queryParams = fromUriString(BASE_URL + path).build().getQueryParams();
+    if (!queryParams.isEmpty()) {
+      path = path.substring(0, path.indexOf("?"));
+    }
+
+    var builder = fromUriString(BASE_URL);
+    Arrays.stream(
+            StringUtils.trimLeadingCharacter(path, '/').replaceAll("(\\{).*(})", arg).split("/"))
+        .forEach(builder::pathSegment);
+    queryParams.forEach(builder::queryParam);
+
+    return builder.toUriString();
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(RocketChatEndpointTemplateBenchmark.class.getSimpleName())
+                .build())
+        .run();
+  }
+}
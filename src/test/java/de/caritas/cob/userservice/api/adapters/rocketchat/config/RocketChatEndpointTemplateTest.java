@@ -0,0 +1,64 @@
+package de.caritas.cob.userservice.api.adapters.rocketchat.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.web.util.UriComponentsBuilder.fromUriString;
+
+import java.util.Arrays;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.springframework.util.StringUtils;
+
+class RocketChatEndpointTemplateTest {
+
+  private static final String BASE_URL = "https://testing.com/api/v1";
+
+  @ParameterizedTest
+  @CsvSource({
+    "/groups.create,",
+    "/method.call/muteUserInRoom,",
+    "//this/is//a/path/,",
+    "/this/is/a/path?a=1&b=2,",
+    "/this/is/a/path/{a-variable}/suffix,a-value",
+    "/this/is/a/path/{a-variable}/suffix,a value/with/segments",
+    "/this/is/a/path/{a-variable},",
+    "/this/is/a/path?a=1&b=&c,"
+  })
+  void expand_Should_buildSameUrlAsUriComponentsBuilder(String path, String arg) {
+    var value = arg == null ? "" : arg;
+
+    var url = RocketChatEndpointTemplate.parse(BASE_URL, path).expand(value);
+
+    assertThat(url).isEqualTo(buildWithUriComponentsBuilder(path, value));
+  }
+
+  @Test
+  void expand_Should_encodeArgumentAsQueryValue_When_variableIsInQuery() {
+    var template = RocketChatEndpointTemplate.parse(BASE_URL, "/users.info?userId={userId}");
+
+    assertThat(template.expand("rcUserId")).isEqualTo(BASE_URL + "/users.info?userId=rcUserId");
+    assertThat(template.expand("a b&c")).isEqualTo(BASE_URL + "/users.info?userId=a%20b%26c");
+  }
+
+  @Test
+  void parse_Should_notDuplicateSlash_When_baseUrlEndsWithSlash() {
+    var template = RocketChatEndpointTemplate.parse(BASE_URL + "/", "/groups.create");
+
+    assertThat(template.expand("")).isEqualTo(BASE_URL + "/groups.create");
+  }
+
+  private static String buildWithUriComponentsBuilder(String path, String arg) {
+    var queryParams = fromUriString(BASE_URL + path).build().getQueryParams();
+    if (!queryParams.isEmpty()) {
+      path = path.substring(0, path.indexOf("?"));
+    }
+
+    var builder = fromUriString(BASE_URL);
+    Arrays.stream(
+            StringUtils.trimLeadingCharacter(path, '/').replaceAll("(\\{).*(})", arg).split("/"))
+        .forEach(builder::pathSegment);
+    queryParams.forEach(builder::queryParam);
+
+    return builder.toUriString();
+  }
+}
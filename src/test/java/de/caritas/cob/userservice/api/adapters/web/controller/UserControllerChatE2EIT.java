@@ -1462,6 +1462,7 @@ class UserControllerChatE2EIT {
   private void givenAValidRocketChatSystemUser() throws RocketChatUserNotInitializedException {
     when(rocketChatCredentialsProvider.getSystemUserSneaky()).thenReturn(RC_CREDENTIALS_SYSTEM_A);
     when(rocketChatCredentialsProvider.getSystemUser()).thenReturn(RC_CREDENTIALS_SYSTEM_A);
+    when(rocketChatCredentialsProvider.getCredentialsSnapshot()).thenCallRealMethod();
   }
 
   private void givenValidRocketChatTechUserResponse() throws RocketChatUserNotInitializedException {
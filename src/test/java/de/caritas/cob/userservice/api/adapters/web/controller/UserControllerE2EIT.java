@@ -2184,6 +2184,7 @@ class UserControllerE2EIT {
   private void givenAValidRocketChatSystemUser() throws RocketChatUserNotInitializedException {
     when(rocketChatCredentialsProvider.getSystemUserSneaky()).thenReturn(RC_CREDENTIALS_SYSTEM_A);
     when(rocketChatCredentialsProvider.getSystemUser()).thenReturn(RC_CREDENTIALS_SYSTEM_A);
+    when(rocketChatCredentialsProvider.getCredentialsSnapshot()).thenCallRealMethod();
   }
 
   private void givenValidRocketChatTechUserResponse() throws RocketChatUserNotInitializedException {
@@ -2265,6 +2266,8 @@ class UserControllerE2EIT {
   private void verifyRocketChatNeverGetsUserPresence() {
     var urlSuffix = "users.getPresence";
     verify(rocketChatRestTemplate, never())
-        .postForEntity(contains(urlSuffix), any(HttpEntity.class), eq(MessageResponse.class));
+        .exchange(
+            contains(urlSuffix), eq(HttpMethod.GET),
+            any(HttpEntity.class), eq(PresenceDTO.class));
   }
 }
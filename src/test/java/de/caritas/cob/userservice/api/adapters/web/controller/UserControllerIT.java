@@ -54,6 +54,7 @@ import de.caritas.cob.userservice.api.service.*;
 import de.caritas.cob.userservice.api.service.archive.SessionArchiveService;
 import de.caritas.cob.userservice.api.service.archive.SessionDeleteService;
 import de.caritas.cob.userservice.api.service.session.SessionService;
+import de.caritas.cob.userservice.api.service.sessionlist.SessionListVersionService;
 import de.caritas.cob.userservice.api.service.user.UserAccountService;
 import de.caritas.cob.userservice.api.tenant.TenantContext;
 import java.util.*;
@@ -76,6 +77,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.boot.test.mock.mockito.SpyBean;
 import org.springframework.hateoas.client.LinkDiscoverers;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.TestPropertySource;
@@ -265,6 +267,7 @@ public class UserControllerIT {
   private AskerImportService askerImportService;
 
   @MockBean private SessionListFacade sessionListFacade;
+  @MockBean private SessionListVersionService sessionListVersionService;
   @MockBean private ConsultantAgencyService consultantAgencyService;
   @MockBean private AssignSessionFacade assignSessionFacade;
   @MockBean private AssignEnquiryFacade assignEnquiryFacade;
@@ -913,7 +916,8 @@ public class UserControllerIT {
     when(authenticatedUser.getUserId()).thenReturn(USER_ID);
     when(accountProvider.retrieveValidatedUser()).thenReturn(USER);
 
-    when(sessionListFacade.retrieveSortedSessionsForAuthenticatedUser(anyString(), Mockito.any()))
+    when(sessionListFacade.retrieveSortedSessionsForAuthenticatedUser(
+            anyString(), Mockito.any(), Mockito.any()))
         .thenReturn(response);
 
     var displayName = RandomStringUtils.randomAlphanumeric(16);
@@ -952,7 +956,7 @@ public class UserControllerIT {
         .andExpect(status().isInternalServerError());
 
     verify(sessionListFacade, times(0))
-        .retrieveSortedSessionsForAuthenticatedUser(Mockito.any(), Mockito.any());
+        .retrieveSortedSessionsForAuthenticatedUser(Mockito.any(), Mockito.any(), Mockito.any());
   }
 
   @Test
@@ -965,7 +969,8 @@ public class UserControllerIT {
     when(authenticatedUser.getUserId()).thenReturn(USER_ID);
     when(accountProvider.retrieveValidatedUser()).thenReturn(USER);
 
-    when(sessionListFacade.retrieveSortedSessionsForAuthenticatedUser(anyString(), Mockito.any()))
+    when(sessionListFacade.retrieveSortedSessionsForAuthenticatedUser(
+            anyString(), Mockito.any(), Mockito.any()))
         .thenReturn(response);
 
     mvc.perform(
@@ -976,6 +981,29 @@ public class UserControllerIT {
         .andExpect(status().isNoContent());
   }
 
+  @Test
+  public void getSessionsForAuthenticatedUser_Should_ReturnNotModified_WhenETagMatches()
+      throws Exception {
+    var eTag = "W/\"version\"";
+    when(accountProvider.retrieveValidatedUser()).thenReturn(USER);
+    when(sessionListVersionService.computeUserSessionListETag(
+            anyString(), Mockito.any(), Mockito.any()))
+        .thenReturn(eTag);
+    when(sessionListVersionService.isNotModified(eTag, eTag)).thenReturn(true);
+
+    mvc.perform(
+            get(PATH_GET_SESSIONS_FOR_AUTHENTICATED_USER)
+                .header(RC_TOKEN_HEADER_PARAMETER_NAME, RC_TOKEN)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, eTag));
+
+    verify(sessionListFacade, times(0))
+        .retrieveSortedSessionsForAuthenticatedUser(Mockito.any(), Mockito.any(), Mockito.any());
+  }
+
   @Test
   public void getSessionsForAuthenticatedUser_Should_ReturnBadRequest_WhenHeaderParamIsMissing()
       throws Exception {
@@ -1096,6 +1124,55 @@ public class UserControllerIT {
         .andExpect(status().is2xxSuccessful());
   }
 
+  @Test
+  public void getSessionsForAuthenticatedConsultant_Should_ReturnNotModified_WhenETagMatches()
+      throws Exception {
+    var eTag = "W/\"version\"";
+    when(accountProvider.retrieveValidatedConsultant()).thenReturn(TEAM_CONSULTANT);
+    when(sessionListVersionService.computeConsultantSessionListETag(
+            Mockito.any(), anyString(), Mockito.any()))
+        .thenReturn(eTag);
+    when(sessionListVersionService.isNotModified(eTag, eTag)).thenReturn(true);
+
+    mvc.perform(
+            get(PATH_GET_SESSIONS_FOR_AUTHENTICATED_CONSULTANT)
+                .header(RC_TOKEN_HEADER_PARAMETER_NAME, RC_TOKEN)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, eTag));
+
+    verify(sessionListFacade, times(0))
+        .retrieveSessionsDtoForAuthenticatedConsultant(Mockito.any(), Mockito.any());
+  }
+
+  @Test
+  public void
+      getSessionsForAuthenticatedConsultant_Should_ReturnNotModified_WhenSessionsInProgressAndChatsAreUnchanged()
+          throws Exception {
+    var eTag = "W/\"version\"";
+    when(accountProvider.retrieveValidatedConsultant()).thenReturn(TEAM_CONSULTANT);
+    when(sessionListVersionService.computeConsultantSessionAndChatListETag(
+            Mockito.any(), anyString(), Mockito.any()))
+        .thenReturn(eTag);
+    when(sessionListVersionService.isNotModified(eTag, eTag)).thenReturn(true);
+
+    mvc.perform(
+            get(PATH_GET_SESSIONS_FOR_AUTHENTICATED_CONSULTANT.replace("status=1", "status=2"))
+                .header(RC_TOKEN_HEADER_PARAMETER_NAME, RC_TOKEN)
+                .header(HttpHeaders.IF_NONE_MATCH, eTag)
+                .contentType(MediaType.APPLICATION_JSON)
+                .accept(MediaType.APPLICATION_JSON))
+        .andExpect(status().isNotModified())
+        .andExpect(header().string(HttpHeaders.ETAG, eTag));
+
+    verify(sessionListVersionService, times(0))
+        .computeConsultantSessionListETag(Mockito.any(), anyString(), Mockito.any());
+    verify(sessionListFacade, times(0))
+        .retrieveSessionsDtoForAuthenticatedConsultant(Mockito.any(), Mockito.any());
+  }
+
   @Test
   public void
       getSessionsForAuthenticatedConsultant_Should_ReturnNoContent_WhenAuthorizedAndNoSessionsAvailable()
@@ -0,0 +1,166 @@
+package de.caritas.cob.userservice.api.adapters.web.dto.serialization;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantSessionListResponseDTO;
+import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantSessionResponseDTO;
+import de.caritas.cob.userservice.api.adapters.web.dto.SessionDTO;
+import de.caritas.cob.userservice.api.adapters.web.dto.StreamingConsultantSessionListResponseDTO;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+import org.junit.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+public class StreamingConsultantSessionListHttpMessageConverterTest {
+
+  private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+  private final StreamingConsultantSessionListHttpMessageConverter converter =
+      new StreamingConsultantSessionListHttpMessageConverter(objectMapper);
+
+  @Test
+  public void write_Should_writeSameJsonAsDefaultSerialization() throws IOException {
+    var streamingList =
+        new StreamingConsultantSessionListResponseDTO(sessions(60), this::markAsRead);
+    streamingList.offset(15).count(60).total(200);
+    var expectedList =
+        new ConsultantSessionListResponseDTO()
+            .sessions(markAsRead(sessions(60)))
+            .offset(15)
+            .count(60)
+            .total(200);
+    var expectedJson = objectMapper.writeValueAsString(expectedList);
+    var outputMessage = new MockHttpOutputMessage();
+
+    converter.write(streamingList, MediaType.APPLICATION_JSON, outputMessage);
+
+    assertThat(outputMessage.getBodyAsString(), is(expectedJson));
+  }
+
+  @Test
+  public void write_Should_enrichSessionsChunkByChunk() throws IOException {
+    List<Integer> enrichedChunkSizes = new ArrayList<>();
+    var streamingList =
+        new StreamingConsultantSessionListResponseDTO(
+            sessions(60), chunk -> enrichedChunkSizes.add(chunk.size()));
+
+    converter.write(streamingList, MediaType.APPLICATION_JSON, new MockHttpOutputMessage());
+
+    assertThat(enrichedChunkSizes, contains(25, 25, 10));
+  }
+
+  @Test
+  public void write_Should_enrichOnlySessionsNotEnrichedYet() throws IOException {
+    List<Integer> enrichedChunkSizes = new ArrayList<>();
+    var streamingList =
+        new StreamingConsultantSessionListResponseDTO(
+            sessions(30), chunk -> enrichedChunkSizes.add(chunk.size()));
+
+    streamingList.getSessionChunks().enrichAll();
+    converter.write(streamingList, MediaType.APPLICATION_JSON, new MockHttpOutputMessage());
+
+    assertThat(enrichedChunkSizes, contains(25, 5));
+  }
+
+  @Test
+  public void write_Should_serializeListFieldsWithConfiguredObjectMapper() throws IOException {
+    var nonNullMapper =
+        Jackson2ObjectMapperBuilder.json().serializationInclusion(Include.NON_NULL).build();
+    var streamingList = new StreamingConsultantSessionListResponseDTO(sessions(2));
+    streamingList.offset(0).count(2);
+    var expectedList =
+        new ConsultantSessionListResponseDTO().sessions(sessions(2)).offset(0).count(2);
+    var outputMessage = new MockHttpOutputMessage();
+
+    new StreamingConsultantSessionListHttpMessageConverter(nonNullMapper)
+        .write(streamingList, MediaType.APPLICATION_JSON, outputMessage);
+
+    assertThat(outputMessage.getBodyAsString(), is(nonNullMapper.writeValueAsString(expectedList)));
+    assertThat(outputMessage.getBodyAsString(), not(containsString("total")));
+  }
+
+  @Test
+  public void write_Should_writeNothing_When_enrichmentOfFirstChunkFails() {
+    var streamingList =
+        new StreamingConsultantSessionListResponseDTO(
+            sessions(60),
+            chunk -> {
+              throw new IllegalStateException("enrichment failed");
+            });
+    var outputMessage = new MockHttpOutputMessage();
+
+    assertThrows(
+        IllegalStateException.class,
+        () -> converter.write(streamingList, MediaType.APPLICATION_JSON, outputMessage));
+
+    assertThat(outputMessage.getBodyAsString(), is(""));
+  }
+
+  @Test
+  public void write_Should_abortListWithoutCompletingJson_When_enrichmentFailsPartway() {
+    List<Integer> enrichedChunkSizes = new ArrayList<>();
+    var streamingList =
+        new StreamingConsultantSessionListResponseDTO(
+            sessions(60),
+            chunk -> {
+              if (enrichedChunkSizes.size() == 1) {
+                throw new IllegalStateException("enrichment failed");
+              }
+              enrichedChunkSizes.add(chunk.size());
+            });
+    var outputMessage = new MockHttpOutputMessage();
+
+    assertThrows(
+        IllegalStateException.class,
+        () -> converter.write(streamingList, MediaType.APPLICATION_JSON, outputMessage));
+
+    assertThat(enrichedChunkSizes, contains(25));
+    var body = outputMessage.getBodyAsString();
+    assertThat(body, startsWith("{\"sessions\":[{"));
+    assertThrows(JsonProcessingException.class, () -> objectMapper.readTree(body));
+  }
+
+  @Test
+  public void canWrite_Should_onlySupportStreamingSessionLists() {
+    assertThat(
+        converter.canWrite(
+            StreamingConsultantSessionListResponseDTO.class, MediaType.APPLICATION_JSON),
+        is(true));
+    assertThat(
+        converter.canWrite(ConsultantSessionListResponseDTO.class, MediaType.APPLICATION_JSON),
+        is(false));
+    assertThat(
+        converter.canRead(
+            StreamingConsultantSessionListResponseDTO.class, MediaType.APPLICATION_JSON),
+        is(false));
+  }
+
+  private List<ConsultantSessionResponseDTO> sessions(int count) {
+    return LongStream.range(0, count)
+        .mapToObj(
+            id ->
+                new ConsultantSessionResponseDTO()
+                    .session(new SessionDTO().id(id).groupId("group" + id))
+                    .latestMessage(new Date(id * 1000)))
+        .collect(Collectors.toList());
+  }
+
+  private List<ConsultantSessionResponseDTO> markAsRead(List<ConsultantSessionResponseDTO> chunk) {
+    chunk.forEach(session -> session.getSession().setMessagesRead(true));
+    return chunk;
+  }
+}
@@ -125,6 +125,13 @@ class ConsultantAdminFacadeTest {
     verify(this.consultantAgencyAdminService).removeConsultantsFromTeamSessionsByAgencyId(1L);
   }
 
+  @Test
+  void changeAgencyType_Should_evictCachedAgency() {
+    this.consultantAdminFacade.changeAgencyType(1L, new AgencyTypeDTO().agencyType(TEAM_AGENCY));
+
+    verify(this.agencyService).evictAgency(1L);
+  }
+
   @Test
   void markConsultantAgencyForDeletion_Should_callMarkConsultantAgencyForDeletion() {
     this.consultantAdminFacade.markConsultantAgencyForDeletion("1", 1L);
@@ -13,6 +13,7 @@ import de.caritas.cob.userservice.api.manager.consultingtype.ConsultingTypeManag
 import de.caritas.cob.userservice.api.model.Consultant;
 import de.caritas.cob.userservice.api.model.Session;
 import de.caritas.cob.userservice.api.port.out.ConsultantRepository;
+import java.util.List;
 import java.util.Optional;
 import org.jeasy.random.EasyRandom;
 import org.junit.Test;
@@ -55,8 +56,8 @@ public class RemoveConsultantFromRocketChatServiceTest {
     this.removeConsultantFromRocketChatService.removeConsultantFromSessions(singletonList(session));
 
     verify(this.rocketChatFacade, times(1))
-        .removeUserFromGroup(consultant.getRocketChatId(), session.getGroupId());
+        .removeUsersFromGroup(List.of(consultant.getRocketChatId()), session.getGroupId());
     verify(this.rocketChatFacade, times(1))
-        .removeUserFromGroup(consultant.getRocketChatId(), session.getFeedbackGroupId());
+        .removeUsersFromGroup(List.of(consultant.getRocketChatId()), session.getFeedbackGroupId());
   }
 }
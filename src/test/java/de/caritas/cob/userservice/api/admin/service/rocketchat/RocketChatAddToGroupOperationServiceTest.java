@@ -4,6 +4,7 @@ import static java.util.Collections.singletonList;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.fail;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
@@ -20,6 +21,7 @@ import de.caritas.cob.userservice.api.manager.consultingtype.ConsultingTypeManag
 import de.caritas.cob.userservice.api.model.Consultant;
 import de.caritas.cob.userservice.api.model.Session;
 import de.caritas.cob.userservice.api.model.Session.SessionStatus;
+import java.util.List;
 import java.util.function.Consumer;
 import org.jeasy.random.EasyRandom;
 import org.junit.Test;
@@ -86,9 +88,11 @@ public class RocketChatAddToGroupOperationServiceTest {
       fail("Internal Server Error was not thrown");
     } catch (InternalServerErrorException e) {
       verify(this.rocketChatFacade, times(1))
-          .removeUserFromGroup(eq(consultant.getRocketChatId()), eq(session.getGroupId()));
+          .removeUsersFromGroup(
+              eq(List.of(consultant.getRocketChatId())), eq(session.getGroupId()));
       verify(this.rocketChatFacade, times(1))
-          .removeUserFromGroup(eq(consultant.getRocketChatId()), eq(session.getFeedbackGroupId()));
+          .removeUsersFromGroup(
+              eq(List.of(consultant.getRocketChatId())), eq(session.getFeedbackGroupId()));
     }
   }
 
@@ -125,7 +129,7 @@ public class RocketChatAddToGroupOperationServiceTest {
         .thenReturn(singletonList(memberOfGroup));
     doThrow(new RuntimeException(""))
         .when(this.rocketChatFacade)
-        .removeUserFromGroup(anyString(), anyString());
+        .removeUsersFromGroup(anyList(), anyString());
 
     RocketChatAddToGroupOperationService operationService =
         RocketChatAddToGroupOperationService.getInstance(
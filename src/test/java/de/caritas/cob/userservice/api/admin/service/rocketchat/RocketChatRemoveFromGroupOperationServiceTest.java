@@ -5,6 +5,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.containsString;
 import static org.junit.Assert.fail;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
@@ -73,8 +74,8 @@ public class RocketChatRemoveFromGroupOperationServiceTest {
 
     this.removeService.removeFromGroupsOrRollbackOnFailure();
 
-    verify(this.rocketChatFacade, times(1)).removeUserFromGroup("rcId", "group");
-    verify(this.rocketChatFacade, times(1)).removeUserFromGroup("rcId", "feedback");
+    verify(this.rocketChatFacade, times(1)).removeUsersFromGroup(List.of("rcId"), "group");
+    verify(this.rocketChatFacade, times(1)).removeUsersFromGroup(List.of("rcId"), "feedback");
   }
 
   @Test
@@ -89,7 +90,7 @@ public class RocketChatRemoveFromGroupOperationServiceTest {
         .thenReturn(singletonList(groupMemberDTO));
     doThrow(new RuntimeException(""))
         .when(this.rocketChatFacade)
-        .removeUserFromGroup(anyString(), anyString());
+        .removeUsersFromGroup(anyList(), anyString());
     doThrow(new RuntimeException(""))
         .when(this.rocketChatFacade)
         .addUserToRocketChatGroup(anyString(), anyString());
@@ -112,7 +113,9 @@ public class RocketChatRemoveFromGroupOperationServiceTest {
     groupMemberDTO.set_id(this.consultant.getRocketChatId());
     when(this.rocketChatFacade.retrieveRocketChatMembers(any()))
         .thenReturn(singletonList(groupMemberDTO));
-    doThrow(new RuntimeException("")).when(this.rocketChatFacade).removeUserFromGroup(any(), any());
+    doThrow(new RuntimeException(""))
+        .when(this.rocketChatFacade)
+        .removeUsersFromGroup(any(), any());
 
     try {
       this.removeService.removeFromGroupsOrRollbackOnFailure();
@@ -133,8 +136,9 @@ public class RocketChatRemoveFromGroupOperationServiceTest {
 
     this.removeService.removeFromGroupOrRollbackOnFailure();
 
-    verify(this.rocketChatFacade, times(1)).removeUserFromGroupIgnoreGroupNotFound("rcId", "group");
-    verify(this.rocketChatFacade, never()).removeUserFromGroup("rcId", "feedback");
+    verify(this.rocketChatFacade, times(1))
+        .removeUsersFromGroupIgnoreGroupNotFound(List.of("rcId"), "group");
+    verify(this.rocketChatFacade, never()).removeUsersFromGroup(List.of("rcId"), "feedback");
   }
 
   @Test
@@ -149,7 +153,7 @@ public class RocketChatRemoveFromGroupOperationServiceTest {
         .thenReturn(singletonList(groupMemberDTO));
     doThrow(new RuntimeException(""))
         .when(this.rocketChatFacade)
-        .removeUserFromGroupIgnoreGroupNotFound(anyString(), anyString());
+        .removeUsersFromGroupIgnoreGroupNotFound(anyList(), anyString());
     doThrow(new RuntimeException(""))
         .when(this.rocketChatFacade)
         .addUserToRocketChatGroup(anyString(), anyString());
@@ -174,7 +178,7 @@ public class RocketChatRemoveFromGroupOperationServiceTest {
         .thenReturn(singletonList(groupMemberDTO));
     doThrow(new RuntimeException(""))
         .when(this.rocketChatFacade)
-        .removeUserFromGroupIgnoreGroupNotFound(any(), any());
+        .removeUsersFromGroupIgnoreGroupNotFound(any(), any());
 
     try {
       this.removeService.removeFromGroupOrRollbackOnFailure();
@@ -195,8 +199,8 @@ public class RocketChatRemoveFromGroupOperationServiceTest {
 
     this.removeService.removeFromFeedbackGroupOrRollbackOnFailure();
 
-    verify(this.rocketChatFacade, times(1)).removeUserFromGroup("rcId", "feedback");
-    verify(this.rocketChatFacade, never()).removeUserFromGroup("rcId", "group");
+    verify(this.rocketChatFacade, times(1)).removeUsersFromGroup(List.of("rcId"), "feedback");
+    verify(this.rocketChatFacade, never()).removeUsersFromGroup(List.of("rcId"), "group");
   }
 
   @Test
@@ -211,7 +215,7 @@ public class RocketChatRemoveFromGroupOperationServiceTest {
         .thenReturn(singletonList(groupMemberDTO));
     doThrow(new RuntimeException(""))
         .when(this.rocketChatFacade)
-        .removeUserFromGroup(anyString(), anyString());
+        .removeUsersFromGroup(anyList(), anyString());
     doThrow(new RuntimeException(""))
         .when(this.rocketChatFacade)
         .addUserToRocketChatGroup(anyString(), anyString());
@@ -234,7 +238,9 @@ public class RocketChatRemoveFromGroupOperationServiceTest {
     groupMemberDTO.set_id(this.consultant.getRocketChatId());
     when(this.rocketChatFacade.retrieveRocketChatMembers(any()))
         .thenReturn(singletonList(groupMemberDTO));
-    doThrow(new RuntimeException("")).when(this.rocketChatFacade).removeUserFromGroup(any(), any());
+    doThrow(new RuntimeException(""))
+        .when(this.rocketChatFacade)
+        .removeUsersFromGroup(any(), any());
 
     try {
       this.removeService.removeFromFeedbackGroupOrRollbackOnFailure();
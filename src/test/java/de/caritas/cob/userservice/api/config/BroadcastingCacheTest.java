@@ -0,0 +1,53 @@
+package de.caritas.cob.userservice.api.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+@ExtendWith(MockitoExtension.class)
+class BroadcastingCacheTest {
+
+  private final ConcurrentMapCache localCache =
+      new ConcurrentMapCache(CacheManagerConfig.TENANT_CACHE);
+
+  @Mock private CacheInvalidationBroadcaster cacheInvalidationBroadcaster;
+
+  @Test
+  void evict_Should_evictLocallyAndPublishEviction() {
+    var cache = new BroadcastingCache(localCache, cacheInvalidationBroadcaster);
+    cache.put("subdomain", "tenant");
+
+    cache.evict("subdomain");
+
+    assertThat(cache.get("subdomain")).isNull();
+    verify(cacheInvalidationBroadcaster)
+        .publishEviction(CacheManagerConfig.TENANT_CACHE, "subdomain");
+  }
+
+  @Test
+  void clear_Should_clearLocallyAndPublishClear() {
+    var cache = new BroadcastingCache(localCache, cacheInvalidationBroadcaster);
+    cache.put("subdomain", "tenant");
+
+    cache.clear();
+
+    assertThat(cache.get("subdomain")).isNull();
+    verify(cacheInvalidationBroadcaster).publishClear(CacheManagerConfig.TENANT_CACHE);
+  }
+
+  @Test
+  void putAndGet_Should_notPublishAnything() {
+    var cache = new BroadcastingCache(localCache, cacheInvalidationBroadcaster);
+
+    cache.put("subdomain", "tenant");
+
+    assertThat(cache.get("subdomain", String.class)).isEqualTo("tenant");
+    verifyNoInteractions(cacheInvalidationBroadcaster);
+  }
+}
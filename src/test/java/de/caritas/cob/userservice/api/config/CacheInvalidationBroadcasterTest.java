@@ -0,0 +1,87 @@
+package de.caritas.cob.userservice.api.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.core.Message;
+import org.springframework.cache.interceptor.SimpleKey;
+
+@ExtendWith(MockitoExtension.class)
+class CacheInvalidationBroadcasterTest {
+
+  private static final String EXCHANGE_NAME = "userservice.cache.invalidation";
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+
+  @Mock private AmqpTemplate amqpTemplate;
+
+  private CacheInvalidationBroadcaster cacheInvalidationBroadcaster;
+
+  @BeforeEach
+  void setup() {
+    cacheInvalidationBroadcaster = new CacheInvalidationBroadcaster(amqpTemplate, objectMapper);
+    setField(cacheInvalidationBroadcaster, "cacheInvalidationEnabled", true);
+    setField(cacheInvalidationBroadcaster, "rabbitMqExchangeName", EXCHANGE_NAME);
+  }
+
+  @Test
+  void publishEviction_Should_sendKeyWithTypeAndOrigin() throws Exception {
+    cacheInvalidationBroadcaster.publishEviction(CacheManagerConfig.AGENCY_CACHE, 42L);
+
+    var invalidation = sentInvalidation();
+    assertThat(invalidation.getOrigin()).isEqualTo(cacheInvalidationBroadcaster.getNodeId());
+    assertThat(invalidation.getCacheName()).isEqualTo(CacheManagerConfig.AGENCY_CACHE);
+    assertThat(invalidation.getKey()).isEqualTo("42");
+    assertThat(invalidation.getKeyType()).isEqualTo(CacheInvalidationMessage.KEY_TYPE_LONG);
+  }
+
+  @Test
+  void publishEviction_Should_invalidateWholeCache_When_keyTypeIsNotSupported() throws Exception {
+    cacheInvalidationBroadcaster.publishEviction(CacheManagerConfig.TOPICS_CACHE, SimpleKey.EMPTY);
+
+    var invalidation = sentInvalidation();
+    assertThat(invalidation.getCacheName()).isEqualTo(CacheManagerConfig.TOPICS_CACHE);
+    assertThat(invalidation.getKey()).isNull();
+  }
+
+  @Test
+  void publishEviction_Should_notSendMessage_When_cacheInvalidationIsDisabled() {
+    setField(cacheInvalidationBroadcaster, "cacheInvalidationEnabled", false);
+
+    cacheInvalidationBroadcaster.publishEviction(CacheManagerConfig.AGENCY_CACHE, 42L);
+
+    verifyNoInteractions(amqpTemplate);
+  }
+
+  @Test
+  void publishClear_Should_notThrowException_When_rabbitMqIsNotReachable() {
+    doThrow(new AmqpConnectException(new RuntimeException("connection refused")))
+        .when(amqpTemplate)
+        .send(anyString(), anyString(), any(Message.class));
+
+    cacheInvalidationBroadcaster.publishClear(CacheManagerConfig.TENANT_CACHE);
+
+    verify(amqpTemplate).send(anyString(), anyString(), any(Message.class));
+  }
+
+  private CacheInvalidationMessage sentInvalidation() throws Exception {
+    var message = ArgumentCaptor.forClass(Message.class);
+    verify(amqpTemplate).send(eq(EXCHANGE_NAME), eq(""), message.capture());
+    return objectMapper.readValue(message.getValue().getBody(), CacheInvalidationMessage.class);
+  }
+}
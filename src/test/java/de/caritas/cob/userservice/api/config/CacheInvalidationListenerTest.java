@@ -0,0 +1,126 @@
+package de.caritas.cob.userservice.api.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageBuilder;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+@ExtendWith(MockitoExtension.class)
+class CacheInvalidationListenerTest {
+
+  private static final String OWN_NODE_ID = "ownNode";
+  private static final String OTHER_NODE_ID = "otherNode";
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final ConcurrentMapCache localCache =
+      new ConcurrentMapCache(CacheManagerConfig.AGENCY_CACHE);
+
+  @Mock private CacheManager cacheManager;
+  @Mock private CacheInvalidationBroadcaster cacheInvalidationBroadcaster;
+
+  private CacheInvalidationListener cacheInvalidationListener;
+
+  @BeforeEach
+  void setup() {
+    lenient().when(cacheInvalidationBroadcaster.getNodeId()).thenReturn(OWN_NODE_ID);
+    cacheInvalidationListener =
+        new CacheInvalidationListener(cacheManager, cacheInvalidationBroadcaster, objectMapper);
+    localCache.put(1L, "agency 1");
+    localCache.put(2L, "agency 2");
+  }
+
+  @Test
+  void onMessage_Should_evictKeyLocallyWithoutPublishingAgain() throws Exception {
+    givenBroadcastingCache();
+
+    cacheInvalidationListener.onMessage(
+        messageOf(
+            new CacheInvalidationMessage(
+                OTHER_NODE_ID,
+                CacheManagerConfig.AGENCY_CACHE,
+                "1",
+                CacheInvalidationMessage.KEY_TYPE_LONG)));
+
+    assertThat(localCache.get(1L)).isNull();
+    assertThat(localCache.get(2L)).isNotNull();
+    verify(cacheInvalidationBroadcaster, never()).publishEviction(anyString(), any());
+  }
+
+  @Test
+  void onMessage_Should_clearCacheLocally_When_messageHasNoKey() throws Exception {
+    givenBroadcastingCache();
+
+    cacheInvalidationListener.onMessage(
+        messageOf(
+            new CacheInvalidationMessage(
+                OTHER_NODE_ID, CacheManagerConfig.AGENCY_CACHE, null, null)));
+
+    assertThat(localCache.get(1L)).isNull();
+    assertThat(localCache.get(2L)).isNull();
+    verify(cacheInvalidationBroadcaster, never()).publishClear(anyString());
+  }
+
+  @Test
+  void onMessage_Should_ignoreMessage_When_messageWasPublishedByOwnNode() throws Exception {
+    cacheInvalidationListener.onMessage(
+        messageOf(
+            new CacheInvalidationMessage(
+                OWN_NODE_ID,
+                CacheManagerConfig.AGENCY_CACHE,
+                "1",
+                CacheInvalidationMessage.KEY_TYPE_LONG)));
+
+    assertThat(localCache.get(1L)).isNotNull();
+  }
+
+  @Test
+  void onMessage_Should_ignoreMessage_When_messageCanNotBeRead() {
+    cacheInvalidationListener.onMessage(MessageBuilder.withBody("invalid".getBytes()).build());
+
+    assertThat(localCache.get(1L)).isNotNull();
+  }
+
+  @Test
+  void onMessage_Should_dropTenantUnderIdAndSubdomain_When_tenantIsInvalidated() throws Exception {
+    var tenantCache = new ConcurrentMapCache(CacheManagerConfig.TENANT_CACHE);
+    tenantCache.put(1L, "tenant 1");
+    tenantCache.put("subdomain", "tenant 1");
+    when(cacheManager.getCache(CacheManagerConfig.TENANT_CACHE))
+        .thenReturn(new BroadcastingCache(tenantCache, cacheInvalidationBroadcaster));
+
+    cacheInvalidationListener.onMessage(
+        messageOf(
+            new CacheInvalidationMessage(
+                OTHER_NODE_ID,
+                CacheManagerConfig.TENANT_CACHE,
+                "1",
+                CacheInvalidationMessage.KEY_TYPE_LONG)));
+
+    assertThat(tenantCache.get(1L)).isNull();
+    assertThat(tenantCache.get("subdomain")).isNull();
+    verify(cacheInvalidationBroadcaster, never()).publishClear(anyString());
+  }
+
+  private void givenBroadcastingCache() {
+    when(cacheManager.getCache(CacheManagerConfig.AGENCY_CACHE))
+        .thenReturn(new BroadcastingCache(localCache, cacheInvalidationBroadcaster));
+  }
+
+  private Message messageOf(CacheInvalidationMessage invalidation) throws Exception {
+    return MessageBuilder.withBody(objectMapper.writeValueAsBytes(invalidation)).build();
+  }
+}
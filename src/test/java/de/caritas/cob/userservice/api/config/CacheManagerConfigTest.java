@@ -0,0 +1,227 @@
+package de.caritas.cob.userservice.api.config;
+
+import static de.caritas.cob.userservice.api.config.CacheManagerConfig.AGENCY_CACHE;
+import static de.caritas.cob.userservice.api.config.CacheManagerConfig.CACHE_NAMES;
+import static de.caritas.cob.userservice.api.config.CacheManagerConfig.DECRYPTED_MESSAGE_CACHE;
+import static de.caritas.cob.userservice.api.config.CacheManagerConfig.DECRYPTION_KEY_CACHE;
+import static de.caritas.cob.userservice.api.config.CacheManagerConfig.ROCKET_CHAT_ROOM_SNAPSHOT_CACHE;
+import static de.caritas.cob.userservice.api.config.CacheManagerConfig.TOPICS_CACHE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+import de.caritas.cob.userservice.api.config.CacheConfig.CacheSettings;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.ehcache.core.spi.time.TimeSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.jcache.JCacheCacheManager;
+import org.springframework.core.io.support.PropertiesLoaderUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+class CacheManagerConfigTest {
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final CacheConfig cacheConfig = new CacheConfig();
+  private final AtomicLong now = new AtomicLong(1_000_000);
+
+  private CacheManagerConfig cacheManagerConfig;
+  private CacheManager cacheManager;
+
+  @BeforeEach
+  void setup() {
+    var configuration = new HashMap<String, CacheSettings>();
+    CACHE_NAMES.forEach(cacheName -> configuration.put(cacheName, cacheSettings(null)));
+    configuration.put(TOPICS_CACHE, cacheSettings(Duration.ofSeconds(45)));
+    cacheConfig.setConfiguration(configuration);
+
+    cacheManagerConfig = new CacheManagerConfig(cacheConfig);
+    ReflectionTestUtils.setField(cacheManagerConfig, "timeSource", (TimeSource) now::get);
+    ReflectionTestUtils.setField(cacheManagerConfig, "cacheInvalidationEnabled", true);
+    ReflectionTestUtils.setField(
+        cacheManagerConfig, "cacheInvalidationCaches", Set.of(AGENCY_CACHE));
+  }
+
+  @AfterEach
+  void tearDown() {
+    if (cacheManager != null) {
+      ((JCacheCacheManager) cacheManager).getCacheManager().close();
+    }
+  }
+
+  @Test
+  void cacheManager_Should_decorateCachesByTheirSettings() {
+    cacheManager = createCacheManager();
+
+    assertThat(cacheManager.getCacheNames()).containsExactlyInAnyOrderElementsOf(CACHE_NAMES);
+    assertThat(cacheManager.getCache(TOPICS_CACHE)).isInstanceOf(RefreshAheadCache.class);
+    assertThat(cacheManager.getCache(AGENCY_CACHE)).isInstanceOf(BroadcastingCache.class);
+  }
+
+  @Test
+  void cacheManager_Should_exportStatisticsOfAllCaches() {
+    cacheManager = createCacheManager();
+    var cache = cacheManager.getCache(AGENCY_CACHE);
+
+    cache.put(1L, "agency");
+    cache.get(1L);
+    cache.get(2L);
+
+    assertThat(meterRegistry.get("cache.gets").tag("name", AGENCY_CACHE).meters()).isNotEmpty();
+    assertThat(
+            meterRegistry
+                .get("cache.gets")
+                .tag("name", AGENCY_CACHE)
+                .tag("result", "hit")
+                .functionCounter()
+                .count())
+        .isEqualTo(1);
+    assertThat(
+            meterRegistry
+                .get("cache.gets")
+                .tag("name", AGENCY_CACHE)
+                .tag("result", "miss")
+                .functionCounter()
+                .count())
+        .isEqualTo(1);
+  }
+
+  @Test
+  void cacheManager_Should_evictEntries_When_maxSizeIsExceeded() {
+    cacheConfig.getConfiguration().get(AGENCY_CACHE).setMaxSize(DataSize.ofKilobytes(20));
+    cacheManager = createCacheManager();
+    var cache = cacheManager.getCache(AGENCY_CACHE);
+
+    for (long i = 0; i < 100; i++) {
+      cache.put(i, "x".repeat(1000));
+    }
+
+    var cachedEntries = 0;
+    for (long i = 0; i < 100; i++) {
+      cachedEntries += cache.get(i) == null ? 0 : 1;
+    }
+    assertThat(cachedEntries).isPositive().isLessThanOrEqualTo(10);
+  }
+
+  @Test
+  void cacheManager_Should_keepLargeEntries() {
+    cacheManager = createCacheManager();
+    var cache = cacheManager.getCache(AGENCY_CACHE);
+    var largeEntry = new ArrayList<String>();
+    for (var i = 0; i < 200_000; i++) {
+      largeEntry.add("room" + i);
+    }
+
+    cache.put(1L, largeEntry);
+
+    assertThat(cache.get(1L)).isNotNull();
+  }
+
+  @Test
+  void cacheManager_Should_throwIllegalStateException_When_cacheIsNotConfigured() {
+    cacheConfig.getConfiguration().remove(AGENCY_CACHE);
+
+    assertThatThrownBy(this::createCacheManager)
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Cache agencyCache is not configured");
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {DECRYPTED_MESSAGE_CACHE, DECRYPTION_KEY_CACHE, ROCKET_CHAT_ROOM_SNAPSHOT_CACHE})
+  void cacheManager_Should_expireEntries_When_timeToIdleHasPassedWithoutAccess(String cacheName)
+      throws IOException {
+    var settings = givenApplicationCacheSettings(cacheName);
+    cacheManager = createCacheManager();
+    var cache = cacheManager.getCache(cacheName);
+    cache.put("key", "value");
+
+    now.addAndGet(settings.getTimeToIdle().minusSeconds(1).toMillis());
+    assertThat(cache.get("key", String.class)).isEqualTo("value");
+    now.addAndGet(settings.getTimeToIdle().minusSeconds(1).toMillis());
+    assertThat(cache.get("key", String.class)).isEqualTo("value");
+    now.addAndGet(settings.getTimeToIdle().plusSeconds(1).toMillis());
+
+    assertThat(cache.get("key")).isNull();
+  }
+
+  @ParameterizedTest
+  @ValueSource(
+      strings = {DECRYPTED_MESSAGE_CACHE, DECRYPTION_KEY_CACHE, ROCKET_CHAT_ROOM_SNAPSHOT_CACHE})
+  void cacheManager_Should_expireEntries_When_timeToLiveHasPassedDespiteAccess(String cacheName)
+      throws IOException {
+    var settings = givenApplicationCacheSettings(cacheName);
+    assertThat(settings.getTimeToLive()).isGreaterThan(settings.getTimeToIdle());
+    cacheManager = createCacheManager();
+    var cache = cacheManager.getCache(cacheName);
+    cache.put("key", "value");
+    var accessInterval = settings.getTimeToIdle().dividedBy(2);
+
+    var age = Duration.ZERO;
+    while (age.plus(accessInterval).compareTo(settings.getTimeToLive()) < 0) {
+      now.addAndGet(accessInterval.toMillis());
+      age = age.plus(accessInterval);
+      assertThat(cache.get("key", String.class)).isEqualTo("value");
+    }
+    now.addAndGet(settings.getTimeToLive().minus(age).toMillis());
+
+    assertThat(cache.get("key")).isNull();
+  }
+
+  @Test
+  void cacheManager_Should_restartTimeToLive_When_entryIsWrittenAgain() {
+    var settings = cacheConfig.getConfiguration().get(DECRYPTED_MESSAGE_CACHE);
+    settings.setTimeToIdle(Duration.ofMinutes(10));
+    settings.setTimeToLive(Duration.ofMinutes(15));
+    cacheManager = createCacheManager();
+    var cache = cacheManager.getCache(DECRYPTED_MESSAGE_CACHE);
+    cache.put("key", "first");
+
+    now.addAndGet(Duration.ofMinutes(9).toMillis());
+    cache.put("key", "second");
+    now.addAndGet(Duration.ofMinutes(9).toMillis());
+
+    assertThat(cache.get("key", String.class)).isEqualTo("second");
+  }
+
+  private CacheSettings givenApplicationCacheSettings(String cacheName) throws IOException {
+    var properties = PropertiesLoaderUtils.loadAllProperties("application.properties");
+    var applicationCacheConfig =
+        new Binder(new MapConfigurationPropertySource(properties))
+            .bind("cache", CacheConfig.class)
+            .get();
+    var settings = applicationCacheConfig.getConfiguration().get(cacheName);
+    cacheConfig.getConfiguration().put(cacheName, settings);
+    return settings;
+  }
+
+  private CacheManager createCacheManager() {
+    var createdCacheManager =
+        (JCacheCacheManager)
+            cacheManagerConfig.cacheManager(
+                meterRegistry, Runnable::run, mock(CacheInvalidationBroadcaster.class));
+    createdCacheManager.afterPropertiesSet();
+    return createdCacheManager;
+  }
+
+  private CacheSettings cacheSettings(Duration refreshAfter) {
+    var settings = new CacheSettings();
+    settings.setMaxSize(DataSize.ofMegabytes(10));
+    settings.setTimeToLive(Duration.ofMinutes(5));
+    settings.setRefreshAfter(refreshAfter);
+    return settings;
+  }
+}
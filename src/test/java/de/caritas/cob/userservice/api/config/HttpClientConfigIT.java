@@ -0,0 +1,80 @@
+package de.caritas.cob.userservice.api.config;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.net.URI;
+import org.apache.http.client.protocol.HttpClientContext;
+import org.apache.http.impl.conn.PoolingHttpClientConnectionManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+@SpringBootTest
+@ActiveProfiles("testing")
+class HttpClientConfigIT {
+
+  @Autowired private RestTemplate restTemplate;
+
+  @Autowired
+  @Qualifier("rocketChatRestTemplate")
+  private RestTemplate rocketChatRestTemplate;
+
+  @Autowired
+  @Qualifier("keycloakRestTemplate")
+  private RestTemplate keycloakRestTemplate;
+
+  @Autowired private PoolingHttpClientConnectionManager pooledHttpClientConnectionManager;
+
+  @Autowired private HttpClientConfig httpClientConfig;
+
+  @Autowired private MeterRegistry meterRegistry;
+
+  @Test
+  void restTemplatesShouldUsePooledHttpClient() {
+    assertTrue(usesPooledHttpClient(restTemplate));
+    assertTrue(usesPooledHttpClient(rocketChatRestTemplate));
+    assertTrue(usesPooledHttpClient(keycloakRestTemplate));
+  }
+
+  @Test
+  void connectionPoolShouldLoadProperties() {
+    assertEquals(200, pooledHttpClientConnectionManager.getMaxTotal());
+    assertEquals(50, pooledHttpClientConnectionManager.getDefaultMaxPerRoute());
+  }
+
+  @Test
+  void connectionPoolShouldBeMonitored() {
+    assertNotNull(meterRegistry.find("httpcomponents.httpclient.pool.total.max").gauge());
+  }
+
+  @Test
+  void roomFetchesShouldUseReadTimeoutOfRoomFetch() {
+    var roomsContext =
+        httpClientConfig.createHttpContext(
+            URI.create("https://testing.com/api/v1/rooms.get?updatedSince=2020-01-01"));
+    var subscriptionsContext =
+        httpClientConfig.createHttpContext(
+            URI.create("https://testing.com/api/v1/subscriptions.get"));
+
+    assertEquals(
+        10000, HttpClientContext.adapt(roomsContext).getRequestConfig().getSocketTimeout());
+    assertEquals(
+        10000, HttpClientContext.adapt(subscriptionsContext).getRequestConfig().getSocketTimeout());
+    assertNull(httpClientConfig.createHttpContext(URI.create("https://testing.com/api/v1/me")));
+  }
+
+  private boolean usesPooledHttpClient(RestTemplate restTemplate) {
+    // the request factory of the template is wrapped as soon as interceptors are registered
+    return ReflectionTestUtils.getField(restTemplate, "requestFactory")
+        instanceof HttpComponentsClientHttpRequestFactory;
+  }
+}
@@ -0,0 +1,50 @@
+package de.caritas.cob.userservice.api.config;
+
+import static de.caritas.cob.userservice.api.config.JsonCacheWeigher.OBJECT_OVERHEAD;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Map;
+import org.junit.jupiter.api.Test;
+
+class JsonCacheWeigherTest {
+
+  private final JsonCacheWeigher weigher = new JsonCacheWeigher();
+
+  @Test
+  void weigh_Should_weighStringsByTheirLength() {
+    assertThat(weigher.weigh("key", "value"))
+        .isEqualTo(OBJECT_OVERHEAD + 2 * 3 + OBJECT_OVERHEAD + 2 * 5);
+  }
+
+  @Test
+  void weigh_Should_weighObjectsByTheirJsonRepresentation() {
+    var small = weigher.weigh(1L, Map.of("name", "x"));
+    var large = weigher.weigh(1L, Map.of("name", "x".repeat(1000)));
+
+    assertThat(large - small).isEqualTo(2 * 999);
+  }
+
+  @Test
+  void weigh_Should_extrapolateLargeCollectionsFromASample() {
+    var elements = new ArrayList<String>();
+    for (var i = 0; i < 10_000; i++) {
+      elements.add("x".repeat(10));
+    }
+
+    assertThat(weigher.weigh(null, elements))
+        .isEqualTo(OBJECT_OVERHEAD + 10_000 * (OBJECT_OVERHEAD + 2 * 10));
+  }
+
+  @Test
+  void weigh_Should_useDefaultSize_When_valueCannotBeWrittenAsJson() {
+    assertThat(weigher.weigh(null, new Unwritable())).isEqualTo(JsonCacheWeigher.UNKNOWN_SIZE);
+  }
+
+  static class Unwritable {
+
+    public String getValue() {
+      throw new IllegalStateException("not readable");
+    }
+  }
+}
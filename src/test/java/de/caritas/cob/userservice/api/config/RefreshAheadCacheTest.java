@@ -0,0 +1,150 @@
+package de.caritas.cob.userservice.api.config;
+
+import static de.caritas.cob.userservice.api.config.RefreshAheadCache.CACHE_GETS_METRIC;
+import static de.caritas.cob.userservice.api.config.RefreshAheadCache.CACHE_REFRESHES_METRIC;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import de.caritas.cob.userservice.api.tenant.TenantContext;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+class RefreshAheadCacheTest {
+
+  private static final String CACHE_NAME = "testCache";
+  private static final String KEY = "key";
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+  private final List<Runnable> scheduledRefreshes = new ArrayList<>();
+
+  @AfterEach
+  void tearDown() {
+    TenantContext.clear();
+  }
+
+  @Test
+  void get_Should_loadValueOnceAndCountMissAndHit_When_entryIsFresh() {
+    var cache = refreshAheadCache(60);
+
+    assertThat(cache.get(KEY, () -> "first")).isEqualTo("first");
+    assertThat(cache.get(KEY, () -> "second")).isEqualTo("first");
+
+    assertThat(cacheGets("miss")).isEqualTo(1);
+    assertThat(cacheGets("hit")).isEqualTo(1);
+    assertThat(scheduledRefreshes).isEmpty();
+  }
+
+  @Test
+  void get_Should_returnStaleValueAndRefreshInBackground_When_entryIsOlderThanRefreshInterval() {
+    var cache = refreshAheadCache(0);
+    cache.get(KEY, () -> "stale");
+
+    assertThat(cache.get(KEY, () -> "refreshed")).isEqualTo("stale");
+    runScheduledRefreshes();
+
+    assertThat(cache.get(KEY, String.class)).isEqualTo("refreshed");
+    assertThat(cacheGets("stale")).isEqualTo(1);
+    assertThat(cacheRefreshes("success")).isEqualTo(1);
+  }
+
+  @Test
+  void get_Should_refreshOnlyOnce_When_refreshOfKeyIsAlreadyRunning() {
+    var cache = refreshAheadCache(0);
+    cache.get(KEY, () -> "stale");
+
+    cache.get(KEY, () -> "refreshed");
+    cache.get(KEY, () -> "refreshedAgain");
+
+    assertThat(scheduledRefreshes).hasSize(1);
+    assertThat(cacheGets("stale")).isEqualTo(2);
+  }
+
+  @Test
+  void get_Should_keepFormerValueAndAllowNextRefresh_When_refreshFails() {
+    var cache = refreshAheadCache(0);
+    cache.get(KEY, () -> "stale");
+
+    cache.get(
+        KEY,
+        () -> {
+          throw new IllegalStateException("remote service not available");
+        });
+    runScheduledRefreshes();
+
+    assertThat(cache.get(KEY).get()).isEqualTo("stale");
+    assertThat(cacheRefreshes("failure")).isEqualTo(1);
+    cache.get(KEY, () -> "refreshed");
+    assertThat(scheduledRefreshes).hasSize(1);
+  }
+
+  @Test
+  void get_Should_refreshWithoutTenantOfCaller_When_valueLoaderDoesNotCaptureIt() {
+    var cache = refreshAheadCache(0);
+    cache.get(KEY, () -> "stale");
+    var tenantOfRefresh = new AtomicReference<Long>(-1L);
+    var capturedTenant = new AtomicReference<Long>();
+
+    TenantContext.setCurrentTenant(5L);
+    var tenantOfCaller = TenantContext.getCurrentTenant();
+    cache.get(
+        KEY,
+        () -> {
+          tenantOfRefresh.set(TenantContext.getCurrentTenant());
+          capturedTenant.set(tenantOfCaller);
+          return "refreshed";
+        });
+    TenantContext.clear();
+    runScheduledRefreshes();
+
+    assertThat(tenantOfRefresh.get()).isNull();
+    assertThat(capturedTenant.get()).isEqualTo(5L);
+  }
+
+  @Test
+  void put_Should_storeValueReadableByAllGets() {
+    var cache = refreshAheadCache(60);
+
+    cache.put(KEY, "value");
+
+    assertThat(cache.get(KEY).get()).isEqualTo("value");
+    assertThat(cache.get(KEY, String.class)).isEqualTo("value");
+    assertThat(cache.get(KEY, () -> "loaded")).isEqualTo("value");
+    assertThat(cache.putIfAbsent(KEY, "other").get()).isEqualTo("value");
+  }
+
+  private RefreshAheadCache refreshAheadCache(long refreshAfterSeconds) {
+    return new RefreshAheadCache(
+        new ConcurrentMapCache(CACHE_NAME),
+        refreshAfterSeconds,
+        scheduledRefreshes::add,
+        meterRegistry);
+  }
+
+  private void runScheduledRefreshes() {
+    var refreshes = new ArrayList<>(scheduledRefreshes);
+    scheduledRefreshes.clear();
+    refreshes.forEach(Runnable::run);
+  }
+
+  private double cacheGets(String result) {
+    return meterRegistry
+        .get(CACHE_GETS_METRIC)
+        .tag("cache", CACHE_NAME)
+        .tag("result", result)
+        .counter()
+        .count();
+  }
+
+  private long cacheRefreshes(String outcome) {
+    return meterRegistry
+        .get(CACHE_REFRESHES_METRIC)
+        .tag("cache", CACHE_NAME)
+        .tag("outcome", outcome)
+        .timer()
+        .count();
+  }
+}
@@ -19,6 +19,7 @@ import de.caritas.cob.userservice.api.UserServiceApplication;
 import de.caritas.cob.userservice.api.adapters.web.dto.AgencyDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantSessionListResponseDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantSessionResponseDTO;
+import de.caritas.cob.userservice.api.adapters.web.dto.StreamingConsultantSessionListResponseDTO;
 import de.caritas.cob.userservice.api.conversation.model.ConversationListType;
 import de.caritas.cob.userservice.api.conversation.model.PageableListRequest;
 import de.caritas.cob.userservice.api.model.Consultant;
@@ -119,7 +120,7 @@ public class AnonymousEnquiryConversationListProviderIT {
         this.anonymousEnquiryConversationListProvider.buildConversations(request);
 
     PeekingIterator<ConsultantSessionResponseDTO> peeker =
-        new PeekingIterator<>(responseDTO.getSessions().iterator());
+        new PeekingIterator<>(enrichedSessions(responseDTO).iterator());
     while (peeker.hasNext()) {
       ConsultantSessionResponseDTO current = peeker.next();
       ConsultantSessionResponseDTO next = peeker.peek();
@@ -137,6 +138,11 @@ public class AnonymousEnquiryConversationListProviderIT {
     assertThat(conversationListType, is(ANONYMOUS_ENQUIRY));
   }
 
+  private List<ConsultantSessionResponseDTO> enrichedSessions(
+      ConsultantSessionListResponseDTO responseDTO) {
+    return ((StreamingConsultantSessionListResponseDTO) responseDTO).getSessionChunks().enrichAll();
+  }
+
   private void saveAnonymousSessions(int amount) {
     List<Session> sessions =
         new EasyRandom().objects(Session.class, amount + 4).collect(Collectors.toList());
@@ -15,6 +15,7 @@ import com.neovisionaries.i18n.LanguageCode;
 import de.caritas.cob.userservice.api.UserServiceApplication;
 import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantSessionListResponseDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantSessionResponseDTO;
+import de.caritas.cob.userservice.api.adapters.web.dto.StreamingConsultantSessionListResponseDTO;
 import de.caritas.cob.userservice.api.conversation.model.ConversationListType;
 import de.caritas.cob.userservice.api.conversation.model.PageableListRequest;
 import de.caritas.cob.userservice.api.model.Consultant;
@@ -109,7 +110,7 @@ public class ArchivedSessionConversationListProviderTestIT {
         this.archivedSessionConversationListProvider.buildConversations(request);
 
     PeekingIterator<ConsultantSessionResponseDTO> peeker =
-        new PeekingIterator<>(responseDTO.getSessions().iterator());
+        new PeekingIterator<>(enrichedSessions(responseDTO).iterator());
     while (peeker.hasNext()) {
       ConsultantSessionResponseDTO current = peeker.next();
       ConsultantSessionResponseDTO next = peeker.peek();
@@ -127,6 +128,11 @@ public class ArchivedSessionConversationListProviderTestIT {
     assertThat(conversationListType, is(ARCHIVED_SESSION));
   }
 
+  private List<ConsultantSessionResponseDTO> enrichedSessions(
+      ConsultantSessionListResponseDTO responseDTO) {
+    return ((StreamingConsultantSessionListResponseDTO) responseDTO).getSessionChunks().enrichAll();
+  }
+
   private void saveTestData(int amount) {
     Consultant consultant = buildConsultant();
     consultantRepository.save(consultant);
@@ -1,6 +1,7 @@
 package de.caritas.cob.userservice.api.conversation.service;
 
 import static de.caritas.cob.userservice.api.conversation.model.ConversationListType.ANONYMOUS_ENQUIRY;
+import static java.util.Objects.isNull;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -50,7 +51,8 @@ class ConversationListResolverTest {
         .thenReturn(this.consultantSessionListResponseDTO);
     when(this.conversationListProviderRegistry.findByConversationType(ANONYMOUS_ENQUIRY))
         .thenReturn(this.conversationListProvider);
-    when(this.consultantSessionListResponseDTO.getSessions()).thenReturn(responseSessions);
+    when(this.consultantSessionListResponseDTO.getCount())
+        .thenReturn(isNull(responseSessions) ? null : responseSessions.size());
   }
 
   @ParameterizedTest
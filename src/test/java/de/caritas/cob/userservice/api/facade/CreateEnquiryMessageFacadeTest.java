@@ -4,7 +4,6 @@ import static de.caritas.cob.userservice.api.helper.CustomLocalDateTime.nowInUtc
 import static de.caritas.cob.userservice.api.model.Session.RegistrationType.ANONYMOUS;
 import static de.caritas.cob.userservice.api.model.Session.RegistrationType.REGISTERED;
 import static de.caritas.cob.userservice.api.testHelper.ExceptionConstants.INTERNAL_SERVER_ERROR_EXCEPTION;
-import static de.caritas.cob.userservice.api.testHelper.ExceptionConstants.RC_ADD_USER_TO_GROUP_EXCEPTION;
 import static de.caritas.cob.userservice.api.testHelper.ExceptionConstants.RC_CHAT_REMOVE_SYSTEM_MESSAGES_EXCEPTION;
 import static de.caritas.cob.userservice.api.testHelper.ExceptionConstants.RC_POST_MESSAGE_EXCEPTION;
 import static de.caritas.cob.userservice.api.testHelper.TestConstants.AGENCY_ID;
@@ -40,7 +39,9 @@ import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.atLeast;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.atMost;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -50,6 +51,7 @@ import static org.powermock.reflect.Whitebox.setInternalState;
 import static org.springframework.test.util.ReflectionTestUtils.setField;
 
 import com.neovisionaries.i18n.LanguageCode;
+import de.caritas.cob.userservice.api.adapters.rocketchat.GroupMembershipResult;
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatCredentials;
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatService;
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.group.GroupDTO;
@@ -89,6 +91,7 @@ import de.caritas.cob.userservice.consultingtypeservice.generated.web.model.Sess
 import de.caritas.cob.userservice.consultingtypeservice.generated.web.model.WelcomeMessageDTO;
 import de.caritas.cob.userservice.messageservice.generated.web.model.MessageResponseDTO;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Optional;
 import javax.servlet.http.HttpServletRequest;
@@ -261,6 +264,10 @@ public class CreateEnquiryMessageFacadeTest {
     setField(
         createEnquiryMessageFacade, "rocketChatRoomNameGenerator", rocketChatRoomNameGenerator);
     setInternalState(LogService.class, "LOGGER", logger);
+    lenient()
+        .doAnswer(invocation -> succeededFor(invocation.getArgument(0), invocation.getArgument(1)))
+        .when(rocketChatService)
+        .addUsersToGroup(any(), anyString());
 
     this.session = new Session();
     session.setId(SESSION_ID);
@@ -606,11 +613,9 @@ public class CreateEnquiryMessageFacadeTest {
     when(rocketChatRoomNameGenerator.generateGroupName(Mockito.any(Session.class)))
         .thenReturn(SESSION_WITHOUT_ENQUIRY_MESSAGE.getId().toString());
 
-    Mockito.doThrow(new RocketChatAddUserToGroupException(MESSAGE))
+    doAnswer(invocation -> failedFor(invocation.getArgument(0), invocation.getArgument(1)))
         .when(rocketChatService)
-        .addUserToGroup(
-            CONSULTANT_AGENCY_LIST.get(0).getConsultant().getRocketChatId(),
-            GROUP_RESPONSE_DTO.getGroup().getId());
+        .addUsersToGroup(any(), Mockito.eq(GROUP_RESPONSE_DTO.getGroup().getId()));
 
     try {
       createEnquiryMessageFacade.createEnquiryMessage(
@@ -623,6 +628,44 @@ public class CreateEnquiryMessageFacadeTest {
     resetRequestAttributes();
   }
 
+  @Test
+  public void
+      createEnquiryMessage_Should_RemoveAddedConsultants_When_AddingSomeConsultantsToRocketChatGroupFails()
+          throws Exception {
+
+    when(sessionService.getSession(SESSION_ID)).thenReturn(Optional.of(SESSION_WITHOUT_CONSULTANT));
+    when(rocketChatService.getUserInfo(RC_USER_ID)).thenReturn(USER_INFO_RESPONSE_DTO);
+    when(userHelper.doUsernamesMatch(Mockito.anyString(), Mockito.anyString())).thenReturn(true);
+    when(rocketChatService.createPrivateGroup(Mockito.anyString(), Mockito.eq(RC_CREDENTIALS)))
+        .thenReturn(Optional.of(GROUP_RESPONSE_DTO));
+    var consultantAgencies =
+        List.of(consultantAgencyWithRcId("rc-id-1"), consultantAgencyWithRcId("rc-id-2"));
+    when(consultantAgencyService.findConsultantsByAgencyId(AGENCY_ID))
+        .thenReturn(consultantAgencies);
+    when(rocketChatRoomNameGenerator.generateGroupName(Mockito.any(Session.class)))
+        .thenReturn(SESSION_WITHOUT_ENQUIRY_MESSAGE.getId().toString());
+
+    doAnswer(invocation -> failedForFirstOf(invocation.getArgument(0), invocation.getArgument(1)))
+        .when(rocketChatService)
+        .addUsersToGroup(any(), Mockito.eq(GROUP_RESPONSE_DTO.getGroup().getId()));
+    doAnswer(invocation -> succeededFor(invocation.getArgument(0), invocation.getArgument(1)))
+        .when(rocketChatService)
+        .removeUsersFromGroupIgnoreGroupNotFound(any(), anyString());
+
+    try {
+      createEnquiryMessageFacade.createEnquiryMessage(
+          new EnquiryData(USER, SESSION_ID, MESSAGE, null, RC_CREDENTIALS));
+    } catch (Exception e) {
+      assertThat(e, instanceOf(InternalServerErrorException.class));
+    }
+
+    verify(rocketChatService)
+        .removeUsersFromGroupIgnoreGroupNotFound(
+            List.of("rc-id-2"), GROUP_RESPONSE_DTO.getGroup().getId());
+    verify(rocketChatService, times(1)).rollbackGroup(RC_GROUP_ID, RC_CREDENTIALS);
+    resetRequestAttributes();
+  }
+
   @Test(expected = CreateEnquiryMessageException.class)
   public void
       createEnquiryMessage_Should_ThrowCreateEnquiryMessageException_When_KeycloakAndRocketChatUsersDontMatch() {
@@ -948,11 +991,9 @@ public class CreateEnquiryMessageFacadeTest {
         .thenReturn(CONSULTANT_AGENCY_LIST);
     when(rocketChatService.createPrivateGroupWithSystemUser(Mockito.any()))
         .thenReturn(Optional.of(FEEDBACK_GROUP_RESPONSE_DTO_2));
-    Mockito.doThrow(RC_ADD_USER_TO_GROUP_EXCEPTION)
+    doAnswer(invocation -> failedFor(invocation.getArgument(0), invocation.getArgument(1)))
         .when(rocketChatService)
-        .addUserToGroup(
-            CONSULTANT_AGENCY_LIST.get(0).getConsultant().getRocketChatId(),
-            FEEDBACK_GROUP_RESPONSE_DTO_2.getGroup().getId());
+        .addUsersToGroup(any(), Mockito.eq(FEEDBACK_GROUP_RESPONSE_DTO_2.getGroup().getId()));
 
     try {
       createEnquiryMessageFacade.createEnquiryMessage(
@@ -1218,4 +1259,31 @@ public class CreateEnquiryMessageFacadeTest {
   private MessageResponseDTO createMessageResponse() {
     return easyRandom.nextObject(MessageResponseDTO.class);
   }
+
+  private static GroupMembershipResult succeededFor(List<String> rcUserIds, String rcGroupId) {
+    var outcomes = new LinkedHashMap<String, Exception>();
+    rcUserIds.forEach(rcUserId -> outcomes.put(rcUserId, null));
+    return GroupMembershipResult.of(rcGroupId, outcomes);
+  }
+
+  private static ConsultantAgency consultantAgencyWithRcId(String rcUserId) {
+    var consultant = new Consultant();
+    consultant.setRocketChatId(rcUserId);
+    return new ConsultantAgency(
+        1L, consultant, AGENCY_ID, nowInUtc(), nowInUtc(), nowInUtc(), null, null);
+  }
+
+  private static GroupMembershipResult failedForFirstOf(List<String> rcUserIds, String rcGroupId) {
+    var outcomes = new LinkedHashMap<String, Exception>();
+    rcUserIds.forEach(rcUserId -> outcomes.put(rcUserId, null));
+    outcomes.put(rcUserIds.get(0), new RocketChatAddUserToGroupException(MESSAGE));
+    return GroupMembershipResult.of(rcGroupId, outcomes);
+  }
+
+  private static GroupMembershipResult failedFor(List<String> rcUserIds, String rcGroupId) {
+    var outcomes = new LinkedHashMap<String, Exception>();
+    rcUserIds.forEach(
+        rcUserId -> outcomes.put(rcUserId, new RocketChatAddUserToGroupException(MESSAGE)));
+    return GroupMembershipResult.of(rcGroupId, outcomes);
+  }
 }
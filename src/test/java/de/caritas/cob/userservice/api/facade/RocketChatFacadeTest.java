@@ -1,5 +1,6 @@
 package de.caritas.cob.userservice.api.facade;
 
+import static java.util.Collections.singletonMap;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
@@ -8,8 +9,10 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import com.mongodb.MongoClientException;
+import de.caritas.cob.userservice.api.adapters.rocketchat.GroupMembershipResult;
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatService;
 import de.caritas.cob.userservice.api.exception.httpresponses.InternalServerErrorException;
 import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatAddUserToGroupException;
@@ -17,6 +20,7 @@ import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatGetGroupMem
 import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatLeaveFromGroupException;
 import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatRemoveSystemMessagesException;
 import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatRemoveUserFromGroupException;
+import java.util.List;
 import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.InjectMocks;
@@ -127,21 +131,24 @@ public class RocketChatFacadeTest {
   }
 
   @Test
-  public void removeUserFromGroup_Should_removeUserFromGroup() throws Exception {
-    this.rocketChatFacade.removeUserFromGroup("user", "group");
+  public void removeUsersFromGroup_Should_removeUsersFromGroup() {
+    when(this.rocketChatService.removeUsersFromGroup(List.of("user"), "group"))
+        .thenReturn(GroupMembershipResult.of("group", singletonMap("user", null)));
 
-    verify(this.rocketChatService, times(1)).removeUserFromGroup("user", "group");
+    this.rocketChatFacade.removeUsersFromGroup(List.of("user"), "group");
+
+    verify(this.rocketChatService, times(1)).removeUsersFromGroup(List.of("user"), "group");
   }
 
   @Test(expected = InternalServerErrorException.class)
   public void
-      removeUserFromGroup_Should_throwInternalServerErrorException_When_RocketChatRemoveUserFromGroupExceptionIsThrown()
-          throws Exception {
-    doThrow(new RocketChatRemoveUserFromGroupException(""))
-        .when(this.rocketChatService)
-        .removeUserFromGroup(anyString(), anyString());
+      removeUsersFromGroup_Should_throwInternalServerErrorException_When_removalOfAUserFails() {
+    when(this.rocketChatService.removeUsersFromGroup(List.of("user"), "group"))
+        .thenReturn(
+            GroupMembershipResult.of(
+                "group", singletonMap("user", new RocketChatRemoveUserFromGroupException(""))));
 
-    this.rocketChatFacade.removeUserFromGroup("user", "group");
+    this.rocketChatFacade.removeUsersFromGroup(List.of("user"), "group");
   }
 
   @Test
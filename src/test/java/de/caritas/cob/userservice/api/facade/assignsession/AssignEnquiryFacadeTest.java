@@ -24,6 +24,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
@@ -106,7 +107,8 @@ class AssignEnquiryFacadeTest {
 
     verifyConsultantAndSessionHaveBeenChecked(
         FEEDBACKSESSION_WITHOUT_CONSULTANT, CONSULTANT_WITH_AGENCY);
-    verify(rocketChatFacade, times(0)).removeUserFromGroup(ROCKET_CHAT_SYSTEM_USER_ID, RC_GROUP_ID);
+    verify(rocketChatFacade, times(0))
+        .removeUsersFromGroup(List.of(ROCKET_CHAT_SYSTEM_USER_ID), RC_GROUP_ID);
   }
 
   @Test
@@ -117,7 +119,8 @@ class AssignEnquiryFacadeTest {
 
     verifyConsultantAndSessionHaveBeenCheckedButInProgressValidationSkipped(
         FEEDBACKSESSION_WITHOUT_CONSULTANT, CONSULTANT_WITH_AGENCY);
-    verify(rocketChatFacade, times(0)).removeUserFromGroup(ROCKET_CHAT_SYSTEM_USER_ID, RC_GROUP_ID);
+    verify(rocketChatFacade, times(0))
+        .removeUsersFromGroup(List.of(ROCKET_CHAT_SYSTEM_USER_ID), RC_GROUP_ID);
   }
 
   @Test
@@ -206,7 +209,8 @@ class AssignEnquiryFacadeTest {
 
     // then
     verifyConsultantAndSessionHaveBeenChecked(SESSION_WITHOUT_CONSULTANT, CONSULTANT_WITH_AGENCY);
-    verify(rocketChatFacade, times(0)).removeUserFromGroup(ROCKET_CHAT_SYSTEM_USER_ID, RC_GROUP_ID);
+    verify(rocketChatFacade, times(0))
+        .removeUsersFromGroup(List.of(ROCKET_CHAT_SYSTEM_USER_ID), RC_GROUP_ID);
     verifyAsync(
         (a) ->
             verify(rocketChatFacade, times(1))
@@ -228,7 +232,7 @@ class AssignEnquiryFacadeTest {
     verifyAsync(
         (a) ->
             verify(rocketChatFacade, times(0))
-                .removeUserFromGroup(ROCKET_CHAT_SYSTEM_USER_ID, RC_GROUP_ID));
+                .removeUsersFromGroup(List.of(ROCKET_CHAT_SYSTEM_USER_ID), RC_GROUP_ID));
     verifyAsync(
         (a) -> verify(rocketChatFacade, atLeastOnce()).retrieveRocketChatMembers(Mockito.any()));
     verifyAsync(
@@ -383,13 +387,13 @@ class AssignEnquiryFacadeTest {
     verifyAsync(
         (a) ->
             verify(this.rocketChatFacade, times(1))
-                .removeUserFromGroupIgnoreGroupNotFound(
-                    consultantToRemove.getRocketChatId(), session.getGroupId()));
+                .removeUsersFromGroupIgnoreGroupNotFound(
+                    List.of(consultantToRemove.getRocketChatId()), session.getGroupId()));
     verifyAsync(
         (a) ->
             verify(this.rocketChatFacade, times(1))
-                .removeUserFromGroup(
-                    consultantToRemove.getRocketChatId(), session.getFeedbackGroupId()));
+                .removeUsersFromGroup(
+                    List.of(consultantToRemove.getRocketChatId()), session.getFeedbackGroupId()));
   }
 
   @Test
@@ -425,23 +429,31 @@ class AssignEnquiryFacadeTest {
     verifyAsync(
         (a) ->
             verify(this.rocketChatFacade, atLeastOnce())
-                .removeUserFromGroupIgnoreGroupNotFound(
-                    consultantToRemove.getRocketChatId(), session.getGroupId()));
+                .removeUsersFromGroupIgnoreGroupNotFound(
+                    List.of(consultantToRemove.getRocketChatId()), session.getGroupId()));
     verifyAsync(
         (a) ->
             verify(this.rocketChatFacade, atLeastOnce())
-                .removeUserFromGroup(
-                    consultantToRemove.getRocketChatId(), session.getFeedbackGroupId()));
+                .removeUsersFromGroup(
+                    List.of(consultantToRemove.getRocketChatId()), session.getFeedbackGroupId()));
     verifyAsync(
         (a) ->
             verify(this.rocketChatFacade, never())
-                .removeUserFromGroup("teamConsultantRcId", session.getGroupId()));
+                .removeUsersFromGroup(
+                    argThat(rcUserIds -> rcUserIds.contains("teamConsultantRcId")),
+                    eq(session.getGroupId())));
     verify(this.rocketChatFacade, never())
-        .removeUserFromGroup("teamConsultantRcId", session.getFeedbackGroupId());
+        .removeUsersFromGroup(
+            argThat(rcUserIds -> rcUserIds.contains("teamConsultantRcId")),
+            eq(session.getFeedbackGroupId()));
     verify(this.rocketChatFacade, never())
-        .removeUserFromGroup("teamConsultantRcId2", session.getGroupId());
+        .removeUsersFromGroup(
+            argThat(rcUserIds -> rcUserIds.contains("teamConsultantRcId2")),
+            eq(session.getGroupId()));
     verify(this.rocketChatFacade, never())
-        .removeUserFromGroup("teamConsultantRcId2", session.getFeedbackGroupId());
+        .removeUsersFromGroup(
+            argThat(rcUserIds -> rcUserIds.contains("teamConsultantRcId2")),
+            eq(session.getFeedbackGroupId()));
   }
 
   @Test
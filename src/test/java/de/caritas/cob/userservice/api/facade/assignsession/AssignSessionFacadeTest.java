@@ -159,13 +159,13 @@ public class AssignSessionFacadeTest {
     verifyAsync(
         a ->
             verify(this.rocketChatFacade, atLeastOnce())
-                .removeUserFromGroupIgnoreGroupNotFound(
-                    consultantToRemove.getRocketChatId(), session.getGroupId()));
+                .removeUsersFromGroupIgnoreGroupNotFound(
+                    List.of(consultantToRemove.getRocketChatId()), session.getGroupId()));
     verifyAsync(
         a ->
             verify(this.rocketChatFacade, atLeastOnce())
-                .removeUserFromGroupIgnoreGroupNotFound(
-                    consultantToRemove.getRocketChatId(), session.getGroupId()));
+                .removeUsersFromGroupIgnoreGroupNotFound(
+                    List.of(consultantToRemove.getRocketChatId()), session.getGroupId()));
     verify(this.emailNotificationFacade, times(1))
         .sendAssignEnquiryEmailNotification(any(), any(), any(), any());
   }
@@ -283,28 +283,32 @@ public class AssignSessionFacadeTest {
     verifyAsync(
         a ->
             verify(this.rocketChatFacade, atLeastOnce())
-                .removeUserFromGroupIgnoreGroupNotFound(
-                    consultantToRemove.getRocketChatId(), session.getGroupId()));
+                .removeUsersFromGroupIgnoreGroupNotFound(
+                    List.of(consultantToRemove.getRocketChatId()), session.getGroupId()));
     verifyAsync(
         a ->
             verify(this.rocketChatFacade, never())
-                .removeUserFromGroupIgnoreGroupNotFound(
-                    "teamConsultantRcId", session.getGroupId()));
+                .removeUsersFromGroupIgnoreGroupNotFound(
+                    argThat(rcUserIds -> rcUserIds.contains("teamConsultantRcId")),
+                    eq(session.getGroupId())));
     verifyAsync(
         a ->
             verify(this.rocketChatFacade, never())
-                .removeUserFromGroupIgnoreGroupNotFound(
-                    "teamConsultantRcId", session.getFeedbackGroupId()));
+                .removeUsersFromGroupIgnoreGroupNotFound(
+                    argThat(rcUserIds -> rcUserIds.contains("teamConsultantRcId")),
+                    eq(session.getFeedbackGroupId())));
     verifyAsync(
         a ->
             verify(this.rocketChatFacade, never())
-                .removeUserFromGroupIgnoreGroupNotFound(
-                    "teamConsultantRcId2", session.getGroupId()));
+                .removeUsersFromGroupIgnoreGroupNotFound(
+                    argThat(rcUserIds -> rcUserIds.contains("teamConsultantRcId2")),
+                    eq(session.getGroupId())));
     verifyAsync(
         a ->
             verify(this.rocketChatFacade, never())
-                .removeUserFromGroupIgnoreGroupNotFound(
-                    "teamConsultantRcId2", session.getFeedbackGroupId()));
+                .removeUsersFromGroupIgnoreGroupNotFound(
+                    argThat(rcUserIds -> rcUserIds.contains("teamConsultantRcId2")),
+                    eq(session.getFeedbackGroupId())));
     verifyAsync(
         a ->
             verify(this.emailNotificationFacade, times(1))
@@ -16,29 +16,50 @@ import static de.caritas.cob.userservice.api.testHelper.TestConstants.USER_DTO_3
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
+import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatMongoRoomReader;
+import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatRoomSnapshot;
+import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatRoomSnapshotCache;
+import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatRoomVersion;
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatService;
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.room.RoomsUpdateDTO;
 import de.caritas.cob.userservice.api.container.RocketChatRoomInformation;
 import java.util.ArrayList;
 import java.util.Date;
+import java.util.List;
 import java.util.Objects;
 import org.apache.commons.collections.CollectionUtils;
+import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @RunWith(MockitoJUnitRunner.class)
 public class RocketChatRoomInformationProviderTest {
 
-  @InjectMocks private RocketChatRoomInformationProvider rocketChatRoomInformationProvider;
+  private RocketChatRoomInformationProvider rocketChatRoomInformationProvider;
 
   @Mock private RocketChatService rocketChatService;
 
+  @Mock private RocketChatMongoRoomReader rocketChatMongoRoomReader;
+
+  @Before
+  public void setup() {
+    var rocketChatRoomSnapshotCache =
+        new RocketChatRoomSnapshotCache(
+            rocketChatService, new ConcurrentMapCacheManager(), Runnable::run);
+    rocketChatRoomInformationProvider =
+        new RocketChatRoomInformationProvider(
+            rocketChatRoomSnapshotCache, rocketChatMongoRoomReader);
+  }
+
   @Test
   public void retrieveRocketChatInformation_Should_Return_CorrectMessagesReadMap() {
 
@@ -95,6 +116,73 @@ public class RocketChatRoomInformationProviderTest {
     assertTrue(CollectionUtils.sizeIsEmpty(rocketChatRoomInformation.getRoomsForUpdate()));
   }
 
+  @Test
+  public void
+      retrieveRocketChatInformation_Should_ReadRequestedGroupsFromMongo_When_MongoRoomReadIsEnabled() {
+    ReflectionTestUtils.setField(rocketChatRoomInformationProvider, "mongoRoomReadEnabled", true);
+    var groupIds = List.of(RC_GROUP_ID, RC_FEEDBACK_GROUP_ID);
+    when(rocketChatMongoRoomReader.readSnapshot(RC_CREDENTIALS.getRocketChatUserId(), groupIds))
+        .thenReturn(
+            RocketChatRoomSnapshot.of(
+                SUBSCRIPTIONS_UPDATE_LIST_DTO_WITH_ONE_FEEDBACK_UNREAD, ROOMS_UPDATE_DTO_LIST));
+
+    var rocketChatRoomInformation =
+        rocketChatRoomInformationProvider.retrieveRocketChatInformation(RC_CREDENTIALS, groupIds);
+
+    assertTrue(rocketChatRoomInformation.getReadMessages().get(RC_GROUP_ID));
+    assertFalse(rocketChatRoomInformation.getReadMessages().get(RC_FEEDBACK_GROUP_ID));
+    assertEquals(ROOMS_LAST_MESSAGE_DTO_MAP, rocketChatRoomInformation.getLastMessagesRoom());
+    verifyNoInteractions(rocketChatService);
+  }
+
+  @Test
+  public void
+      retrieveRocketChatInformation_Should_RetrieveAllRoomsOfUser_When_MongoRoomReadIsDisabled() {
+    when(rocketChatService.getRoomsOfUser(RC_CREDENTIALS)).thenReturn(ROOMS_UPDATE_DTO_LIST);
+
+    var rocketChatRoomInformation =
+        rocketChatRoomInformationProvider.retrieveRocketChatInformation(
+            RC_CREDENTIALS, List.of(RC_GROUP_ID));
+
+    assertEquals(ROOMS_UPDATE_DTO_LIST, rocketChatRoomInformation.getRoomsForUpdate());
+    verifyNoInteractions(rocketChatMongoRoomReader);
+  }
+
+  @Test
+  public void
+      retrieveRocketChatRoomVersion_Should_ReadVersionFromMongo_When_MongoRoomReadIsEnabled() {
+    ReflectionTestUtils.setField(rocketChatRoomInformationProvider, "mongoRoomReadEnabled", true);
+    var version = new RocketChatRoomVersion(1, new Date(10L), new Date(20L));
+    when(rocketChatMongoRoomReader.readVersion(RC_CREDENTIALS.getRocketChatUserId()))
+        .thenReturn(version);
+
+    assertEquals(
+        version, rocketChatRoomInformationProvider.retrieveRocketChatRoomVersion(RC_CREDENTIALS));
+    verifyNoInteractions(rocketChatService);
+  }
+
+  @Test
+  public void
+      retrieveRocketChatRoomVersion_Should_DeriveVersionFromSnapshot_When_MongoRoomReadIsDisabled() {
+    when(rocketChatService.getSubscriptionsOfUser(RC_CREDENTIALS))
+        .thenReturn(SUBSCRIPTIONS_UPDATE_LIST_DTO_WITH_ONE_FEEDBACK_UNREAD);
+
+    var version = rocketChatRoomInformationProvider.retrieveRocketChatRoomVersion(RC_CREDENTIALS);
+
+    assertEquals(
+        SUBSCRIPTIONS_UPDATE_LIST_DTO_WITH_ONE_FEEDBACK_UNREAD.size(),
+        version.getSubscriptionCount());
+    verifyNoInteractions(rocketChatMongoRoomReader);
+  }
+
+  @Test
+  public void retrieveRocketChatRoomVersion_Should_ReturnNull_When_UserHasNoRocketChatId() {
+    assertNull(
+        rocketChatRoomInformationProvider.retrieveRocketChatRoomVersion(
+            RC_CREDENTIALS_WITH_EMPTY_USER_VALUES));
+    verifyNoInteractions(rocketChatService, rocketChatMongoRoomReader);
+  }
+
   @Test
   public void should_collect_fallback_date_for_rooms_without_last_message() {
     var fallbackDate = new Date(1655730882738L);
@@ -147,4 +235,33 @@ public class RocketChatRoomInformationProviderTest {
     assertNotNull(rocketChatRoomInformation.getGroupIdToLastMessageFallbackDate());
     assertTrue(rocketChatRoomInformation.getGroupIdToLastMessageFallbackDate().isEmpty());
   }
+
+  @Test
+  public void should_index_rooms_by_id() {
+    var lastMessageDate = new Date(1655730882738L);
+    var roomUpdate =
+        new RoomsUpdateDTO(
+            "4711aaGc",
+            "room without last message",
+            "fname13",
+            "e2e",
+            USER_DTO_3,
+            true,
+            false,
+            new Date(),
+            null,
+            lastMessageDate);
+    var rooms = new ArrayList<>(ROOMS_UPDATE_DTO_LIST);
+    rooms.add(roomUpdate);
+    when(rocketChatService.getRoomsOfUser(RC_CREDENTIALS)).thenReturn(rooms);
+
+    RocketChatRoomInformation rocketChatRoomInformation =
+        rocketChatRoomInformationProvider.retrieveRocketChatInformation(RC_CREDENTIALS);
+
+    assertTrue(rocketChatRoomInformation.isUserRoom("4711aaGc"));
+    assertFalse(rocketChatRoomInformation.isUserRoom("unknown"));
+    assertEquals(lastMessageDate, rocketChatRoomInformation.getLastMessageDate("4711aaGc"));
+    assertEquals(lastMessageDate, rocketChatRoomInformation.getRoom("4711aaGc").getFallbackDate());
+    assertNull(rocketChatRoomInformation.getRoom("unknown"));
+  }
 }
@@ -13,6 +13,7 @@ import static de.caritas.cob.userservice.api.testHelper.TestConstants.RC_TOKEN;
 import static de.caritas.cob.userservice.api.testHelper.TestConstants.SESSION_STATUS_IN_PROGRESS;
 import static de.caritas.cob.userservice.api.testHelper.TestConstants.USER_ID;
 import static de.caritas.cob.userservice.api.testHelper.TestConstants.USER_SESSION_RESPONSE_SESSION_CHAT_DTO_LIST;
+import static java.util.Comparator.comparing;
 import static java.util.Objects.nonNull;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -22,6 +23,7 @@ import static org.mockito.Mockito.when;
 import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantSessionListResponseDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantSessionResponseDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.SessionDTO;
+import de.caritas.cob.userservice.api.adapters.web.dto.StreamingConsultantSessionListResponseDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.UserSessionListResponseDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.UserSessionResponseDTO;
 import de.caritas.cob.userservice.api.container.SessionListQueryParameter;
@@ -29,6 +31,10 @@ import de.caritas.cob.userservice.api.service.session.SessionFilter;
 import de.caritas.cob.userservice.api.service.session.SessionTopicEnrichmentService;
 import de.caritas.cob.userservice.api.service.sessionlist.ConsultantSessionListService;
 import de.caritas.cob.userservice.api.service.sessionlist.UserSessionListService;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -60,7 +66,7 @@ public class SessionListFacadeTest {
         .thenReturn(USER_SESSION_RESPONSE_SESSION_CHAT_DTO_LIST);
 
     UserSessionListResponseDTO result =
-        sessionListFacade.retrieveSortedSessionsForAuthenticatedUser(USER_ID, RC_CREDENTIALS);
+        sessionListFacade.retrieveSortedSessionsForAuthenticatedUser(USER_ID, RC_CREDENTIALS, null);
 
     for (UserSessionResponseDTO dto : result.getSessions()) {
       Long previousDate =
@@ -75,6 +81,23 @@ public class SessionListFacadeTest {
     }
   }
 
+  @Test
+  public void
+      retrieveSortedSessionsForAuthenticatedUser_Should_ReturnOnlyNewestSessions_When_limitIsGiven() {
+    when(userSessionListService.retrieveSessionsForAuthenticatedUser(USER_ID, RC_CREDENTIALS))
+        .thenReturn(USER_SESSION_RESPONSE_SESSION_CHAT_DTO_LIST);
+    var newestSession =
+        USER_SESSION_RESPONSE_SESSION_CHAT_DTO_LIST.stream()
+            .max(comparing(UserSessionResponseDTO::getLatestMessage))
+            .orElseThrow();
+
+    UserSessionListResponseDTO result =
+        sessionListFacade.retrieveSortedSessionsForAuthenticatedUser(USER_ID, RC_CREDENTIALS, 1);
+
+    assertEquals(1, result.getSessions().size());
+    assertEquals(newestSession, result.getSessions().get(0));
+  }
+
   @Test
   public void retrieveSessionsForAuthenticatedConsultant_Should_ReturnCorrectlySortedSessionList() {
 
@@ -138,11 +161,20 @@ public class SessionListFacadeTest {
     when(consultantSessionListService.retrieveTeamSessionsForAuthenticatedConsultant(
             CONSULTANT, RC_TOKEN, sessionListQueryParameter))
         .thenReturn(CONSULTANT_SESSION_RESPONSE_DTO_LIST);
+    var sessions =
+        CONSULTANT_SESSION_RESPONSE_DTO_LIST.stream()
+            .map(ConsultantSessionResponseDTO::getSession)
+            .collect(Collectors.toList());
+    List<Collection<SessionDTO>> enrichedChunks = new ArrayList<>();
+    when(sessionTopicEnrichmentService.buildChunkEnricher(sessions))
+        .thenReturn(enrichedChunks::add);
 
     ConsultantSessionListResponseDTO result =
         sessionListFacade.retrieveTeamSessionsDtoForAuthenticatedConsultant(
             CONSULTANT, RC_TOKEN, sessionListQueryParameter);
 
+    Mockito.verify(sessionTopicEnrichmentService).buildChunkEnricher(sessions);
+    assertTrue(enrichedChunks.isEmpty());
     assertEquals(CONSULTANT_SESSION_RESPONSE_DTO_LIST.size(), result.getSessions().size());
 
     for (ConsultantSessionResponseDTO dto : result.getSessions()) {
@@ -150,10 +182,8 @@ public class SessionListFacadeTest {
       assertTrue(previousDate <= dto.getSession().getMessageDate());
     }
 
-    Mockito.verify(
-            sessionTopicEnrichmentService,
-            Mockito.times(CONSULTANT_SESSION_RESPONSE_DTO_LIST.size()))
-        .enrichSessionWithTopicData(Mockito.any(SessionDTO.class));
+    ((StreamingConsultantSessionListResponseDTO) result).getSessionChunks().enrichAll();
+    assertEquals(List.of(sessions), enrichedChunks);
 
     ReflectionTestUtils.setField(sessionListFacade, "topicsFeatureEnabled", false);
   }
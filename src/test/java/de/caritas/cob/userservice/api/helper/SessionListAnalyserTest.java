@@ -12,6 +12,7 @@ import static de.caritas.cob.userservice.api.testHelper.TestConstants.ROCKETCHAT
 import static de.caritas.cob.userservice.api.testHelper.TestConstants.ROOMS_LAST_MESSAGE_DTO_2;
 import static de.caritas.cob.userservice.api.testHelper.TestConstants.ROOMS_LAST_MESSAGE_DTO_MAP;
 import static de.caritas.cob.userservice.api.testHelper.TestConstants.ROOMS_LAST_MESSAGE_DTO_WITHOUT_ATTACHMENT;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
@@ -36,9 +37,23 @@ public class SessionListAnalyserTest {
 
   @Test
   public void prepareMessageForSessionList_Should_DecryptMessage() throws CustomCryptoException {
-    when(decryptionService.decrypt(MESSAGE_TOO_LONG, RC_GROUP_ID)).thenReturn(MESSAGE_TOO_LONG);
+    when(decryptionService.decrypt(MESSAGE_TOO_LONG, RC_GROUP_ID, null))
+        .thenReturn(MESSAGE_TOO_LONG);
     String result = sessionListAnalyser.prepareMessageForSessionList(MESSAGE_TOO_LONG, RC_GROUP_ID);
-    verify(decryptionService, atLeastOnce()).decrypt(MESSAGE_TOO_LONG, RC_GROUP_ID);
+    verify(decryptionService, atLeastOnce()).decrypt(MESSAGE_TOO_LONG, RC_GROUP_ID, null);
+  }
+
+  @Test
+  public void prepareMessageForSessionList_Should_PassMessageIdToDecryption()
+      throws CustomCryptoException {
+    when(decryptionService.decrypt(MESSAGE_TOO_LONG, RC_GROUP_ID, "messageId"))
+        .thenReturn(MESSAGE_TOO_LONG);
+
+    String result =
+        sessionListAnalyser.prepareMessageForSessionList(
+            MESSAGE_TOO_LONG, RC_GROUP_ID, "messageId");
+
+    assertEquals(MESSAGE_TOO_LONG, result);
   }
 
   /*
@@ -0,0 +1,69 @@
+package de.caritas.cob.userservice.api.helper;
+
+import static de.caritas.cob.userservice.api.helper.TopKSelector.selectTopK;
+import static java.util.Comparator.comparing;
+import static java.util.Comparator.reverseOrder;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.Test;
+
+public class TopKSelectorTest {
+
+  @Test
+  public void selectTopK_Should_returnFirstElementsInComparatorOrder_When_limitIsGiven() {
+    var result = selectTopK(reverseOrder(), 3, List.of(4, 9, 1), List.of(7, 3, 8));
+
+    assertThat(result, contains(9, 8, 7));
+  }
+
+  @Test
+  public void selectTopK_Should_returnAllElementsSorted_When_limitIsNull() {
+    var result = selectTopK(reverseOrder(), null, List.of(4, 9, 1), List.of(7));
+
+    assertThat(result, contains(9, 7, 4, 1));
+  }
+
+  @Test
+  public void selectTopK_Should_returnAllElementsSorted_When_limitExceedsSize() {
+    var result = selectTopK(Integer::compare, 10, List.of(2, 1));
+
+    assertThat(result, contains(1, 2));
+  }
+
+  @Test
+  public void selectTopK_Should_returnEmptyList_When_sourcesAreEmptyOrNull() {
+    assertThat(selectTopK(Integer::compare, 5, List.of(), null), is(empty()));
+  }
+
+  @Test
+  public void selectTopK_Should_keepSourceOrderOfEqualElements() {
+    var result =
+        selectTopK(comparing(String::length), 3, List.of("bbb", "a1"), List.of("a2", "cccc", "a3"));
+
+    assertThat(result, contains("a1", "a2", "a3"));
+  }
+
+  @Test
+  public void selectTopK_Should_matchStableSortOfConcatenatedSources() {
+    var random = new Random(42);
+    List<Integer> first =
+        IntStream.range(0, 500).map(i -> random.nextInt(50)).boxed().collect(Collectors.toList());
+    List<Integer> second =
+        IntStream.range(0, 500).map(i -> random.nextInt(50)).boxed().collect(Collectors.toList());
+    var expected = new ArrayList<>(first);
+    expected.addAll(second);
+    expected.sort(reverseOrder());
+
+    var result = selectTopK(reverseOrder(), 100, first, second);
+
+    assertThat(result, is(expected.subList(0, 100)));
+  }
+}
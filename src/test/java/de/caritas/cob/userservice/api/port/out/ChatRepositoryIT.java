@@ -7,6 +7,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import de.caritas.cob.userservice.api.model.Chat;
 import de.caritas.cob.userservice.api.model.Consultant;
 import java.time.LocalDateTime;
+import java.util.Set;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.jeasy.random.EasyRandom;
 import org.junit.jupiter.api.AfterEach;
@@ -65,6 +66,41 @@ class ChatRepositoryIT {
     assertEquals(2, chats.get(0).getId());
   }
 
+  @Test
+  @Sql(value = "/database/chatAndRelationData.sql")
+  void findChatListVersionByUserId_Should_CountChatsAsListedForUser() {
+    String userId = "015d013d-95e7-4e91-85b5-12cdb3d317f3";
+    var updateDate = LocalDateTime.of(2100, 1, 1, 0, 0);
+    var updatedChat = underTest.findById(1L).orElseThrow();
+    updatedChat.setUpdateDate(updateDate);
+    underTest.save(updatedChat);
+
+    var version = underTest.findChatListVersionByUserId(userId);
+
+    assertEquals(
+        underTest.findByUserId(userId).size() + underTest.findAssignedByUserId(userId).size(),
+        version.getChatCount());
+    assertEquals(updateDate, version.getLatestUpdateDate());
+  }
+
+  @Test
+  @Sql(value = "/database/chatAndRelationData.sql")
+  void findChatListVersionByAgencyIds_Should_CountChatsAsListedForAgencies() {
+    var agencyIds = Set.of(1L, 1731L);
+
+    var version = underTest.findChatListVersionByAgencyIds(agencyIds);
+
+    assertEquals(underTest.findByAgencyIds(agencyIds).size(), version.getChatCount());
+  }
+
+  @Test
+  @Sql(value = "/database/chatAndRelationData.sql")
+  void findAgencyIdsByUserId_Should_FindAgenciesOfAllChatsListedForUser() {
+    var agencyIds = underTest.findAgencyIdsByUserId("015d013d-95e7-4e91-85b5-12cdb3d317f3");
+
+    assertEquals(Set.of(1L, 1731L), Set.copyOf(agencyIds));
+  }
+
   @Test
   void saveShouldSaveChat() {
     givenAConsultant();
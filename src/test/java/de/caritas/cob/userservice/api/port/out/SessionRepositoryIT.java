@@ -5,13 +5,17 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import com.neovisionaries.i18n.LanguageCode;
+import de.caritas.cob.userservice.api.model.Consultant;
 import de.caritas.cob.userservice.api.model.Session;
 import de.caritas.cob.userservice.api.model.Session.RegistrationType;
 import de.caritas.cob.userservice.api.model.Session.SessionStatus;
 import de.caritas.cob.userservice.api.model.SessionData;
 import de.caritas.cob.userservice.api.model.SessionData.SessionDataType;
 import de.caritas.cob.userservice.api.model.User;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Collectors;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.jeasy.random.EasyRandom;
 import org.junit.jupiter.api.AfterEach;
@@ -20,6 +24,8 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase.Replace;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.TestPropertySource;
 
 @DataJpaTest
@@ -28,18 +34,27 @@ import org.springframework.test.context.TestPropertySource;
 class SessionRepositoryIT {
 
   private static final EasyRandom easyRandom = new EasyRandom();
+  private static final long UNUSED_AGENCY_ID = 987654321L;
 
   @Autowired private SessionRepository underTest;
 
   @Autowired private UserRepository userRepository;
 
+  @Autowired private ConsultantRepository consultantRepository;
+
   private User user;
 
   private Session session;
 
+  private final List<Session> archivedSessions = new ArrayList<>();
+
   @AfterEach
   public void reset() {
-    underTest.delete(session);
+    if (session != null) {
+      underTest.delete(session);
+    }
+    underTest.deleteAll(archivedSessions);
+    archivedSessions.clear();
     session = null;
     user = null;
   }
@@ -63,6 +78,149 @@ class SessionRepositoryIT {
     assertFalse(foundSession.isPeerChat());
   }
 
+  @Test
+  void findSessionListVersionByUserIdShouldIncludeNewSession() {
+    givenAUser();
+    givenValidSession();
+    var formerVersion = underTest.findSessionListVersionByUserId(user.getUserId());
+    var updateDate = LocalDateTime.of(2100, 1, 1, 0, 0);
+    session.setUpdateDate(updateDate);
+    session.setIsConsultantDirectlySet(false);
+
+    underTest.save(session);
+
+    var version = underTest.findSessionListVersionByUserId(user.getUserId());
+    assertEquals(formerVersion.getSessionCount() + 1, version.getSessionCount());
+    assertEquals(updateDate, version.getLatestUpdateDate());
+    assertTrue(underTest.findAgencyIdsByUserId(user.getUserId()).contains(session.getAgencyId()));
+  }
+
+  @Test
+  void findSessionListVersionByConsultantShouldIncludeNewSessionAndItsConsultantAndUser() {
+    givenAUser();
+    givenValidSession();
+    var consultant = consultantRepository.findAll().iterator().next();
+    var formerVersion = underTest.findSessionListVersionByConsultant(consultant);
+    var updateDate = LocalDateTime.of(2100, 1, 1, 0, 0);
+    session.setConsultant(consultant);
+    session.setUpdateDate(updateDate);
+    session.setIsConsultantDirectlySet(false);
+    consultant.setUpdateDate(updateDate.plusDays(1));
+    consultantRepository.save(consultant);
+    user.setUpdateDate(updateDate.plusDays(2));
+    userRepository.save(user);
+
+    underTest.save(session);
+
+    var version = underTest.findSessionListVersionByConsultant(consultant);
+    assertEquals(formerVersion.getSessionCount() + 1, version.getSessionCount());
+    assertEquals(updateDate, version.getLatestUpdateDate());
+    assertEquals(updateDate.plusDays(1), version.getLatestConsultantUpdateDate());
+    assertEquals(updateDate.plusDays(2), version.getLatestUserUpdateDate());
+  }
+
+  @Test
+  void findByConsultantAndStatusOrderByUpdateDateDescIdAscShouldReturnNewestSessionsFirst() {
+    givenAUser();
+    var consultant = consultantRepository.findAll().iterator().next();
+    var formerTotal =
+        underTest
+            .findByConsultantAndStatusOrderByUpdateDateDescIdAsc(
+                consultant, SessionStatus.IN_ARCHIVE, PageRequest.of(0, 2))
+            .getTotalElements();
+    var oldest = givenArchivedSession(consultant, null, false, 1);
+    var newest = givenArchivedSession(consultant, null, false, 3);
+    var middle = givenArchivedSession(consultant, null, false, 2);
+
+    var firstPage =
+        underTest.findByConsultantAndStatusOrderByUpdateDateDescIdAsc(
+            consultant, SessionStatus.IN_ARCHIVE, PageRequest.of(0, 2));
+    var secondPage =
+        underTest.findByConsultantAndStatusOrderByUpdateDateDescIdAsc(
+            consultant, SessionStatus.IN_ARCHIVE, PageRequest.of(1, 2));
+
+    assertEquals(List.of(newest.getId(), middle.getId()), idsOf(firstPage));
+    assertEquals(oldest.getId(), idsOf(secondPage).get(0));
+    assertEquals(formerTotal + 3, firstPage.getTotalElements());
+  }
+
+  @Test
+  void findByConsultantAndStatusOrderByUpdateDateDescIdAscShouldReturnEmptyPageAfterLastPage() {
+    givenAUser();
+    var consultant = consultantRepository.findAll().iterator().next();
+    givenArchivedSession(consultant, null, false, 1);
+    var total =
+        underTest
+            .findByConsultantAndStatusOrderByUpdateDateDescIdAsc(
+                consultant, SessionStatus.IN_ARCHIVE, PageRequest.of(0, 2))
+            .getTotalElements();
+
+    var pageAfterLastPage =
+        underTest.findByConsultantAndStatusOrderByUpdateDateDescIdAsc(
+            consultant, SessionStatus.IN_ARCHIVE, PageRequest.of((int) total / 2 + 1, 2));
+
+    assertTrue(pageAfterLastPage.getContent().isEmpty());
+    assertEquals(total, pageAfterLastPage.getTotalElements());
+  }
+
+  @Test
+  void findArchivedTeamSessionsPagedShouldReturnTeamSessionsOfOtherConsultantsOnly() {
+    givenAUser();
+    var consultants = consultantRepository.findAll().iterator();
+    var requestingConsultant = consultants.next();
+    var otherConsultant = consultants.next();
+    var oldest = givenArchivedSession(otherConsultant, UNUSED_AGENCY_ID, true, 1);
+    var newest = givenArchivedSession(otherConsultant, UNUSED_AGENCY_ID, true, 3);
+    var middle = givenArchivedSession(otherConsultant, UNUSED_AGENCY_ID, true, 2);
+    givenArchivedSession(otherConsultant, UNUSED_AGENCY_ID, false, 4);
+    givenArchivedSession(requestingConsultant, UNUSED_AGENCY_ID, true, 5);
+
+    var firstPage = findArchivedTeamSessions(requestingConsultant, PageRequest.of(0, 2));
+    var secondPage = findArchivedTeamSessions(requestingConsultant, PageRequest.of(1, 2));
+
+    assertEquals(List.of(newest.getId(), middle.getId()), idsOf(firstPage));
+    assertEquals(List.of(oldest.getId()), idsOf(secondPage));
+    assertEquals(3, firstPage.getTotalElements());
+  }
+
+  @Test
+  void findArchivedTeamSessionsPagedShouldReturnEmptyPageAfterLastPage() {
+    givenAUser();
+    var consultants = consultantRepository.findAll().iterator();
+    var requestingConsultant = consultants.next();
+    givenArchivedSession(consultants.next(), UNUSED_AGENCY_ID, true, 1);
+
+    var pageAfterLastPage = findArchivedTeamSessions(requestingConsultant, PageRequest.of(1, 2));
+
+    assertTrue(pageAfterLastPage.getContent().isEmpty());
+    assertEquals(1, pageAfterLastPage.getTotalElements());
+  }
+
+  private Page<Session> findArchivedTeamSessions(Consultant consultant, PageRequest pageRequest) {
+    return underTest
+        .findByAgencyIdInAndConsultantNotAndStatusAndTeamSessionIsTrueOrderByUpdateDateDescIdAsc(
+            List.of(UNUSED_AGENCY_ID), consultant, SessionStatus.IN_ARCHIVE, pageRequest);
+  }
+
+  private Session givenArchivedSession(
+      Consultant consultant, Long agencyId, boolean teamSession, int dayOfUpdate) {
+    givenValidSession();
+    var archivedSession = session;
+    session = null;
+    archivedSession.setConsultant(consultant);
+    archivedSession.setAgencyId(agencyId);
+    archivedSession.setTeamSession(teamSession);
+    archivedSession.setStatus(SessionStatus.IN_ARCHIVE);
+    archivedSession.setIsConsultantDirectlySet(false);
+    archivedSession.setUpdateDate(LocalDateTime.of(2100, 1, dayOfUpdate, 0, 0));
+    archivedSessions.add(underTest.save(archivedSession));
+    return archivedSession;
+  }
+
+  private List<Long> idsOf(Page<Session> page) {
+    return page.getContent().stream().map(Session::getId).collect(Collectors.toList());
+  }
+
   private void givenValidSession() {
     session = new Session();
     session.setUser(user);
@@ -45,6 +45,7 @@ import java.time.LocalDate;
 import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -297,6 +298,29 @@ public class ChatServiceTest {
     assertEquals(CHAT_HINT_MESSAGE, chatArgumentCaptor.getValue().getHintMessage());
   }
 
+  @Test
+  public void saveChat_Should_setUpdateDate_So_ChatListVersionChanges() {
+    var chat = new Chat();
+    when(chatRepository.save(chat)).thenReturn(chat);
+
+    chatService.saveChat(chat);
+
+    assertNotNull(chat.getUpdateDate());
+    verify(chatRepository).save(chat);
+  }
+
+  @Test
+  public void getChatListVersionForConsultant_Should_notQueryChats_When_consultantHasNoAgencies() {
+    var consultant = new Consultant();
+    consultant.setConsultantAgencies(Set.of());
+
+    var version = chatService.getChatListVersionForConsultant(consultant);
+
+    assertEquals(0, version.getChatCount());
+    assertNull(version.getLatestUpdateDate());
+    Mockito.verifyNoInteractions(chatRepository);
+  }
+
   @Test
   public void saveChatAgencyRelation_Should_saveChatAgencyInRepository() {
     ChatAgency chatAgency = new ChatAgency();
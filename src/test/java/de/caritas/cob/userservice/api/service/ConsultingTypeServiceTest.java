@@ -1,6 +1,9 @@
 package de.caritas.cob.userservice.api.service;
 
+import static de.caritas.cob.userservice.api.config.CacheManagerConfig.CONSULTING_TYPE_CACHE;
 import static org.junit.Assert.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -8,6 +11,7 @@ import static org.mockito.Mockito.when;
 import de.caritas.cob.userservice.api.config.apiclient.ConsultingTypeServiceApiControllerFactory;
 import de.caritas.cob.userservice.api.service.httpheader.SecurityHeaderSupplier;
 import de.caritas.cob.userservice.api.service.httpheader.TenantHeaderSupplier;
+import de.caritas.cob.userservice.api.tenant.TenantContext;
 import de.caritas.cob.userservice.consultingtypeservice.generated.ApiClient;
 import de.caritas.cob.userservice.consultingtypeservice.generated.web.ConsultingTypeControllerApi;
 import de.caritas.cob.userservice.consultingtypeservice.generated.web.model.BasicConsultingTypeResponseDTO;
@@ -19,9 +23,9 @@ import javax.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.http.HttpHeaders;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
@@ -29,7 +33,7 @@ import org.springframework.web.context.request.ServletRequestAttributes;
 @ExtendWith(MockitoExtension.class)
 class ConsultingTypeServiceTest {
 
-  @InjectMocks private ConsultingTypeService consultingTypeService;
+  private ConsultingTypeService consultingTypeService;
 
   @Mock private ConsultingTypeControllerApi consultingTypeControllerApi;
 
@@ -47,6 +51,12 @@ class ConsultingTypeServiceTest {
 
   @BeforeEach
   void setUp() {
+    consultingTypeService =
+        new ConsultingTypeService(
+            consultingTypeServiceApiControllerFactory,
+            securityHeaderSupplier,
+            tenantHeaderSupplier,
+            new ConcurrentMapCacheManager(CONSULTING_TYPE_CACHE));
     when(consultingTypeServiceApiControllerFactory.createControllerApi())
         .thenReturn(consultingTypeControllerApi);
     when(consultingTypeControllerApi.getApiClient()).thenReturn(new ApiClient());
@@ -98,6 +108,30 @@ class ConsultingTypeServiceTest {
     resetRequestAttributes();
   }
 
+  @Test
+  void getExtendedConsultingTypeResponseDTO_Should_callConsultingTypeControllerOnce_When_cached() {
+    when(securityHeaderSupplier.getCsrfHttpHeaders()).thenReturn(new HttpHeaders());
+
+    consultingTypeService.getExtendedConsultingTypeResponseDTO(1);
+    consultingTypeService.getExtendedConsultingTypeResponseDTO(1);
+
+    verify(consultingTypeControllerApi, times(1)).getExtendedConsultingTypeById(1);
+  }
+
+  @Test
+  void getExtendedConsultingTypeResponseDTO_Should_addTenantHeaderOfCallingThread() {
+    when(securityHeaderSupplier.getCsrfHttpHeaders()).thenReturn(new HttpHeaders());
+    TenantContext.setCurrentTenant(5L);
+
+    try {
+      consultingTypeService.getExtendedConsultingTypeResponseDTO(1);
+    } finally {
+      TenantContext.clear();
+    }
+
+    verify(tenantHeaderSupplier).addTenantHeader(any(HttpHeaders.class), eq(5L));
+  }
+
   private void resetRequestAttributes() {
     RequestContextHolder.setRequestAttributes(null);
   }
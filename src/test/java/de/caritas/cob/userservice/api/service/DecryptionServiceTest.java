@@ -1,16 +1,20 @@
 package de.caritas.cob.userservice.api.service;
 
+import static de.caritas.cob.userservice.api.config.CacheManagerConfig.DECRYPTED_MESSAGE_CACHE;
+import static de.caritas.cob.userservice.api.config.CacheManagerConfig.DECRYPTION_KEY_CACHE;
+import static de.caritas.cob.userservice.api.service.DecryptionService.CACHE_GETS_METRIC;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 
 import de.caritas.cob.userservice.api.exception.CustomCryptoException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.Before;
 import org.junit.Test;
 import org.junit.runner.RunWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @RunWith(MockitoJUnitRunner.class)
@@ -25,13 +29,25 @@ public class DecryptionServiceTest {
   private final String MESSAGE_PLAIN = "Das hier ist jetzt mal eine Test-Message";
   private final String MESSAGE_ENCRYPTED =
       "enc:uWHNUkWrQJikGnVpknvB3SkzT1RWHJuY0igDT9p7fGFHWECLBpV2+0eIZF6Qi7J0";
+  private final String MESSAGE_EDITED_PLAIN =
+      "Das hier ist jetzt mal eine bearbeitete Test-Message";
+  private final String MESSAGE_EDITED_ENCRYPTED =
+      "enc:uWHNUkWrQJikGnVpknvB3Zys/D3+/HBsnqumC82jMzwCGUt8TbDyb1s22ICwEbF/RhuHVxWHbrHMv5q0rlomhQ==";
+  private final String MESSAGE_ID = "messageId";
 
-  @InjectMocks private DecryptionService encryptionService;
+  private DecryptionService encryptionService;
+
+  private SimpleMeterRegistry meterRegistry;
 
   @Mock private LogService logService;
 
   @Before
   public void setup() throws NoSuchFieldException {
+    meterRegistry = new SimpleMeterRegistry();
+    encryptionService =
+        new DecryptionService(
+            new ConcurrentMapCacheManager(DECRYPTED_MESSAGE_CACHE, DECRYPTION_KEY_CACHE),
+            meterRegistry);
     ReflectionTestUtils.setField(encryptionService, FIELD_NAME_FRAGMENT_APP_KEY, KEY_APPLICATION);
     encryptionService.updateMasterKey(KEY_MASTER);
   }
@@ -67,4 +83,59 @@ public class DecryptionServiceTest {
       assertTrue("Expected BadPaddingException thrown", true);
     }
   }
+
+  @Test
+  public void decrypt_Should_ReturnCachedMessage_When_MessageIdIsKnown() throws Exception {
+    encryptionService.decrypt(MESSAGE_ENCRYPTED, KEY_SESSION, MESSAGE_ID);
+    String decryptedMessage = encryptionService.decrypt(MESSAGE_ENCRYPTED, KEY_SESSION, MESSAGE_ID);
+
+    assertEquals(MESSAGE_PLAIN, decryptedMessage);
+    assertEquals(1, cacheGets(DECRYPTED_MESSAGE_CACHE, "hit"), 0);
+    assertEquals(1, cacheGets(DECRYPTED_MESSAGE_CACHE, "miss"), 0);
+    assertEquals(1, cacheGets(DECRYPTION_KEY_CACHE, "miss"), 0);
+  }
+
+  @Test
+  public void decrypt_Should_DecryptAgain_When_MessageWithSameIdHasBeenEdited() throws Exception {
+    encryptionService.decrypt(MESSAGE_ENCRYPTED, KEY_SESSION, MESSAGE_ID);
+    String decryptedMessage =
+        encryptionService.decrypt(MESSAGE_EDITED_ENCRYPTED, KEY_SESSION, MESSAGE_ID);
+
+    assertEquals(MESSAGE_EDITED_PLAIN, decryptedMessage);
+    assertEquals(2, cacheGets(DECRYPTED_MESSAGE_CACHE, "miss"), 0);
+    assertEquals(1, cacheGets(DECRYPTION_KEY_CACHE, "hit"), 0);
+  }
+
+  @Test
+  public void decrypt_Should_ReuseDerivedKey_When_MessagesHaveNoId() throws Exception {
+    encryptionService.decrypt(MESSAGE_ENCRYPTED, KEY_SESSION);
+    encryptionService.decrypt(MESSAGE_EDITED_ENCRYPTED, KEY_SESSION, null);
+
+    assertEquals(1, cacheGets(DECRYPTION_KEY_CACHE, "hit"), 0);
+    assertEquals(1, cacheGets(DECRYPTION_KEY_CACHE, "miss"), 0);
+    assertEquals(0, cacheGets(DECRYPTED_MESSAGE_CACHE, "miss"), 0);
+  }
+
+  @Test
+  public void updateMasterKey_Should_InvalidateCachedKeysAndMessages() throws Exception {
+    encryptionService.decrypt(MESSAGE_ENCRYPTED, KEY_SESSION, MESSAGE_ID);
+
+    encryptionService.updateMasterKey("AnotherMasterKey");
+
+    try {
+      encryptionService.decrypt(MESSAGE_ENCRYPTED, KEY_SESSION, MESSAGE_ID);
+      fail("The message must not be decrypted with the cached key of the former master key.");
+    } catch (CustomCryptoException ex) {
+      assertEquals(2, cacheGets(DECRYPTION_KEY_CACHE, "miss"), 0);
+    }
+  }
+
+  private double cacheGets(String cacheName, String result) {
+    return meterRegistry
+        .get(CACHE_GETS_METRIC)
+        .tag("cache", cacheName)
+        .tag("result", result)
+        .counter()
+        .count();
+  }
 }
@@ -12,6 +12,8 @@ import static de.caritas.cob.userservice.api.testHelper.FieldConstants.RC_URL_GR
 import static de.caritas.cob.userservice.api.testHelper.FieldConstants.RC_URL_GROUPS_SET_READ_ONLY;
 import static de.caritas.cob.userservice.api.testHelper.TestConstants.ERROR;
 import static de.caritas.cob.userservice.api.testHelper.TestConstants.GROUP_MEMBER_DTO_LIST;
+import static de.caritas.cob.userservice.api.testHelper.TestConstants.GROUP_MEMBER_SYS_USER;
+import static de.caritas.cob.userservice.api.testHelper.TestConstants.GROUP_MEMBER_TECH_USER;
 import static de.caritas.cob.userservice.api.testHelper.TestConstants.GROUP_MEMBER_USER_1;
 import static de.caritas.cob.userservice.api.testHelper.TestConstants.GROUP_MEMBER_USER_2;
 import static de.caritas.cob.userservice.api.testHelper.TestConstants.RC_CREDENTIALS;
@@ -30,6 +32,7 @@ import static org.hamcrest.CoreMatchers.everyItem;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
@@ -38,6 +41,7 @@ import static org.junit.Assert.fail;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.ArgumentMatchers.nullable;
@@ -45,6 +49,7 @@ import static org.mockito.Mockito.atLeastOnce;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 import static org.powermock.reflect.Whitebox.setInternalState;
 import static org.springframework.test.util.ReflectionTestUtils.setField;
@@ -56,7 +61,10 @@ import com.mongodb.client.MongoClient;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
+import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatAsyncClient;
+import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatCredentials;
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatCredentialsProvider;
+import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatCredentialsSnapshot;
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatService;
 import de.caritas.cob.userservice.api.adapters.rocketchat.config.RocketChatConfig;
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.StandardResponseDTO;
@@ -90,12 +98,21 @@ import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatLoginExcept
 import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatRemoveSystemMessagesException;
 import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatRemoveUserFromGroupException;
 import de.caritas.cob.userservice.api.exception.rocketchat.RocketChatUserNotInitializedException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.apache.commons.lang3.RandomStringUtils;
 import org.bson.Document;
 import org.bson.conversions.Bson;
@@ -105,17 +122,19 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.mockito.ArgumentCaptor;
 import org.mockito.ArgumentMatchers;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.MockitoJUnitRunner;
 import org.slf4j.Logger;
 import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.client.HttpClientErrorException;
 import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClientResponseException;
 import org.springframework.web.client.RestTemplate;
 
@@ -128,9 +147,9 @@ public class RocketChatServiceTest {
   private final GroupResponseDTO EMPTY_GROUP_RESPONSE_DTO =
       new GroupResponseDTO(null, false, null, null);
   private final SubscriptionsGetDTO SUBSCRIPTIONS_GET_DTO =
-      new SubscriptionsGetDTO(new SubscriptionsUpdateDTO[] {}, false, null, null);
+      new SubscriptionsGetDTO(new SubscriptionsUpdateDTO[] {}, false, null, null, null);
   private final RoomsGetDTO ROOMS_GET_DTO =
-      new RoomsGetDTO(new RoomsUpdateDTO[] {}, true, null, null);
+      new RoomsGetDTO(new RoomsUpdateDTO[] {}, true, null, null, null);
   private final ResponseEntity<SubscriptionsGetDTO> SUBSCRIPTIONS_GET_RESPONSE_ENTITY =
       new ResponseEntity<>(SUBSCRIPTIONS_GET_DTO, HttpStatus.OK);
   private final ResponseEntity<RoomsGetDTO> ROOMS_GET_RESPONSE_ENTITY =
@@ -183,7 +202,7 @@ public class RocketChatServiceTest {
   private final ObjectMapper objectMapper = new ObjectMapper();
   @Mock Logger logger;
   @Mock RocketChatCredentialsProvider rcCredentialsHelper;
-  @InjectMocks private RocketChatService rocketChatService;
+  private RocketChatService rocketChatService;
   @Mock private RestTemplate restTemplate;
   @Mock private MongoClient mockedMongoClient;
 
@@ -198,7 +217,22 @@ public class RocketChatServiceTest {
   @Before
   public void setup() {
     rocketChatConfig.setBaseUrl("http://localhost/api/v1");
-    setField(rocketChatService, "rocketChatConfig", rocketChatConfig);
+    rocketChatService =
+        new RocketChatService(
+            restTemplate,
+            rcCredentialsHelper,
+            null,
+            mockedMongoClient,
+            rocketChatConfig,
+            null,
+            null,
+            null,
+            Runnable::run,
+            Runnable::run,
+            null,
+            new SimpleMeterRegistry(),
+            false,
+            false);
 
     setInternalState(RocketChatService.class, "log", logger);
   }
@@ -361,6 +395,117 @@ public class RocketChatServiceTest {
     }
   }
 
+  /** Method: addUsersToGroup */
+  @Test
+  public void addUsersToGroup_Should_addAllUsersAndCollectFailuresPerUser() throws Exception {
+    RocketChatService spy = Mockito.spy(rocketChatService);
+    Mockito.doNothing().when(spy).addUserToGroup(RC_USER_ID, GROUP_ID);
+    Mockito.doThrow(new RocketChatAddUserToGroupException(MESSAGE))
+        .when(spy)
+        .addUserToGroup("otherRcUserId", GROUP_ID);
+
+    var result = spy.addUsersToGroup(List.of(RC_USER_ID, "otherRcUserId"), GROUP_ID);
+
+    assertFalse(result.isSuccessful());
+    assertEquals(GROUP_ID, result.getRcGroupId());
+    assertEquals(List.of(RC_USER_ID), result.getSucceededUserIds());
+    assertEquals(Set.of("otherRcUserId"), result.getFailedUserIds());
+    assertThat(
+        result.getFailures().get("otherRcUserId"),
+        instanceOf(RocketChatAddUserToGroupException.class));
+  }
+
+  @Test
+  public void addUsersToGroup_Should_beSuccessful_When_allUsersHaveBeenAdded() throws Exception {
+    RocketChatService spy = Mockito.spy(rocketChatService);
+    Mockito.doNothing().when(spy).addUserToGroup(anyString(), eq(GROUP_ID));
+
+    var result = spy.addUsersToGroup(List.of(RC_USER_ID, "otherRcUserId"), GROUP_ID);
+
+    assertTrue(result.isSuccessful());
+    assertEquals(List.of(RC_USER_ID, "otherRcUserId"), result.getSucceededUserIds());
+    verify(spy, times(1)).addUserToGroup(RC_USER_ID, GROUP_ID);
+    verify(spy, times(1)).addUserToGroup("otherRcUserId", GROUP_ID);
+  }
+
+  @Test
+  public void
+      removeUsersFromGroupIgnoreGroupNotFound_Should_sendNonBlockingCalls_When_asyncClientIsEnabled()
+          throws Exception {
+    var rocketChatAsyncClient = mock(RocketChatAsyncClient.class);
+    setField(rocketChatService, "rocketChatAsyncClient", rocketChatAsyncClient);
+    setField(rocketChatService, "asyncClientEnabled", true);
+    when(rcCredentialsHelper.getTechnicalUser()).thenReturn(RC_CREDENTIALS_TECHNICAL_A);
+    var groupNotFound =
+        HttpClientErrorException.create(
+            "400 Bad Request: [{\"errorType\":\"error-room-not-found\"}]",
+            HttpStatus.BAD_REQUEST,
+            "Bad Request",
+            new HttpHeaders(),
+            new byte[0],
+            StandardCharsets.UTF_8);
+    when(rocketChatAsyncClient.postForEntity(
+            anyString(), any(HttpHeaders.class), any(), eq(GroupResponseDTO.class)))
+        .thenReturn(
+            CompletableFuture.completedFuture(ResponseEntity.ok(GROUP_RESPONSE_DTO)),
+            CompletableFuture.failedFuture(groupNotFound),
+            CompletableFuture.failedFuture(new ResourceAccessException(MESSAGE)));
+
+    var result =
+        rocketChatService.removeUsersFromGroupIgnoreGroupNotFound(
+            List.of(RC_USER_ID, "otherRcUserId", "thirdRcUserId"), GROUP_ID);
+
+    assertEquals(List.of(RC_USER_ID, "otherRcUserId"), result.getSucceededUserIds());
+    assertEquals(Set.of("thirdRcUserId"), result.getFailedUserIds());
+    assertThat(
+        result.getFailures().get("thirdRcUserId"),
+        instanceOf(RocketChatRemoveUserFromGroupException.class));
+    verifyNoInteractions(restTemplate);
+  }
+
+  @Test
+  public void
+      addUsersToGroup_Should_keepAtMostGroupMembershipParallelismCallsInFlight_When_asyncClientIsEnabled()
+          throws Exception {
+    var rocketChatAsyncClient = mock(RocketChatAsyncClient.class);
+    setField(rocketChatService, "rocketChatAsyncClient", rocketChatAsyncClient);
+    setField(rocketChatService, "asyncClientEnabled", true);
+    rocketChatConfig.setGroupMembershipParallelism(3);
+    when(rcCredentialsHelper.getTechnicalUser()).thenReturn(RC_CREDENTIALS_TECHNICAL_A);
+    var pendingCalls = new ConcurrentLinkedQueue<CompletableFuture<ResponseEntity<?>>>();
+    when(rocketChatAsyncClient.postForEntity(
+            anyString(), any(HttpHeaders.class), any(), eq(GroupResponseDTO.class)))
+        .thenAnswer(
+            invocation -> {
+              var call = new CompletableFuture<ResponseEntity<?>>();
+              pendingCalls.add(call);
+              return call;
+            });
+    var rcUserIds =
+        IntStream.range(0, 100).mapToObj(i -> "rcUserId" + i).collect(Collectors.toList());
+    var executor = Executors.newSingleThreadExecutor();
+
+    try {
+      var batch = executor.submit(() -> rocketChatService.addUsersToGroup(rcUserIds, GROUP_ID));
+      var completedCalls = 0;
+      while (!batch.isDone()) {
+        var call = pendingCalls.poll();
+        if (call == null) {
+          Thread.sleep(1);
+          continue;
+        }
+        assertThat(pendingCalls.size(), lessThan(3));
+        call.complete(ResponseEntity.ok(GROUP_RESPONSE_DTO));
+        completedCalls++;
+      }
+
+      assertTrue(batch.get().isSuccessful());
+      assertThat(completedCalls, is(100));
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
   /** Method: createPrivateGroupWithSystemUser */
   @Test
   public void
@@ -654,15 +799,21 @@ public class RocketChatServiceTest {
 
     Mockito.doReturn(GROUP_MEMBER_DTO_LIST).when(spy).getChatUsers(Mockito.anyString());
 
-    when(rcCredentialsHelper.getSystemUser()).thenReturn(RC_CREDENTIALS_SYSTEM_A);
     when(rcCredentialsHelper.getTechnicalUser()).thenReturn(RC_CREDENTIALS_TECHNICAL_A);
+    when(rcCredentialsHelper.getCredentialsSnapshot())
+        .thenReturn(
+            RocketChatCredentialsSnapshot.of(
+                RocketChatCredentials.builder()
+                    .rocketChatUserId(GROUP_MEMBER_TECH_USER.get_id())
+                    .build(),
+                RocketChatCredentials.builder()
+                    .rocketChatUserId(GROUP_MEMBER_SYS_USER.get_id())
+                    .build()));
 
     spy.removeAllStandardUsersFromGroup(GROUP_ID);
 
-    verify(spy, times(0))
-        .removeUserFromGroup(RC_CREDENTIALS_SYSTEM_A.getRocketChatUserId(), GROUP_ID);
-    verify(spy, times(0))
-        .removeUserFromGroup(RC_CREDENTIALS_TECHNICAL_A.getRocketChatUserId(), GROUP_ID);
+    verify(spy, times(0)).removeUserFromGroup(GROUP_MEMBER_SYS_USER.get_id(), GROUP_ID);
+    verify(spy, times(0)).removeUserFromGroup(GROUP_MEMBER_TECH_USER.get_id(), GROUP_ID);
     verify(spy, times(1)).removeUserFromGroup(GROUP_MEMBER_USER_1.get_id(), GROUP_ID);
     verify(spy, times(1)).removeUserFromGroup(GROUP_MEMBER_USER_2.get_id(), GROUP_ID);
   }
@@ -739,8 +890,9 @@ public class RocketChatServiceTest {
     givenMongoResponseWith(doc2);
     var doc3 = givenSubscription("a", "t");
     givenMongoResponseWith(doc3);
-    when(rcCredentialsHelper.getSystemUser()).thenReturn(RC_CREDENTIALS_SYSTEM_A);
-    when(rcCredentialsHelper.getTechnicalUser()).thenReturn(RC_CREDENTIALS_TECHNICAL_A);
+    when(rcCredentialsHelper.getCredentialsSnapshot())
+        .thenReturn(
+            RocketChatCredentialsSnapshot.of(RC_CREDENTIALS_TECHNICAL_A, RC_CREDENTIALS_SYSTEM_A));
 
     List<GroupMemberDTO> result = rocketChatService.getStandardMembersOfGroup(GROUP_ID);
 
@@ -1106,7 +1258,7 @@ public class RocketChatServiceTest {
     String correctMongoQuery =
         "{\"lm\": {\"$lt\": {\"$date\": \"2021-01-01T00:00:00.000Z\"}},"
             + " \"$and\": [{\"t\": \"p\"}]}";
-    verify(restTemplate, times(2))
+    verify(restTemplate, times(1))
         .exchange(
             anyString(),
             eq(HttpMethod.GET),
@@ -1136,7 +1288,7 @@ public class RocketChatServiceTest {
     String correctMongoQuery =
         "{\"lm\": {\"$lt\": {\"$date\": \"2021-01-01T00:00:00.000Z\"}},"
             + " \"$and\": [{\"t\": \"p\"}]}";
-    verify(restTemplate, times(11))
+    verify(restTemplate, times(10))
         .exchange(
             anyString(),
             eq(HttpMethod.GET),
@@ -1145,6 +1297,107 @@ public class RocketChatServiceTest {
             eq(correctMongoQuery));
   }
 
+  @Test
+  public void
+      fetchAllInactivePrivateGroupsSinceGivenDate_Should_StreamPagesInOrder_When_PagesAreFetchedConcurrently()
+          throws Exception {
+    var executor = Executors.newFixedThreadPool(4);
+    setField(rocketChatService, "rocketChatGroupFetchExecutor", executor);
+    when(rcCredentialsHelper.getTechnicalUser()).thenReturn(RC_CREDENTIALS_TECHNICAL_A);
+    when(restTemplate.exchange(
+            anyString(),
+            eq(HttpMethod.GET),
+            any(),
+            eq(GroupsListAllResponseDTO.class),
+            anyString()))
+        .thenAnswer(
+            invocation -> {
+              String url = invocation.getArgument(0);
+              var offset = url.substring(url.indexOf("offset=") + 7, url.indexOf("&count"));
+              var group = new GroupDTO();
+              group.setId(offset);
+              return new ResponseEntity<>(
+                  new GroupsListAllResponseDTO(
+                      new GroupDTO[] {group}, Integer.parseInt(offset), 100, 1000),
+                  HttpStatus.OK);
+            });
+
+    var offsets = new ArrayList<String>();
+    try {
+      rocketChatService.fetchAllInactivePrivateGroupsSinceGivenDate(
+          LocalDateTime.now(), page -> page.forEach(group -> offsets.add(group.getId())));
+    } finally {
+      executor.shutdown();
+    }
+
+    assertThat(
+        offsets, is(List.of("0", "100", "200", "300", "400", "500", "600", "700", "800", "900")));
+  }
+
+  @Test
+  public void
+      fetchAllInactivePrivateGroupsSinceGivenDate_Should_KeepAtMostGroupFetchParallelismPagesInFlight()
+          throws Exception {
+    var executor = Executors.newFixedThreadPool(8);
+    setField(rocketChatService, "rocketChatGroupFetchExecutor", executor);
+    rocketChatConfig.setGroupFetchParallelism(2);
+    var pagesInFlight = new AtomicInteger();
+    var maxPagesInFlight = new AtomicInteger();
+    when(rcCredentialsHelper.getTechnicalUser()).thenReturn(RC_CREDENTIALS_TECHNICAL_A);
+    when(restTemplate.exchange(
+            anyString(),
+            eq(HttpMethod.GET),
+            any(),
+            eq(GroupsListAllResponseDTO.class),
+            anyString()))
+        .thenAnswer(
+            invocation -> {
+              maxPagesInFlight.accumulateAndGet(pagesInFlight.incrementAndGet(), Math::max);
+              Thread.sleep(5);
+              pagesInFlight.decrementAndGet();
+              return new ResponseEntity<>(
+                  new GroupsListAllResponseDTO(new GroupDTO[] {new GroupDTO()}, 0, 100, 1000),
+                  HttpStatus.OK);
+            });
+
+    var pageCount = new AtomicInteger();
+    try {
+      rocketChatService.fetchAllInactivePrivateGroupsSinceGivenDate(
+          LocalDateTime.now(), page -> pageCount.incrementAndGet());
+    } finally {
+      executor.shutdown();
+    }
+
+    assertThat(pageCount.get(), is(10));
+    assertThat(maxPagesInFlight.get(), is(2));
+  }
+
+  @Test
+  public void
+      fetchAllInactivePrivateGroupsSinceGivenDate_Should_ReadGroupsFromMongo_When_MongoGroupReadIsEnabled()
+          throws RocketChatGetGroupsListAllException {
+    setField(rocketChatService, "mongoGroupReadEnabled", true);
+    var room =
+        new Document("_id", GROUP_ID)
+            .append("t", "p")
+            .append("u", new Document("_id", RC_USER_ID).append("username", USERNAME));
+    when(mongoCursor.next()).thenReturn(room);
+    when(mongoCursor.hasNext()).thenReturn(true, false);
+    when(findIterable.iterator()).thenReturn(mongoCursor);
+    when(findIterable.projection(any(Bson.class))).thenReturn(findIterable);
+    when(findIterable.batchSize(anyInt())).thenReturn(findIterable);
+    when(mongoCollection.find(any(Bson.class))).thenReturn(findIterable);
+    when(mockedMongoClient.getDatabase("rocketchat")).thenReturn(mongoDatabase);
+    when(mongoDatabase.getCollection("rocketchat_room")).thenReturn(mongoCollection);
+
+    var result = rocketChatService.fetchAllInactivePrivateGroupsSinceGivenDate(LocalDateTime.now());
+
+    assertThat(result.size(), is(1));
+    assertThat(result.get(0).getId(), is(GROUP_ID));
+    assertThat(result.get(0).getUser().getId(), is(RC_USER_ID));
+    verifyNoInteractions(restTemplate);
+  }
+
   @Test
   public void
       fetchAllInactivePrivateGroupsSinceGivenDate_Should_CallRocketChatApiOnlyOnce_When_ResponseContainsTotalOfZeroElements()
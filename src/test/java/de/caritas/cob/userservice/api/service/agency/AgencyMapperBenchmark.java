@@ -0,0 +1,76 @@
+package de.caritas.cob.userservice.api.service.agency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.caritas.cob.userservice.agencyserivce.generated.web.model.AgencyResponseDTO;
+import de.caritas.cob.userservice.api.adapters.web.dto.AgencyDTO;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares mapping one agency of the AgencyService with the {@link AgencyMapper} against the former
+ * conversion, which serialised the agency with a new {@link ObjectMapper} and parsed it back. The
+ * benchmark runs with the GC profiler, so the allocated bytes per agency are reported as well.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AgencyMapperBenchmark {
+
+  private final AgencyMapper agencyMapper = new AgencyMapper();
+  private AgencyResponseDTO agencyResponseDTO;
+
+  @Setup
+  public void setup() {
+    agencyResponseDTO =
+        new AgencyResponseDTO()
+            .id(1L)
+            .name("Beratungsstelle")
+            .postcode("12345")
+            .city("Stadt")
+            .description("Beschreibung der Beratungsstelle")
+            .teamAgency(true)
+            .offline(false)
+            .consultingType(1)
+            .tenantId(1L)
+            .topicIds(List.of(1L, 2L, 3L));
+  }
+
+  @Benchmark
+  public AgencyDTO jsonRoundTrip() throws JsonProcessingException {
+    var objectMapper = new ObjectMapper();
+    return objectMapper.readValue(
+        objectMapper.writeValueAsString(agencyResponseDTO), AgencyDTO.class);
+  }
+
+  @Benchmark
+  public AgencyDTO agencyMapper() {
+    return agencyMapper.toAgencyDTO(agencyResponseDTO);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(AgencyMapperBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build())
+        .run();
+  }
+}
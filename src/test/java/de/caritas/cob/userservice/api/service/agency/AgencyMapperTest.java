@@ -0,0 +1,78 @@
+package de.caritas.cob.userservice.api.service.agency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import de.caritas.cob.userservice.agencyserivce.generated.web.model.AgencyResponseDTO;
+import de.caritas.cob.userservice.api.adapters.web.dto.AgencyDTO;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.SneakyThrows;
+import org.jeasy.random.EasyRandom;
+import org.junit.jupiter.api.Test;
+
+class AgencyMapperTest {
+
+  private final EasyRandom easyRandom = new EasyRandom();
+  private final AgencyMapper agencyMapper = new AgencyMapper();
+
+  @Test
+  void toAgencyDTO_Should_mapAllFields() {
+    var agencyResponseDTO = easyRandom.nextObject(AgencyResponseDTO.class);
+
+    var agencyDTO = agencyMapper.toAgencyDTO(agencyResponseDTO);
+
+    assertThat(agencyDTO).hasNoNullFieldsOrProperties();
+  }
+
+  @Test
+  void toAgencyDTO_Should_returnSameAgencyAsJsonConversion() {
+    var agencyResponseDTO = easyRandom.nextObject(AgencyResponseDTO.class);
+
+    var agencyDTO = agencyMapper.toAgencyDTO(agencyResponseDTO);
+
+    assertThat(agencyDTO).isEqualTo(convertViaJson(agencyResponseDTO));
+  }
+
+  @Test
+  void toAgencyDTO_Should_returnSameAgencyAsJsonConversion_When_fieldsAreNull() {
+    var agencyResponseDTO = new AgencyResponseDTO();
+
+    var agencyDTO = agencyMapper.toAgencyDTO(agencyResponseDTO);
+
+    assertThat(agencyDTO).isEqualTo(convertViaJson(agencyResponseDTO));
+    assertThat(agencyDTO.getTopicIds()).isNull();
+  }
+
+  @Test
+  void toAgencyDTO_Should_copyTopicIds() {
+    var agencyResponseDTO = easyRandom.nextObject(AgencyResponseDTO.class);
+
+    var agencyDTO = agencyMapper.toAgencyDTO(agencyResponseDTO);
+    agencyResponseDTO.getTopicIds().clear();
+
+    assertThat(agencyDTO.getTopicIds()).isNotEmpty();
+  }
+
+  @Test
+  void agencyModels_Should_haveSameFields() {
+    assertThat(fieldNamesOf(AgencyDTO.class)).isEqualTo(fieldNamesOf(AgencyResponseDTO.class));
+  }
+
+  @SneakyThrows
+  private AgencyDTO convertViaJson(AgencyResponseDTO agencyResponseDTO) {
+    var objectMapper = new ObjectMapper();
+    return objectMapper.readValue(
+        objectMapper.writeValueAsString(agencyResponseDTO), AgencyDTO.class);
+  }
+
+  private Set<String> fieldNamesOf(Class<?> type) {
+    return Arrays.stream(type.getDeclaredFields())
+        .filter(field -> !Modifier.isStatic(field.getModifiers()))
+        .map(Field::getName)
+        .collect(Collectors.toSet());
+  }
+}
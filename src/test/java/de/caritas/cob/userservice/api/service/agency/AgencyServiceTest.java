@@ -1,12 +1,17 @@
 package de.caritas.cob.userservice.api.service.agency;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
 import com.google.common.collect.Lists;
 import de.caritas.cob.userservice.agencyserivce.generated.ApiClient;
 import de.caritas.cob.userservice.agencyserivce.generated.web.AgencyControllerApi;
+import de.caritas.cob.userservice.agencyserivce.generated.web.model.AgencyResponseDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.AgencyDTO;
+import de.caritas.cob.userservice.api.config.CacheManagerConfig;
 import de.caritas.cob.userservice.api.config.apiclient.AgencyServiceApiControllerFactory;
 import de.caritas.cob.userservice.api.service.httpheader.HttpHeadersResolver;
 import de.caritas.cob.userservice.api.service.httpheader.SecurityHeaderSupplier;
@@ -19,7 +24,10 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.NullAndEmptySource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.http.HttpHeaders;
 import org.springframework.test.util.ReflectionTestUtils;
 
@@ -40,6 +48,8 @@ class AgencyServiceTest {
 
   @Mock ApiClient apiClient;
 
+  @Spy CacheManager cacheManager = new ConcurrentMapCacheManager(CacheManagerConfig.AGENCY_CACHE);
+
   @ParameterizedTest
   @NullAndEmptySource
   void getAgenciesFromAgencyService_Should_returnEmptyList_When_nullPassed(List<Long> emptyIds) {
@@ -56,9 +66,7 @@ class AgencyServiceTest {
     HttpHeaders headers = new HttpHeaders();
     when(securityHeaderSupplier.getCsrfHttpHeaders()).thenReturn(headers);
     when(this.agencyControllerApi.getApiClient()).thenReturn(apiClient);
-    var agencyDTOS =
-        Lists.newArrayList(
-            new de.caritas.cob.userservice.agencyserivce.generated.web.model.AgencyResponseDTO());
+    var agencyDTOS = Lists.newArrayList(new AgencyResponseDTO());
     when(agencyServiceApiControllerFactory.createControllerApi()).thenReturn(agencyControllerApi);
     when(this.agencyControllerApi.getAgenciesByIds(Lists.newArrayList(1L))).thenReturn(agencyDTOS);
 
@@ -67,4 +75,80 @@ class AgencyServiceTest {
     assertThat(headers.get("tenantId").get(0)).isEqualTo("1");
     TenantContext.clear();
   }
+
+  @Test
+  void getAgencies_Should_fetchOnlyAgenciesMissingInCache_When_someAgenciesAreCached() {
+    givenAgencyServiceResponds();
+    when(agencyControllerApi.getAgenciesByIds(List.of(1L, 2L)))
+        .thenReturn(List.of(agencyResponse(1L), agencyResponse(2L)));
+    when(agencyControllerApi.getAgenciesByIds(List.of(3L))).thenReturn(List.of(agencyResponse(3L)));
+
+    agencyService.getAgencies(List.of(1L, 2L));
+    var agencies = agencyService.getAgencies(List.of(3L, 2L, 1L));
+
+    assertThat(agencies).extracting(AgencyDTO::getId).containsExactly(3L, 2L, 1L);
+    verify(agencyControllerApi).getAgenciesByIds(List.of(1L, 2L));
+    verify(agencyControllerApi).getAgenciesByIds(List.of(3L));
+    verifyNoMoreInteractions(agencyControllerApi);
+  }
+
+  @Test
+  void getAgencies_Should_notCallAgencyService_When_allAgenciesAreCached() {
+    var cache = cacheManager.getCache(CacheManagerConfig.AGENCY_CACHE);
+    cache.put(1L, new AgencyDTO().id(1L));
+    cache.put(2L, new AgencyDTO().id(2L));
+
+    var agencies = agencyService.getAgencies(List.of(2L, 1L, 2L));
+
+    assertThat(agencies).extracting(AgencyDTO::getId).containsExactly(2L, 1L);
+    verifyNoInteractions(agencyServiceApiControllerFactory, agencyControllerApi);
+  }
+
+  @Test
+  void getAgencies_Should_shareCacheEntriesWithGetAgency() {
+    givenAgencyServiceResponds();
+    when(agencyControllerApi.getAgenciesByIds(List.of(1L))).thenReturn(List.of(agencyResponse(1L)));
+
+    agencyService.getAgencies(List.of(1L));
+
+    assertThat(cacheManager.getCache(CacheManagerConfig.AGENCY_CACHE).get(1L, AgencyDTO.class))
+        .extracting(AgencyDTO::getId)
+        .isEqualTo(1L);
+  }
+
+  @Test
+  void getAgencies_Should_skipUnknownAgencies() {
+    givenAgencyServiceResponds();
+    when(agencyControllerApi.getAgenciesByIds(List.of(1L, 99L)))
+        .thenReturn(List.of(agencyResponse(1L)));
+
+    var agencies = agencyService.getAgencies(List.of(1L, 99L));
+
+    assertThat(agencies).extracting(AgencyDTO::getId).containsExactly(1L);
+    assertThat(cacheManager.getCache(CacheManagerConfig.AGENCY_CACHE).get(99L)).isNull();
+  }
+
+  @Test
+  void evictAgency_Should_dropOnlyCachedAgencyOfGivenId() {
+    var cache = cacheManager.getCache(CacheManagerConfig.AGENCY_CACHE);
+    cache.put(1L, new AgencyDTO().id(1L));
+    cache.put(2L, new AgencyDTO().id(2L));
+
+    agencyService.evictAgency(1L);
+
+    assertThat(cache.get(1L)).isNull();
+    assertThat(cache.get(2L)).isNotNull();
+  }
+
+  private void givenAgencyServiceResponds() {
+    when(securityHeaderSupplier.getCsrfHttpHeaders()).thenReturn(new HttpHeaders());
+    when(agencyServiceApiControllerFactory.createControllerApi()).thenReturn(agencyControllerApi);
+    when(agencyControllerApi.getApiClient()).thenReturn(apiClient);
+  }
+
+  private AgencyResponseDTO agencyResponse(Long agencyId) {
+    var agencyResponseDTO = new AgencyResponseDTO();
+    agencyResponseDTO.setId(agencyId);
+    return agencyResponseDTO;
+  }
 }
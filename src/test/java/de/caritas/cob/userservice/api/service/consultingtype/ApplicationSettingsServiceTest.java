@@ -0,0 +1,78 @@
+package de.caritas.cob.userservice.api.service.consultingtype;
+
+import static de.caritas.cob.userservice.api.config.CacheManagerConfig.APPLICATION_SETTINGS_CACHE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.caritas.cob.userservice.api.config.apiclient.ApplicationSettingsApiControllerFactory;
+import de.caritas.cob.userservice.api.service.httpheader.SecurityHeaderSupplier;
+import de.caritas.cob.userservice.api.service.httpheader.TenantHeaderSupplier;
+import de.caritas.cob.userservice.api.tenant.TenantContext;
+import de.caritas.cob.userservice.applicationsettingsservice.generated.ApiClient;
+import de.caritas.cob.userservice.applicationsettingsservice.generated.web.ApplicationsettingsControllerApi;
+import de.caritas.cob.userservice.applicationsettingsservice.generated.web.model.ApplicationSettingsDTO;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.HttpHeaders;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicationSettingsServiceTest {
+
+  @Mock ApplicationSettingsApiControllerFactory applicationSettingsApiControllerFactory;
+  @Mock SecurityHeaderSupplier securityHeaderSupplier;
+  @Mock TenantHeaderSupplier tenantHeaderSupplier;
+  @Mock ApplicationsettingsControllerApi controllerApi;
+
+  private ApplicationSettingsService applicationSettingsService;
+
+  @BeforeEach
+  void setup() {
+    applicationSettingsService =
+        new ApplicationSettingsService(
+            applicationSettingsApiControllerFactory,
+            securityHeaderSupplier,
+            tenantHeaderSupplier,
+            new ConcurrentMapCacheManager(APPLICATION_SETTINGS_CACHE));
+    when(applicationSettingsApiControllerFactory.createControllerApi()).thenReturn(controllerApi);
+    when(controllerApi.getApiClient()).thenReturn(new ApiClient());
+    when(securityHeaderSupplier.getCsrfHttpHeaders()).thenReturn(new HttpHeaders());
+  }
+
+  @AfterEach
+  void tearDown() {
+    TenantContext.clear();
+  }
+
+  @Test
+  void getApplicationSettings_Should_CacheSettingsPerTenantAndAddTenantHeaderOfCaller() {
+    // given
+    var firstTenantSettings = new ApplicationSettingsDTO();
+    var secondTenantSettings = new ApplicationSettingsDTO();
+    when(controllerApi.getApplicationSettings())
+        .thenReturn(firstTenantSettings, secondTenantSettings);
+
+    // when
+    TenantContext.setCurrentTenant(1L);
+    var firstResult = applicationSettingsService.getApplicationSettings();
+    TenantContext.setCurrentTenant(2L);
+    var secondResult = applicationSettingsService.getApplicationSettings();
+    TenantContext.setCurrentTenant(1L);
+    var cachedResult = applicationSettingsService.getApplicationSettings();
+
+    // then
+    assertThat(firstResult).isSameAs(firstTenantSettings).isSameAs(cachedResult);
+    assertThat(secondResult).isSameAs(secondTenantSettings);
+    verify(controllerApi, times(2)).getApplicationSettings();
+    verify(tenantHeaderSupplier).addTenantHeader(any(HttpHeaders.class), eq(1L));
+    verify(tenantHeaderSupplier).addTenantHeader(any(HttpHeaders.class), eq(2L));
+  }
+}
@@ -0,0 +1,113 @@
+package de.caritas.cob.userservice.api.service.consultingtype;
+
+import static de.caritas.cob.userservice.api.config.CacheManagerConfig.TOPICS_CACHE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import de.caritas.cob.userservice.api.config.apiclient.TopicServiceApiControllerFactory;
+import de.caritas.cob.userservice.api.service.httpheader.SecurityHeaderSupplier;
+import de.caritas.cob.userservice.api.service.httpheader.TenantHeaderSupplier;
+import de.caritas.cob.userservice.api.tenant.TenantContext;
+import de.caritas.cob.userservice.topicservice.generated.ApiClient;
+import de.caritas.cob.userservice.topicservice.generated.web.TopicControllerApi;
+import de.caritas.cob.userservice.topicservice.generated.web.model.TopicDTO;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.http.HttpHeaders;
+
+@ExtendWith(MockitoExtension.class)
+class TopicServiceTest {
+
+  @Mock TopicServiceApiControllerFactory topicServiceApiControllerFactory;
+  @Mock SecurityHeaderSupplier securityHeaderSupplier;
+  @Mock TenantHeaderSupplier tenantHeaderSupplier;
+  @Mock TopicControllerApi topicControllerApi;
+  @Mock ApiClient apiClient;
+
+  private TopicService topicService;
+
+  @BeforeEach
+  void setup() {
+    topicService =
+        new TopicService(
+            topicServiceApiControllerFactory,
+            securityHeaderSupplier,
+            tenantHeaderSupplier,
+            new ConcurrentMapCacheManager(TOPICS_CACHE));
+    when(securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders()).thenReturn(new HttpHeaders());
+  }
+
+  @AfterEach
+  void tearDown() {
+    TenantContext.clear();
+  }
+
+  @Test
+  void getAllTopicsMap_Should_CallTopicServiceOnce_When_MapIsCached() {
+    // given
+    givenTopicService();
+    when(topicControllerApi.getAllTopics()).thenReturn(List.of(topic(1L, "first")));
+
+    // when
+    topicService.getAllTopicsMap();
+    var topics = topicService.getAllTopicsMap();
+
+    // then
+    assertThat(topics).containsOnlyKeys(1L);
+    verify(topicControllerApi, times(1)).getAllTopics();
+  }
+
+  @Test
+  void getAllTopicsMap_Should_CacheTopicsPerTenant() {
+    // given
+    givenTopicService();
+    when(topicControllerApi.getAllTopics())
+        .thenReturn(List.of(topic(1L, "first")), List.of(topic(2L, "second")));
+
+    // when
+    TenantContext.setCurrentTenant(1L);
+    var firstTenantTopics = topicService.getAllTopicsMap();
+    TenantContext.setCurrentTenant(2L);
+    var secondTenantTopics = topicService.getAllTopicsMap();
+    TenantContext.setCurrentTenant(1L);
+
+    // then
+    assertThat(firstTenantTopics).containsOnlyKeys(1L);
+    assertThat(secondTenantTopics).containsOnlyKeys(2L);
+    assertThat(topicService.getAllTopicsMap()).containsOnlyKeys(1L);
+    verify(topicControllerApi, times(2)).getAllTopics();
+  }
+
+  @Test
+  void getAllTopicsMap_Should_ResolveHeadersBeforeLoading_When_TopicsAreNotCached() {
+    // given
+    var headers = new HttpHeaders();
+    headers.add("Authorization", "Bearer token");
+    when(securityHeaderSupplier.getKeycloakAndCsrfHttpHeaders()).thenReturn(headers);
+    givenTopicService();
+    when(topicControllerApi.getAllTopics()).thenReturn(List.of(topic(1L, "first")));
+
+    // when
+    topicService.getAllTopicsMap();
+
+    // then
+    verify(apiClient).addDefaultHeader("Authorization", "Bearer token");
+  }
+
+  private void givenTopicService() {
+    when(topicServiceApiControllerFactory.createControllerApi()).thenReturn(topicControllerApi);
+    when(topicControllerApi.getApiClient()).thenReturn(apiClient);
+  }
+
+  private TopicDTO topic(Long id, String name) {
+    return new TopicDTO().id(id).name(name);
+  }
+}
@@ -13,6 +13,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import de.caritas.cob.userservice.agencyserivce.generated.web.AgencyControllerApi;
 import de.caritas.cob.userservice.agencyserivce.generated.web.model.AgencyResponseDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.AgencyDTO;
+import de.caritas.cob.userservice.api.config.CacheManagerConfig;
 import de.caritas.cob.userservice.api.config.apiclient.AgencyServiceApiControllerFactory;
 import de.caritas.cob.userservice.api.service.agency.AgencyService;
 import de.caritas.cob.userservice.api.service.httpheader.SecurityHeaderSupplier;
@@ -27,8 +28,11 @@ import org.junit.runner.RunWith;
 import org.mockito.ArgumentMatchers;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
 import org.springframework.http.HttpHeaders;
 import org.springframework.web.context.request.RequestContextHolder;
 
@@ -36,9 +40,7 @@ import org.springframework.web.context.request.RequestContextHolder;
 public class AgencySecurityHeaderSupplierTest {
 
   private final String GET_AGENCY_METHOD_NAME = "getAgency";
-  private final String GET_AGENCIES_METHOD_NAME = "getAgencies";
   private final Class<?>[] GET_AGENCY_METHOD_PARAMS = new Class[] {Long.class};
-  private final Class<?>[] GET_AGENCIES_METHOD_PARAMS = new Class[] {List.class};
 
   @InjectMocks private AgencyService agencyService;
 
@@ -52,6 +54,10 @@ public class AgencySecurityHeaderSupplierTest {
 
   @Mock private AgencyServiceApiControllerFactory agencyServiceApiControllerFactory;
 
+  @Spy
+  private CacheManager cacheManager =
+      new ConcurrentMapCacheManager(CacheManagerConfig.AGENCY_CACHE);
+
   @Before
   public void setup() throws NoSuchFieldException, SecurityException {
     when(agencyServiceApiControllerFactory.createControllerApi()).thenReturn(agencyControllerApi);
@@ -80,25 +86,6 @@ public class AgencySecurityHeaderSupplierTest {
     resetRequestAttributes();
   }
 
-  @SuppressWarnings({"unchecked", "rawtypes"})
-  @Test
-  public void
-      test_Should_Fail_When_MethodgetAgenciesFromAgencyServiceDoesNotHaveCacheableAnnotation()
-          throws NoSuchMethodException, SecurityException {
-
-    AgencyService agencyService =
-        new AgencyService(
-            mock(SecurityHeaderSupplier.class),
-            mock(TenantHeaderSupplier.class),
-            mock(AgencyServiceApiControllerFactory.class));
-    Class classToTest = agencyService.getClass();
-    Method methodToTest =
-        classToTest.getMethod(GET_AGENCIES_METHOD_NAME, GET_AGENCIES_METHOD_PARAMS);
-    Cacheable annotation = methodToTest.getAnnotation(Cacheable.class);
-
-    assertNotNull(annotation);
-  }
-
   @Test
   public void getAgency_Should_ReturnAgencyDTO_When_ProvidedWithValidAgencyId() {
 
@@ -118,7 +105,8 @@ public class AgencySecurityHeaderSupplierTest {
         new AgencyService(
             mock(SecurityHeaderSupplier.class),
             mock(TenantHeaderSupplier.class),
-            mock(AgencyServiceApiControllerFactory.class));
+            mock(AgencyServiceApiControllerFactory.class),
+            mock(CacheManager.class));
     Class classToTest = agencyService.getClass();
     Method methodToTest = classToTest.getMethod(GET_AGENCY_METHOD_NAME, GET_AGENCY_METHOD_PARAMS);
     Cacheable annotation = methodToTest.getAnnotation(Cacheable.class);
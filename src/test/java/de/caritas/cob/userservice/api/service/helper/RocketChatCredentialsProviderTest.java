@@ -19,6 +19,7 @@ import static de.caritas.cob.userservice.api.testHelper.TestConstants.TECHNICAL_
 import static de.caritas.cob.userservice.api.testHelper.TestConstants.TECHNICAL_USER_B_TOKEN;
 import static de.caritas.cob.userservice.api.testHelper.TestConstants.TECHNICAL_USER_B_USERNAME;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
@@ -30,6 +31,7 @@ import static org.springframework.test.util.ReflectionTestUtils.setField;
 
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatCredentials;
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatCredentialsProvider;
+import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatCredentialsSnapshot;
 import de.caritas.cob.userservice.api.adapters.rocketchat.config.RocketChatConfig;
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.login.DataDTO;
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.login.LoginResponseDTO;
@@ -447,6 +449,39 @@ public class RocketChatCredentialsProviderTest {
     assertEquals(RC_CREDENTIALS_TECHNICAL_B, technicalUser);
   }
 
+  /** Method: getCredentialsSnapshot */
+  @Test
+  public void getCredentialsSnapshot_Should_ContainLatestTechnicalAndSystemUser() throws Exception {
+    setField(
+        rcCredentialHelper,
+        FIELD_NAME_TECHNICAL_USER_A,
+        new AtomicReference<>(RC_CREDENTIALS_TECHNICAL_A));
+    setField(
+        rcCredentialHelper,
+        FIELD_NAME_SYSTEM_USER_B,
+        new AtomicReference<>(RC_CREDENTIALS_SYSTEM_B));
+
+    RocketChatCredentialsSnapshot snapshot = rcCredentialHelper.getCredentialsSnapshot();
+
+    assertEquals(RC_CREDENTIALS_TECHNICAL_A, snapshot.getTechnicalUser());
+    assertEquals(RC_CREDENTIALS_SYSTEM_B, snapshot.getSystemUser());
+    assertTrue(snapshot.isServiceUser(TECHNICAL_USER_A_ID));
+    assertTrue(snapshot.isServiceUser(SYSTEM_USER_B_ID));
+    assertFalse(snapshot.isServiceUser(TECHNICAL_USER_B_ID));
+  }
+
+  @Test(expected = RocketChatUserNotInitializedException.class)
+  public void
+      getCredentialsSnapshot_Should_ThrowRocketChatUserNotInitializedException_WhenSystemUserIsNotInitialized()
+          throws Exception {
+    setField(
+        rcCredentialHelper,
+        FIELD_NAME_TECHNICAL_USER_A,
+        new AtomicReference<>(RC_CREDENTIALS_TECHNICAL_A));
+
+    rcCredentialHelper.getCredentialsSnapshot();
+  }
+
   /** Method: getSystemUser */
   @Test
   public void
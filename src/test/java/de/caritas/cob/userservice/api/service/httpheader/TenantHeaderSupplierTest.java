@@ -9,6 +9,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
 class TenantHeaderSupplierTest {
@@ -32,4 +34,15 @@ class TenantHeaderSupplierTest {
     // when, then
     assertThat(tenantHeaderSupplier.getTenantFromHeader()).isEmpty();
   }
+
+  @Test
+  void addTenantHeader_Should_AddHeaderOfGivenTenant_When_MultitenancyIsEnabled() {
+    // given
+    ReflectionTestUtils.setField(tenantHeaderSupplier, "multitenancy", true);
+    var headers = new HttpHeaders();
+    // when
+    tenantHeaderSupplier.addTenantHeader(headers, 5L);
+    // then
+    assertThat(headers.getFirst("tenantId")).isEqualTo("5");
+  }
 }
@@ -0,0 +1,136 @@
+package de.caritas.cob.userservice.api.service.session;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import com.neovisionaries.i18n.LanguageCode;
+import de.caritas.cob.userservice.api.adapters.web.dto.AgencyDTO;
+import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantSessionResponseDTO;
+import de.caritas.cob.userservice.api.adapters.web.dto.UserSessionResponseDTO;
+import de.caritas.cob.userservice.api.manager.consultingtype.ConsultingTypeManager;
+import de.caritas.cob.userservice.api.model.Consultant;
+import de.caritas.cob.userservice.api.model.Session;
+import de.caritas.cob.userservice.api.model.Session.RegistrationType;
+import de.caritas.cob.userservice.api.model.Session.SessionStatus;
+import de.caritas.cob.userservice.api.model.User;
+import de.caritas.cob.userservice.api.port.out.SessionRepository;
+import de.caritas.cob.userservice.api.service.ConsultantService;
+import de.caritas.cob.userservice.api.service.agency.AgencyService;
+import de.caritas.cob.userservice.api.service.user.UserService;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures the mapping of the session lists of a user and a consultant with many sessions, where
+ * every session belongs to its own agency. With the agencies indexed by their id the time per
+ * operation grows linearly with the number of sessions.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SessionServiceBenchmark {
+
+  private static final String USER_ID = "userId";
+
+  @Param({"100", "1000", "10000"})
+  private int sessions;
+
+  private SessionService sessionService;
+  private Consultant consultant;
+
+  @Setup
+  public void setup() {
+    var user = new User();
+    user.setUserId(USER_ID);
+    user.setUsername("enc.username");
+    user.setRcUserId("rcUserId");
+    consultant = new Consultant();
+    consultant.setId("consultantId");
+
+    var sessionsOfUser = new ArrayList<Session>(sessions);
+    var agencies = new ArrayList<AgencyDTO>(sessions);
+    for (var i = 0; i < sessions; i++) {
+      sessionsOfUser.add(session(i, user));
+      agencies.add(new AgencyDTO().id((long) i).name("agency" + i));
+    }
+    var inProgressSessions = sessionsOfUser.subList(0, sessions / 2);
+    var doneSessions = sessionsOfUser.subList(sessions / 2, sessions);
+
+    var sessionRepository = stubOnlyMock(SessionRepository.class);
+    when(sessionRepository.findByUserUserId(USER_ID)).thenReturn(sessionsOfUser);
+    when(sessionRepository.findByConsultantAndStatus(any(), eq(SessionStatus.IN_PROGRESS)))
+        .thenReturn(inProgressSessions);
+    when(sessionRepository.findByConsultantAndStatus(any(), eq(SessionStatus.DONE)))
+        .thenReturn(doneSessions);
+    var agencyService = stubOnlyMock(AgencyService.class);
+    when(agencyService.getAgencies(anyList())).thenReturn(agencies);
+
+    sessionService =
+        new SessionService(
+            sessionRepository,
+            agencyService,
+            stubOnlyMock(ConsultantService.class),
+            stubOnlyMock(UserService.class),
+            stubOnlyMock(ConsultingTypeManager.class),
+            null);
+  }
+
+  @Benchmark
+  public List<UserSessionResponseDTO> mapSessionsOfUser() {
+    return sessionService.getSessionsForUserId(USER_ID);
+  }
+
+  @Benchmark
+  public List<ConsultantSessionResponseDTO> mapSessionsOfConsultant() {
+    return sessionService.getActiveAndDoneSessionsForConsultant(consultant);
+  }
+
+  private Session session(long id, User user) {
+    var session = new Session();
+    session.setId(id);
+    session.setUser(user);
+    session.setConsultant(consultant);
+    session.setAgencyId(id);
+    session.setConsultingTypeId(1);
+    session.setGroupId("group" + id);
+    session.setStatus(id % 2 == 0 ? SessionStatus.IN_PROGRESS : SessionStatus.DONE);
+    session.setRegistrationType(RegistrationType.REGISTERED);
+    session.setLanguageCode(LanguageCode.de);
+    session.setSessionData(List.of());
+    session.setEnquiryMessageDate(LocalDateTime.now());
+    session.setCreateDate(LocalDateTime.now());
+    return session;
+  }
+
+  private static <T> T stubOnlyMock(Class<T> classToMock) {
+    return mock(classToMock, withSettings().stubOnly());
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(new OptionsBuilder().include(SessionServiceBenchmark.class.getSimpleName()).build())
+        .run();
+  }
+}
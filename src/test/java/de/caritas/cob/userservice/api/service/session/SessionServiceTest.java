@@ -23,6 +23,8 @@ import static de.caritas.cob.userservice.api.testHelper.TestConstants.USERNAME;
 import static de.caritas.cob.userservice.api.testHelper.TestConstants.USER_ID;
 import static de.caritas.cob.userservice.api.testHelper.TestConstants.USER_ROLES;
 import static de.caritas.cob.userservice.api.testHelper.TestConstants.USER_WITH_RC_ID;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
 import static java.util.Collections.singleton;
 import static java.util.Collections.singletonList;
 import static liquibase.util.BooleanUtils.isTrue;
@@ -30,6 +32,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.hamcrest.CoreMatchers.everyItem;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertEquals;
@@ -51,6 +54,7 @@ import static org.mockito.Mockito.when;
 import static org.powermock.reflect.Whitebox.setInternalState;
 
 import com.neovisionaries.i18n.LanguageCode;
+import de.caritas.cob.userservice.api.adapters.web.dto.AgencyDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantSessionDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantSessionResponseDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.SessionConsultantForConsultantDTO;
@@ -93,6 +97,8 @@ import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.slf4j.Logger;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -179,6 +185,21 @@ class SessionServiceTest {
           .isPeerChat(false)
           .build();
 
+  private Session sessionWithAgencyId(Long agencyId) {
+    return Session.builder()
+        .id(ENQUIRY_ID_2)
+        .consultingTypeId(CONSULTING_TYPE_ID_SUCHT)
+        .registrationType(REGISTERED)
+        .agencyId(agencyId)
+        .postcode("99999")
+        .status(SessionStatus.IN_PROGRESS)
+        .languageCode(LanguageCode.de)
+        .createDate(nowInUtc())
+        .teamSession(false)
+        .isPeerChat(false)
+        .build();
+  }
+
   private final ConsultantAgency CONSULTANT_AGENCY_1 =
       new ConsultantAgency(1L, CONSULTANT, 1L, nowInUtc(), nowInUtc(), nowInUtc(), null, null);
   private final Set<ConsultantAgency> CONSULTANT_AGENCY_SET = new HashSet<>();
@@ -332,6 +353,25 @@ class SessionServiceTest {
         everyItem(instanceOf(UserSessionResponseDTO.class)));
   }
 
+  @Test
+  void getSessionsForUserId_Should_AssignAgencyOfEachSession_When_SessionsShareAgencies() {
+    var sessionOfOtherAgency = sessionWithAgencyId(2L);
+    var sessionWithoutAgency = sessionWithAgencyId(null);
+    var sessions = List.of(ACCEPTED_SESSION, sessionOfOtherAgency, sessionWithoutAgency);
+    var agency = new AgencyDTO().id(1L);
+    var otherAgency = new AgencyDTO().id(2L);
+
+    when(sessionRepository.findByUserUserId(USER_ID)).thenReturn(sessions);
+    when(agencyService.getAgencies(any())).thenReturn(List.of(otherAgency, agency));
+
+    var result = sessionService.getSessionsForUserId(USER_ID);
+
+    assertThat(result.get(0).getAgency(), is(agency));
+    assertThat(result.get(1).getAgency(), is(otherAgency));
+    assertNull(result.get(2).getAgency());
+    verify(agencyService).getAgencies(List.of(1L, 2L));
+  }
+
   @Test
   void getSessionsForUser_Should_ReturnListOfSessionsForUser() {
 
@@ -740,6 +780,115 @@ class SessionServiceTest {
             agencyIds, SessionStatus.NEW, REGISTERED);
   }
 
+  @Test
+  void getRegisteredEnquiriesForConsultant_Should_loadOnlyRequestedPage_When_pageableIsGiven() {
+    Consultant consultant = mock(Consultant.class);
+    when(consultant.getConsultantAgencies()).thenReturn(Set.of(CONSULTANT_AGENCY_1));
+    List<Long> agencyIds = singletonList(CONSULTANT_AGENCY_1.getAgencyId());
+    var pageable = PageRequest.of(2, 5);
+    Session session = easyRandom.nextObject(Session.class);
+    when(sessionRepository
+            .findByAgencyIdInAndConsultantIsNullAndStatusAndRegistrationTypeOrderByEnquiryMessageDateAscIdAsc(
+                agencyIds, SessionStatus.NEW, REGISTERED, pageable))
+        .thenReturn(new PageImpl<>(List.of(session), pageable, 11));
+
+    var enquiries = sessionService.getRegisteredEnquiriesForConsultant(consultant, pageable);
+
+    assertThat(enquiries.getContent(), hasSize(1));
+    assertThat(enquiries.getContent().get(0).getSession().getId(), is(session.getId()));
+    assertThat(enquiries.getTotalElements(), is(11L));
+  }
+
+  @Test
+  void getRegisteredEnquiriesForConsultant_Should_returnEmptyPage_When_consultantHasNoAgencies() {
+    Consultant consultant = mock(Consultant.class);
+    when(consultant.getConsultantAgencies()).thenReturn(emptySet());
+
+    var enquiries =
+        sessionService.getRegisteredEnquiriesForConsultant(consultant, PageRequest.of(0, 5));
+
+    assertThat(enquiries.getTotalElements(), is(0L));
+    verifyNoInteractions(sessionRepository);
+  }
+
+  @Test
+  void getArchivedSessionsForConsultant_Should_loadOnlyRequestedPage_When_pageableIsGiven() {
+    Consultant consultant = mock(Consultant.class);
+    var pageable = PageRequest.of(1, 5);
+    Session session = easyRandom.nextObject(Session.class);
+    when(sessionRepository.findByConsultantAndStatusOrderByUpdateDateDescIdAsc(
+            consultant, SessionStatus.IN_ARCHIVE, pageable))
+        .thenReturn(new PageImpl<>(List.of(session), pageable, 6));
+
+    var archivedSessions = sessionService.getArchivedSessionsForConsultant(consultant, pageable);
+
+    assertThat(archivedSessions.getContent(), hasSize(1));
+    assertThat(archivedSessions.getContent().get(0).getSession().getId(), is(session.getId()));
+    assertThat(archivedSessions.getTotalElements(), is(6L));
+  }
+
+  @Test
+  void getArchivedSessionsForConsultant_Should_returnEmptyPage_When_offsetIsPastLastPage() {
+    Consultant consultant = mock(Consultant.class);
+    var pageable = PageRequest.of(3, 5);
+    when(sessionRepository.findByConsultantAndStatusOrderByUpdateDateDescIdAsc(
+            consultant, SessionStatus.IN_ARCHIVE, pageable))
+        .thenReturn(new PageImpl<>(emptyList(), pageable, 6));
+
+    var archivedSessions = sessionService.getArchivedSessionsForConsultant(consultant, pageable);
+
+    assertThat(archivedSessions.getContent(), is(empty()));
+    assertThat(archivedSessions.getTotalElements(), is(6L));
+  }
+
+  @Test
+  void getArchivedTeamSessionsForConsultant_Should_loadOnlyRequestedPage_When_pageableIsGiven() {
+    Consultant consultant = mock(Consultant.class);
+    when(consultant.getConsultantAgencies()).thenReturn(Set.of(CONSULTANT_AGENCY_1));
+    List<Long> agencyIds = singletonList(CONSULTANT_AGENCY_1.getAgencyId());
+    var pageable = PageRequest.of(1, 5);
+    Session session = easyRandom.nextObject(Session.class);
+    when(sessionRepository
+            .findByAgencyIdInAndConsultantNotAndStatusAndTeamSessionIsTrueOrderByUpdateDateDescIdAsc(
+                agencyIds, consultant, SessionStatus.IN_ARCHIVE, pageable))
+        .thenReturn(new PageImpl<>(List.of(session), pageable, 6));
+
+    var teamSessions = sessionService.getArchivedTeamSessionsForConsultant(consultant, pageable);
+
+    assertThat(teamSessions.getContent(), hasSize(1));
+    assertThat(teamSessions.getContent().get(0).getSession().getId(), is(session.getId()));
+    assertThat(teamSessions.getTotalElements(), is(6L));
+  }
+
+  @Test
+  void getArchivedTeamSessionsForConsultant_Should_returnEmptyPage_When_offsetIsPastLastPage() {
+    Consultant consultant = mock(Consultant.class);
+    when(consultant.getConsultantAgencies()).thenReturn(Set.of(CONSULTANT_AGENCY_1));
+    List<Long> agencyIds = singletonList(CONSULTANT_AGENCY_1.getAgencyId());
+    var pageable = PageRequest.of(3, 5);
+    when(sessionRepository
+            .findByAgencyIdInAndConsultantNotAndStatusAndTeamSessionIsTrueOrderByUpdateDateDescIdAsc(
+                agencyIds, consultant, SessionStatus.IN_ARCHIVE, pageable))
+        .thenReturn(new PageImpl<>(emptyList(), pageable, 6));
+
+    var teamSessions = sessionService.getArchivedTeamSessionsForConsultant(consultant, pageable);
+
+    assertThat(teamSessions.getContent(), is(empty()));
+    assertThat(teamSessions.getTotalElements(), is(6L));
+  }
+
+  @Test
+  void getArchivedTeamSessionsForConsultant_Should_returnEmptyPage_When_consultantHasNoAgencies() {
+    Consultant consultant = mock(Consultant.class);
+    when(consultant.getConsultantAgencies()).thenReturn(emptySet());
+
+    var teamSessions =
+        sessionService.getArchivedTeamSessionsForConsultant(consultant, PageRequest.of(0, 5));
+
+    assertThat(teamSessions.getTotalElements(), is(0L));
+    verifyNoInteractions(sessionRepository);
+  }
+
   @Test
   void
       getSessionsForUser_Should_ReturnListOfUserSessionResponseDTOWithoutAgency_When_sessionHasNoAgencyAssigned() {
@@ -1,12 +1,15 @@
 package de.caritas.cob.userservice.api.service.session;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.when;
 
 import de.caritas.cob.userservice.api.adapters.web.dto.SessionDTO;
 import de.caritas.cob.userservice.api.adapters.web.dto.SessionTopicDTO;
 import de.caritas.cob.userservice.api.service.consultingtype.TopicService;
 import de.caritas.cob.userservice.topicservice.generated.web.model.TopicDTO;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import org.assertj.core.util.Maps;
 import org.junit.jupiter.api.Test;
@@ -91,6 +94,68 @@ class SessionTopicEnrichmentServiceTest {
     Mockito.verify(topicService, Mockito.never()).getAllTopics();
   }
 
+  @Test
+  void enrichSessionsWithTopicData_Should_ResolveTopicsOnceForAllSessions() {
+    // given
+    givenAllTopicsMap();
+    var first = new SessionDTO().topic(new SessionTopicDTO().id(1L));
+    var second = new SessionDTO().topic(new SessionTopicDTO().id(2L));
+    var withoutTopic = new SessionDTO().topic(null);
+
+    // when
+    sessionTopicEnrichmentService.enrichSessionsWithTopicData(List.of(first, second, withoutTopic));
+
+    // then
+    assertThat(first.getTopic().getName()).isEqualTo("first topic");
+    assertThat(second.getTopic().getName()).isEqualTo("second topic");
+    assertThat(withoutTopic.getTopic()).isNull();
+    Mockito.verify(topicService, Mockito.times(1)).getAllTopicsMap();
+  }
+
+  @Test
+  void enrichSessionsWithTopicData_Should_NotResolveTopics_When_NoSessionHasTopicId() {
+    // when
+    sessionTopicEnrichmentService.enrichSessionsWithTopicData(
+        List.of(new SessionDTO().topic(new SessionTopicDTO())));
+
+    // then
+    Mockito.verify(topicService, Mockito.never()).getAllTopicsMap();
+  }
+
+  @Test
+  void buildChunkEnricher_Should_ResolveTopicsBeforeAnyChunkIsEnriched() {
+    // given
+    givenAllTopicsMap();
+    var first = new SessionDTO().topic(new SessionTopicDTO().id(1L));
+    var second = new SessionDTO().topic(new SessionTopicDTO().id(2L));
+
+    // when
+    var chunkEnricher = sessionTopicEnrichmentService.buildChunkEnricher(List.of(first, second));
+    Mockito.verify(topicService, Mockito.times(1)).getAllTopicsMap();
+    chunkEnricher.accept(List.of(first));
+    chunkEnricher.accept(List.of(second));
+
+    // then
+    assertThat(first.getTopic().getName()).isEqualTo("first topic");
+    assertThat(second.getTopic().getName()).isEqualTo("second topic");
+    Mockito.verifyNoMoreInteractions(topicService);
+  }
+
+  @Test
+  void buildChunkEnricher_Should_Fail_When_TopicsOfALaterChunkCannotBeResolved() {
+    // given
+    when(topicService.getAllTopicsMap()).thenThrow(new IllegalStateException("unavailable"));
+    var sessions = new ArrayList<SessionDTO>();
+    for (var i = 0; i < 60; i++) {
+      sessions.add(new SessionDTO().topic(i == 40 ? new SessionTopicDTO().id(1L) : null));
+    }
+
+    // then
+    assertThrows(
+        IllegalStateException.class,
+        () -> sessionTopicEnrichmentService.buildChunkEnricher(sessions));
+  }
+
   private void givenAllTopicsMap() {
     Map<Long, TopicDTO> availableTopicsMap =
         Maps.newHashMap(1L, new TopicDTO().id(1L).name("first topic").description("first desc"));
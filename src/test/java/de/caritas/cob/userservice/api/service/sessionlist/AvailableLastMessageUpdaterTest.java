@@ -90,11 +90,12 @@ public class AvailableLastMessageUpdaterTest {
   @Test
   public void updateSessionWithAvailableLastMessage_Should_useAnalyser_When_lasMessageIsPresent() {
     when(roomsLastMessageDTO.getMessage()).thenReturn("message");
+    when(roomsLastMessageDTO.getId()).thenReturn("messageId");
 
     this.availableLastMessageUpdater.updateSessionWithAvailableLastMessage(
         session, mock(Consumer.class), this.rocketChatRoomInformation, "");
 
-    verify(sessionListAnalyser).prepareMessageForSessionList("message", GROUP_ID);
+    verify(sessionListAnalyser).prepareMessageForSessionList("message", GROUP_ID, "messageId");
   }
 
   @Test
@@ -115,7 +116,7 @@ public class AvailableLastMessageUpdaterTest {
   @Test
   public void updateSessionWithAvailableLastMessage_should_set_rocket_chat_type() {
     givenAnE2eRoomsLastMessage();
-    when(sessionListAnalyser.prepareMessageForSessionList("e2e_encrypted_message", GROUP_ID))
+    when(sessionListAnalyser.prepareMessageForSessionList("e2e_encrypted_message", GROUP_ID, null))
         .thenReturn("e2e_encrypted_message");
 
     this.availableLastMessageUpdater.updateSessionWithAvailableLastMessage(
@@ -149,7 +150,7 @@ public class AvailableLastMessageUpdaterTest {
     chat.setGroupId(GROUP_ID);
     AtomicReference<Date> date = new AtomicReference<>();
     givenAnE2eRoomsLastMessage();
-    when(sessionListAnalyser.prepareMessageForSessionList("e2e_encrypted_message", GROUP_ID))
+    when(sessionListAnalyser.prepareMessageForSessionList("e2e_encrypted_message", GROUP_ID, null))
         .thenReturn("e2e_encrypted_message");
 
     this.availableLastMessageUpdater.updateChatWithAvailableLastMessage(
@@ -54,7 +54,8 @@ public class ConsultantChatEnricherTest {
             .readMessages(MESSAGES_READ_MAP_WITH_UNREADS)
             .userRooms(USERS_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(Mockito.any()))
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(
+            Mockito.any(), Mockito.any()))
         .thenReturn(rocketChatRoomInformation);
 
     ConsultantSessionResponseDTO result =
@@ -79,7 +80,8 @@ public class ConsultantChatEnricherTest {
             .readMessages(MESSAGES_READ_MAP_WITH_UNREADS)
             .userRooms(USERS_EMPTY_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(Mockito.any()))
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(
+            Mockito.any(), Mockito.any()))
         .thenReturn(rocketChatRoomInformation);
 
     ConsultantSessionResponseDTO result =
@@ -103,7 +105,8 @@ public class ConsultantChatEnricherTest {
             .readMessages(MESSAGES_READ_MAP_WITH_UNREADS)
             .userRooms(USERS_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(Mockito.any()))
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(
+            Mockito.any(), Mockito.any()))
         .thenReturn(rocketChatRoomInformation);
     when(sessionListAnalyser.getAttachmentFromRocketChatMessageIfAvailable(
             Mockito.eq(CONSULTANT_2.getRocketChatId()), Mockito.any()))
@@ -132,7 +135,8 @@ public class ConsultantChatEnricherTest {
             .readMessages(MESSAGES_READ_MAP_WITH_UNREADS)
             .userRooms(USERS_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(Mockito.any()))
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(
+            Mockito.any(), Mockito.any()))
         .thenReturn(rocketChatRoomInformation);
 
     ConsultantSessionResponseDTO result =
@@ -156,7 +160,8 @@ public class ConsultantChatEnricherTest {
             .readMessages(MESSAGES_READ_MAP_WITHOUT_UNREADS)
             .userRooms(USERS_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(Mockito.any()))
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(
+            Mockito.any(), Mockito.any()))
         .thenReturn(rocketChatRoomInformation);
 
     ConsultantSessionResponseDTO result =
@@ -0,0 +1,140 @@
+package de.caritas.cob.userservice.api.service.sessionlist;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatMongoRoomReader;
+import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatRoomSnapshotCache;
+import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatService;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.room.RoomsLastMessageDTO;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.room.RoomsUpdateDTO;
+import de.caritas.cob.userservice.api.adapters.rocketchat.dto.subscriptions.SubscriptionsUpdateDTO;
+import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantSessionResponseDTO;
+import de.caritas.cob.userservice.api.adapters.web.dto.SessionDTO;
+import de.caritas.cob.userservice.api.adapters.web.dto.UserChatDTO;
+import de.caritas.cob.userservice.api.facade.sessionlist.RocketChatRoomInformationProvider;
+import de.caritas.cob.userservice.api.facade.userdata.ConsultantDataFacade;
+import de.caritas.cob.userservice.api.helper.SessionListAnalyser;
+import de.caritas.cob.userservice.api.manager.consultingtype.ConsultingTypeManager;
+import de.caritas.cob.userservice.api.model.Consultant;
+import de.caritas.cob.userservice.api.service.DecryptionService;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+
+/**
+ * Measures the Rocket.Chat enrichment of a consultant session list where every session and chat has
+ * its own room. With the indexed room information the time per operation grows linearly with the
+ * number of rooms.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ConsultantSessionEnricherBenchmark {
+
+  private static final String RC_TOKEN = "rcToken";
+
+  @Param({"100", "1000", "10000"})
+  private int rooms;
+
+  private ConsultantSessionEnricher consultantSessionEnricher;
+  private ConsultantChatEnricher consultantChatEnricher;
+  private Consultant consultant;
+  private List<ConsultantSessionResponseDTO> sessions;
+  private List<ConsultantSessionResponseDTO> chats;
+
+  @Setup
+  public void setup() {
+    var roomsOfUser = new ArrayList<RoomsUpdateDTO>(rooms);
+    var subscriptions = new ArrayList<SubscriptionsUpdateDTO>(rooms);
+    sessions = new ArrayList<>(rooms / 2);
+    chats = new ArrayList<>(rooms / 2);
+
+    for (var i = 0; i < rooms; i++) {
+      var roomId = "room" + i;
+      var lastMessage = new RoomsLastMessageDTO();
+      lastMessage.setTimestamp(new Date(i));
+      var room = new RoomsUpdateDTO();
+      room.setId(roomId);
+      room.setLastMessage(lastMessage);
+      room.setLastMessageDate(new Date(i));
+      roomsOfUser.add(room);
+      var subscription = new SubscriptionsUpdateDTO();
+      subscription.setRoomId(roomId);
+      subscription.setUnread(i % 2);
+      subscriptions.add(subscription);
+
+      if (i % 2 == 0) {
+        sessions.add(new ConsultantSessionResponseDTO().session(new SessionDTO().groupId(roomId)));
+      } else {
+        var chat = new UserChatDTO();
+        chat.setGroupId(roomId);
+        chat.setStartDateWithTime(LocalDateTime.now());
+        chats.add(new ConsultantSessionResponseDTO().chat(chat));
+      }
+    }
+
+    var rocketChatService = mock(RocketChatService.class);
+    when(rocketChatService.getRoomsOfUser(any())).thenReturn(roomsOfUser);
+    when(rocketChatService.getSubscriptionsOfUser(any())).thenReturn(subscriptions);
+    var rocketChatRoomInformationProvider =
+        new RocketChatRoomInformationProvider(
+            new RocketChatRoomSnapshotCache(
+                rocketChatService, new ConcurrentMapCacheManager(), Runnable::run),
+            mock(RocketChatMongoRoomReader.class));
+    var sessionListAnalyser = new SessionListAnalyser(mock(DecryptionService.class));
+
+    consultantSessionEnricher =
+        new ConsultantSessionEnricher(
+            sessionListAnalyser,
+            rocketChatRoomInformationProvider,
+            mock(ConsultingTypeManager.class));
+    consultantChatEnricher =
+        new ConsultantChatEnricher(
+            sessionListAnalyser,
+            rocketChatRoomInformationProvider,
+            mock(ConsultantDataFacade.class));
+    consultant = new Consultant();
+    consultant.setRocketChatId("rcUserId");
+  }
+
+  @Benchmark
+  public List<ConsultantSessionResponseDTO> enrichSessions() {
+    return consultantSessionEnricher.updateRequiredConsultantSessionValues(
+        sessions, RC_TOKEN, consultant);
+  }
+
+  @Benchmark
+  public List<ConsultantSessionResponseDTO> enrichChats() {
+    return consultantChatEnricher.updateRequiredConsultantChatValues(chats, RC_TOKEN, consultant);
+  }
+
+  public static void main(String[] args) throws RunnerException {
+    new Runner(
+            new OptionsBuilder()
+                .include(ConsultantSessionEnricherBenchmark.class.getSimpleName())
+                .build())
+        .run();
+  }
+}
@@ -27,6 +27,7 @@ import static org.hamcrest.Matchers.is;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -38,6 +39,7 @@ import de.caritas.cob.userservice.api.helper.SessionListAnalyser;
 import de.caritas.cob.userservice.api.manager.consultingtype.ConsultingTypeManager;
 import de.caritas.cob.userservice.api.service.session.SessionTopicEnrichmentService;
 import java.util.Date;
+import java.util.List;
 import java.util.Map;
 import org.jeasy.random.EasyRandom;
 import org.junit.After;
@@ -78,7 +80,8 @@ public class ConsultantSessionEnricherTest {
             .groupIdToLastMessageFallbackDate(emptyMap())
             .userRooms(USERS_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(Mockito.any()))
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(
+            Mockito.any(), Mockito.any()))
         .thenReturn(rocketChatRoomInformation);
 
     when(sessionListAnalyser.areMessagesForRocketChatGroupReadByUser(
@@ -94,6 +97,58 @@ public class ConsultantSessionEnricherTest {
     assertTrue(result.getSession().getMessagesRead());
   }
 
+  @Test
+  public void
+      buildChunkEnricher_Should_RetrieveRocketChatInformationOfPageOnce_When_SeveralChunksAreEnriched() {
+    RocketChatRoomInformation rocketChatRoomInformation =
+        RocketChatRoomInformation.builder()
+            .readMessages(MESSAGES_READ_MAP_WITHOUT_UNREADS)
+            .roomsForUpdate(ROOMS_UPDATE_DTO_LIST)
+            .lastMessagesRoom(ROOMS_LAST_MESSAGE_DTO_MAP)
+            .groupIdToLastMessageFallbackDate(emptyMap())
+            .userRooms(USERS_ROOMS_LIST)
+            .build();
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(
+            Mockito.any(),
+            Mockito.eq(
+                SessionListGroupIds.ofConsultantSessions(
+                    singletonList(CONSULTANT_SESSION_RESPONSE_DTO)))))
+        .thenReturn(rocketChatRoomInformation);
+    when(sessionListAnalyser.areMessagesForRocketChatGroupReadByUser(
+            rocketChatRoomInformation.getReadMessages(), RC_GROUP_ID))
+        .thenReturn(true);
+
+    var chunkEnricher =
+        consultantSessionEnricher.buildChunkEnricher(
+            RC_TOKEN, CONSULTANT, singletonList(CONSULTANT_SESSION_RESPONSE_DTO));
+    chunkEnricher.accept(singletonList(CONSULTANT_SESSION_RESPONSE_DTO));
+    chunkEnricher.accept(singletonList(CONSULTANT_SESSION_RESPONSE_DTO));
+
+    assertTrue(CONSULTANT_SESSION_RESPONSE_DTO.getSession().getMessagesRead());
+    verify(rocketChatRoomInformationProvider, Mockito.times(1))
+        .retrieveRocketChatInformation(Mockito.any(), Mockito.any());
+  }
+
+  @Test
+  public void buildChunkEnricher_Should_ResolveTopicsOfAllSessionsBeforeAnyChunkIsEnriched() {
+    ReflectionTestUtils.setField(consultantSessionEnricher, "topicsFeatureEnabled", true);
+    ReflectionTestUtils.setField(
+        consultantSessionEnricher, "sessionTopicEnrichmentService", sessionTopicEnrichmentService);
+    var sessions = List.of(CONSULTANT_SESSION_RESPONSE_DTO, CONSULTANT_SESSION_RESPONSE_DTO_2);
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(
+            Mockito.any(), Mockito.any()))
+        .thenReturn(RocketChatRoomInformation.builder().build());
+    when(sessionTopicEnrichmentService.buildChunkEnricher(
+            List.of(
+                CONSULTANT_SESSION_RESPONSE_DTO.getSession(),
+                CONSULTANT_SESSION_RESPONSE_DTO_2.getSession())))
+        .thenThrow(new IllegalStateException("topics unavailable"));
+
+    assertThrows(
+        IllegalStateException.class,
+        () -> consultantSessionEnricher.buildChunkEnricher(RC_TOKEN, CONSULTANT, sessions));
+  }
+
   @Test
   public void
       updateRequiredConsultantSessionValues_Should_ReturnValidSessionListWithMessagesReadFalse_WhenThereAreUnreadMessages() {
@@ -105,7 +160,8 @@ public class ConsultantSessionEnricherTest {
             .groupIdToLastMessageFallbackDate(emptyMap())
             .userRooms(USERS_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(Mockito.any()))
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(
+            Mockito.any(), Mockito.any()))
         .thenReturn(rocketChatRoomInformation);
 
     when(sessionListAnalyser.areMessagesForRocketChatGroupReadByUser(
@@ -136,7 +192,8 @@ public class ConsultantSessionEnricherTest {
             .groupIdToLastMessageFallbackDate(emptyMap())
             .userRooms(USERS_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(Mockito.any()))
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(
+            Mockito.any(), Mockito.any()))
         .thenReturn(rocketChatRoomInformation);
 
     when(sessionListAnalyser.areMessagesForRocketChatGroupReadByUser(
@@ -151,7 +208,7 @@ public class ConsultantSessionEnricherTest {
 
     assertFalse(result.getSession().getMessagesRead());
     verify(sessionTopicEnrichmentService)
-        .enrichSessionWithTopicData(CONSULTANT_SESSION_RESPONSE_DTO.getSession());
+        .enrichSessionsWithTopicData(List.of(CONSULTANT_SESSION_RESPONSE_DTO.getSession()));
   }
 
   @Test
@@ -164,7 +221,8 @@ public class ConsultantSessionEnricherTest {
             .groupIdToLastMessageFallbackDate(emptyMap())
             .userRooms(USERS_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(Mockito.any()))
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(
+            Mockito.any(), Mockito.any()))
         .thenReturn(rocketChatRoomInformation);
 
     ConsultantSessionResponseDTO result =
@@ -189,7 +247,8 @@ public class ConsultantSessionEnricherTest {
             .readMessages(MESSAGES_READ_MAP_WITH_UNREADS)
             .userRooms(USERS_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(Mockito.any()))
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(
+            Mockito.any(), Mockito.any()))
         .thenReturn(rocketChatRoomInformation);
     when(sessionListAnalyser.getAttachmentFromRocketChatMessageIfAvailable(
             Mockito.eq(CONSULTANT_2.getRocketChatId()), Mockito.any()))
@@ -215,7 +274,8 @@ public class ConsultantSessionEnricherTest {
             .readMessages(MESSAGES_READ_MAP_WITH_UNREADS)
             .userRooms(USERS_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(Mockito.any()))
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(
+            Mockito.any(), Mockito.any()))
         .thenReturn(rocketChatRoomInformation);
     when(sessionListAnalyser.getAttachmentFromRocketChatMessageIfAvailable(
             Mockito.eq(CONSULTANT_2.getRocketChatId()), Mockito.any()))
@@ -241,7 +301,8 @@ public class ConsultantSessionEnricherTest {
             .lastMessagesRoom(ROOMS_LAST_MESSAGE_DTO_MAP)
             .userRooms(USERS_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(Mockito.any()))
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(
+            Mockito.any(), Mockito.any()))
         .thenReturn(rocketChatRoomInformation);
     when(sessionListAnalyser.areMessagesForRocketChatGroupReadByUser(
             Mockito.eq(rocketChatRoomInformation.getReadMessages()), Mockito.any()))
@@ -267,7 +328,8 @@ public class ConsultantSessionEnricherTest {
             .groupIdToLastMessageFallbackDate(emptyMap())
             .userRooms(USERS_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(Mockito.any()))
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(
+            Mockito.any(), Mockito.any()))
         .thenReturn(rocketChatRoomInformation);
 
     ConsultantSessionResponseDTO result =
@@ -288,7 +350,8 @@ public class ConsultantSessionEnricherTest {
             .groupIdToLastMessageFallbackDate(emptyMap())
             .userRooms(USERS_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(Mockito.any()))
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(
+            Mockito.any(), Mockito.any()))
         .thenReturn(rocketChatRoomInformation);
 
     ConsultantSessionResponseDTO result =
@@ -309,7 +372,8 @@ public class ConsultantSessionEnricherTest {
             .readMessages(MESSAGES_READ_MAP_WITH_UNREADS)
             .userRooms(USERS_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(Mockito.any()))
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(
+            Mockito.any(), Mockito.any()))
         .thenReturn(rocketChatRoomInformation);
     when(sessionListAnalyser.getAttachmentFromRocketChatMessageIfAvailable(
             Mockito.eq(CONSULTANT_2.getRocketChatId()), Mockito.any()))
@@ -337,7 +401,8 @@ public class ConsultantSessionEnricherTest {
             .groupIdToLastMessageFallbackDate(emptyMap())
             .userRooms(USERS_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(Mockito.any()))
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(
+            Mockito.any(), Mockito.any()))
         .thenReturn(rocketChatRoomInformation);
     when(sessionListAnalyser.areMessagesForRocketChatGroupReadByUser(
             rocketChatRoomInformation.getReadMessages(), RC_GROUP_ID))
@@ -363,7 +428,8 @@ public class ConsultantSessionEnricherTest {
             .groupIdToLastMessageFallbackDate(emptyMap())
             .userRooms(USERS_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(Mockito.any()))
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(
+            Mockito.any(), Mockito.any()))
         .thenReturn(rocketChatRoomInformation);
     when(sessionListAnalyser.areMessagesForRocketChatGroupReadByUser(
             Mockito.eq(rocketChatRoomInformation.getReadMessages()), Mockito.any()))
@@ -389,7 +455,8 @@ public class ConsultantSessionEnricherTest {
             .groupIdToLastMessageFallbackDate(emptyMap())
             .userRooms(USERS_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(Mockito.any()))
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(
+            Mockito.any(), Mockito.any()))
         .thenReturn(rocketChatRoomInformation);
 
     ConsultantSessionResponseDTO result =
@@ -412,7 +479,8 @@ public class ConsultantSessionEnricherTest {
             .groupIdToLastMessageFallbackDate(emptyMap())
             .userRooms(USERS_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(Mockito.any()))
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(
+            Mockito.any(), Mockito.any()))
         .thenReturn(rocketChatRoomInformation);
     when(sessionListAnalyser.areMessagesForRocketChatGroupReadByUser(
             Mockito.eq(rocketChatRoomInformation.getReadMessages()), Mockito.any()))
@@ -440,7 +508,8 @@ public class ConsultantSessionEnricherTest {
             .readMessages(MESSAGES_READ_MAP_WITH_UNREADS)
             .userRooms(USERS_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(Mockito.any()))
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(
+            Mockito.any(), Mockito.any()))
         .thenReturn(rocketChatRoomInformation);
     when(sessionListAnalyser.areMessagesForRocketChatGroupReadByUser(Mockito.any(), Mockito.any()))
         .thenReturn(false);
@@ -465,7 +534,8 @@ public class ConsultantSessionEnricherTest {
             .readMessages(MESSAGES_READ_MAP_WITHOUT_UNREADS)
             .userRooms(USERS_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(Mockito.any()))
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(
+            Mockito.any(), Mockito.any()))
         .thenReturn(rocketChatRoomInformation);
     when(sessionListAnalyser.areMessagesForRocketChatGroupReadByUser(Mockito.any(), Mockito.any()))
         .thenReturn(true);
@@ -490,7 +560,8 @@ public class ConsultantSessionEnricherTest {
             .lastMessagesRoom(ROOMS_LAST_MESSAGE_DTO_MAP)
             .userRooms(USERS_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(Mockito.any()))
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(
+            Mockito.any(), Mockito.any()))
         .thenReturn(rocketChatRoomInformation);
     ConsultantSessionResponseDTO consultantSessionResponseDTO =
         new EasyRandom().nextObject(ConsultantSessionResponseDTO.class);
@@ -519,7 +590,8 @@ public class ConsultantSessionEnricherTest {
             .groupIdToLastMessageFallbackDate(fallbackDates)
             .userRooms(USERS_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(Mockito.any()))
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(
+            Mockito.any(), Mockito.any()))
         .thenReturn(rocketChatRoomInformation);
 
     ConsultantSessionResponseDTO result =
@@ -20,13 +20,17 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.nullable;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatCredentials;
 import de.caritas.cob.userservice.api.adapters.web.dto.ConsultantSessionResponseDTO;
+import de.caritas.cob.userservice.api.container.RocketChatRoomInformation;
 import de.caritas.cob.userservice.api.container.SessionListQueryParameter;
+import de.caritas.cob.userservice.api.facade.sessionlist.RocketChatRoomInformationProvider;
 import de.caritas.cob.userservice.api.service.ChatService;
 import de.caritas.cob.userservice.api.service.session.SessionFilter;
 import de.caritas.cob.userservice.api.service.session.SessionService;
@@ -48,6 +52,7 @@ public class ConsultantSessionListServiceTest {
   @Mock private ChatService chatService;
   @Mock private ConsultantSessionEnricher consultantSessionEnricher;
   @Mock private ConsultantChatEnricher consultantChatEnricher;
+  @Mock private RocketChatRoomInformationProvider rocketChatRoomInformationProvider;
   @Mock private RocketChatCredentials rocketChatCredentials;
 
   @Before
@@ -55,10 +60,14 @@ public class ConsultantSessionListServiceTest {
     when(sessionService.getRegisteredEnquiriesForConsultant(Mockito.any()))
         .thenReturn(CONSULTANT_SESSION_RESPONSE_DTO_LIST);
     when(this.consultantSessionEnricher.updateRequiredConsultantSessionValues(
-            eq(CONSULTANT_SESSION_RESPONSE_DTO_LIST), any(), any()))
+            eq(CONSULTANT_SESSION_RESPONSE_DTO_LIST),
+            nullable(RocketChatRoomInformation.class),
+            any()))
         .thenReturn(CONSULTANT_SESSION_RESPONSE_DTO_LIST);
     when(this.consultantChatEnricher.updateRequiredConsultantChatValues(
-            eq(List.of(CONSULTANT_SESSION_RESPONSE_DTO_WITH_ENCRYPTED_CHAT_MESSAGE)), any(), any()))
+            eq(List.of(CONSULTANT_SESSION_RESPONSE_DTO_WITH_ENCRYPTED_CHAT_MESSAGE)),
+            nullable(RocketChatRoomInformation.class),
+            any()))
         .thenReturn(List.of(CONSULTANT_SESSION_RESPONSE_DTO_WITH_ENCRYPTED_CHAT_MESSAGE));
   }
 
@@ -92,6 +101,21 @@ public class ConsultantSessionListServiceTest {
     verify(chatService, never()).getChatsForConsultant(Mockito.any());
   }
 
+  @Test
+  public void
+      retrieveSessionsForAuthenticatedConsultant_Should_retrieveRocketChatInformationOnlyOnce_When_sessionsAndChatsExist() {
+    when(chatService.getChatsForConsultant(Mockito.any()))
+        .thenReturn(CONSULTANT_SESSION_RESPONSE_DTO_LIST_WITH_ENCRYPTED_CHAT_MESSAGE);
+    when(sessionService.getActiveAndDoneSessionsForConsultant(Mockito.any()))
+        .thenReturn(CONSULTANT_SESSION_RESPONSE_DTO_LIST);
+    when(rocketChatCredentials.getRocketChatToken()).thenReturn(RC_TOKEN);
+
+    consultantSessionListService.retrieveSessionsForAuthenticatedConsultant(
+        CONSULTANT, createStandardSessionListQueryParameterObject(SESSION_STATUS_IN_PROGRESS));
+
+    verify(rocketChatRoomInformationProvider, times(1)).retrieveRocketChatInformation(any(), any());
+  }
+
   @Test
   public void retrieveSessionsForAuthenticatedConsultant_Should_MergeSessionsAndChats() {
     when(chatService.getChatsForConsultant(Mockito.any()))
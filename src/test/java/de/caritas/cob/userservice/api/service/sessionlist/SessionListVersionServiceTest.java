@@ -0,0 +1,334 @@
+package de.caritas.cob.userservice.api.service.sessionlist;
+
+import static de.caritas.cob.userservice.api.testHelper.TestConstants.RC_TOKEN;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.startsWith;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatCredentials;
+import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatRoomVersion;
+import de.caritas.cob.userservice.api.adapters.web.dto.AgencyDTO;
+import de.caritas.cob.userservice.api.facade.sessionlist.RocketChatRoomInformationProvider;
+import de.caritas.cob.userservice.api.model.Consultant;
+import de.caritas.cob.userservice.api.port.out.ChatRepository.ChatListVersion;
+import de.caritas.cob.userservice.api.port.out.SessionRepository.SessionListVersion;
+import de.caritas.cob.userservice.api.service.ChatService;
+import de.caritas.cob.userservice.api.service.agency.AgencyService;
+import de.caritas.cob.userservice.api.service.consultingtype.TopicService;
+import de.caritas.cob.userservice.api.service.session.SessionService;
+import de.caritas.cob.userservice.topicservice.generated.web.model.TopicDTO;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.MockitoJUnitRunner;
+import org.springframework.test.util.ReflectionTestUtils;
+
+@RunWith(MockitoJUnitRunner.class)
+public class SessionListVersionServiceTest {
+
+  private static final String USER_ID = "userId";
+  private static final LocalDateTime UPDATE_DATE = LocalDateTime.of(2022, 6, 20, 13, 14, 15);
+
+  @InjectMocks private SessionListVersionService sessionListVersionService;
+  @Mock private SessionService sessionService;
+  @Mock private ChatService chatService;
+  @Mock private AgencyService agencyService;
+  @Mock private TopicService topicService;
+  @Mock private RocketChatRoomInformationProvider rocketChatRoomInformationProvider;
+
+  private final Consultant consultant = new Consultant();
+
+  @Before
+  public void setup() {
+    consultant.setId("consultantId");
+    consultant.setRocketChatId("rcUserId");
+    ReflectionTestUtils.setField(sessionListVersionService, "topicsFeatureEnabled", true);
+    when(rocketChatRoomInformationProvider.retrieveRocketChatRoomVersion(any()))
+        .thenReturn(roomVersion(new Date(1000L)));
+    when(topicService.getAllTopicsMap()).thenReturn(Map.of(1L, topic("topic")));
+  }
+
+  @Test
+  public void computeConsultantSessionListETag_Should_returnSameWeakETag_When_nothingHasChanged() {
+    when(sessionService.getSessionListVersionForConsultant(consultant))
+        .thenReturn(version(2, UPDATE_DATE));
+
+    var eTag = computeETag();
+
+    assertThat(eTag, startsWith("W/\""));
+    assertThat(computeETag(), is(eTag));
+  }
+
+  @Test
+  public void computeConsultantSessionListETag_Should_changeETag_When_sessionHasBeenUpdated() {
+    when(sessionService.getSessionListVersionForConsultant(consultant))
+        .thenReturn(version(2, UPDATE_DATE), version(2, UPDATE_DATE.plusSeconds(1)));
+
+    assertThat(computeETag(), is(not(computeETag())));
+  }
+
+  @Test
+  public void computeConsultantSessionListETag_Should_changeETag_When_sessionHasBeenDeleted() {
+    when(sessionService.getSessionListVersionForConsultant(consultant))
+        .thenReturn(version(2, UPDATE_DATE), version(1, UPDATE_DATE));
+
+    assertThat(computeETag(), is(not(computeETag())));
+  }
+
+  @Test
+  public void computeConsultantSessionListETag_Should_changeETag_When_consultantHasBeenUpdated() {
+    when(sessionService.getSessionListVersionForConsultant(consultant))
+        .thenReturn(
+            version(2, UPDATE_DATE, UPDATE_DATE, UPDATE_DATE),
+            version(2, UPDATE_DATE, UPDATE_DATE.plusSeconds(1), UPDATE_DATE));
+
+    assertThat(computeETag(), is(not(computeETag())));
+  }
+
+  @Test
+  public void computeConsultantSessionListETag_Should_changeETag_When_userHasBeenUpdated() {
+    when(sessionService.getSessionListVersionForConsultant(consultant))
+        .thenReturn(
+            version(2, UPDATE_DATE, UPDATE_DATE, UPDATE_DATE),
+            version(2, UPDATE_DATE, UPDATE_DATE, UPDATE_DATE.plusSeconds(1)));
+
+    assertThat(computeETag(), is(not(computeETag())));
+  }
+
+  @Test
+  public void computeConsultantSessionListETag_Should_changeETag_When_topicHasBeenChanged() {
+    when(sessionService.getSessionListVersionForConsultant(consultant))
+        .thenReturn(version(2, UPDATE_DATE));
+    var eTag = computeETag();
+    when(topicService.getAllTopicsMap()).thenReturn(Map.of(1L, topic("renamed topic")));
+
+    assertThat(computeETag(), is(not(eTag)));
+  }
+
+  @Test
+  public void computeConsultantSessionListETag_Should_notLoadTopics_When_topicsAreDisabled() {
+    ReflectionTestUtils.setField(sessionListVersionService, "topicsFeatureEnabled", false);
+    when(sessionService.getSessionListVersionForConsultant(consultant))
+        .thenReturn(version(2, UPDATE_DATE));
+
+    computeETag();
+
+    verifyNoInteractions(topicService);
+  }
+
+  @Test
+  public void
+      computeConsultantSessionListETag_Should_changeETag_When_rocketChatRoomHasBeenUpdated() {
+    when(sessionService.getSessionListVersionForConsultant(consultant))
+        .thenReturn(version(2, UPDATE_DATE));
+    var eTag = computeETag();
+    when(rocketChatRoomInformationProvider.retrieveRocketChatRoomVersion(any()))
+        .thenReturn(roomVersion(new Date(2000L)));
+
+    assertThat(computeETag(), is(not(eTag)));
+  }
+
+  @Test
+  public void computeConsultantSessionListETag_Should_changeETag_When_requestParametersDiffer() {
+    when(sessionService.getSessionListVersionForConsultant(consultant))
+        .thenReturn(version(3, UPDATE_DATE));
+
+    var eTag =
+        sessionListVersionService.computeConsultantSessionListETag(
+            consultant, RC_TOKEN, "sessions", 0, 15);
+
+    assertThat(
+        sessionListVersionService.computeConsultantSessionListETag(
+            consultant, RC_TOKEN, "sessions", 15, 15),
+        is(not(eTag)));
+  }
+
+  @Test
+  public void computeConsultantSessionAndChatListETag_Should_changeETag_When_chatHasBeenUpdated() {
+    when(sessionService.getSessionListVersionForConsultant(consultant))
+        .thenReturn(version(2, UPDATE_DATE));
+    when(chatService.getChatListVersionForConsultant(consultant))
+        .thenReturn(chatVersion(1, UPDATE_DATE), chatVersion(1, UPDATE_DATE.plusSeconds(1)));
+
+    assertThat(computeSessionAndChatETag(), is(not(computeSessionAndChatETag())));
+  }
+
+  @Test
+  public void computeConsultantSessionAndChatListETag_Should_changeETag_When_chatHasBeenAdded() {
+    when(sessionService.getSessionListVersionForConsultant(consultant))
+        .thenReturn(version(2, UPDATE_DATE));
+    when(chatService.getChatListVersionForConsultant(consultant))
+        .thenReturn(chatVersion(1, UPDATE_DATE), chatVersion(2, UPDATE_DATE));
+
+    assertThat(computeSessionAndChatETag(), is(not(computeSessionAndChatETag())));
+  }
+
+  @Test
+  public void computeConsultantSessionListETag_Should_notLoadChats() {
+    when(sessionService.getSessionListVersionForConsultant(consultant))
+        .thenReturn(version(2, UPDATE_DATE));
+
+    computeETag();
+
+    verifyNoInteractions(chatService);
+  }
+
+  @Test
+  public void computeUserSessionListETag_Should_returnSameWeakETag_When_nothingHasChanged() {
+    givenUserSessionsAndChats();
+
+    var eTag = computeUserETag();
+
+    assertThat(eTag, startsWith("W/\""));
+    assertThat(computeUserETag(), is(eTag));
+  }
+
+  @Test
+  public void computeUserSessionListETag_Should_changeETag_When_chatHasBeenUpdated() {
+    givenUserSessionsAndChats();
+    when(chatService.getChatListVersionForUser(USER_ID))
+        .thenReturn(chatVersion(1, UPDATE_DATE), chatVersion(1, UPDATE_DATE.plusSeconds(1)));
+
+    assertThat(computeUserETag(), is(not(computeUserETag())));
+  }
+
+  @Test
+  public void computeUserSessionListETag_Should_changeETag_When_sessionHasBeenUpdated() {
+    givenUserSessionsAndChats();
+    when(sessionService.getSessionListVersionForUser(USER_ID))
+        .thenReturn(version(1, UPDATE_DATE), version(1, UPDATE_DATE.plusSeconds(1)));
+
+    assertThat(computeUserETag(), is(not(computeUserETag())));
+  }
+
+  @Test
+  public void computeUserSessionListETag_Should_changeETag_When_agencyHasBeenChanged() {
+    givenUserSessionsAndChats();
+    var eTag = computeUserETag();
+    when(agencyService.getAgencies(List.of(1L, 2L))).thenReturn(List.of(agency("renamed")));
+
+    assertThat(computeUserETag(), is(not(eTag)));
+  }
+
+  @Test
+  public void computeUserSessionListETag_Should_changeETag_When_chatRoomHasBeenUpdated() {
+    givenUserSessionsAndChats();
+    var eTag = computeUserETag();
+    when(rocketChatRoomInformationProvider.retrieveRocketChatRoomVersion(any()))
+        .thenReturn(roomVersion(new Date(2000L)));
+
+    assertThat(computeUserETag(), is(not(eTag)));
+  }
+
+  @Test
+  public void isNotModified_Should_returnTrue_When_ifNoneMatchContainsETag() {
+    assertThat(
+        sessionListVersionService.isNotModified("\"other\", W/\"version\"", "W/\"version\""),
+        is(true));
+    assertThat(sessionListVersionService.isNotModified("\"version\"", "W/\"version\""), is(true));
+    assertThat(sessionListVersionService.isNotModified("*", "W/\"version\""), is(true));
+  }
+
+  @Test
+  public void isNotModified_Should_returnFalse_When_ifNoneMatchIsMissingOrDiffers() {
+    assertThat(sessionListVersionService.isNotModified(null, "W/\"version\""), is(false));
+    assertThat(sessionListVersionService.isNotModified("W/\"other\"", "W/\"version\""), is(false));
+  }
+
+  private void givenUserSessionsAndChats() {
+    when(sessionService.getSessionListVersionForUser(USER_ID)).thenReturn(version(1, UPDATE_DATE));
+    when(sessionService.getAgencyIdsOfUserSessions(USER_ID)).thenReturn(List.of(2L));
+    when(chatService.getChatListVersionForUser(USER_ID)).thenReturn(chatVersion(1, UPDATE_DATE));
+    when(chatService.getAgencyIdsOfUserChats(USER_ID)).thenReturn(List.of(1L, 2L));
+    when(agencyService.getAgencies(List.of(1L, 2L))).thenReturn(List.of(agency("agency")));
+  }
+
+  private RocketChatRoomVersion roomVersion(Date roomsUpdatedAt) {
+    return new RocketChatRoomVersion(1, new Date(1000L), roomsUpdatedAt);
+  }
+
+  private String computeUserETag() {
+    return sessionListVersionService.computeUserSessionListETag(
+        USER_ID, RocketChatCredentials.builder().rocketChatUserId("rcUserId").build(), 5);
+  }
+
+  private String computeSessionAndChatETag() {
+    return sessionListVersionService.computeConsultantSessionAndChatListETag(
+        consultant, RC_TOKEN, "sessions", 2, 0, 15);
+  }
+
+  private String computeETag() {
+    return sessionListVersionService.computeConsultantSessionListETag(
+        consultant, RC_TOKEN, "sessions", 0, 15);
+  }
+
+  private AgencyDTO agency(String name) {
+    var agency = new AgencyDTO();
+    agency.setId(1L);
+    agency.setName(name);
+    return agency;
+  }
+
+  private TopicDTO topic(String name) {
+    var topic = new TopicDTO();
+    topic.setId(1L);
+    topic.setName(name);
+    return topic;
+  }
+
+  private SessionListVersion version(long sessionCount, LocalDateTime latestUpdateDate) {
+    return version(sessionCount, latestUpdateDate, null, null);
+  }
+
+  private SessionListVersion version(
+      long sessionCount,
+      LocalDateTime latestUpdateDate,
+      LocalDateTime latestConsultantUpdateDate,
+      LocalDateTime latestUserUpdateDate) {
+    return new SessionListVersion() {
+      @Override
+      public long getSessionCount() {
+        return sessionCount;
+      }
+
+      @Override
+      public LocalDateTime getLatestUpdateDate() {
+        return latestUpdateDate;
+      }
+
+      @Override
+      public LocalDateTime getLatestConsultantUpdateDate() {
+        return latestConsultantUpdateDate;
+      }
+
+      @Override
+      public LocalDateTime getLatestUserUpdateDate() {
+        return latestUserUpdateDate;
+      }
+    };
+  }
+
+  private ChatListVersion chatVersion(long chatCount, LocalDateTime latestUpdateDate) {
+    return new ChatListVersion() {
+      @Override
+      public long getChatCount() {
+        return chatCount;
+      }
+
+      @Override
+      public LocalDateTime getLatestUpdateDate() {
+        return latestUpdateDate;
+      }
+    };
+  }
+}
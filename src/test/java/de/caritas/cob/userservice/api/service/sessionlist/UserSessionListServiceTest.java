@@ -65,7 +65,8 @@ public class UserSessionListServiceTest {
             .lastMessagesRoom(emptyMap())
             .groupIdToLastMessageFallbackDate(emptyMap())
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(RC_CREDENTIALS))
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(
+            Mockito.eq(RC_CREDENTIALS), Mockito.any()))
         .thenReturn(rocketChatRoomInformation);
     when(sessionListAnalyser.areMessagesForRocketChatGroupReadByUser(
             rocketChatRoomInformation.getReadMessages(), RC_GROUP_ID))
@@ -95,7 +96,8 @@ public class UserSessionListServiceTest {
             .readMessages(MESSAGES_READ_MAP_WITH_UNREADS)
             .lastMessagesRoom(emptyMap())
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(RC_CREDENTIALS))
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(
+            Mockito.eq(RC_CREDENTIALS), Mockito.any()))
         .thenReturn(rocketChatRoomInformation);
     when(sessionListAnalyser.areMessagesForRocketChatGroupReadByUser(
             rocketChatRoomInformation.getReadMessages(), RC_GROUP_ID_4))
@@ -123,7 +125,8 @@ public class UserSessionListServiceTest {
             .lastMessagesRoom(emptyMap())
             .groupIdToLastMessageFallbackDate(emptyMap())
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(RC_CREDENTIALS))
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(
+            Mockito.eq(RC_CREDENTIALS), Mockito.any()))
         .thenReturn(rocketChatRoomInformation);
     when(sessionListAnalyser.areMessagesForRocketChatGroupReadByUser(
             rocketChatRoomInformation.getReadMessages(), RC_GROUP_ID))
@@ -153,7 +156,8 @@ public class UserSessionListServiceTest {
             .readMessages(MESSAGES_READ_MAP_WITH_UNREADS)
             .lastMessagesRoom(emptyMap())
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(RC_CREDENTIALS))
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(
+            Mockito.eq(RC_CREDENTIALS), Mockito.any()))
         .thenReturn(rocketChatRoomInformation);
     when(sessionListAnalyser.areMessagesForRocketChatGroupReadByUser(
             rocketChatRoomInformation.getReadMessages(), RC_GROUP_ID_4))
@@ -180,7 +184,8 @@ public class UserSessionListServiceTest {
             .roomsForUpdate(ROOMS_UPDATE_DTO_LIST)
             .lastMessagesRoom(ROOMS_LAST_MESSAGE_DTO_MAP)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(RC_CREDENTIALS))
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(
+            Mockito.eq(RC_CREDENTIALS), Mockito.any()))
         .thenReturn(rocketChatRoomInformation);
 
     List<UserSessionResponseDTO> result =
@@ -202,7 +207,8 @@ public class UserSessionListServiceTest {
             .roomsForUpdate(ROOMS_UPDATE_DTO_LIST)
             .lastMessagesRoom(ROOMS_LAST_MESSAGE_DTO_MAP)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(RC_CREDENTIALS))
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(
+            Mockito.eq(RC_CREDENTIALS), Mockito.any()))
         .thenReturn(rocketChatRoomInformation);
 
     List<UserSessionResponseDTO> result =
@@ -224,7 +230,8 @@ public class UserSessionListServiceTest {
             .roomsForUpdate(ROOMS_UPDATE_DTO_LIST_WITH_ATTACHMENT)
             .lastMessagesRoom(ROOMS_LAST_MESSAGE_DTO_MAP)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(RC_CREDENTIALS))
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(
+            Mockito.eq(RC_CREDENTIALS), Mockito.any()))
         .thenReturn(rocketChatRoomInformation);
     when(sessionListAnalyser.getAttachmentFromRocketChatMessageIfAvailable(
             Mockito.eq(RC_CREDENTIALS.getRocketChatUserId()), Mockito.any()))
@@ -251,7 +258,8 @@ public class UserSessionListServiceTest {
             .lastMessagesRoom(ROOMS_LAST_MESSAGE_DTO_MAP)
             .groupIdToLastMessageFallbackDate(emptyMap())
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(RC_CREDENTIALS))
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(
+            Mockito.eq(RC_CREDENTIALS), Mockito.any()))
         .thenReturn(rocketChatRoomInformation);
     when(sessionListAnalyser.getAttachmentFromRocketChatMessageIfAvailable(
             Mockito.eq(RC_CREDENTIALS.getRocketChatUserId()), Mockito.any()))
@@ -291,7 +299,8 @@ public class UserSessionListServiceTest {
             .roomsForUpdate(ROOMS_UPDATE_DTO_LIST_WITH_ATTACHMENT)
             .lastMessagesRoom(ROOMS_LAST_MESSAGE_DTO_MAP)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(RC_CREDENTIALS))
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(
+            Mockito.eq(RC_CREDENTIALS), Mockito.any()))
         .thenReturn(rocketChatRoomInformation);
 
     List<UserSessionResponseDTO> result =
@@ -342,7 +351,8 @@ public class UserSessionListServiceTest {
             .lastMessagesRoom(ROOMS_LAST_MESSAGE_DTO_MAP)
             .userRooms(USERS_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(RC_CREDENTIALS))
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(
+            Mockito.eq(RC_CREDENTIALS), Mockito.any()))
         .thenReturn(rocketChatRoomInformation);
 
     List<UserSessionResponseDTO> result =
@@ -366,7 +376,8 @@ public class UserSessionListServiceTest {
             .lastMessagesRoom(ROOMS_LAST_MESSAGE_DTO_MAP)
             .userRooms(USERS_EMPTY_ROOMS_LIST)
             .build();
-    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(RC_CREDENTIALS))
+    when(rocketChatRoomInformationProvider.retrieveRocketChatInformation(
+            Mockito.eq(RC_CREDENTIALS), Mockito.any()))
         .thenReturn(rocketChatRoomInformation);
 
     List<UserSessionResponseDTO> result =
@@ -1,10 +1,12 @@
 package de.caritas.cob.userservice.api.testConfig;
 
 import com.mongodb.client.MongoClient;
+import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatAsyncClient;
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatClient;
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatCredentials;
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatCredentialsProvider;
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatMapper;
+import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatPresenceService;
 import de.caritas.cob.userservice.api.adapters.rocketchat.RocketChatService;
 import de.caritas.cob.userservice.api.adapters.rocketchat.config.RocketChatConfig;
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.group.GroupDTO;
@@ -12,9 +14,13 @@ import de.caritas.cob.userservice.api.adapters.rocketchat.dto.group.GroupRespons
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.login.DataDTO;
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.login.LoginResponseDTO;
 import de.caritas.cob.userservice.api.adapters.rocketchat.dto.login.MeDTO;
+import io.micrometer.core.instrument.MeterRegistry;
 import java.time.LocalDateTime;
 import java.util.Optional;
+import java.util.concurrent.Executor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Bean;
@@ -38,7 +44,14 @@ public class RocketChatTestConfig {
       RocketChatClient rocketChatClient,
       MongoClient mongoClient,
       RocketChatMapper rocketChatMapper,
-      RocketChatCredentials rocketChatCredentials) {
+      RocketChatPresenceService rocketChatPresenceService,
+      RocketChatCredentials rocketChatCredentials,
+      @Qualifier("rocketChatGroupFetchExecutor") Executor rocketChatGroupFetchExecutor,
+      @Qualifier("rocketChatGroupMembershipExecutor") Executor rocketChatGroupMembershipExecutor,
+      RocketChatAsyncClient rocketChatAsyncClient,
+      MeterRegistry meterRegistry,
+      @Value("${rocket-chat.mongo-group-read.enabled}") boolean mongoGroupReadEnabled,
+      @Value("${rocket-chat.async-client.enabled}") boolean asyncClientEnabled) {
     return new RocketChatService(
         restTemplate,
         rocketChatCredentialsProvider,
@@ -46,7 +59,14 @@ public class RocketChatTestConfig {
         mongoClient,
         rocketChatConfig,
         rocketChatMapper,
-        rocketChatCredentials) {
+        rocketChatPresenceService,
+        rocketChatCredentials,
+        rocketChatGroupFetchExecutor,
+        rocketChatGroupMembershipExecutor,
+        rocketChatAsyncClient,
+        meterRegistry,
+        mongoGroupReadEnabled,
+        asyncClientEnabled) {
       @Override
       public ResponseEntity<LoginResponseDTO> loginUserFirstTime(String username, String password) {
         var loginResponseDTO = new LoginResponseDTO();
@@ -7,6 +7,8 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -24,6 +26,7 @@ import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.function.Consumer;
 import org.apache.commons.collections4.IterableUtils;
 import org.jeasy.random.EasyRandom;
 import org.junit.Before;
@@ -56,7 +59,7 @@ public class InactivePrivateGroupsProviderTest {
     when(chatRepository.findAll()).thenReturn(IterableUtils.emptyIterable());
     doThrow(new RocketChatGetGroupsListAllException(new RuntimeException()))
         .when(this.rocketChatService)
-        .fetchAllInactivePrivateGroupsSinceGivenDate(any());
+        .fetchAllInactivePrivateGroupsSinceGivenDate(any(), any());
 
     var result = inactivePrivateGroupsProvider.retrieveUserWithInactiveGroupsMap();
 
@@ -84,7 +87,8 @@ public class InactivePrivateGroupsProviderTest {
 
     inactivePrivateGroupsProvider.retrieveUserWithInactiveGroupsMap();
 
-    verify(rocketChatService, times(1)).fetchAllInactivePrivateGroupsSinceGivenDate(dateToCheck);
+    verify(rocketChatService, times(1))
+        .fetchAllInactivePrivateGroupsSinceGivenDate(eq(dateToCheck), any());
   }
 
   @Test
@@ -94,7 +98,7 @@ public class InactivePrivateGroupsProviderTest {
     when(chatRepository.findAll()).thenReturn(IterableUtils.emptyIterable());
     doThrow(new RocketChatGetGroupsListAllException(new RuntimeException()))
         .when(this.rocketChatService)
-        .fetchAllInactivePrivateGroupsSinceGivenDate(any());
+        .fetchAllInactivePrivateGroupsSinceGivenDate(any(), any());
 
     inactivePrivateGroupsProvider.retrieveUserWithInactiveGroupsMap();
 
@@ -113,8 +117,7 @@ public class InactivePrivateGroupsProviderTest {
     GroupDTO groupDTO1User2 = easyRandom.nextObject(GroupDTO.class);
     groupDTO1User2.getUser().setId(RC_USER_ID_2);
     List<GroupDTO> groupDtoResponseList = asList(groupDTO1User1, groupDTO2User1, groupDTO1User2);
-    when(this.rocketChatService.fetchAllInactivePrivateGroupsSinceGivenDate(any()))
-        .thenReturn(groupDtoResponseList);
+    givenInactivePrivateGroupPages(groupDtoResponseList);
     when(chatRepository.findAll()).thenReturn(IterableUtils.emptyIterable());
 
     var result = inactivePrivateGroupsProvider.retrieveUserWithInactiveGroupsMap();
@@ -144,8 +147,7 @@ public class InactivePrivateGroupsProviderTest {
     GroupDTO groupDTO1User2 = easyRandom.nextObject(GroupDTO.class);
     groupDTO1User2.getUser().setId(RC_USER_ID_2);
     List<GroupDTO> groupDtoResponseList = asList(groupDTO1User1, groupDTO2User1, groupDTO1User2);
-    when(this.rocketChatService.fetchAllInactivePrivateGroupsSinceGivenDate(any()))
-        .thenReturn(groupDtoResponseList);
+    givenInactivePrivateGroupPages(groupDtoResponseList);
     Chat chat = easyRandom.nextObject(Chat.class);
     chat.setGroupId(groupDTO1User2.getId());
     when(chatRepository.findAll()).thenReturn(Collections.singletonList(chat));
@@ -161,4 +163,17 @@ public class InactivePrivateGroupsProviderTest {
     assertThat(
         result.get(RC_USER_ID).stream().anyMatch(s -> groupDTO2User1.getId().equals(s)), is(true));
   }
+
+  private void givenInactivePrivateGroupPages(List<GroupDTO> groups)
+      throws RocketChatGetGroupsListAllException {
+    doAnswer(
+            invocation -> {
+              Consumer<List<GroupDTO>> pageConsumer = invocation.getArgument(1);
+              pageConsumer.accept(groups.subList(0, 1));
+              pageConsumer.accept(groups.subList(1, groups.size()));
+              return null;
+            })
+        .when(this.rocketChatService)
+        .fetchAllInactivePrivateGroupsSinceGivenDate(any(), any());
+  }
 }